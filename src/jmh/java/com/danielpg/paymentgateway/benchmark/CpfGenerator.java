@@ -0,0 +1,24 @@
+package com.danielpg.paymentgateway.benchmark;
+
+public final class CpfGenerator {
+
+    private CpfGenerator() {
+    }
+
+    public static String cpf(long number) {
+        var base = "%09d".formatted(number);
+        var first = checkDigit(base);
+        var second = checkDigit(base + first);
+        return base + first + second;
+    }
+
+    private static int checkDigit(String digits) {
+        var sum = 0;
+        var weight = digits.length() + 1;
+        for (var i = 0; i < digits.length(); i++) {
+            sum += Character.getNumericValue(digits.charAt(i)) * weight--;
+        }
+        var remainder = sum % 11;
+        return remainder < 2 ? 0 : 11 - remainder;
+    }
+}
@@ -0,0 +1,86 @@
+package com.danielpg.paymentgateway.benchmark.domain;
+
+import com.danielpg.paymentgateway.domain.charge.Charge;
+import com.danielpg.paymentgateway.domain.charge.ChargeDescription;
+import com.danielpg.paymentgateway.domain.charge.ChargeId;
+import com.danielpg.paymentgateway.domain.charge.ChargeStatus;
+import com.danielpg.paymentgateway.domain.charge.payment.Payment;
+import com.danielpg.paymentgateway.domain.charge.payment.PaymentMethod;
+import com.danielpg.paymentgateway.domain.shared.PositiveMoney;
+import com.danielpg.paymentgateway.domain.shared.TimeMillis;
+import com.danielpg.paymentgateway.domain.shared.creditcard.CreditCard;
+import com.danielpg.paymentgateway.domain.shared.creditcard.CreditCardCvv;
+import com.danielpg.paymentgateway.domain.shared.creditcard.CreditCardExpirationDate;
+import com.danielpg.paymentgateway.domain.shared.creditcard.CreditCardNumber;
+import com.danielpg.paymentgateway.domain.user.UserId;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DomainBuilderBenchmark {
+
+    private UserId issuerId;
+    private UserId payerId;
+    private PositiveMoney amount;
+    private ChargeDescription description;
+    private TimeMillis createdAt;
+    private TimeMillis dueAt;
+    private ChargeId chargeId;
+    private CreditCard creditCard;
+
+    @Setup
+    public void setup() {
+        issuerId = UserId.of(1L);
+        payerId = UserId.of(2L);
+        amount = PositiveMoney.of(new BigDecimal("99.90"));
+        description = ChargeDescription.of("Mensalidade");
+        createdAt = TimeMillis.of(1700000000000L);
+        dueAt = TimeMillis.of(1700086400000L);
+        chargeId = ChargeId.of(1L);
+        creditCard = CreditCard.builder()
+                .withNumber(CreditCardNumber.of("4111111111111111"))
+                .withExpirationDate(CreditCardExpirationDate.of("12/2999"))
+                .withCvv(CreditCardCvv.of("123"))
+                .build();
+    }
+
+    @Benchmark
+    public Charge chargeBuilder() {
+        return Charge.builder()
+                .withId(chargeId)
+                .withIssuerId(issuerId)
+                .withPayerId(payerId)
+                .withAmount(amount)
+                .withDescription(description)
+                .withCreatedAt(createdAt)
+                .withDueAt(dueAt)
+                .withStatus(ChargeStatus.PENDING)
+                .build();
+    }
+
+    @Benchmark
+    public Payment balancePaymentBuilder() {
+        return Payment.builder()
+                .withChargeId(chargeId)
+                .withMethod(PaymentMethod.BALANCE)
+                .withPaidAt(createdAt)
+                .build();
+    }
+
+    @Benchmark
+    public Payment creditCardPaymentBuilder() {
+        return Payment.builder()
+                .withChargeId(chargeId)
+                .withMethod(PaymentMethod.CREDIT_CARD)
+                .withCreditCard(creditCard)
+                .withPaidAt(createdAt)
+                .build();
+    }
+}
@@ -0,0 +1,91 @@
+package com.danielpg.paymentgateway.benchmark.domain;
+
+import com.danielpg.paymentgateway.domain.charge.ChargeStatus;
+import com.danielpg.paymentgateway.domain.shared.DataMasking;
+import com.danielpg.paymentgateway.domain.shared.PositiveMoney;
+import com.danielpg.paymentgateway.domain.user.Balance;
+import com.danielpg.paymentgateway.domain.user.Cpf;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValueObjectBenchmark {
+
+    private String validCpf;
+    private String invalidCpf;
+    private BigDecimal scaledAmount;
+    private BigDecimal unscaledAmount;
+    private Balance balance;
+    private PositiveMoney amount;
+    private String statusCsv;
+    private String email;
+
+    @Setup
+    public void setup() {
+        validCpf = "12312312387";
+        invalidCpf = "12312312388";
+        scaledAmount = new BigDecimal("1234.56");
+        unscaledAmount = new BigDecimal("1234.5678");
+        balance = Balance.of(new BigDecimal("10000.00"));
+        amount = PositiveMoney.of(new BigDecimal("99.90"));
+        statusCsv = "pending, paid,CANCELED";
+        email = "joao.silva@email.com";
+    }
+
+    @Benchmark
+    public Cpf cpfValid() {
+        return Cpf.of(validCpf);
+    }
+
+    @Benchmark
+    public Object cpfInvalid() {
+        try {
+            return Cpf.of(invalidCpf);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public PositiveMoney moneyAlreadyScaled() {
+        return PositiveMoney.of(scaledAmount);
+    }
+
+    @Benchmark
+    public PositiveMoney moneyRounded() {
+        return PositiveMoney.of(unscaledAmount);
+    }
+
+    @Benchmark
+    public Balance balanceAdd() {
+        return balance.add(amount);
+    }
+
+    @Benchmark
+    public Balance balanceSubtract() {
+        return balance.subtract(amount);
+    }
+
+    @Benchmark
+    public Set<ChargeStatus> chargeStatusFromCsv() {
+        return ChargeStatus.fromCsv(statusCsv);
+    }
+
+    @Benchmark
+    public String maskCpf() {
+        return DataMasking.maskCpf(validCpf);
+    }
+
+    @Benchmark
+    public String maskEmail() {
+        return DataMasking.maskEmail(email);
+    }
+}
@@ -0,0 +1,200 @@
+package com.danielpg.paymentgateway.benchmark.jdbc;
+
+import com.danielpg.paymentgateway.domain.charge.ChargeStatus;
+import com.danielpg.paymentgateway.domain.charge.query.issued.IssuedChargesFilter;
+import com.danielpg.paymentgateway.domain.charge.query.issued.IssuedChargesItem;
+import com.danielpg.paymentgateway.domain.charge.query.received.ReceivedChargesFilter;
+import com.danielpg.paymentgateway.domain.charge.query.received.ReceivedChargesItem;
+import com.danielpg.paymentgateway.domain.user.UserId;
+import com.danielpg.paymentgateway.infrastructure.jdbc.JdbcIssuedChargesQuery;
+import com.danielpg.paymentgateway.infrastructure.jdbc.JdbcReceivedChargesQuery;
+import liquibase.Contexts;
+import liquibase.Liquibase;
+import liquibase.database.jvm.JdbcConnection;
+import liquibase.resource.ClassLoaderResourceAccessor;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Latência das consultas de cobranças emitidas/recebidas com e sem os índices compostos
+ * (issuer_id|payer_id, status, id). Por padrão usa H2 em memória; para medir em MySQL com
+ * 10M de cobranças:
+ *
+ *   mvn -P benchmark test-compile exec:exec -Djmh.args="ChargesQueryBenchmark -p charges=10000000 \
+ *       -jvmArgs -Dbench.jdbc.url=jdbc:mysql://localhost:3306/payment_gateway_bench?createDatabaseIfNotExist=true"
+ *
+ * Os dados gerados são reaproveitados entre execuções: só o que falta para chegar a "charges" é inserido.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ChargesQueryBenchmark {
+
+    private static final String INDEX_ISSUER = "idx_charge_issuer_status_id";
+    private static final String INDEX_PAYER = "idx_charge_payer_status_id";
+    private static final int INSERT_BATCH_SIZE = 10_000;
+    private static final int PAGE_SIZE = 100;
+
+    @Param({"1000000"})
+    public int charges;
+
+    @Param({"10000"})
+    public int users;
+
+    @Param({"true", "false"})
+    public boolean compositeIndexes;
+
+    private JdbcIssuedChargesQuery issuedQuery;
+    private JdbcReceivedChargesQuery receivedQuery;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        var dataSource = new DriverManagerDataSource(
+                System.getProperty("bench.jdbc.url", "jdbc:h2:mem:charges_bench;MODE=MySQL;DB_CLOSE_DELAY=-1"),
+                System.getProperty("bench.jdbc.user", "root"),
+                System.getProperty("bench.jdbc.password", "root"));
+        try (var connection = dataSource.getConnection()) {
+            new Liquibase("database/changelog.yml", new ClassLoaderResourceAccessor(), new JdbcConnection(connection))
+                    .update(new Contexts());
+        }
+        generateData(dataSource);
+        toggleIndexes(dataSource);
+
+        var jdbc = new NamedParameterJdbcTemplate(dataSource);
+        issuedQuery = new JdbcIssuedChargesQuery(jdbc, 500);
+        receivedQuery = new JdbcReceivedChargesQuery(jdbc, 500);
+    }
+
+    @Benchmark
+    public List<IssuedChargesItem> issuedPendingFirstPage() {
+        return issuedQuery.execute(new IssuedChargesFilter(
+                randomUser(), Set.of(ChargeStatus.PENDING), null, PAGE_SIZE));
+    }
+
+    @Benchmark
+    public List<IssuedChargesItem> issuedPaidCanceledNextPage() {
+        return issuedQuery.execute(new IssuedChargesFilter(
+                randomUser(), Set.of(ChargeStatus.PAID, ChargeStatus.CANCELED), randomAfterId(), PAGE_SIZE));
+    }
+
+    @Benchmark
+    public List<ReceivedChargesItem> receivedPendingFirstPage() {
+        return receivedQuery.execute(new ReceivedChargesFilter(
+                randomUser(), Set.of(ChargeStatus.PENDING), null, PAGE_SIZE));
+    }
+
+    @Benchmark
+    public List<ReceivedChargesItem> receivedPaidCanceledNextPage() {
+        return receivedQuery.execute(new ReceivedChargesFilter(
+                randomUser(), Set.of(ChargeStatus.PAID, ChargeStatus.CANCELED), randomAfterId(), PAGE_SIZE));
+    }
+
+    private UserId randomUser() {
+        return UserId.of(ThreadLocalRandom.current().nextLong(1, users + 1L));
+    }
+
+    private long randomAfterId() {
+        return ThreadLocalRandom.current().nextLong(charges);
+    }
+
+    private void generateData(DataSource dataSource) throws SQLException {
+        try (var connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            var existingUsers = count(connection, "tb_user");
+            try (var insert = connection.prepareStatement("""
+                    INSERT INTO tb_user (name, cpf, email_address, hashed_password, balance)
+                    VALUES (?, ?, ?, ?, ?)
+                    """)) {
+                for (long i = existingUsers + 1; i <= users; i++) {
+                    insert.setString(1, "Usuario " + i);
+                    insert.setString(2, "%011d".formatted(i));
+                    insert.setString(3, "usuario" + i + "@benchmark.local");
+                    insert.setString(4, "$2a$10$" + "x".repeat(53));
+                    insert.setBigDecimal(5, BigDecimal.ZERO);
+                    insert.addBatch();
+                    if (i % INSERT_BATCH_SIZE == 0) {
+                        insert.executeBatch();
+                    }
+                }
+                insert.executeBatch();
+            }
+            connection.commit();
+
+            var existingCharges = count(connection, "tb_charge");
+            var random = new Random(existingCharges);
+            var statuses = ChargeStatus.values();
+            try (var insert = connection.prepareStatement("""
+                    INSERT INTO tb_charge (issuer_id, payer_id, amount, description, created_at, due_at, status)
+                    VALUES (?, ?, ?, ?, ?, ?, ?)
+                    """)) {
+                for (long i = existingCharges + 1; i <= charges; i++) {
+                    var issuer = random.nextInt(users) + 1;
+                    var payer = issuer % users + 1;
+                    insert.setLong(1, issuer);
+                    insert.setLong(2, payer);
+                    insert.setBigDecimal(3, BigDecimal.valueOf(random.nextInt(100_000) + 1L, 2));
+                    insert.setString(4, "Cobranca " + i);
+                    insert.setLong(5, 1_700_000_000L + i);
+                    insert.setLong(6, 1_700_086_400L + i);
+                    insert.setString(7, statuses[random.nextInt(statuses.length)].name());
+                    insert.addBatch();
+                    if (i % INSERT_BATCH_SIZE == 0) {
+                        insert.executeBatch();
+                        connection.commit();
+                    }
+                }
+                insert.executeBatch();
+            }
+            connection.commit();
+        }
+    }
+
+    private void toggleIndexes(DataSource dataSource) throws SQLException {
+        try (var connection = dataSource.getConnection(); var statement = connection.createStatement()) {
+            for (var index : List.of(INDEX_ISSUER, INDEX_PAYER)) {
+                var exists = indexExists(connection, index);
+                var column = index.equals(INDEX_ISSUER) ? "issuer_id" : "payer_id";
+                if (compositeIndexes && !exists) {
+                    statement.execute("CREATE INDEX " + index + " ON tb_charge (" + column + ", status, id)");
+                } else if (!compositeIndexes && exists) {
+                    statement.execute("DROP INDEX " + index + " ON tb_charge");
+                }
+            }
+        }
+    }
+
+    private static boolean indexExists(Connection connection, String index) throws SQLException {
+        for (var table : List.of("tb_charge", "TB_CHARGE")) {
+            try (var rs = connection.getMetaData().getIndexInfo(connection.getCatalog(), null, table, false, true)) {
+                while (rs.next()) {
+                    if (index.equalsIgnoreCase(rs.getString("INDEX_NAME"))) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    private static long count(Connection connection, String table) throws SQLException {
+        try (var statement = connection.createStatement();
+             var rs = statement.executeQuery("SELECT COUNT(*) FROM " + table)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.danielpg.paymentgateway.benchmark.jdbc;
+
+import com.danielpg.paymentgateway.benchmark.CpfGenerator;
+import com.danielpg.paymentgateway.domain.charge.ChargeDescription;
+import com.danielpg.paymentgateway.domain.charge.CreateChargeService;
+import com.danielpg.paymentgateway.domain.shared.AppClock;
+import com.danielpg.paymentgateway.domain.shared.PositiveMoney;
+import com.danielpg.paymentgateway.domain.shared.TimeMillis;
+import com.danielpg.paymentgateway.domain.user.Cpf;
+import com.danielpg.paymentgateway.infrastructure.jdbc.JdbcChargeRepository;
+import com.danielpg.paymentgateway.infrastructure.jdbc.JdbcChargeSummaryRepository;
+import com.danielpg.paymentgateway.infrastructure.jdbc.JdbcOutboxRepository;
+import com.danielpg.paymentgateway.infrastructure.jdbc.JdbcUserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import liquibase.Contexts;
+import liquibase.Liquibase;
+import liquibase.database.jvm.JdbcConnection;
+import liquibase.resource.ClassLoaderResourceAccessor;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Tempo para criar um lote de cobranças de um emitente para vários pagadores: uma chamada de
+ * createCharge por cobrança (o caminho de POST /charges) contra uma única chamada de createCharges
+ * (POST /charges/bulk), ambos numa transação. Para medir em MySQL:
+ *
+ *   mvn -P benchmark test-compile exec:exec -Djmh.args="CreateChargesBenchmark \
+ *       -jvmArgs -Dbench.jdbc.url=jdbc:mysql://localhost:3306/payment_gateway_bench?createDatabaseIfNotExist=true&rewriteBatchedStatements=true"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class CreateChargesBenchmark {
+
+    private static final long FIRST_USER_NUMBER = 100_000_000L;
+    private static final PositiveMoney AMOUNT = PositiveMoney.of(new BigDecimal("99.90"));
+    private static final ChargeDescription DESCRIPTION = ChargeDescription.of("Mensalidade");
+
+    @Param({"100", "1000"})
+    public int charges;
+
+    @Param({"1000"})
+    public int payers;
+
+    private TransactionTemplate transaction;
+    private CreateChargeService service;
+    private Cpf issuerCpf;
+    private List<Cpf> payerCpfs;
+    private List<CreateChargeService.BulkItem> bulkItems;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        var dataSource = new SingleConnectionDataSource(
+                System.getProperty("bench.jdbc.url", "jdbc:h2:mem:create_charges_bench;MODE=MySQL;DB_CLOSE_DELAY=-1"),
+                System.getProperty("bench.jdbc.user", "root"),
+                System.getProperty("bench.jdbc.password", "root"),
+                true);
+        new Liquibase("database/changelog.yml", new ClassLoaderResourceAccessor(),
+                new JdbcConnection(dataSource.getConnection())).update(new Contexts());
+        var cpfs = generateUsers(dataSource);
+        issuerCpf = cpfs.get(0);
+        payerCpfs = cpfs.subList(1, cpfs.size());
+
+        var jdbc = new NamedParameterJdbcTemplate(dataSource);
+        AppClock clock = () -> TimeMillis.of(System.currentTimeMillis());
+        service = new CreateChargeService(
+                new JdbcUserRepository(jdbc, event -> {
+                }),
+                new JdbcChargeRepository(jdbc, false),
+                new JdbcChargeSummaryRepository(jdbc),
+                new JdbcOutboxRepository(jdbc, new ObjectMapper(), clock),
+                clock);
+        transaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+
+        bulkItems = new ArrayList<>(charges);
+        for (var i = 0; i < charges; i++) {
+            bulkItems.add(new CreateChargeService.BulkItem(i, payerCpfs.get(i % payerCpfs.size()), AMOUNT, DESCRIPTION));
+        }
+    }
+
+    @Benchmark
+    public int oneRequestPerCharge() {
+        return transaction.execute(status -> {
+            for (var i = 0; i < charges; i++) {
+                service.createCharge(new CreateChargeService.Request(
+                        issuerCpf, payerCpfs.get(i % payerCpfs.size()), AMOUNT, DESCRIPTION));
+            }
+            return charges;
+        });
+    }
+
+    @Benchmark
+    public int bulk() {
+        return transaction.execute(status -> service.createCharges(issuerCpf, bulkItems).created().size());
+    }
+
+    private List<Cpf> generateUsers(DataSource dataSource) throws SQLException {
+        var cpfs = new ArrayList<Cpf>(payers + 1);
+        try (var connection = dataSource.getConnection();
+             var insert = connection.prepareStatement("""
+                     INSERT IGNORE INTO tb_user (name, cpf, email_address, hashed_password, balance)
+                     VALUES (?, ?, ?, ?, ?)
+                     """)) {
+            for (long i = 0; i <= payers; i++) {
+                var cpf = Cpf.of(CpfGenerator.cpf(FIRST_USER_NUMBER + i));
+                cpfs.add(cpf);
+                insert.setString(1, "Usuario " + i);
+                insert.setString(2, cpf.value());
+                insert.setString(3, "bulk" + i + "@benchmark.local");
+                insert.setString(4, "$2a$10$" + "x".repeat(53));
+                insert.setBigDecimal(5, BigDecimal.ZERO);
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+        return cpfs;
+    }
+}
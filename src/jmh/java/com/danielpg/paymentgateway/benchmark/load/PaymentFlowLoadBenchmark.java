@@ -0,0 +1,232 @@
+package com.danielpg.paymentgateway.benchmark.load;
+
+import com.danielpg.paymentgateway.PaymentGatewayApplication;
+import com.danielpg.paymentgateway.benchmark.CpfGenerator;
+import com.danielpg.paymentgateway.domain.user.PasswordHasher;
+import com.danielpg.paymentgateway.domain.user.PlainTextPassword;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 3, time = 20)
+@Fork(1)
+public class PaymentFlowLoadBenchmark {
+
+    private static final long FIRST_USER_NUMBER = 200_000_000L;
+    private static final String PASSWORD = "Senha!12345";
+    private static final int BULK_MAX_ITEMS = 5000;
+    private static final BigDecimal AMOUNT = new BigDecimal("49.90");
+    private static final Map<String, String> CREDIT_CARD = Map.of(
+            "number", "4111111111111111",
+            "expirationDate", "12/2999",
+            "cvv", "123");
+
+    @Param({"20"})
+    public long authorizerLatency;
+
+    @Param({"200"})
+    public int users;
+
+    @Param({"false", "true"})
+    public boolean virtualThreads;
+
+    @Param({"5000"})
+    public int pendingCharges;
+
+    private final AtomicInteger nextPair = new AtomicInteger();
+    private AuthorizerStub authorizer;
+    private ConfigurableApplicationContext context;
+    private HttpClient http;
+    private ObjectMapper mapper;
+    private URI baseUri;
+    private List<String> cpfs;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        if (users < 2) {
+            throw new IllegalArgumentException("São necessários ao menos 2 usuários.");
+        }
+        authorizer = AuthorizerStub.start(authorizerLatency);
+        context = new SpringApplicationBuilder(PaymentGatewayApplication.class).run(
+                "--server.port=0",
+                "--spring.datasource.url=" + System.getProperty("bench.jdbc.url",
+                        "jdbc:h2:mem:load_bench;MODE=MySQL;DB_CLOSE_DELAY=-1"),
+                "--spring.datasource.driver-class-name=",
+                "--spring.datasource.username=" + System.getProperty("bench.jdbc.user", "root"),
+                "--spring.datasource.password=" + System.getProperty("bench.jdbc.password", "root"),
+                "--spring.liquibase.change-log=classpath:/database/changelog.yml",
+                "--payment.authorizer.url=" + authorizer.url(),
+                "--app.scheduling.enabled=false",
+                "--app.virtual-threads.enabled=" + virtualThreads,
+                "--logging.level.root=WARN");
+        baseUri = URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port"));
+        http = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        mapper = context.getBean(ObjectMapper.class);
+        cpfs = seedUsers();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+        authorizer.close();
+    }
+
+    @State(Scope.Thread)
+    public static class Session {
+
+        private String issuerToken;
+        private String payerCpf;
+        private String payerToken;
+        private final Deque<Long> toPay = new ArrayDeque<>();
+        private final Deque<Long> toCancel = new ArrayDeque<>();
+
+        @Setup(Level.Trial)
+        public void setup(PaymentFlowLoadBenchmark app) throws IOException, InterruptedException {
+            var pair = app.nextPair.getAndIncrement() % (app.users / 2);
+            payerCpf = app.cpfs.get(2 * pair + 1);
+            issuerToken = app.loginToken(app.cpfs.get(2 * pair));
+            payerToken = app.loginToken(payerCpf);
+            var ids = app.createPendingCharges(issuerToken, payerCpf, app.pendingCharges);
+            for (var i = 0; i < ids.size(); i++) {
+                (i % 2 == 0 ? toPay : toCancel).add(ids.get(i));
+            }
+        }
+
+        private static long next(Deque<Long> charges) {
+            var id = charges.poll();
+            if (id == null) {
+                throw new IllegalStateException("Cobranças pendentes esgotadas; aumente -p pendingCharges.");
+            }
+            return id;
+        }
+    }
+
+    @Benchmark
+    @Group("mix")
+    @GroupThreads(1)
+    public String login(Session session) throws IOException, InterruptedException {
+        return loginToken(session.payerCpf);
+    }
+
+    @Benchmark
+    @Group("mix")
+    @GroupThreads(3)
+    public String createCharge(Session session) throws IOException, InterruptedException {
+        return send(post("/charges", session.issuerToken, Map.of(
+                "payerCpf", session.payerCpf,
+                "amount", AMOUNT,
+                "description", "Carga")), 201);
+    }
+
+    @Benchmark
+    @Group("mix")
+    @GroupThreads(2)
+    public String payCharge(Session session) throws IOException, InterruptedException {
+        return send(post("/payments", session.payerToken, Map.of(
+                "chargeId", Session.next(session.toPay),
+                "method", "CREDIT_CARD",
+                "creditCard", CREDIT_CARD)), 201);
+    }
+
+    @Benchmark
+    @Group("mix")
+    @GroupThreads(1)
+    public String cancelCharge(Session session) throws IOException, InterruptedException {
+        return send(request("/charges/" + Session.next(session.toCancel) + "/cancel", session.issuerToken)
+                .method("PATCH", HttpRequest.BodyPublishers.noBody())
+                .build(), 204);
+    }
+
+    @Benchmark
+    @Group("mix")
+    @GroupThreads(3)
+    public String listCharges(Session session) throws IOException, InterruptedException {
+        return send(request("/charges/received?limit=20", session.payerToken).GET().build(), 200);
+    }
+
+    private String loginToken(String cpf) throws IOException, InterruptedException {
+        var body = send(post("/auth/login", null, Map.of("cpf", cpf, "password", PASSWORD)), 200);
+        return mapper.readTree(body).get("token").asText();
+    }
+
+    private List<Long> createPendingCharges(String issuerToken, String payerCpf, int count)
+            throws IOException, InterruptedException {
+        var ids = new ArrayList<Long>(count);
+        while (ids.size() < count) {
+            var size = Math.min(BULK_MAX_ITEMS, count - ids.size());
+            var items = Collections.nCopies(size, Map.of(
+                    "payerCpf", payerCpf,
+                    "amount", AMOUNT,
+                    "description", "Carga"));
+            var response = mapper.readTree(send(post("/charges/bulk", issuerToken, Map.of("charges", items)), 200));
+            if (!response.get("errors").isEmpty()) {
+                throw new IllegalStateException("Falha ao criar cobranças: " + response.get("errors"));
+            }
+            response.get("created").forEach(created -> ids.add(created.get("id").asLong()));
+        }
+        return ids;
+    }
+
+    private List<String> seedUsers() {
+        var hashedPassword = context.getBean(PasswordHasher.class)
+                .hashedPassword(PlainTextPassword.of(PASSWORD)).hash();
+        var cpfs = new ArrayList<String>(users);
+        var batch = new MapSqlParameterSource[users];
+        for (var i = 0; i < users; i++) {
+            var cpf = CpfGenerator.cpf(FIRST_USER_NUMBER + i);
+            cpfs.add(cpf);
+            batch[i] = new MapSqlParameterSource()
+                    .addValue("name", "Usuario " + i)
+                    .addValue("cpf", cpf)
+                    .addValue("emailAddress", "load" + i + "@benchmark.local")
+                    .addValue("hashedPassword", hashedPassword)
+                    .addValue("balance", BigDecimal.ZERO);
+        }
+        context.getBean(NamedParameterJdbcTemplate.class).batchUpdate("""
+                INSERT IGNORE INTO tb_user (name, cpf, email_address, hashed_password, balance)
+                VALUES (:name, :cpf, :emailAddress, :hashedPassword, :balance)
+                """, batch);
+        return cpfs;
+    }
+
+    private HttpRequest post(String path, String token, Object body) throws IOException {
+        return request(path, token)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(mapper.writeValueAsString(body)))
+                .build();
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        var builder = HttpRequest.newBuilder(baseUri.resolve(path));
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private String send(HttpRequest request, int expectedStatus) throws IOException, InterruptedException {
+        var response = http.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != expectedStatus) {
+            throw new IllegalStateException("Resposta inesperada de %s %s: %d %s".formatted(
+                    request.method(), request.uri().getPath(), response.statusCode(), response.body()));
+        }
+        return response.body();
+    }
+}
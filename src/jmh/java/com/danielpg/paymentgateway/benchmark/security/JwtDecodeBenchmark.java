@@ -0,0 +1,66 @@
+package com.danielpg.paymentgateway.benchmark.security;
+
+import com.danielpg.paymentgateway.infrastructure.security.JwtKeyRing;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtDecodeBenchmark {
+
+    private static final String SECRET = "NAO_USAR_EM_PRODUCAO_9F2G8H1J3K7L5M0N2O4P6Q8R0S1T3U5V7W9X2Y4Z6a8b0c2d4e6f8g0h1i3j5k7l";
+
+    private JwtKeyRing keyRing;
+    private String rawToken;
+
+    @Setup
+    public void setup() {
+        keyRing = new JwtKeyRing(SECRET, "default", "");
+        rawToken = Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, keyRing.currentKeyId())
+                .setSubject("joao.silva@email.com")
+                .setExpiration(new Date(System.currentTimeMillis() + TimeUnit.DAYS.toMillis(1)))
+                .signWith(keyRing.currentKey(), SignatureAlgorithm.HS512)
+                .compact();
+    }
+
+    @Benchmark
+    public Claims decodeWithPerCallKeyAndParser() {
+        return Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                .build().parseClaimsJws(rawToken).getBody();
+    }
+
+    @Benchmark
+    public Claims decodeWithKeyRing() {
+        return keyRing.parser().parseClaimsJws(rawToken).getBody();
+    }
+
+    @Benchmark
+    public String generateWithPerCallKey() {
+        return Jwts.builder()
+                .setSubject("joao.silva@email.com")
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes()), SignatureAlgorithm.HS512)
+                .compact();
+    }
+
+    @Benchmark
+    public String generateWithKeyRing() {
+        return Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, keyRing.currentKeyId())
+                .setSubject("joao.silva@email.com")
+                .signWith(keyRing.currentKey(), SignatureAlgorithm.HS512)
+                .compact();
+    }
+}
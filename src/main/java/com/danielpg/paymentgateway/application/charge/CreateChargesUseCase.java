@@ -0,0 +1,74 @@
+package com.danielpg.paymentgateway.application.charge;
+
+import com.danielpg.paymentgateway.application.shared.AppTransaction;
+import com.danielpg.paymentgateway.application.shared.RequesterProvider;
+import com.danielpg.paymentgateway.domain.charge.ChargeDescription;
+import com.danielpg.paymentgateway.domain.charge.CreateChargeService;
+import com.danielpg.paymentgateway.domain.shared.PositiveMoney;
+import com.danielpg.paymentgateway.domain.shared.Validation;
+import com.danielpg.paymentgateway.domain.user.Cpf;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+public class CreateChargesUseCase {
+
+    private final AppTransaction appTransaction;
+    private final RequesterProvider requesterProvider;
+    private final CreateChargeService createChargeService;
+    private final int maxItems;
+
+    public CreateChargesUseCase(AppTransaction appTransaction,
+                                RequesterProvider requesterProvider,
+                                CreateChargeService createChargeService,
+                                int maxItems) {
+        if (maxItems <= 0) {
+            throw new IllegalArgumentException("O número máximo de cobranças por lote deve ser positivo.");
+        }
+        this.appTransaction = appTransaction;
+        this.requesterProvider = requesterProvider;
+        this.createChargeService = createChargeService;
+        this.maxItems = maxItems;
+    }
+
+    public CreateChargeService.BulkResult createCharges(List<Item> items) {
+        if (items == null || items.isEmpty() || items.size() > maxItems) {
+            throw new IllegalArgumentException("O lote deve ter de 1 a %d cobranças.".formatted(maxItems));
+        }
+        var validItems = new ArrayList<CreateChargeService.BulkItem>(items.size());
+        var errors = new ArrayList<CreateChargeService.ItemError>();
+        for (var index = 0; index < items.size(); index++) {
+            try {
+                validItems.add(toBulkItem(index, items.get(index)));
+            } catch (IllegalArgumentException e) {
+                errors.add(new CreateChargeService.ItemError(index, e.getMessage()));
+            }
+        }
+        if (validItems.isEmpty()) {
+            return new CreateChargeService.BulkResult(List.of(), errors);
+        }
+
+        var issuerCpf = requesterProvider.requester().cpf();
+        var result = appTransaction.executeWithResult(() -> createChargeService.createCharges(issuerCpf, validItems));
+        errors.addAll(result.errors());
+        errors.sort(Comparator.comparingInt(CreateChargeService.ItemError::index));
+        return new CreateChargeService.BulkResult(result.created(), errors);
+    }
+
+    private static CreateChargeService.BulkItem toBulkItem(int index, Item item) {
+        Validation.required(item, "A cobrança é requerida.");
+        return new CreateChargeService.BulkItem(
+                index,
+                Cpf.of(Validation.required(item.payerCpf, "O CPF do pagador é requerido.")),
+                PositiveMoney.of(item.amount),
+                ChargeDescription.ofNullable(item.description).orElse(null));
+    }
+
+    public record Item(
+            String payerCpf,
+            BigDecimal amount,
+            String description) {
+    }
+}
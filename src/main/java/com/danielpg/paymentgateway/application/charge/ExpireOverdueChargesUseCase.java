@@ -0,0 +1,67 @@
+package com.danielpg.paymentgateway.application.charge;
+
+import com.danielpg.paymentgateway.application.shared.AppTransaction;
+import com.danielpg.paymentgateway.domain.charge.ChargeRepository;
+import com.danielpg.paymentgateway.domain.charge.ChargeStatus;
+import com.danielpg.paymentgateway.domain.charge.ChargeStatusChangedEvent;
+import com.danielpg.paymentgateway.domain.charge.summary.ChargeSummaryRepository;
+import com.danielpg.paymentgateway.domain.event.DomainEventPublisher;
+import com.danielpg.paymentgateway.domain.shared.AppClock;
+
+/*
+ * Expira um lote de cobranças pendentes vencidas. As linhas do lote ficam bloqueadas até o fim da
+ * transação e as demais instâncias pulam essas linhas: cada cobrança é expirada uma única vez.
+ */
+public class ExpireOverdueChargesUseCase {
+
+    private final AppTransaction transaction;
+    private final ChargeRepository chargeRepository;
+    private final ChargeSummaryRepository chargeSummaryRepository;
+    private final DomainEventPublisher eventPublisher;
+    private final AppClock clock;
+    private final int batchSize;
+
+    public ExpireOverdueChargesUseCase(AppTransaction transaction,
+                                       ChargeRepository chargeRepository,
+                                       ChargeSummaryRepository chargeSummaryRepository,
+                                       DomainEventPublisher eventPublisher,
+                                       AppClock clock,
+                                       int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("O tamanho do lote de expiração deve ser positivo.");
+        }
+        this.transaction = transaction;
+        this.chargeRepository = chargeRepository;
+        this.chargeSummaryRepository = chargeSummaryRepository;
+        this.eventPublisher = eventPublisher;
+        this.clock = clock;
+        this.batchSize = batchSize;
+    }
+
+    public int batchSize() {
+        return batchSize;
+    }
+
+    /*
+     * Retorna quantas cobranças foram expiradas. Um valor menor que batchSize indica que não há
+     * mais cobranças vencidas livres.
+     */
+    public int expireBatch() {
+        return transaction.executeWithResult(this::internalExpireBatch);
+    }
+
+    private int internalExpireBatch() {
+        var now = clock.now();
+        var charges = chargeRepository.lockOverdue(now, batchSize);
+        if (charges.isEmpty()) {
+            return 0;
+        }
+        charges.forEach(charge -> charge.changeStatusToExpired(now));
+        chargeRepository.saveAll(charges);
+        chargeSummaryRepository.moveAll(charges, ChargeStatus.PENDING);
+        eventPublisher.publishAll(charges.stream()
+                .map(charge -> ChargeStatusChangedEvent.of(charge, ChargeStatus.PENDING, now))
+                .toList());
+        return charges.size();
+    }
+}
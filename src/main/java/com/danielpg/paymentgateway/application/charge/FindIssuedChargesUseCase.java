@@ -1,6 +1,7 @@
 package com.danielpg.paymentgateway.application.charge;
 
 import com.danielpg.paymentgateway.application.shared.RequesterProvider;
+import com.danielpg.paymentgateway.application.shared.ResultStream;
 import com.danielpg.paymentgateway.domain.charge.ChargeStatus;
 import com.danielpg.paymentgateway.domain.charge.query.issued.IssuedChargesFilter;
 import com.danielpg.paymentgateway.domain.charge.query.issued.IssuedChargesItem;
@@ -23,15 +24,27 @@ public class FindIssuedChargesUseCase {
     }
 
     public Response find(Set<ChargeStatus> statuses) {
-        var filter = new IssuedChargesFilter(requesterProvider.requesterId(), statuses);
+        return find(statuses, null, null);
+    }
+
+    public Response find(Set<ChargeStatus> statuses, Long afterId, Integer limit) {
+        var pageSize = limit != null ? limit : IssuedChargesFilter.DEFAULT_LIMIT;
+        var filter = new IssuedChargesFilter(requesterProvider.requesterId(), statuses, afterId, pageSize);
         var items = issuedChargesQuery.execute(filter);
-        return buildResponseByStatus(items);
+        var nextCursor = items.size() == pageSize ? items.get(items.size() - 1).chargeId() : null;
+        return buildResponseByStatus(items).withNextCursor(nextCursor);
+    }
+
+    public ResultStream<IssuedChargesItem> stream(Set<ChargeStatus> statuses, Long afterId) {
+        var filter = new IssuedChargesFilter(requesterProvider.requesterId(), statuses, afterId, null);
+        return consumer -> issuedChargesQuery.stream(filter, consumer);
     }
 
     public Response buildResponseByStatus(List<IssuedChargesItem> issuedCharges) {
 
         if (issuedCharges == null || issuedCharges.isEmpty()) {
-            return new Response(Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+            return new Response(Collections.emptyList(), Collections.emptyList(), Collections.emptyList(),
+                    Collections.emptyList(), null);
         }
 
         var grouped = issuedCharges.stream()
@@ -40,13 +53,21 @@ public class FindIssuedChargesUseCase {
         return new Response(
                 grouped.getOrDefault(ChargeStatus.PENDING, Collections.emptyList()),
                 grouped.getOrDefault(ChargeStatus.PAID, Collections.emptyList()),
-                grouped.getOrDefault(ChargeStatus.CANCELED, Collections.emptyList())
+                grouped.getOrDefault(ChargeStatus.CANCELED, Collections.emptyList()),
+                grouped.getOrDefault(ChargeStatus.EXPIRED, Collections.emptyList()),
+                null
         );
     }
 
     public record Response(
             List<IssuedChargesItem> pendings,
             List<IssuedChargesItem> paids,
-            List<IssuedChargesItem> canceleds) {
+            List<IssuedChargesItem> canceleds,
+            List<IssuedChargesItem> expireds,
+            Long nextCursor) {
+
+        public Response withNextCursor(Long nextCursor) {
+            return new Response(pendings, paids, canceleds, expireds, nextCursor);
+        }
     }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.danielpg.paymentgateway.application.charge;
 
 import com.danielpg.paymentgateway.application.shared.RequesterProvider;
+import com.danielpg.paymentgateway.application.shared.ResultStream;
 import com.danielpg.paymentgateway.domain.charge.ChargeStatus;
 import com.danielpg.paymentgateway.domain.charge.query.received.ReceivedChargesFilter;
 import com.danielpg.paymentgateway.domain.charge.query.received.ReceivedChargesItem;
@@ -23,14 +24,26 @@ public class FindReceivedChargesUseCase {
     }
 
     public Response find(Set<ChargeStatus> statuses) {
-        var filter = new ReceivedChargesFilter(requesterProvider.requesterId(), statuses);
+        return find(statuses, null, null);
+    }
+
+    public Response find(Set<ChargeStatus> statuses, Long afterId, Integer limit) {
+        var pageSize = limit != null ? limit : ReceivedChargesFilter.DEFAULT_LIMIT;
+        var filter = new ReceivedChargesFilter(requesterProvider.requesterId(), statuses, afterId, pageSize);
         var items = receivedChargesQuery.execute(filter);
-        return buildResponseByStatus(items);
+        var nextCursor = items.size() == pageSize ? items.get(items.size() - 1).chargeId() : null;
+        return buildResponseByStatus(items).withNextCursor(nextCursor);
+    }
+
+    public ResultStream<ReceivedChargesItem> stream(Set<ChargeStatus> statuses, Long afterId) {
+        var filter = new ReceivedChargesFilter(requesterProvider.requesterId(), statuses, afterId, null);
+        return consumer -> receivedChargesQuery.stream(filter, consumer);
     }
 
     public Response buildResponseByStatus(List<ReceivedChargesItem> receivedCharges) {
         if (receivedCharges == null || receivedCharges.isEmpty()) {
-            return new Response(Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+            return new Response(Collections.emptyList(), Collections.emptyList(), Collections.emptyList(),
+                    Collections.emptyList(), null);
         }
 
         var grouped = receivedCharges.stream()
@@ -39,13 +52,21 @@ public class FindReceivedChargesUseCase {
         return new Response(
                 grouped.getOrDefault(ChargeStatus.PENDING, Collections.emptyList()),
                 grouped.getOrDefault(ChargeStatus.PAID, Collections.emptyList()),
-                grouped.getOrDefault(ChargeStatus.CANCELED, Collections.emptyList())
+                grouped.getOrDefault(ChargeStatus.CANCELED, Collections.emptyList()),
+                grouped.getOrDefault(ChargeStatus.EXPIRED, Collections.emptyList()),
+                null
         );
     }
 
     public record Response(
             List<ReceivedChargesItem> pendings,
             List<ReceivedChargesItem> paids,
-            List<ReceivedChargesItem> canceleds) {
+            List<ReceivedChargesItem> canceleds,
+            List<ReceivedChargesItem> expireds,
+            Long nextCursor) {
+
+        public Response withNextCursor(Long nextCursor) {
+            return new Response(pendings, paids, canceleds, expireds, nextCursor);
+        }
     }
 }
@@ -0,0 +1,54 @@
+package com.danielpg.paymentgateway.application.charge;
+
+import com.danielpg.paymentgateway.application.shared.RequesterProvider;
+import com.danielpg.paymentgateway.domain.charge.ChargeStatus;
+import com.danielpg.paymentgateway.domain.charge.summary.ChargeSummaryItem;
+import com.danielpg.paymentgateway.domain.charge.summary.ChargeSummaryRepository;
+import com.danielpg.paymentgateway.domain.charge.summary.ChargeSummarySide;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+
+public class GetChargeSummaryUseCase {
+
+    private static final BigDecimal ZERO = BigDecimal.ZERO.setScale(2);
+
+    private final RequesterProvider requesterProvider;
+    private final ChargeSummaryRepository chargeSummaryRepository;
+
+    public GetChargeSummaryUseCase(RequesterProvider requesterProvider,
+                                   ChargeSummaryRepository chargeSummaryRepository) {
+        this.requesterProvider = requesterProvider;
+        this.chargeSummaryRepository = chargeSummaryRepository;
+    }
+
+    public Response getSummary() {
+        var items = chargeSummaryRepository.find(requesterProvider.requesterId());
+        return new Response(
+                buildTotals(items, ChargeSummarySide.ISSUED),
+                buildTotals(items, ChargeSummarySide.RECEIVED)
+        );
+    }
+
+    private static List<Totals> buildTotals(List<ChargeSummaryItem> items, ChargeSummarySide side) {
+        return Arrays.stream(ChargeStatus.values())
+                .map(status -> items.stream()
+                        .filter(item -> item.side() == side && item.status() == status)
+                        .findFirst()
+                        .map(item -> new Totals(status, item.count(), item.total()))
+                        .orElse(new Totals(status, 0L, ZERO)))
+                .toList();
+    }
+
+    public record Response(
+            List<Totals> issued,
+            List<Totals> received) {
+    }
+
+    public record Totals(
+            ChargeStatus status,
+            long count,
+            BigDecimal total) {
+    }
+}
@@ -0,0 +1,27 @@
+package com.danielpg.paymentgateway.application.charge.payment;
+
+import com.danielpg.paymentgateway.application.auth.AccessForbiddenException;
+import com.danielpg.paymentgateway.application.shared.RequesterProvider;
+import com.danielpg.paymentgateway.domain.charge.payment.intent.PaymentIntent;
+import com.danielpg.paymentgateway.domain.charge.payment.intent.PaymentIntentId;
+import com.danielpg.paymentgateway.domain.charge.payment.intent.PaymentIntentRepository;
+
+public class GetPaymentIntentUseCase {
+
+    private final RequesterProvider requesterProvider;
+    private final PaymentIntentRepository paymentIntentRepository;
+
+    public GetPaymentIntentUseCase(RequesterProvider requesterProvider,
+                                   PaymentIntentRepository paymentIntentRepository) {
+        this.requesterProvider = requesterProvider;
+        this.paymentIntentRepository = paymentIntentRepository;
+    }
+
+    public PaymentIntent get(PaymentIntentId id) {
+        var intent = paymentIntentRepository.getOrThrow(id);
+        if (!requesterProvider.requesterId().equals(intent.payerId())) {
+            throw new AccessForbiddenException();
+        }
+        return intent;
+    }
+}
@@ -0,0 +1,26 @@
+package com.danielpg.paymentgateway.application.charge.payment;
+
+import com.danielpg.paymentgateway.domain.charge.payment.RegisterPaymentRequest;
+import com.danielpg.paymentgateway.domain.charge.payment.RegisterPaymentService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+final class PaymentCompensation {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PaymentCompensation.class);
+
+    private PaymentCompensation() {
+    }
+
+    static void cancelAuthorization(RegisterPaymentService registerPaymentService,
+                                    RegisterPaymentRequest pendingRequest,
+                                    RuntimeException cause) {
+        try {
+            registerPaymentService.cancelAuthorization(pendingRequest);
+        } catch (RuntimeException e) {
+            LOGGER.error("Falha ao cancelar autorização: chargeId={}",
+                    pendingRequest.charge().id().value(), e);
+            cause.addSuppressed(e);
+        }
+    }
+}
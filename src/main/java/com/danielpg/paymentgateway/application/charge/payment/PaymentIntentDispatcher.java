@@ -0,0 +1,7 @@
+package com.danielpg.paymentgateway.application.charge.payment;
+
+import com.danielpg.paymentgateway.domain.charge.payment.intent.PaymentIntentId;
+
+public interface PaymentIntentDispatcher {
+    void dispatch(PaymentIntentId id);
+}
@@ -0,0 +1,135 @@
+package com.danielpg.paymentgateway.application.charge.payment;
+
+import com.danielpg.paymentgateway.application.shared.AppTransaction;
+import com.danielpg.paymentgateway.domain.charge.ChargeRepository;
+import com.danielpg.paymentgateway.domain.charge.payment.AuthorizerUnavailableException;
+import com.danielpg.paymentgateway.domain.charge.payment.RegisterPaymentRequest;
+import com.danielpg.paymentgateway.domain.charge.payment.RegisterPaymentService;
+import com.danielpg.paymentgateway.domain.charge.payment.intent.PaymentIntent;
+import com.danielpg.paymentgateway.domain.charge.payment.intent.PaymentIntentId;
+import com.danielpg.paymentgateway.domain.charge.payment.intent.PaymentIntentRepository;
+import com.danielpg.paymentgateway.domain.shared.AppClock;
+import com.danielpg.paymentgateway.domain.shared.TimeMillis;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Objects;
+
+/*
+ * Executado pelos workers: assume a intenção (PENDING -> PROCESSING) e segue o mesmo fluxo de
+ * RegisterPaymentUseCase, com a autorização fora de transação. Indisponibilidade do autorizador
+ * devolve a intenção para PENDING até maxAttempts; qualquer outra falha a encerra como FAILED.
+ * A autorização obtida é registrada (authorized_at) antes de concluir o pagamento, para que uma
+ * intenção abandonada após a autorização seja cancelada no autorizador em vez de cobrada de novo.
+ */
+public class ProcessPaymentIntentUseCase {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ProcessPaymentIntentUseCase.class);
+
+    private final AppTransaction appTransaction;
+    private final ChargeRepository chargeRepository;
+    private final RegisterPaymentService registerPaymentService;
+    private final PaymentIntentRepository paymentIntentRepository;
+    private final AppClock clock;
+    private final int maxAttempts;
+
+    public ProcessPaymentIntentUseCase(AppTransaction appTransaction,
+                                       ChargeRepository chargeRepository,
+                                       RegisterPaymentService registerPaymentService,
+                                       PaymentIntentRepository paymentIntentRepository,
+                                       AppClock clock,
+                                       int maxAttempts) {
+        if (maxAttempts <= 0) {
+            throw new IllegalArgumentException("O número máximo de tentativas deve ser positivo.");
+        }
+        this.appTransaction = appTransaction;
+        this.chargeRepository = chargeRepository;
+        this.registerPaymentService = registerPaymentService;
+        this.paymentIntentRepository = paymentIntentRepository;
+        this.clock = clock;
+        this.maxAttempts = maxAttempts;
+    }
+
+    public void process(PaymentIntentId id) {
+        if (!appTransaction.executeWithResult(() -> paymentIntentRepository.claim(id, clock.now()))) {
+            return;
+        }
+        var intent = paymentIntentRepository.getOrThrow(id);
+
+        RegisterPaymentRequest pendingRequest;
+        try {
+            pendingRequest = appTransaction.executeWithResult(() -> {
+                var serviceRequest = loadServiceRequest(intent);
+                registerPaymentService.validatePayment(serviceRequest);
+                return serviceRequest;
+            });
+            registerPaymentService.authorizePayment(pendingRequest);
+        } catch (AuthorizerUnavailableException e) {
+            retryLater(intent, e);
+            return;
+        } catch (RuntimeException e) {
+            fail(intent, e);
+            return;
+        }
+
+        try {
+            appTransaction.execute(() -> {
+                intent.markAuthorized(clock.now());
+                paymentIntentRepository.save(intent);
+            });
+            appTransaction.execute(() -> {
+                var payment = registerPaymentService.completePayment(loadServiceRequest(intent));
+                intent.markSucceeded(payment.id(), clock.now());
+                paymentIntentRepository.save(intent);
+            });
+        } catch (RuntimeException e) {
+            PaymentCompensation.cancelAuthorization(registerPaymentService, pendingRequest, e);
+            fail(intent, e);
+        }
+    }
+
+    /*
+     * Intenção autorizada e presa em PROCESSING (ex.: reinício entre a autorização e a conclusão):
+     * cancela a autorização e devolve a intenção para PENDING, para ser processada do início.
+     */
+    public void cancelStaleAuthorization(PaymentIntentId id, TimeMillis processingBefore) {
+        if (!appTransaction.executeWithResult(
+                () -> paymentIntentRepository.claimStaleAuthorized(id, processingBefore, clock.now()))) {
+            return;
+        }
+        var intent = paymentIntentRepository.getOrThrow(id);
+        var serviceRequest = appTransaction.executeWithResult(() -> loadServiceRequest(intent));
+        registerPaymentService.cancelAuthorization(serviceRequest);
+        LOGGER.warn("Autorização de intenção abandonada cancelada: id={}", id.value());
+        appTransaction.execute(() -> paymentIntentRepository.release(id, clock.now()));
+    }
+
+    private void retryLater(PaymentIntent intent, AuthorizerUnavailableException cause) {
+        if (intent.attempts() >= maxAttempts) {
+            fail(intent, cause);
+            return;
+        }
+        LOGGER.info("Autorizador indisponível, intenção será reprocessada: id={}, attempts={}",
+                intent.id().value(), intent.attempts());
+        appTransaction.execute(() -> paymentIntentRepository.release(intent.id(), clock.now()));
+    }
+
+    // Relê a intenção, pois a instância em memória pode ter sido alterada por uma transação desfeita.
+    private void fail(PaymentIntent intent, RuntimeException cause) {
+        LOGGER.info("Intenção de pagamento recusada: id={}, reason={}", intent.id().value(), cause.getMessage());
+        var reason = Objects.requireNonNullElse(cause.getMessage(), cause.getClass().getSimpleName());
+        appTransaction.execute(() -> {
+            var current = paymentIntentRepository.getOrThrow(intent.id());
+            current.markFailed(reason, clock.now());
+            paymentIntentRepository.save(current);
+        });
+    }
+
+    private RegisterPaymentRequest loadServiceRequest(PaymentIntent intent) {
+        return RegisterPaymentRequest.builder()
+                .withCharge(chargeRepository.getOrThrow(intent.chargeId()))
+                .withMethod(intent.method())
+                .withCreditCard(intent.creditCard())
+                .build();
+    }
+}
@@ -12,8 +12,6 @@ import com.danielpg.paymentgateway.domain.charge.payment.RegisterPaymentService;
 import com.danielpg.paymentgateway.domain.charge.payment.Payment;
 import com.danielpg.paymentgateway.domain.shared.creditcard.CreditCard;
 
-import java.util.concurrent.atomic.AtomicReference;
-
 public class RegisterPaymentUseCase {
 
     private final AppTransaction appTransaction;
@@ -31,17 +29,36 @@ public class RegisterPaymentUseCase {
         this.registerPaymentService = registerPaymentService;
     }
 
+    /*
+     * Pagamentos com cartão não seguram conexão durante a chamada ao autorizador:
+     * valida numa transação curta, autoriza sem transação e conclui noutra transação curta.
+     * Se a conclusão falhar, a autorização é cancelada (compensação).
+     */
     public Payment registerPayment(Request request) {
-        var paymentReference = new AtomicReference<Payment>();
-        appTransaction.execute(() -> paymentReference.set(internalRegisterPayment(request)));
-        return paymentReference.get();
+        if (request.method() != PaymentMethod.CREDIT_CARD) {
+            return appTransaction.executeWithResult(() -> registerPaymentService.registerPayment(loadServiceRequest(request)));
+        }
+
+        var pendingRequest = appTransaction.executeWithResult(() -> {
+            var serviceRequest = loadServiceRequest(request);
+            registerPaymentService.validatePayment(serviceRequest);
+            return serviceRequest;
+        });
+
+        registerPaymentService.authorizePayment(pendingRequest);
+
+        try {
+            return appTransaction.executeWithResult(() -> registerPaymentService.completePayment(loadServiceRequest(request)));
+        } catch (RuntimeException e) {
+            PaymentCompensation.cancelAuthorization(registerPaymentService, pendingRequest, e);
+            throw e;
+        }
     }
 
-    private Payment internalRegisterPayment(Request request) {
+    private RegisterPaymentRequest loadServiceRequest(Request request) {
         var charge = chargeRepository.getOrThrow(request.chargeId);
         validateAccessToCharge(charge);
-        var serviceRequest = buildServiceRequest(request, charge);
-        return registerPaymentService.registerPayment(serviceRequest);
+        return buildServiceRequest(request, charge);
     }
 
     private static RegisterPaymentRequest buildServiceRequest(Request request, Charge charge) {
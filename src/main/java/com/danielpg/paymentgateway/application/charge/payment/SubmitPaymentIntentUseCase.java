@@ -0,0 +1,73 @@
+package com.danielpg.paymentgateway.application.charge.payment;
+
+import com.danielpg.paymentgateway.application.auth.AccessForbiddenException;
+import com.danielpg.paymentgateway.application.shared.AppTransaction;
+import com.danielpg.paymentgateway.application.shared.RequesterProvider;
+import com.danielpg.paymentgateway.domain.charge.Charge;
+import com.danielpg.paymentgateway.domain.charge.ChargeRepository;
+import com.danielpg.paymentgateway.domain.charge.payment.RegisterPaymentRequest;
+import com.danielpg.paymentgateway.domain.charge.payment.RegisterPaymentService;
+import com.danielpg.paymentgateway.domain.charge.payment.intent.PaymentIntent;
+import com.danielpg.paymentgateway.domain.charge.payment.intent.PaymentIntentRepository;
+import com.danielpg.paymentgateway.domain.charge.payment.intent.PaymentIntentStatus;
+import com.danielpg.paymentgateway.domain.shared.AppClock;
+
+public class SubmitPaymentIntentUseCase {
+
+    private final AppTransaction appTransaction;
+    private final ChargeRepository chargeRepository;
+    private final RequesterProvider requesterProvider;
+    private final RegisterPaymentService registerPaymentService;
+    private final PaymentIntentRepository paymentIntentRepository;
+    private final PaymentIntentDispatcher dispatcher;
+    private final AppClock clock;
+
+    public SubmitPaymentIntentUseCase(AppTransaction appTransaction,
+                                      ChargeRepository chargeRepository,
+                                      RequesterProvider requesterProvider,
+                                      RegisterPaymentService registerPaymentService,
+                                      PaymentIntentRepository paymentIntentRepository,
+                                      PaymentIntentDispatcher dispatcher,
+                                      AppClock clock) {
+        this.appTransaction = appTransaction;
+        this.chargeRepository = chargeRepository;
+        this.requesterProvider = requesterProvider;
+        this.registerPaymentService = registerPaymentService;
+        this.paymentIntentRepository = paymentIntentRepository;
+        this.dispatcher = dispatcher;
+        this.clock = clock;
+    }
+
+    public PaymentIntent submit(RegisterPaymentUseCase.Request request) {
+        var intent = appTransaction.executeWithResult(() -> internalSubmit(request));
+        dispatcher.dispatch(intent.id());
+        return intent;
+    }
+
+    private PaymentIntent internalSubmit(RegisterPaymentUseCase.Request request) {
+        var charge = chargeRepository.getOrThrow(request.chargeId());
+        validateAccessToCharge(charge);
+        registerPaymentService.validatePayment(RegisterPaymentRequest.builder()
+                .withCharge(charge)
+                .withMethod(request.method())
+                .withCreditCard(request.creditCard())
+                .build());
+
+        var intent = PaymentIntent.builder()
+                .withChargeId(charge.id())
+                .withPayerId(charge.payerId())
+                .withMethod(request.method())
+                .withCreditCard(request.creditCard())
+                .withStatus(PaymentIntentStatus.PENDING)
+                .withCreatedAt(clock.now())
+                .build();
+        paymentIntentRepository.save(intent);
+        return intent;
+    }
+
+    private void validateAccessToCharge(Charge charge) {
+        if (!requesterProvider.requesterId().equals(charge.payerId())) {
+            throw new AccessForbiddenException();
+        }
+    }
+}
@@ -6,11 +6,13 @@ import com.danielpg.paymentgateway.domain.deposit.CreateDepositService;
 import com.danielpg.paymentgateway.domain.deposit.Deposit;
 import com.danielpg.paymentgateway.domain.deposit.DepositRequest;
 import com.danielpg.paymentgateway.domain.shared.PositiveMoney;
-
-import java.util.concurrent.atomic.AtomicReference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class CreateDepositUseCase {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(CreateDepositUseCase.class);
+
     private final AppTransaction appTransaction;
     private final RequesterProvider requesterProvider;
     private final CreateDepositService createDepositService;
@@ -24,13 +26,28 @@ public class CreateDepositUseCase {
     }
 
     public Deposit createDeposit(PositiveMoney amount) {
-        var depositRef = new AtomicReference<Deposit>();
-        appTransaction.execute(() -> depositRef.set(internalCreateDeposit(amount)));
-        return depositRef.get();
+        var serviceRequest = DepositRequest.of(requesterProvider.requesterId(), amount);
+        var deposit = appTransaction.executeWithResult(() -> createDepositService.prepareDeposit(serviceRequest));
+
+        createDepositService.authorizeDeposit(deposit);
+
+        try {
+            return appTransaction.executeWithResult(() -> createDepositService.completeDeposit(deposit));
+        } catch (RuntimeException e) {
+            markForReconciliation(deposit, e);
+            throw e;
+        }
     }
 
-    private Deposit internalCreateDeposit(PositiveMoney amount) {
-        var serviceRequest = DepositRequest.of(requesterProvider.requesterId(), amount);
-        return createDepositService.createDeposit(serviceRequest);
+    private void markForReconciliation(Deposit deposit, RuntimeException cause) {
+        LOGGER.error("Depósito autorizado e não registrado, requer reconciliação manual: userId={}, amount={}, "
+                + "createdAt={}", deposit.userId().value(), deposit.amount().value(), deposit.createdAt().value());
+        try {
+            appTransaction.execute(() -> createDepositService.markForReconciliation(deposit));
+        } catch (RuntimeException e) {
+            LOGGER.error("Falha ao marcar depósito para reconciliação: userId={}, amount={}",
+                    deposit.userId().value(), deposit.amount().value(), e);
+            cause.addSuppressed(e);
+        }
     }
 }
@@ -0,0 +1,10 @@
+package com.danielpg.paymentgateway.application.event;
+
+public record OutboxMessage(
+        long id,
+        String eventType,
+        String aggregateType,
+        long aggregateId,
+        String payload,
+        long createdAt) {
+}
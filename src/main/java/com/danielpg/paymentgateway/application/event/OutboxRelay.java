@@ -0,0 +1,79 @@
+package com.danielpg.paymentgateway.application.event;
+
+import com.danielpg.paymentgateway.application.shared.AppTransaction;
+import com.danielpg.paymentgateway.domain.shared.AppClock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * Entrega um lote de mensagens pendentes, em ordem de id, dentro de uma transação que mantém as
+ * linhas bloqueadas: duas instâncias não entregam o mesmo lote em paralelo. Se um consumidor
+ * falhar, só o prefixo já entregue é marcado como publicado.
+ */
+public class OutboxRelay {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final AppTransaction transaction;
+    private final OutboxRepository repository;
+    private final List<OutboxSubscriber> subscribers;
+    private final AppClock clock;
+    private final int batchSize;
+
+    public OutboxRelay(AppTransaction transaction,
+                       OutboxRepository repository,
+                       List<OutboxSubscriber> subscribers,
+                       AppClock clock,
+                       int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("O tamanho do lote do outbox deve ser positivo.");
+        }
+        this.transaction = transaction;
+        this.repository = repository;
+        this.subscribers = List.copyOf(subscribers);
+        this.clock = clock;
+        this.batchSize = batchSize;
+    }
+
+    public int batchSize() {
+        return batchSize;
+    }
+
+    /*
+     * Retorna quantas mensagens foram publicadas. Um valor menor que batchSize indica que o
+     * outbox foi esvaziado ou que um consumidor falhou.
+     */
+    public int relayBatch() {
+        return transaction.executeWithResult(this::internalRelayBatch);
+    }
+
+    private int internalRelayBatch() {
+        var messages = repository.lockPending(batchSize);
+        var delivered = new ArrayList<Long>(messages.size());
+        for (var message : messages) {
+            try {
+                deliver(message);
+            } catch (RuntimeException e) {
+                LOGGER.error("Erro ao entregar mensagem do outbox: id={}, type={}",
+                        message.id(), message.eventType(), e);
+                break;
+            }
+            delivered.add(message.id());
+        }
+        if (!delivered.isEmpty()) {
+            repository.markPublished(delivered, clock.now());
+        }
+        return delivered.size();
+    }
+
+    private void deliver(OutboxMessage message) {
+        for (var subscriber : subscribers) {
+            if (subscriber.accepts(message.eventType())) {
+                subscriber.onMessage(message);
+            }
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.danielpg.paymentgateway.application.event;
+
+import com.danielpg.paymentgateway.domain.shared.TimeMillis;
+
+import java.util.List;
+
+public interface OutboxRepository {
+    List<OutboxMessage> lockPending(int limit);
+    void markPublished(List<Long> ids, TimeMillis publishedAt);
+    int deletePublished(TimeMillis publishedBefore, int limit);
+}
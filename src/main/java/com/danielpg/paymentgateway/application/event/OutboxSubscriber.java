@@ -0,0 +1,15 @@
+package com.danielpg.paymentgateway.application.event;
+
+/*
+ * Consumidor em processo das mensagens do outbox. A entrega é "ao menos uma vez" e em ordem de
+ * id: se onMessage lançar exceção, a mensagem (e as seguintes) é reentregue na próxima rodada,
+ * inclusive aos consumidores que já a tinham recebido.
+ */
+public interface OutboxSubscriber {
+
+    void onMessage(OutboxMessage message);
+
+    default boolean accepts(String eventType) {
+        return true;
+    }
+}
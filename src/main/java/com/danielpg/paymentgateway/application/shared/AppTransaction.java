@@ -1,6 +1,9 @@
 package com.danielpg.paymentgateway.application.shared;
 
+import java.util.function.Supplier;
+
 public interface AppTransaction {
     boolean inTransaction();
     void execute(Runnable runnable);
+    <T> T executeWithResult(Supplier<T> supplier);
 }
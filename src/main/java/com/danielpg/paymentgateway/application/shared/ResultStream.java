@@ -0,0 +1,12 @@
+package com.danielpg.paymentgateway.application.shared;
+
+import java.util.function.Consumer;
+
+/*
+ * Resultado entregue item a item. A consulta só é executada em forEach, o que permite
+ * montar o filtro na thread da requisição e consumir as linhas em outra (ex.: streaming HTTP).
+ */
+@FunctionalInterface
+public interface ResultStream<T> {
+    void forEach(Consumer<T> consumer);
+}
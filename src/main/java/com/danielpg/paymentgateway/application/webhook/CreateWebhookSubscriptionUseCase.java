@@ -0,0 +1,59 @@
+package com.danielpg.paymentgateway.application.webhook;
+
+import com.danielpg.paymentgateway.application.shared.AppTransaction;
+import com.danielpg.paymentgateway.application.shared.RequesterProvider;
+import com.danielpg.paymentgateway.domain.shared.AppClock;
+import com.danielpg.paymentgateway.domain.webhook.WebhookSubscription;
+import com.danielpg.paymentgateway.domain.webhook.WebhookSubscriptionRepository;
+
+import java.security.SecureRandom;
+import java.util.HexFormat;
+
+public class CreateWebhookSubscriptionUseCase {
+
+    public static final int MAX_SUBSCRIPTIONS_PER_USER = 10;
+    private static final int SECRET_BYTES = 32;
+
+    private final AppTransaction appTransaction;
+    private final RequesterProvider requesterProvider;
+    private final WebhookSubscriptionRepository subscriptionRepository;
+    private final WebhookDestinationGuard destinationGuard;
+    private final AppClock clock;
+    private final SecureRandom random = new SecureRandom();
+
+    public CreateWebhookSubscriptionUseCase(AppTransaction appTransaction,
+                                            RequesterProvider requesterProvider,
+                                            WebhookSubscriptionRepository subscriptionRepository,
+                                            WebhookDestinationGuard destinationGuard,
+                                            AppClock clock) {
+        this.appTransaction = appTransaction;
+        this.requesterProvider = requesterProvider;
+        this.subscriptionRepository = subscriptionRepository;
+        this.destinationGuard = destinationGuard;
+        this.clock = clock;
+    }
+
+    public WebhookSubscription createSubscription(String url) {
+        var userId = requesterProvider.requesterId();
+        var subscription = WebhookSubscription.builder()
+                .withUserId(userId)
+                .withUrl(url)
+                .withSecret(generateSecret())
+                .withCreatedAt(clock.now())
+                .build();
+        destinationGuard.ensurePublicDestination(subscription.url());
+        return appTransaction.executeWithResult(() -> {
+            if (subscriptionRepository.findByUser(userId).size() >= MAX_SUBSCRIPTIONS_PER_USER) {
+                throw new IllegalStateException("Limite de " + MAX_SUBSCRIPTIONS_PER_USER + " webhooks por usuário atingido.");
+            }
+            subscriptionRepository.save(subscription);
+            return subscription;
+        });
+    }
+
+    private String generateSecret() {
+        var bytes = new byte[SECRET_BYTES];
+        random.nextBytes(bytes);
+        return HexFormat.of().formatHex(bytes);
+    }
+}
@@ -0,0 +1,32 @@
+package com.danielpg.paymentgateway.application.webhook;
+
+import com.danielpg.paymentgateway.application.auth.AccessForbiddenException;
+import com.danielpg.paymentgateway.application.shared.AppTransaction;
+import com.danielpg.paymentgateway.application.shared.RequesterProvider;
+import com.danielpg.paymentgateway.domain.webhook.WebhookSubscriptionId;
+import com.danielpg.paymentgateway.domain.webhook.WebhookSubscriptionRepository;
+
+public class DeleteWebhookSubscriptionUseCase {
+
+    private final AppTransaction appTransaction;
+    private final RequesterProvider requesterProvider;
+    private final WebhookSubscriptionRepository subscriptionRepository;
+
+    public DeleteWebhookSubscriptionUseCase(AppTransaction appTransaction,
+                                            RequesterProvider requesterProvider,
+                                            WebhookSubscriptionRepository subscriptionRepository) {
+        this.appTransaction = appTransaction;
+        this.requesterProvider = requesterProvider;
+        this.subscriptionRepository = subscriptionRepository;
+    }
+
+    public void deleteSubscription(WebhookSubscriptionId id) {
+        appTransaction.execute(() -> {
+            var subscription = subscriptionRepository.getOrThrow(id);
+            if (!requesterProvider.requesterId().equals(subscription.userId())) {
+                throw new AccessForbiddenException();
+            }
+            subscriptionRepository.delete(id);
+        });
+    }
+}
@@ -0,0 +1,23 @@
+package com.danielpg.paymentgateway.application.webhook;
+
+import com.danielpg.paymentgateway.application.shared.RequesterProvider;
+import com.danielpg.paymentgateway.domain.webhook.WebhookSubscription;
+import com.danielpg.paymentgateway.domain.webhook.WebhookSubscriptionRepository;
+
+import java.util.List;
+
+public class FindWebhookSubscriptionsUseCase {
+
+    private final RequesterProvider requesterProvider;
+    private final WebhookSubscriptionRepository subscriptionRepository;
+
+    public FindWebhookSubscriptionsUseCase(RequesterProvider requesterProvider,
+                                           WebhookSubscriptionRepository subscriptionRepository) {
+        this.requesterProvider = requesterProvider;
+        this.subscriptionRepository = subscriptionRepository;
+    }
+
+    public List<WebhookSubscription> find() {
+        return subscriptionRepository.findByUser(requesterProvider.requesterId());
+    }
+}
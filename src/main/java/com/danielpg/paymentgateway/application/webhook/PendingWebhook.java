@@ -0,0 +1,14 @@
+package com.danielpg.paymentgateway.application.webhook;
+
+/*
+ * Notificação pendente de um webhook. version muda a cada atualização coalescida da mesma
+ * cobrança, para que a confirmação de um envio não apague uma atualização mais recente.
+ */
+public record PendingWebhook(
+        long id,
+        long subscriptionId,
+        long chargeId,
+        long version,
+        int attempts,
+        String payload) {
+}
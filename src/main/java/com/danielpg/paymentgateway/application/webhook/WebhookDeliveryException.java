@@ -0,0 +1,12 @@
+package com.danielpg.paymentgateway.application.webhook;
+
+public class WebhookDeliveryException extends RuntimeException {
+
+    public WebhookDeliveryException(String message) {
+        super(message);
+    }
+
+    public WebhookDeliveryException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,131 @@
+package com.danielpg.paymentgateway.application.webhook;
+
+import com.danielpg.paymentgateway.application.shared.AppTransaction;
+import com.danielpg.paymentgateway.domain.shared.AppClock;
+import com.danielpg.paymentgateway.domain.shared.TimeMillis;
+import com.danielpg.paymentgateway.domain.webhook.WebhookSubscriptionId;
+import com.danielpg.paymentgateway.domain.webhook.WebhookSubscriptionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/*
+ * Envia as notificações pendentes de uma assinatura num único POST (array JSON). Se o destino
+ * falhar, cada notificação é reagendada com backoff exponencial; as que atingem maxAttempts vão
+ * para a tabela de dead letter. O envio acontece fora de transação.
+ */
+public class WebhookDeliveryService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(WebhookDeliveryService.class);
+    private static final int ERROR_MAX_LENGTH = 500;
+
+    private final AppTransaction transaction;
+    private final WebhookSubscriptionRepository subscriptionRepository;
+    private final WebhookQueue queue;
+    private final WebhookSender sender;
+    private final AppClock clock;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long initialBackoff;
+    private final long maxBackoff;
+    private final long lease;
+
+    public WebhookDeliveryService(AppTransaction transaction,
+                                  WebhookSubscriptionRepository subscriptionRepository,
+                                  WebhookQueue queue,
+                                  WebhookSender sender,
+                                  AppClock clock,
+                                  int batchSize,
+                                  int maxAttempts,
+                                  long initialBackoff,
+                                  long maxBackoff,
+                                  long lease) {
+        if (batchSize <= 0 || maxAttempts <= 0 || initialBackoff <= 0 || maxBackoff < initialBackoff || lease <= 0) {
+            throw new IllegalArgumentException("Configuração da entrega de webhooks inválida.");
+        }
+        this.transaction = transaction;
+        this.subscriptionRepository = subscriptionRepository;
+        this.queue = queue;
+        this.sender = sender;
+        this.clock = clock;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.lease = lease;
+    }
+
+    public int batchSize() {
+        return batchSize;
+    }
+
+    /*
+     * Retorna quantas notificações foram entregues. Um valor menor que batchSize indica que não
+     * há mais notificações vencidas para a assinatura ou que o envio falhou.
+     */
+    public int deliverNext(WebhookSubscriptionId subscriptionId) {
+        var subscription = subscriptionRepository.get(subscriptionId);
+        if (subscription.isEmpty()) {
+            return 0;
+        }
+        var now = clock.now();
+        var deliveries = transaction.executeWithResult(() -> queue.claim(subscriptionId, now, batchSize,
+                TimeMillis.of(now.value() + lease)));
+        if (deliveries.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            sender.send(subscription.get(), body(deliveries));
+        } catch (RuntimeException e) {
+            LOGGER.warn("Falha ao entregar webhook: subscriptionId={}, count={}, error={}",
+                    subscriptionId.value(), deliveries.size(), e.getMessage());
+            transaction.execute(() -> fail(deliveries, e));
+            return 0;
+        }
+
+        transaction.execute(() -> queue.complete(deliveries, clock.now()));
+        return deliveries.size();
+    }
+
+    private void fail(List<PendingWebhook> deliveries, RuntimeException cause) {
+        var now = clock.now();
+        var error = errorMessage(cause);
+        var exhausted = new ArrayList<PendingWebhook>();
+        var retries = new TreeMap<Long, List<PendingWebhook>>();
+        for (var delivery : deliveries) {
+            var attempts = delivery.attempts() + 1;
+            if (attempts >= maxAttempts) {
+                exhausted.add(delivery);
+            } else {
+                retries.computeIfAbsent(now.value() + backoff(attempts), key -> new ArrayList<>()).add(delivery);
+            }
+        }
+        retries.forEach((nextAttemptAt, batch) -> queue.reschedule(batch, TimeMillis.of(nextAttemptAt), error));
+        if (!exhausted.isEmpty()) {
+            LOGGER.error("Webhooks movidos para dead letter: subscriptionId={}, count={}",
+                    exhausted.get(0).subscriptionId(), exhausted.size());
+            queue.moveToDeadLetter(exhausted, error, now);
+        }
+    }
+
+    private long backoff(int attempts) {
+        var shift = Math.min(attempts - 1, 30);
+        return Math.min(initialBackoff << shift, maxBackoff);
+    }
+
+    private static String body(List<PendingWebhook> deliveries) {
+        return deliveries.stream()
+                .map(PendingWebhook::payload)
+                .collect(Collectors.joining(",", "[", "]"));
+    }
+
+    private static String errorMessage(RuntimeException e) {
+        var message = e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage();
+        return message.length() > ERROR_MAX_LENGTH ? message.substring(0, ERROR_MAX_LENGTH) : message;
+    }
+}
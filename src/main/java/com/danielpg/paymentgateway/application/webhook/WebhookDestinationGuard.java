@@ -0,0 +1,10 @@
+package com.danielpg.paymentgateway.application.webhook;
+
+public interface WebhookDestinationGuard {
+
+    /*
+     * Lança IllegalArgumentException se o host da URL resolver para um endereço que não seja
+     * público (loopback, link-local, rede privada etc.).
+     */
+    void ensurePublicDestination(String url);
+}
@@ -0,0 +1,33 @@
+package com.danielpg.paymentgateway.application.webhook;
+
+import com.danielpg.paymentgateway.domain.shared.TimeMillis;
+import com.danielpg.paymentgateway.domain.webhook.WebhookSubscriptionId;
+
+import java.util.List;
+
+public interface WebhookQueue {
+
+    /*
+     * Enfileira a notificação da cobrança para cada assinatura. Se já houver uma notificação
+     * pendente da mesma cobrança para a assinatura, ela é substituída pela mais recente.
+     */
+    void enqueue(List<WebhookSubscriptionId> subscriptionIds, long chargeId, String payload, TimeMillis now);
+
+    List<WebhookSubscriptionId> findDueSubscriptions(TimeMillis now, int limit);
+
+    /*
+     * Bloqueia até limit notificações vencidas da assinatura e adia a próxima tentativa delas
+     * para leaseUntil, para que outra instância não as envie enquanto o envio está em curso.
+     */
+    List<PendingWebhook> claim(WebhookSubscriptionId subscriptionId, TimeMillis now, int limit, TimeMillis leaseUntil);
+
+    /*
+     * Remove as notificações entregues. As que foram atualizadas durante o envio permanecem e
+     * voltam a vencer imediatamente.
+     */
+    void complete(List<PendingWebhook> deliveries, TimeMillis now);
+
+    void reschedule(List<PendingWebhook> deliveries, TimeMillis nextAttemptAt, String error);
+
+    void moveToDeadLetter(List<PendingWebhook> deliveries, String error, TimeMillis now);
+}
@@ -0,0 +1,8 @@
+package com.danielpg.paymentgateway.application.webhook;
+
+import com.danielpg.paymentgateway.domain.webhook.WebhookSubscription;
+
+public interface WebhookSender {
+
+    void send(WebhookSubscription subscription, String body);
+}
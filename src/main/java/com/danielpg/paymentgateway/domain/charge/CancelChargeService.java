@@ -2,26 +2,44 @@ package com.danielpg.paymentgateway.domain.charge;
 
 import com.danielpg.paymentgateway.domain.charge.payment.PaymentAuthorizer;
 import com.danielpg.paymentgateway.domain.charge.payment.PaymentRepository;
-import com.danielpg.paymentgateway.domain.user.UserRepository;
+import com.danielpg.paymentgateway.domain.charge.summary.ChargeSummaryRepository;
+import com.danielpg.paymentgateway.domain.event.DomainEventPublisher;
+import com.danielpg.paymentgateway.domain.ledger.LedgerEntry;
+import com.danielpg.paymentgateway.domain.ledger.LedgerEntryType;
+import com.danielpg.paymentgateway.domain.ledger.LedgerRepository;
+import com.danielpg.paymentgateway.domain.shared.AppClock;
+import com.danielpg.paymentgateway.domain.user.UserId;
+
+import java.util.List;
 
 public class CancelChargeService {
 
     private final ChargeRepository chargeRepository;
-    private final UserRepository userRepository;
+    private final LedgerRepository ledgerRepository;
     private final PaymentRepository paymentRepository;
     private final PaymentAuthorizer paymentAuthorizer;
+    private final ChargeSummaryRepository chargeSummaryRepository;
+    private final DomainEventPublisher eventPublisher;
+    private final AppClock clock;
 
     public CancelChargeService(ChargeRepository chargeRepository,
-                               UserRepository userRepository,
+                               LedgerRepository ledgerRepository,
                                PaymentRepository paymentRepository,
-                               PaymentAuthorizer paymentAuthorizer) {
+                               PaymentAuthorizer paymentAuthorizer,
+                               ChargeSummaryRepository chargeSummaryRepository,
+                               DomainEventPublisher eventPublisher,
+                               AppClock clock) {
         this.chargeRepository = chargeRepository;
-        this.userRepository = userRepository;
+        this.ledgerRepository = ledgerRepository;
         this.paymentRepository = paymentRepository;
         this.paymentAuthorizer = paymentAuthorizer;
+        this.chargeSummaryRepository = chargeSummaryRepository;
+        this.eventPublisher = eventPublisher;
+        this.clock = clock;
     }
 
     public void cancelCharge(Charge charge) {
+        var previousStatus = charge.status();
         switch (charge.status()) {
             case PENDING -> cancelPendingCharge(charge);
             case PAID -> cancelPaidCharge(charge);
@@ -29,7 +47,9 @@ public class CancelChargeService {
                     "A cobrança não pode ser cancelada no status atual: " + charge.status());
         }
 
-        chargeRepository.save(charge);
+        chargeRepository.updateStatus(charge, previousStatus);
+        chargeSummaryRepository.move(charge, previousStatus);
+        eventPublisher.publish(ChargeStatusChangedEvent.of(charge, previousStatus, clock.now()));
     }
 
     private void cancelPendingCharge(Charge charge) {
@@ -53,13 +73,18 @@ public class CancelChargeService {
     }
 
     private void refundBalance(Charge charge) {
-        var issuer = userRepository.getOrThrow(charge.issuerId());
-        var payer = userRepository.getOrThrow(charge.payerId());
-
-        issuer.decreaseBalance(charge.amount());
-        payer.increaseBalance(charge.amount());
+        ledgerRepository.appendAll(List.of(
+                buildLedgerEntry(charge, charge.issuerId(), LedgerEntryType.REFUND_SENT),
+                buildLedgerEntry(charge, charge.payerId(), LedgerEntryType.REFUND_RECEIVED)));
+    }
 
-        userRepository.save(issuer);
-        userRepository.save(payer);
+    private LedgerEntry buildLedgerEntry(Charge charge, UserId userId, LedgerEntryType type) {
+        return LedgerEntry.builder()
+                .withUserId(userId)
+                .withType(type)
+                .withAmount(charge.amount())
+                .withReferenceId(charge.id().value())
+                .withCreatedAt(clock.now())
+                .build();
     }
 }
@@ -89,6 +89,14 @@ public class Charge {
         this.status = ChargeStatus.CANCELED;
     }
 
+    public void changeStatusToExpired(TimeMillis now) {
+        ensurePendingStatus();
+        if (dueAt.compareTo(now) > 0) {
+            throw new IllegalStateException("A cobrança ainda não venceu.");
+        }
+        this.status = ChargeStatus.EXPIRED;
+    }
+
     public void ensurePendingStatus() {
         if (status != ChargeStatus.PENDING) {
             throw new IllegalStateException("A cobrança não está pendente.");
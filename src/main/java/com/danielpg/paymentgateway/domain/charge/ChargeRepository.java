@@ -1,9 +1,20 @@
 package com.danielpg.paymentgateway.domain.charge;
 
+import com.danielpg.paymentgateway.domain.shared.TimeMillis;
+
+import java.util.List;
 import java.util.Optional;
 
 public interface ChargeRepository {
     Optional<Charge> get(ChargeId id);
     Charge getOrThrow(ChargeId id);
     void save(Charge charge);
+    void saveAll(List<Charge> charges);
+
+    /*
+     * Grava o status atual da cobrança somente se o status gravado ainda for expectedStatus. Lança
+     * IllegalStateException se outra operação já alterou a cobrança (ex.: expirada durante o pagamento).
+     */
+    void updateStatus(Charge charge, ChargeStatus expectedStatus);
+    List<Charge> lockOverdue(TimeMillis now, int limit);
 }
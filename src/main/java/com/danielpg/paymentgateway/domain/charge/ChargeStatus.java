@@ -7,7 +7,8 @@ import java.util.stream.Collectors;
 public enum ChargeStatus {
     PENDING,
     PAID,
-    CANCELED;
+    CANCELED,
+    EXPIRED;
 
     public static Set<ChargeStatus> fromCsv(String csv) {
         if (csv == null || csv.isBlank()) {
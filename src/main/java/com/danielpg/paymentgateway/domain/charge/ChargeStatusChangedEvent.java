@@ -0,0 +1,48 @@
+package com.danielpg.paymentgateway.domain.charge;
+
+import com.danielpg.paymentgateway.domain.event.DomainEvent;
+import com.danielpg.paymentgateway.domain.shared.TimeMillis;
+
+import java.math.BigDecimal;
+
+/*
+ * previousStatus é null quando a cobrança acaba de ser criada.
+ */
+public record ChargeStatusChangedEvent(
+        long chargeId,
+        long issuerId,
+        long payerId,
+        BigDecimal amount,
+        ChargeStatus previousStatus,
+        ChargeStatus status,
+        long occurredAt) implements DomainEvent {
+
+    public static final String TYPE = "charge.status-changed";
+
+    public static ChargeStatusChangedEvent of(Charge charge, ChargeStatus previousStatus, TimeMillis occurredAt) {
+        return new ChargeStatusChangedEvent(
+                charge.id().value(),
+                charge.issuerId().value(),
+                charge.payerId().value(),
+                charge.amount().value(),
+                previousStatus,
+                charge.status(),
+                occurredAt.value()
+        );
+    }
+
+    @Override
+    public String type() {
+        return TYPE;
+    }
+
+    @Override
+    public String aggregateType() {
+        return "charge";
+    }
+
+    @Override
+    public long aggregateId() {
+        return chargeId;
+    }
+}
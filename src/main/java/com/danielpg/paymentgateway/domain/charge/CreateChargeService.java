@@ -1,25 +1,39 @@
 package com.danielpg.paymentgateway.domain.charge;
 
+import com.danielpg.paymentgateway.domain.charge.summary.ChargeSummaryRepository;
+import com.danielpg.paymentgateway.domain.event.DomainEventPublisher;
 import com.danielpg.paymentgateway.domain.shared.AppClock;
 import com.danielpg.paymentgateway.domain.shared.PositiveMoney;
+import com.danielpg.paymentgateway.domain.shared.TimeMillis;
 import com.danielpg.paymentgateway.domain.user.Cpf;
 import com.danielpg.paymentgateway.domain.user.User;
+import com.danielpg.paymentgateway.domain.user.UserId;
 import com.danielpg.paymentgateway.domain.user.UserNotFoundException;
 import com.danielpg.paymentgateway.domain.user.UserRepository;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
 public class CreateChargeService {
 
     private static final int DUE_IN_DAYS = 30;
 
     private final UserRepository userRepository;
     private final ChargeRepository chargeRepository;
+    private final ChargeSummaryRepository chargeSummaryRepository;
+    private final DomainEventPublisher eventPublisher;
     private final AppClock clock;
 
     public CreateChargeService(UserRepository userRepository,
                                ChargeRepository chargeRepository,
+                               ChargeSummaryRepository chargeSummaryRepository,
+                               DomainEventPublisher eventPublisher,
                                AppClock clock) {
         this.userRepository = userRepository;
         this.chargeRepository = chargeRepository;
+        this.chargeSummaryRepository = chargeSummaryRepository;
+        this.eventPublisher = eventPublisher;
         this.clock = clock;
     }
 
@@ -27,18 +41,52 @@ public class CreateChargeService {
     public Charge createCharge(Request request) {
         var issuer = getUser(request.issuerCpf);
         var payer = getUser(request.payercpf);
-        var charge = buildCharge(request, issuer, payer);
+        var charge = buildCharge(issuer.id(), payer.id(), request.amount, request.description, clock.now());
         chargeRepository.save(charge);
+        chargeSummaryRepository.add(charge);
+        eventPublisher.publish(ChargeStatusChangedEvent.of(charge, null, charge.createdAt()));
         return charge;
     }
 
-    private Charge buildCharge(Request request, User issuer, User payer) {
+    public BulkResult createCharges(Cpf issuerCpf, List<BulkItem> items) {
+        var issuer = getUser(issuerCpf);
+        var payerIds = userRepository.findIdsByCpf(items.stream()
+                .map(BulkItem::payerCpf)
+                .collect(Collectors.toSet()));
         var now = clock.now();
+        var created = new ArrayList<CreatedItem>(items.size());
+        var errors = new ArrayList<ItemError>();
+        for (var item : items) {
+            var payerId = payerIds.get(item.payerCpf);
+            if (payerId == null) {
+                errors.add(new ItemError(item.index, new UserNotFoundException(item.payerCpf).getMessage()));
+                continue;
+            }
+            try {
+                created.add(new CreatedItem(item.index,
+                        buildCharge(issuer.id(), payerId, item.amount, item.description, now)));
+            } catch (IllegalArgumentException e) {
+                errors.add(new ItemError(item.index, e.getMessage()));
+            }
+        }
+        if (!created.isEmpty()) {
+            var charges = created.stream().map(CreatedItem::charge).toList();
+            chargeRepository.saveAll(charges);
+            chargeSummaryRepository.addAll(charges);
+            eventPublisher.publishAll(charges.stream()
+                    .map(charge -> ChargeStatusChangedEvent.of(charge, null, charge.createdAt()))
+                    .toList());
+        }
+        return new BulkResult(created, errors);
+    }
+
+    private Charge buildCharge(UserId issuerId, UserId payerId, PositiveMoney amount,
+                               ChargeDescription description, TimeMillis now) {
         return Charge.builder()
-                .withIssuerId(issuer.id())
-                .withPayerId(payer.id())
-                .withAmount(request.amount)
-                .withDescription(request.description)
+                .withIssuerId(issuerId)
+                .withPayerId(payerId)
+                .withAmount(amount)
+                .withDescription(description)
                 .withCreatedAt(now)
                 .withDueAt(now.plusDays(DUE_IN_DAYS))
                 .withStatus(ChargeStatus.PENDING)
@@ -57,4 +105,20 @@ public class CreateChargeService {
             PositiveMoney amount,
             ChargeDescription description) {
     }
+
+    public record BulkItem(
+            int index,
+            Cpf payerCpf,
+            PositiveMoney amount,
+            ChargeDescription description) {
+    }
+
+    public record CreatedItem(int index, Charge charge) {
+    }
+
+    public record ItemError(int index, String message) {
+    }
+
+    public record BulkResult(List<CreatedItem> created, List<ItemError> errors) {
+    }
 }
@@ -0,0 +1,17 @@
+package com.danielpg.paymentgateway.domain.charge.payment;
+
+import com.danielpg.paymentgateway.domain.charge.Charge;
+import com.danielpg.paymentgateway.domain.deposit.Deposit;
+import com.danielpg.paymentgateway.domain.shared.creditcard.CreditCard;
+
+import java.util.concurrent.CompletableFuture;
+
+/*
+ * Mesmas operações de PaymentAuthorizer sem bloquear quem chama. Em caso de recusa ou falha, o
+ * futuro termina com PaymentNotAuthorizedException ou AuthorizerUnavailableException como causa.
+ */
+public interface AsyncPaymentAuthorizer {
+    CompletableFuture<Void> authorizePayment(Charge charge, CreditCard creditCard);
+    CompletableFuture<Void> authorizeCancellation(Charge charge, CreditCard creditCard);
+    CompletableFuture<Void> authorizeDeposit(Deposit deposit);
+}
@@ -0,0 +1,12 @@
+package com.danielpg.paymentgateway.domain.charge.payment;
+
+public class AuthorizerUnavailableException extends RuntimeException {
+
+    public AuthorizerUnavailableException(String message) {
+        super(message);
+    }
+
+    public AuthorizerUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,13 @@
+package com.danielpg.paymentgateway.domain.charge.payment;
+
+import com.danielpg.paymentgateway.domain.charge.Charge;
+import com.danielpg.paymentgateway.domain.deposit.Deposit;
+import com.danielpg.paymentgateway.domain.shared.creditcard.CreditCard;
+
+import java.util.concurrent.CompletableFuture;
+
+public interface BatchPaymentAuthorizer {
+    CompletableFuture<Void> authorizePayment(Charge charge, CreditCard creditCard);
+    CompletableFuture<Void> authorizeCancellation(Charge charge, CreditCard creditCard);
+    CompletableFuture<Void> authorizeDeposit(Deposit deposit);
+}
@@ -0,0 +1,45 @@
+package com.danielpg.paymentgateway.domain.charge.payment;
+
+import com.danielpg.paymentgateway.domain.charge.Charge;
+import com.danielpg.paymentgateway.domain.event.DomainEvent;
+
+import java.math.BigDecimal;
+
+public record PaymentRegisteredEvent(
+        long paymentId,
+        long chargeId,
+        long issuerId,
+        long payerId,
+        BigDecimal amount,
+        PaymentMethod method,
+        long occurredAt) implements DomainEvent {
+
+    public static final String TYPE = "payment.registered";
+
+    public static PaymentRegisteredEvent of(Charge charge, Payment payment) {
+        return new PaymentRegisteredEvent(
+                payment.id().value(),
+                charge.id().value(),
+                charge.issuerId().value(),
+                charge.payerId().value(),
+                charge.amount().value(),
+                payment.method(),
+                payment.paidAt().value()
+        );
+    }
+
+    @Override
+    public String type() {
+        return TYPE;
+    }
+
+    @Override
+    public String aggregateType() {
+        return "payment";
+    }
+
+    @Override
+    public long aggregateId() {
+        return paymentId;
+    }
+}
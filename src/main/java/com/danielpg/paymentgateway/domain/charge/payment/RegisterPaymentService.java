@@ -3,37 +3,72 @@ package com.danielpg.paymentgateway.domain.charge.payment;
 import com.danielpg.paymentgateway.domain.shared.AppClock;
 import com.danielpg.paymentgateway.domain.charge.Charge;
 import com.danielpg.paymentgateway.domain.charge.ChargeRepository;
-import com.danielpg.paymentgateway.domain.user.UserRepository;
+import com.danielpg.paymentgateway.domain.charge.ChargeStatus;
+import com.danielpg.paymentgateway.domain.charge.ChargeStatusChangedEvent;
+import com.danielpg.paymentgateway.domain.charge.summary.ChargeSummaryRepository;
+import com.danielpg.paymentgateway.domain.event.DomainEventPublisher;
+import com.danielpg.paymentgateway.domain.ledger.LedgerEntry;
+import com.danielpg.paymentgateway.domain.ledger.LedgerEntryType;
+import com.danielpg.paymentgateway.domain.ledger.LedgerRepository;
+import com.danielpg.paymentgateway.domain.user.UserId;
+
+import java.util.List;
 
 public class RegisterPaymentService {
 
     private final ChargeRepository chargeRepository;
-    private final UserRepository userRepository;
+    private final LedgerRepository ledgerRepository;
     private final PaymentRepository paymentRepository;
     private final PaymentAuthorizer paymentAuthorizer;
+    private final ChargeSummaryRepository chargeSummaryRepository;
+    private final DomainEventPublisher eventPublisher;
     private final AppClock clock;
 
     public RegisterPaymentService(ChargeRepository chargeRepository,
-                                  UserRepository userRepository,
+                                  LedgerRepository ledgerRepository,
                                   PaymentRepository paymentRepository,
                                   PaymentAuthorizer paymentAuthorizer,
+                                  ChargeSummaryRepository chargeSummaryRepository,
+                                  DomainEventPublisher eventPublisher,
                                   AppClock clock) {
         this.chargeRepository = chargeRepository;
-        this.userRepository = userRepository;
+        this.ledgerRepository = ledgerRepository;
         this.paymentRepository = paymentRepository;
         this.paymentAuthorizer = paymentAuthorizer;
+        this.chargeSummaryRepository = chargeSummaryRepository;
+        this.eventPublisher = eventPublisher;
         this.clock = clock;
     }
 
     public Payment registerPayment(RegisterPaymentRequest request) {
-        checkIfPaymentAlreadyExists(request.charge());
+        validatePayment(request);
+        authorizePayment(request);
+        return savePayment(request);
+    }
 
+    public void validatePayment(RegisterPaymentRequest request) {
+        checkIfPaymentAlreadyExists(request.charge());
         request.charge().ensurePendingStatus();
+    }
 
+    public void authorizePayment(RegisterPaymentRequest request) {
         if (request.method() == PaymentMethod.CREDIT_CARD) {
             paymentAuthorizer.authorizePayment(request.charge(), request.creditCard());
         }
+    }
+
+    public Payment completePayment(RegisterPaymentRequest request) {
+        validatePayment(request);
+        return savePayment(request);
+    }
 
+    public void cancelAuthorization(RegisterPaymentRequest request) {
+        if (request.method() == PaymentMethod.CREDIT_CARD) {
+            paymentAuthorizer.authorizeCancellation(request.charge(), request.creditCard());
+        }
+    }
+
+    private Payment savePayment(RegisterPaymentRequest request) {
         var payment = buildPayment(request.charge(), request);
 
         if (request.method() == PaymentMethod.BALANCE) {
@@ -41,19 +76,29 @@ public class RegisterPaymentService {
         }
 
         request.charge().changeStatusToPaid();
-        chargeRepository.save(request.charge());
+        chargeRepository.updateStatus(request.charge(), ChargeStatus.PENDING);
+        chargeSummaryRepository.move(request.charge(), ChargeStatus.PENDING);
         paymentRepository.save(payment);
+        eventPublisher.publish(ChargeStatusChangedEvent.of(request.charge(), ChargeStatus.PENDING, payment.paidAt()));
+        eventPublisher.publish(PaymentRegisteredEvent.of(request.charge(), payment));
 
         return payment;
     }
 
     private void updateBalances(Charge charge) {
-        var issuer = userRepository.getOrThrow(charge.issuerId());
-        var payer = userRepository.getOrThrow(charge.payerId());
-        issuer.increaseBalance(charge.amount());
-        payer.decreaseBalance(charge.amount());
-        userRepository.save(issuer);
-        userRepository.save(payer);
+        ledgerRepository.appendAll(List.of(
+                buildLedgerEntry(charge, charge.payerId(), LedgerEntryType.PAYMENT_SENT),
+                buildLedgerEntry(charge, charge.issuerId(), LedgerEntryType.PAYMENT_RECEIVED)));
+    }
+
+    private LedgerEntry buildLedgerEntry(Charge charge, UserId userId, LedgerEntryType type) {
+        return LedgerEntry.builder()
+                .withUserId(userId)
+                .withType(type)
+                .withAmount(charge.amount())
+                .withReferenceId(charge.id().value())
+                .withCreatedAt(clock.now())
+                .build();
     }
 
     private void checkIfPaymentAlreadyExists(Charge charge) {
@@ -0,0 +1,256 @@
+package com.danielpg.paymentgateway.domain.charge.payment.intent;
+
+import com.danielpg.paymentgateway.domain.charge.ChargeId;
+import com.danielpg.paymentgateway.domain.charge.payment.PaymentId;
+import com.danielpg.paymentgateway.domain.charge.payment.PaymentMethod;
+import com.danielpg.paymentgateway.domain.shared.TimeMillis;
+import com.danielpg.paymentgateway.domain.shared.Validation;
+import com.danielpg.paymentgateway.domain.shared.creditcard.CreditCard;
+import com.danielpg.paymentgateway.domain.user.UserId;
+
+import java.util.Objects;
+
+public class PaymentIntent {
+
+    private static final int MAX_FAILURE_REASON_LENGTH = 255;
+
+    private PaymentIntentId id;
+    private final ChargeId chargeId;
+    private final UserId payerId;
+    private final PaymentMethod method;
+    private CreditCard creditCard;
+    private final int attempts;
+    private final TimeMillis createdAt;
+    private PaymentIntentStatus status;
+    private PaymentId paymentId;
+    private String failureReason;
+    private TimeMillis authorizedAt;
+    private TimeMillis updatedAt;
+
+    private PaymentIntent(Builder builder) {
+        this.id = builder.id;
+        this.chargeId = Validation.required(builder.chargeId, "O id da cobrança é requerido.");
+        this.payerId = Validation.required(builder.payerId, "O pagador é requerido.");
+        this.method = Validation.required(builder.method, "O método de pagamento é requerido.");
+        this.status = Validation.required(builder.status, "O status da intenção de pagamento é requerido.");
+        this.createdAt = Validation.required(builder.createdAt, "A data/hora de criação é requerida.");
+        this.updatedAt = builder.updatedAt != null ? builder.updatedAt : builder.createdAt;
+        this.attempts = builder.attempts;
+        this.paymentId = builder.paymentId;
+        this.failureReason = builder.failureReason;
+        this.authorizedAt = builder.authorizedAt;
+
+        // Os dados do cartão só são mantidos enquanto a intenção pode voltar a chamar o autorizador.
+        if (method == PaymentMethod.CREDIT_CARD && !status.isFinished()) {
+            this.creditCard = Validation.required(builder.creditCard, "O cartão de crédito é requerido para pagamentos com cartão.");
+        } else {
+            this.creditCard = null;
+        }
+    }
+
+    public PaymentIntentId id() {
+        return id;
+    }
+
+    public ChargeId chargeId() {
+        return chargeId;
+    }
+
+    public UserId payerId() {
+        return payerId;
+    }
+
+    public PaymentMethod method() {
+        return method;
+    }
+
+    public CreditCard creditCard() {
+        return creditCard;
+    }
+
+    public PaymentIntentStatus status() {
+        return status;
+    }
+
+    public int attempts() {
+        return attempts;
+    }
+
+    public PaymentId paymentId() {
+        return paymentId;
+    }
+
+    public String failureReason() {
+        return failureReason;
+    }
+
+    public TimeMillis authorizedAt() {
+        return authorizedAt;
+    }
+
+    public boolean isAuthorized() {
+        return authorizedAt != null;
+    }
+
+    public TimeMillis createdAt() {
+        return createdAt;
+    }
+
+    public TimeMillis updatedAt() {
+        return updatedAt;
+    }
+
+    public void markAuthorized(TimeMillis now) {
+        ensureProcessingStatus();
+        this.authorizedAt = Validation.required(now, "A data/hora da autorização é requerida.");
+        this.updatedAt = now;
+    }
+
+    public void markSucceeded(PaymentId paymentId, TimeMillis now) {
+        ensureProcessingStatus();
+        this.paymentId = Validation.required(paymentId, "O id do pagamento é requerido.");
+        this.status = PaymentIntentStatus.SUCCEEDED;
+        this.creditCard = null;
+        this.updatedAt = Validation.required(now, "A data/hora de atualização é requerida.");
+    }
+
+    public void markFailed(String reason, TimeMillis now) {
+        ensureProcessingStatus();
+        this.failureReason = truncate(Validation.required(reason, "O motivo da falha é requerido."));
+        this.status = PaymentIntentStatus.FAILED;
+        this.creditCard = null;
+        this.updatedAt = Validation.required(now, "A data/hora de atualização é requerida.");
+    }
+
+    public void ensureProcessingStatus() {
+        if (status != PaymentIntentStatus.PROCESSING) {
+            throw new IllegalStateException("A intenção de pagamento não está em processamento.");
+        }
+    }
+
+    public void finalizeCreation(PaymentIntentId id) {
+        if (this.id != null) {
+            throw new IllegalStateException("A criação da intenção de pagamento já foi finalizada.");
+        }
+        this.id = Validation.required(id, "O id é requerido.");
+    }
+
+    private static String truncate(String reason) {
+        return reason.length() > MAX_FAILURE_REASON_LENGTH
+                ? reason.substring(0, MAX_FAILURE_REASON_LENGTH) : reason;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) return true;
+        if (other == null || getClass() != other.getClass()) return false;
+        return equalsCasted((PaymentIntent) other);
+    }
+
+    private boolean equalsCasted(PaymentIntent other) {
+        return attempts == other.attempts
+                && Objects.equals(id, other.id)
+                && Objects.equals(chargeId, other.chargeId)
+                && Objects.equals(payerId, other.payerId)
+                && method == other.method
+                && Objects.equals(creditCard, other.creditCard)
+                && status == other.status
+                && Objects.equals(paymentId, other.paymentId)
+                && Objects.equals(failureReason, other.failureReason)
+                && Objects.equals(authorizedAt, other.authorizedAt)
+                && Objects.equals(createdAt, other.createdAt)
+                && Objects.equals(updatedAt, other.updatedAt);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, chargeId, payerId, method, creditCard, status, attempts,
+                paymentId, failureReason, authorizedAt, createdAt, updatedAt);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+        private PaymentIntentId id;
+        private ChargeId chargeId;
+        private UserId payerId;
+        private PaymentMethod method;
+        private CreditCard creditCard;
+        private PaymentIntentStatus status;
+        private int attempts;
+        private PaymentId paymentId;
+        private String failureReason;
+        private TimeMillis authorizedAt;
+        private TimeMillis createdAt;
+        private TimeMillis updatedAt;
+
+        private Builder() {
+        }
+
+        public Builder withId(PaymentIntentId id) {
+            this.id = id;
+            return this;
+        }
+
+        public Builder withChargeId(ChargeId chargeId) {
+            this.chargeId = chargeId;
+            return this;
+        }
+
+        public Builder withPayerId(UserId payerId) {
+            this.payerId = payerId;
+            return this;
+        }
+
+        public Builder withMethod(PaymentMethod method) {
+            this.method = method;
+            return this;
+        }
+
+        public Builder withCreditCard(CreditCard creditCard) {
+            this.creditCard = creditCard;
+            return this;
+        }
+
+        public Builder withStatus(PaymentIntentStatus status) {
+            this.status = status;
+            return this;
+        }
+
+        public Builder withAttempts(int attempts) {
+            this.attempts = attempts;
+            return this;
+        }
+
+        public Builder withPaymentId(PaymentId paymentId) {
+            this.paymentId = paymentId;
+            return this;
+        }
+
+        public Builder withFailureReason(String failureReason) {
+            this.failureReason = failureReason;
+            return this;
+        }
+
+        public Builder withAuthorizedAt(TimeMillis authorizedAt) {
+            this.authorizedAt = authorizedAt;
+            return this;
+        }
+
+        public Builder withCreatedAt(TimeMillis createdAt) {
+            this.createdAt = createdAt;
+            return this;
+        }
+
+        public Builder withUpdatedAt(TimeMillis updatedAt) {
+            this.updatedAt = updatedAt;
+            return this;
+        }
+
+        public PaymentIntent build() {
+            return new PaymentIntent(this);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.danielpg.paymentgateway.domain.charge.payment.intent;
+
+import com.danielpg.paymentgateway.domain.shared.SurrogateId;
+
+import java.util.Optional;
+
+public class PaymentIntentId extends SurrogateId {
+
+    protected PaymentIntentId(Long value) {
+        super(value);
+    }
+
+    public static PaymentIntentId of(Long value) {
+        return new PaymentIntentId(value);
+    }
+
+    public static Optional<PaymentIntentId> ofNullable(Long value) {
+        return value == null ? Optional.empty()
+                : Optional.of(new PaymentIntentId(value));
+    }
+}
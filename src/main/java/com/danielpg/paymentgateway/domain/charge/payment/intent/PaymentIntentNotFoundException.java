@@ -0,0 +1,10 @@
+package com.danielpg.paymentgateway.domain.charge.payment.intent;
+
+import com.danielpg.paymentgateway.domain.shared.AbstractNotFoundException;
+
+public class PaymentIntentNotFoundException extends AbstractNotFoundException {
+
+    public PaymentIntentNotFoundException(PaymentIntentId id) {
+        super("Intenção de pagamento não encontrada: " + id.value());
+    }
+}
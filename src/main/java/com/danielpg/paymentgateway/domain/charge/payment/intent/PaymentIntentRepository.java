@@ -0,0 +1,31 @@
+package com.danielpg.paymentgateway.domain.charge.payment.intent;
+
+import com.danielpg.paymentgateway.domain.shared.TimeMillis;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface PaymentIntentRepository {
+    Optional<PaymentIntent> get(PaymentIntentId id);
+    PaymentIntent getOrThrow(PaymentIntentId id);
+    void save(PaymentIntent intent);
+
+    /* PENDING -> PROCESSING; false se outro worker já assumiu a intenção. */
+    boolean claim(PaymentIntentId id, TimeMillis now);
+
+    /* PROCESSING -> PENDING, para nova tentativa; descarta a autorização registrada. */
+    void release(PaymentIntentId id, TimeMillis now);
+
+    /*
+     * Devolve para PENDING as intenções presas em PROCESSING desde antes de processingBefore. As já
+     * autorizadas ficam de fora: a autorização precisa ser cancelada antes (ver claimStaleAuthorized).
+     */
+    int releaseStale(TimeMillis processingBefore, TimeMillis now);
+
+    List<PaymentIntentId> findStaleAuthorized(TimeMillis processingBefore, int limit);
+
+    /* Renova updated_at da intenção autorizada presa; false se outro worker já a assumiu. */
+    boolean claimStaleAuthorized(PaymentIntentId id, TimeMillis processingBefore, TimeMillis now);
+
+    List<PaymentIntentId> findPending(TimeMillis updatedBefore, int limit);
+}
@@ -0,0 +1,12 @@
+package com.danielpg.paymentgateway.domain.charge.payment.intent;
+
+public enum PaymentIntentStatus {
+    PENDING,
+    PROCESSING,
+    SUCCEEDED,
+    FAILED;
+
+    public boolean isFinished() {
+        return this == SUCCEEDED || this == FAILED;
+    }
+}
@@ -8,9 +8,21 @@ import java.util.Set;
 
 public record IssuedChargesFilter(
         UserId issuerId,
-        Set<ChargeStatus> statuses) {
+        Set<ChargeStatus> statuses,
+        Long afterId,
+        Integer limit) {
+
+    public static final int DEFAULT_LIMIT = 100;
+    public static final int MAX_LIMIT = 1000;
+
+    public IssuedChargesFilter(UserId issuerId, Set<ChargeStatus> statuses) {
+        this(issuerId, statuses, null, null);
+    }
 
     public IssuedChargesFilter {
         Validation.required(issuerId, "O ID do emitente é requerido.");
+        if (limit != null && (limit < 1 || limit > MAX_LIMIT)) {
+            throw new IllegalArgumentException("O limite deve estar entre 1 e " + MAX_LIMIT + ".");
+        }
     }
 }
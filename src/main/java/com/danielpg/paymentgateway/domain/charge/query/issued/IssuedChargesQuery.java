@@ -1,7 +1,10 @@
 package com.danielpg.paymentgateway.domain.charge.query.issued;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface IssuedChargesQuery {
     List<IssuedChargesItem> execute(IssuedChargesFilter filter);
+
+    void stream(IssuedChargesFilter filter, Consumer<IssuedChargesItem> consumer);
 }
@@ -1,7 +1,10 @@
 package com.danielpg.paymentgateway.domain.charge.query.received;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface ReceivedChargesQuery {
     List<ReceivedChargesItem> execute(ReceivedChargesFilter filter);
+
+    void stream(ReceivedChargesFilter filter, Consumer<ReceivedChargesItem> consumer);
 }
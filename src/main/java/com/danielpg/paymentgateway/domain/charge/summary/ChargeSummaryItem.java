@@ -0,0 +1,12 @@
+package com.danielpg.paymentgateway.domain.charge.summary;
+
+import com.danielpg.paymentgateway.domain.charge.ChargeStatus;
+
+import java.math.BigDecimal;
+
+public record ChargeSummaryItem(
+        ChargeSummarySide side,
+        ChargeStatus status,
+        long count,
+        BigDecimal total) {
+}
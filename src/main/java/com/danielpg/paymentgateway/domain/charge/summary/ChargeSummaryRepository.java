@@ -0,0 +1,19 @@
+package com.danielpg.paymentgateway.domain.charge.summary;
+
+import com.danielpg.paymentgateway.domain.charge.Charge;
+import com.danielpg.paymentgateway.domain.charge.ChargeStatus;
+import com.danielpg.paymentgateway.domain.user.UserId;
+
+import java.util.List;
+
+/*
+ * Contagens e totais por usuário, lado (emitidas/recebidas) e status, mantidos de forma
+ * incremental na mesma transação que altera a cobrança.
+ */
+public interface ChargeSummaryRepository {
+    void add(Charge charge);
+    void addAll(List<Charge> charges);
+    void move(Charge charge, ChargeStatus previousStatus);
+    void moveAll(List<Charge> charges, ChargeStatus previousStatus);
+    List<ChargeSummaryItem> find(UserId userId);
+}
@@ -0,0 +1,6 @@
+package com.danielpg.paymentgateway.domain.charge.summary;
+
+public enum ChargeSummarySide {
+    ISSUED,
+    RECEIVED
+}
@@ -1,39 +1,66 @@
 package com.danielpg.paymentgateway.domain.deposit;
 
 import com.danielpg.paymentgateway.domain.charge.payment.PaymentAuthorizer;
+import com.danielpg.paymentgateway.domain.ledger.LedgerEntry;
+import com.danielpg.paymentgateway.domain.ledger.LedgerEntryType;
+import com.danielpg.paymentgateway.domain.ledger.LedgerRepository;
 import com.danielpg.paymentgateway.domain.shared.AppClock;
-import com.danielpg.paymentgateway.domain.user.User;
 import com.danielpg.paymentgateway.domain.user.UserRepository;
 
 public class CreateDepositService {
 
     private final DepositRepository depositRepository;
     private final UserRepository userRepository;
+    private final LedgerRepository ledgerRepository;
     private final PaymentAuthorizer authorizer;
     private final AppClock clock;
 
     public CreateDepositService(DepositRepository depositRepository,
                                 UserRepository userRepository,
+                                LedgerRepository ledgerRepository,
                                 PaymentAuthorizer authorizer,
                                 AppClock clock) {
         this.depositRepository = depositRepository;
         this.userRepository = userRepository;
+        this.ledgerRepository = ledgerRepository;
         this.authorizer = authorizer;
         this.clock = clock;
     }
 
     public Deposit createDeposit(DepositRequest request) {
-        var user = userRepository.getOrThrow(request.userId());
-        var deposit = buildDeposit(request);
+        var deposit = prepareDeposit(request);
+        authorizeDeposit(deposit);
+        return completeDeposit(deposit);
+    }
+
+    public Deposit prepareDeposit(DepositRequest request) {
+        userRepository.getOrThrow(request.userId());
+        return buildDeposit(request);
+    }
+
+    public void authorizeDeposit(Deposit deposit) {
         authorizer.authorizeDeposit(deposit);
+    }
+
+    public Deposit completeDeposit(Deposit deposit) {
         depositRepository.save(deposit);
-        increaseBalance(request, user);
+        increaseBalance(deposit);
         return deposit;
     }
 
-    private void increaseBalance(DepositRequest request, User user) {
-        user.increaseBalance(request.amount());
-        userRepository.save(user);
+    // O autorizador não tem estorno de depósito: o valor autorizado e não creditado é conferido manualmente.
+    public void markForReconciliation(Deposit deposit) {
+        depositRepository.markForReconciliation(deposit);
+    }
+
+    private void increaseBalance(Deposit deposit) {
+        ledgerRepository.append(LedgerEntry.builder()
+                .withUserId(deposit.userId())
+                .withType(LedgerEntryType.DEPOSIT)
+                .withAmount(deposit.amount())
+                .withReferenceId(deposit.id().value())
+                .withCreatedAt(deposit.createdAt())
+                .build());
     }
 
     private Deposit buildDeposit(DepositRequest request) {
@@ -5,4 +5,5 @@ import java.util.Optional;
 public interface DepositRepository {
     Optional<Deposit> get(DepositId id);
     void save(Deposit deposit);
+    void markForReconciliation(Deposit deposit);
 }
@@ -0,0 +1,8 @@
+package com.danielpg.paymentgateway.domain.event;
+
+public interface DomainEvent {
+    String type();
+    String aggregateType();
+    long aggregateId();
+    long occurredAt();
+}
@@ -0,0 +1,11 @@
+package com.danielpg.paymentgateway.domain.event;
+
+import java.util.List;
+
+/*
+ * Registra o evento na transação corrente; a entrega aos consumidores acontece depois do commit.
+ */
+public interface DomainEventPublisher {
+    void publish(DomainEvent event);
+    void publishAll(List<? extends DomainEvent> events);
+}
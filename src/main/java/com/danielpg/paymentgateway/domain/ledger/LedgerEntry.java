@@ -0,0 +1,134 @@
+package com.danielpg.paymentgateway.domain.ledger;
+
+import com.danielpg.paymentgateway.domain.shared.PositiveMoney;
+import com.danielpg.paymentgateway.domain.shared.TimeMillis;
+import com.danielpg.paymentgateway.domain.shared.Validation;
+import com.danielpg.paymentgateway.domain.user.UserId;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+public class LedgerEntry {
+
+    private LedgerEntryId id;
+    private final UserId userId;
+    private final LedgerEntryType type;
+    private final PositiveMoney amount;
+    private final Long referenceId;
+    private final TimeMillis createdAt;
+
+    private LedgerEntry(Builder builder) {
+        this.id = builder.id;
+        this.userId = Validation.required(builder.userId, "O usuário é requerido.");
+        this.type = Validation.required(builder.type, "O tipo do lançamento é requerido.");
+        this.amount = Validation.required(builder.amount, "O valor é requerido.");
+        this.referenceId = Validation.required(builder.referenceId, "A referência do lançamento é requerida.");
+        this.createdAt = Validation.required(builder.createdAt, "A data/hora do lançamento é requerida.");
+    }
+
+    public LedgerEntryId id() {
+        return id;
+    }
+
+    public UserId userId() {
+        return userId;
+    }
+
+    public LedgerEntryType type() {
+        return type;
+    }
+
+    public PositiveMoney amount() {
+        return amount;
+    }
+
+    public BigDecimal signedAmount() {
+        return type.isDebit() ? amount.value().negate() : amount.value();
+    }
+
+    public Long referenceId() {
+        return referenceId;
+    }
+
+    public TimeMillis createdAt() {
+        return createdAt;
+    }
+
+    public void finalizeCreation(LedgerEntryId id) {
+        if (this.id != null) {
+            throw new IllegalStateException("A criação do lançamento já foi finalizada.");
+        }
+        this.id = Validation.required(id, "O id é requerido.");
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) return true;
+        if (other == null || getClass() != other.getClass()) return false;
+        return equalsCasted((LedgerEntry) other);
+    }
+
+    private boolean equalsCasted(LedgerEntry other) {
+        return Objects.equals(id, other.id)
+                && Objects.equals(userId, other.userId)
+                && type == other.type
+                && Objects.equals(amount, other.amount)
+                && Objects.equals(referenceId, other.referenceId)
+                && Objects.equals(createdAt, other.createdAt);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, userId, type, amount, referenceId, createdAt);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+        private LedgerEntryId id;
+        private UserId userId;
+        private LedgerEntryType type;
+        private PositiveMoney amount;
+        private Long referenceId;
+        private TimeMillis createdAt = TimeMillis.now();
+
+        private Builder() {
+        }
+
+        public Builder withId(LedgerEntryId id) {
+            this.id = id;
+            return this;
+        }
+
+        public Builder withUserId(UserId userId) {
+            this.userId = userId;
+            return this;
+        }
+
+        public Builder withType(LedgerEntryType type) {
+            this.type = type;
+            return this;
+        }
+
+        public Builder withAmount(PositiveMoney amount) {
+            this.amount = amount;
+            return this;
+        }
+
+        public Builder withReferenceId(Long referenceId) {
+            this.referenceId = referenceId;
+            return this;
+        }
+
+        public Builder withCreatedAt(TimeMillis createdAt) {
+            this.createdAt = createdAt;
+            return this;
+        }
+
+        public LedgerEntry build() {
+            return new LedgerEntry(this);
+        }
+    }
+}
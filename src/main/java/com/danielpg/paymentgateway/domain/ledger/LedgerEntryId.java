@@ -0,0 +1,21 @@
+package com.danielpg.paymentgateway.domain.ledger;
+
+import com.danielpg.paymentgateway.domain.shared.SurrogateId;
+
+import java.util.Optional;
+
+public class LedgerEntryId extends SurrogateId {
+
+    protected LedgerEntryId(Long value) {
+        super(value);
+    }
+
+    public static LedgerEntryId of(Long value) {
+        return new LedgerEntryId(value);
+    }
+
+    public static Optional<LedgerEntryId> ofNullable(Long value) {
+        return value == null ? Optional.empty()
+                : Optional.of(new LedgerEntryId(value));
+    }
+}
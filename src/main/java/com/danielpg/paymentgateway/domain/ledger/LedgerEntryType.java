@@ -0,0 +1,19 @@
+package com.danielpg.paymentgateway.domain.ledger;
+
+public enum LedgerEntryType {
+    DEPOSIT(false),
+    PAYMENT_SENT(true),
+    PAYMENT_RECEIVED(false),
+    REFUND_SENT(true),
+    REFUND_RECEIVED(false);
+
+    private final boolean debit;
+
+    LedgerEntryType(boolean debit) {
+        this.debit = debit;
+    }
+
+    public boolean isDebit() {
+        return debit;
+    }
+}
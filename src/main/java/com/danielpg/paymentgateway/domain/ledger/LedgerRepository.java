@@ -0,0 +1,10 @@
+package com.danielpg.paymentgateway.domain.ledger;
+
+import java.util.List;
+
+public interface LedgerRepository {
+    void append(LedgerEntry entry);
+
+    // Grava em ordem crescente de usuário, para que transferências cruzadas travem na mesma ordem.
+    void appendAll(List<LedgerEntry> entries);
+}
@@ -1,10 +1,14 @@
 package com.danielpg.paymentgateway.domain.user;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 
+// Só a busca por id soma a cauda do razão ao saldo; as buscas por CPF e e-mail trazem o saldo consolidado.
 public interface UserRepository {
     Optional<User> get(Cpf cpf);
     Optional<User> get(UserId id);
+    Map<Cpf, UserId> findIdsByCpf(Collection<Cpf> cpfs);
     User getOrThrow(UserId id);
     User getOrThrow(Cpf cpf);
     User getOrThrow(EmailAddress emailAddress);
@@ -0,0 +1,136 @@
+package com.danielpg.paymentgateway.domain.webhook;
+
+import com.danielpg.paymentgateway.domain.shared.TimeMillis;
+import com.danielpg.paymentgateway.domain.shared.Validation;
+import com.danielpg.paymentgateway.domain.user.UserId;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.Objects;
+
+public class WebhookSubscription {
+
+    public static final int URL_MAX_LENGTH = 500;
+
+    private WebhookSubscriptionId id;
+    private final UserId userId;
+    private final String url;
+    private final String secret;
+    private final TimeMillis createdAt;
+
+    private WebhookSubscription(Builder builder) {
+        this.id = builder.id;
+        this.userId = Validation.required(builder.userId, "O usuário é requerido.");
+        this.url = validateUrl(builder.url);
+        this.secret = Validation.required(builder.secret, "O segredo do webhook é requerido.");
+        this.createdAt = Validation.required(builder.createdAt, "A data/hora de criação é requerida.");
+    }
+
+    private static String validateUrl(String url) {
+        Validation.required(url, "A URL do webhook é requerida.");
+        if (url.length() > URL_MAX_LENGTH) {
+            throw new IllegalArgumentException("A URL do webhook deve ter no máximo " + URL_MAX_LENGTH + " caracteres.");
+        }
+        try {
+            var uri = new URI(url);
+            var scheme = uri.getScheme();
+            if (!("http".equalsIgnoreCase(scheme) || "https".equalsIgnoreCase(scheme)) || uri.getHost() == null) {
+                throw new IllegalArgumentException("A URL do webhook deve ser HTTP ou HTTPS.");
+            }
+        } catch (URISyntaxException e) {
+            throw new IllegalArgumentException("A URL do webhook é inválida.");
+        }
+        return url;
+    }
+
+    public WebhookSubscriptionId id() {
+        return id;
+    }
+
+    public UserId userId() {
+        return userId;
+    }
+
+    public String url() {
+        return url;
+    }
+
+    public String secret() {
+        return secret;
+    }
+
+    public TimeMillis createdAt() {
+        return createdAt;
+    }
+
+    public void finalizeCreation(WebhookSubscriptionId id) {
+        if (this.id != null) {
+            throw new IllegalStateException("A criação do webhook já foi finalizada.");
+        }
+        this.id = Validation.required(id, "O id é requerido.");
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) return true;
+        if (other == null || getClass() != other.getClass()) return false;
+        return equalsCasted((WebhookSubscription) other);
+    }
+
+    private boolean equalsCasted(WebhookSubscription other) {
+        return Objects.equals(id, other.id)
+                && Objects.equals(userId, other.userId)
+                && Objects.equals(url, other.url)
+                && Objects.equals(secret, other.secret)
+                && Objects.equals(createdAt, other.createdAt);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, userId, url, secret, createdAt);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+        private WebhookSubscriptionId id;
+        private UserId userId;
+        private String url;
+        private String secret;
+        private TimeMillis createdAt = TimeMillis.now();
+
+        private Builder() {
+        }
+
+        public Builder withId(WebhookSubscriptionId id) {
+            this.id = id;
+            return this;
+        }
+
+        public Builder withUserId(UserId userId) {
+            this.userId = userId;
+            return this;
+        }
+
+        public Builder withUrl(String url) {
+            this.url = url;
+            return this;
+        }
+
+        public Builder withSecret(String secret) {
+            this.secret = secret;
+            return this;
+        }
+
+        public Builder withCreatedAt(TimeMillis createdAt) {
+            this.createdAt = createdAt;
+            return this;
+        }
+
+        public WebhookSubscription build() {
+            return new WebhookSubscription(this);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.danielpg.paymentgateway.domain.webhook;
+
+import com.danielpg.paymentgateway.domain.shared.SurrogateId;
+
+public class WebhookSubscriptionId extends SurrogateId {
+
+    protected WebhookSubscriptionId(Long value) {
+        super(value);
+    }
+
+    public static WebhookSubscriptionId of(Long value) {
+        return new WebhookSubscriptionId(value);
+    }
+}
@@ -0,0 +1,10 @@
+package com.danielpg.paymentgateway.domain.webhook;
+
+import com.danielpg.paymentgateway.domain.shared.AbstractNotFoundException;
+
+public class WebhookSubscriptionNotFoundException extends AbstractNotFoundException {
+
+    public WebhookSubscriptionNotFoundException(WebhookSubscriptionId id) {
+        super("Webhook não encontrado: " + id.value());
+    }
+}
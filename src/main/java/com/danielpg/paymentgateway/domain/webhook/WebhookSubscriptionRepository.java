@@ -0,0 +1,14 @@
+package com.danielpg.paymentgateway.domain.webhook;
+
+import com.danielpg.paymentgateway.domain.user.UserId;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface WebhookSubscriptionRepository {
+    Optional<WebhookSubscription> get(WebhookSubscriptionId id);
+    WebhookSubscription getOrThrow(WebhookSubscriptionId id);
+    List<WebhookSubscription> findByUser(UserId userId);
+    void save(WebhookSubscription subscription);
+    void delete(WebhookSubscriptionId id);
+}
@@ -2,8 +2,11 @@ package com.danielpg.paymentgateway.infrastructure.configuration;
 
 import com.danielpg.paymentgateway.application.charge.CancelChargeUseCase;
 import com.danielpg.paymentgateway.application.charge.CreateChargeUseCase;
+import com.danielpg.paymentgateway.application.charge.CreateChargesUseCase;
+import com.danielpg.paymentgateway.application.charge.ExpireOverdueChargesUseCase;
 import com.danielpg.paymentgateway.application.charge.FindIssuedChargesUseCase;
 import com.danielpg.paymentgateway.application.charge.FindReceivedChargesUseCase;
+import com.danielpg.paymentgateway.application.charge.GetChargeSummaryUseCase;
 import com.danielpg.paymentgateway.application.shared.AppTransaction;
 import com.danielpg.paymentgateway.application.shared.RequesterProvider;
 import com.danielpg.paymentgateway.domain.charge.CancelChargeService;
@@ -13,9 +16,13 @@ import com.danielpg.paymentgateway.domain.charge.payment.PaymentAuthorizer;
 import com.danielpg.paymentgateway.domain.charge.payment.PaymentRepository;
 import com.danielpg.paymentgateway.domain.charge.query.issued.IssuedChargesQuery;
 import com.danielpg.paymentgateway.domain.charge.query.received.ReceivedChargesQuery;
+import com.danielpg.paymentgateway.domain.charge.summary.ChargeSummaryRepository;
+import com.danielpg.paymentgateway.domain.event.DomainEventPublisher;
+import com.danielpg.paymentgateway.domain.ledger.LedgerRepository;
 import com.danielpg.paymentgateway.domain.shared.AppClock;
 import com.danielpg.paymentgateway.domain.user.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -40,9 +47,16 @@ public class ChargeContext {
     @Autowired
     private PaymentAuthorizer paymentAuthorizer;
 
+    @Autowired
+    private ChargeSummaryRepository chargeSummaryRepository;
+
+    @Autowired
+    private DomainEventPublisher eventPublisher;
+
     @Bean
     public CreateChargeService createChargeService() {
-        return new CreateChargeService(userRepository, chargeRepository, clock);
+        return new CreateChargeService(userRepository, chargeRepository, chargeSummaryRepository,
+                eventPublisher, clock);
     }
 
     @Bean
@@ -51,8 +65,16 @@ public class ChargeContext {
     }
 
     @Bean
-    public CancelChargeService cancelChargeService(PaymentRepository paymentRepository) {
-        return new CancelChargeService(chargeRepository, userRepository, paymentRepository, paymentAuthorizer);
+    public CreateChargesUseCase createChargesUseCase(CreateChargeService createChargeService,
+                                                     @Value("${charges.bulk.max-items:5000}") int maxItems) {
+        return new CreateChargesUseCase(transaction, requesterProvider, createChargeService, maxItems);
+    }
+
+    @Bean
+    public CancelChargeService cancelChargeService(PaymentRepository paymentRepository,
+                                                   LedgerRepository ledgerRepository) {
+        return new CancelChargeService(chargeRepository, ledgerRepository, paymentRepository,
+                paymentAuthorizer, chargeSummaryRepository, eventPublisher, clock);
     }
 
     @Bean
@@ -60,11 +82,23 @@ public class ChargeContext {
         return new CancelChargeUseCase(transaction, chargeRepository, requesterProvider, cancelChargeService);
     }
 
+    @Bean
+    public ExpireOverdueChargesUseCase expireOverdueChargesUseCase(
+            @Value("${charges.expiry.batch-size:500}") int batchSize) {
+        return new ExpireOverdueChargesUseCase(transaction, chargeRepository, chargeSummaryRepository,
+                eventPublisher, clock, batchSize);
+    }
+
     @Bean
     public FindIssuedChargesUseCase findIssuedChargesUseCase(IssuedChargesQuery issuedChargesQuery) {
         return new FindIssuedChargesUseCase(requesterProvider,  issuedChargesQuery);
     }
 
+    @Bean
+    public GetChargeSummaryUseCase getChargeSummaryUseCase() {
+        return new GetChargeSummaryUseCase(requesterProvider, chargeSummaryRepository);
+    }
+
     @Bean
     public FindReceivedChargesUseCase findReceivedChargesUseCase(ReceivedChargesQuery receivedChargesQuery) {
         return new FindReceivedChargesUseCase(requesterProvider, receivedChargesQuery);
@@ -6,6 +6,7 @@ import com.danielpg.paymentgateway.application.shared.RequesterProvider;
 import com.danielpg.paymentgateway.domain.charge.payment.PaymentAuthorizer;
 import com.danielpg.paymentgateway.domain.deposit.CreateDepositService;
 import com.danielpg.paymentgateway.domain.deposit.DepositRepository;
+import com.danielpg.paymentgateway.domain.ledger.LedgerRepository;
 import com.danielpg.paymentgateway.domain.shared.AppClock;
 import com.danielpg.paymentgateway.domain.user.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -30,12 +31,16 @@ public class DepositContext {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private LedgerRepository ledgerRepository;
+
     @Autowired
     private PaymentAuthorizer paymentAuthorizer;
 
     @Bean
     public CreateDepositService createDepositService() {
-        return new CreateDepositService(depositRepository, userRepository, paymentAuthorizer, clock);
+        return new CreateDepositService(depositRepository, userRepository, ledgerRepository,
+                paymentAuthorizer, clock);
     }
 
     @Bean
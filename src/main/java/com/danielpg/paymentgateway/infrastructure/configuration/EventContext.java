@@ -0,0 +1,24 @@
+package com.danielpg.paymentgateway.infrastructure.configuration;
+
+import com.danielpg.paymentgateway.application.event.OutboxRelay;
+import com.danielpg.paymentgateway.application.event.OutboxRepository;
+import com.danielpg.paymentgateway.application.event.OutboxSubscriber;
+import com.danielpg.paymentgateway.application.shared.AppTransaction;
+import com.danielpg.paymentgateway.domain.shared.AppClock;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class EventContext {
+
+    @Bean
+    public OutboxRelay outboxRelay(AppTransaction transaction,
+                                   OutboxRepository outboxRepository,
+                                   ObjectProvider<OutboxSubscriber> subscribers,
+                                   AppClock clock,
+                                   @Value("${outbox.relay.batch-size:100}") int batchSize) {
+        return new OutboxRelay(transaction, outboxRepository, subscribers.orderedStream().toList(), clock, batchSize);
+    }
+}
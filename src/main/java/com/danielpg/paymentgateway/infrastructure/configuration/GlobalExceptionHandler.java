@@ -2,7 +2,9 @@ package com.danielpg.paymentgateway.infrastructure.configuration;
 
 import com.danielpg.paymentgateway.application.auth.AccessForbiddenException;
 import com.danielpg.paymentgateway.application.auth.InvalidCredentialsException;
+import com.danielpg.paymentgateway.domain.charge.payment.AuthorizerUnavailableException;
 import com.danielpg.paymentgateway.domain.shared.AbstractNotFoundException;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
@@ -16,6 +18,12 @@ public class GlobalExceptionHandler {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(GlobalExceptionHandler.class);
 
+    private final MeterRegistry meterRegistry;
+
+    public GlobalExceptionHandler(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
     @ExceptionHandler(IllegalStateException.class)
     public ResponseEntity<AppErrorResponse> handlePublicException(
             IllegalStateException ex, WebRequest request) {
@@ -53,6 +61,13 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new AppErrorResponse(ex));
     }
 
+    @ExceptionHandler(AuthorizerUnavailableException.class)
+    public ResponseEntity<AppErrorResponse> handleAuthorizerUnavailableException(
+            AuthorizerUnavailableException ex, WebRequest request) {
+        logError(ex);
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(new AppErrorResponse(ex));
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<AppErrorResponse> handleException(Exception ex, WebRequest request) {
         logError(ex);
@@ -60,6 +75,7 @@ public class GlobalExceptionHandler {
     }
 
     private void logError(Exception e) {
+        meterRegistry.counter("app.exceptions", "exception", e.getClass().getSimpleName()).increment();
         LOGGER.error(logMessage(e), e);
     }
 
@@ -0,0 +1,44 @@
+package com.danielpg.paymentgateway.infrastructure.configuration;
+
+import com.danielpg.paymentgateway.infrastructure.observability.AppTracer;
+import com.danielpg.paymentgateway.infrastructure.observability.FileSpanExporter;
+import com.danielpg.paymentgateway.infrastructure.observability.InstrumentedBeanPostProcessor;
+import com.danielpg.paymentgateway.infrastructure.security.PrincipalCache;
+import com.danielpg.paymentgateway.infrastructure.security.PrincipalCacheMetrics;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.tracing.Tracer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+@Configuration
+public class ObservabilityContext {
+
+    /* Estático para não antecipar a criação desta configuração, como exigido de BeanPostProcessors. */
+    @Bean
+    public static InstrumentedBeanPostProcessor instrumentedBeanPostProcessor(
+            ObjectProvider<MeterRegistry> meterRegistry, ObjectProvider<Tracer> tracer) {
+        return new InstrumentedBeanPostProcessor(meterRegistry, tracer);
+    }
+
+    @Bean
+    public PrincipalCacheMetrics principalCacheMetrics(PrincipalCache principalCache) {
+        return new PrincipalCacheMetrics(principalCache);
+    }
+
+    @Bean
+    public AppTracer appTracer(ObjectProvider<Tracer> tracer) {
+        return new AppTracer(tracer::getIfAvailable);
+    }
+
+    @Bean
+    @ConditionalOnProperty("tracing.export.file")
+    public FileSpanExporter fileSpanExporter(@Value("${tracing.export.file}") String file, ObjectMapper objectMapper) {
+        return new FileSpanExporter(Path.of(file), objectMapper);
+    }
+}
@@ -1,15 +1,23 @@
 package com.danielpg.paymentgateway.infrastructure.configuration;
 
+import com.danielpg.paymentgateway.application.charge.payment.GetPaymentIntentUseCase;
+import com.danielpg.paymentgateway.application.charge.payment.PaymentIntentDispatcher;
+import com.danielpg.paymentgateway.application.charge.payment.ProcessPaymentIntentUseCase;
 import com.danielpg.paymentgateway.application.charge.payment.RegisterPaymentUseCase;
+import com.danielpg.paymentgateway.application.charge.payment.SubmitPaymentIntentUseCase;
 import com.danielpg.paymentgateway.application.shared.AppTransaction;
 import com.danielpg.paymentgateway.application.shared.RequesterProvider;
 import com.danielpg.paymentgateway.domain.charge.ChargeRepository;
 import com.danielpg.paymentgateway.domain.charge.payment.PaymentAuthorizer;
 import com.danielpg.paymentgateway.domain.charge.payment.PaymentRepository;
 import com.danielpg.paymentgateway.domain.charge.payment.RegisterPaymentService;
+import com.danielpg.paymentgateway.domain.charge.payment.intent.PaymentIntentRepository;
+import com.danielpg.paymentgateway.domain.charge.summary.ChargeSummaryRepository;
+import com.danielpg.paymentgateway.domain.event.DomainEventPublisher;
+import com.danielpg.paymentgateway.domain.ledger.LedgerRepository;
 import com.danielpg.paymentgateway.domain.shared.AppClock;
-import com.danielpg.paymentgateway.domain.user.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -26,7 +34,7 @@ public class PaymentContext {
     private RequesterProvider requesterProvider;
 
     @Autowired
-    private UserRepository userRepository;
+    private LedgerRepository ledgerRepository;
 
     @Autowired
     private ChargeRepository chargeRepository;
@@ -37,10 +45,19 @@ public class PaymentContext {
     @Autowired
     private PaymentAuthorizer paymentAuthorizer;
 
+    @Autowired
+    private PaymentIntentRepository paymentIntentRepository;
+
+    @Autowired
+    private ChargeSummaryRepository chargeSummaryRepository;
+
+    @Autowired
+    private DomainEventPublisher eventPublisher;
+
     @Bean
     public RegisterPaymentService registerPaymentService() {
-        return new RegisterPaymentService(chargeRepository, userRepository,
-                paymentRepository, paymentAuthorizer, clock);
+        return new RegisterPaymentService(chargeRepository, ledgerRepository,
+                paymentRepository, paymentAuthorizer, chargeSummaryRepository, eventPublisher, clock);
     }
 
     @Bean
@@ -48,4 +65,24 @@ public class PaymentContext {
         return new RegisterPaymentUseCase(transaction, chargeRepository, requesterProvider, registerPaymentService);
     }
 
+    @Bean
+    public SubmitPaymentIntentUseCase submitPaymentIntentUseCase(RegisterPaymentService registerPaymentService,
+                                                                 PaymentIntentDispatcher paymentIntentDispatcher) {
+        return new SubmitPaymentIntentUseCase(transaction, chargeRepository, requesterProvider,
+                registerPaymentService, paymentIntentRepository, paymentIntentDispatcher, clock);
+    }
+
+    @Bean
+    public ProcessPaymentIntentUseCase processPaymentIntentUseCase(
+            RegisterPaymentService registerPaymentService,
+            @Value("${payment.intent.worker.max-attempts:5}") int maxAttempts) {
+        return new ProcessPaymentIntentUseCase(transaction, chargeRepository, registerPaymentService,
+                paymentIntentRepository, clock, maxAttempts);
+    }
+
+    @Bean
+    public GetPaymentIntentUseCase getPaymentIntentUseCase() {
+        return new GetPaymentIntentUseCase(requesterProvider, paymentIntentRepository);
+    }
+
 }
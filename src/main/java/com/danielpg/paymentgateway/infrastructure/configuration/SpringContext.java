@@ -1,14 +1,81 @@
 package com.danielpg.paymentgateway.infrastructure.configuration;
 
+import com.danielpg.paymentgateway.domain.shared.AppClock;
+import com.danielpg.paymentgateway.infrastructure.integration.CircuitBreaker;
+import com.danielpg.paymentgateway.infrastructure.integration.ConnectionPoolMetrics;
+import io.micrometer.observation.ObservationRegistry;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
 @Configuration
 public class SpringContext {
 
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager authorizerConnectionManager(
+            @Value("${payment.authorizer.http.max-connections:100}") int maxConnections,
+            @Value("${payment.authorizer.http.max-connections-per-route:50}") int maxConnectionsPerRoute,
+            @Value("${payment.authorizer.http.connect-timeout:1000}") long connectTimeout,
+            @Value("${payment.authorizer.http.read-timeout:3000}") long readTimeout,
+            @Value("${payment.authorizer.http.time-to-live:300000}") long timeToLive) {
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnectionsPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeout))
+                        .setSocketTimeout(Timeout.ofMilliseconds(readTimeout))
+                        .setTimeToLive(TimeValue.ofMilliseconds(timeToLive))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                        .build())
+                .build();
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient authorizerHttpClient(
+            PoolingHttpClientConnectionManager authorizerConnectionManager,
+            @Value("${payment.authorizer.http.read-timeout:3000}") long readTimeout,
+            @Value("${payment.authorizer.http.connection-request-timeout:500}") long connectionRequestTimeout,
+            @Value("${payment.authorizer.http.idle-timeout:30000}") long idleTimeout) {
+        return HttpClients.custom()
+                .setConnectionManager(authorizerConnectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(connectionRequestTimeout))
+                        .setResponseTimeout(Timeout.ofMilliseconds(readTimeout))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(idleTimeout))
+                .build();
+    }
+
+    @Bean
+    public RestTemplate restTemplate(CloseableHttpClient authorizerHttpClient, ObservationRegistry observationRegistry) {
+        var restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(authorizerHttpClient));
+        restTemplate.setObservationRegistry(observationRegistry);
+        return restTemplate;
+    }
+
+    @Bean
+    public ConnectionPoolMetrics authorizerConnectionPoolMetrics(
+            PoolingHttpClientConnectionManager authorizerConnectionManager) {
+        return new ConnectionPoolMetrics("payment-authorizer", authorizerConnectionManager);
+    }
+
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public CircuitBreaker authorizerCircuitBreaker(
+            AppClock clock,
+            @Value("${payment.authorizer.circuit-breaker.failure-threshold:5}") int failureThreshold,
+            @Value("${payment.authorizer.circuit-breaker.open-duration:10000}") long openDuration,
+            @Value("${payment.authorizer.circuit-breaker.half-open-max-calls:1}") int halfOpenMaxCalls) {
+        return new CircuitBreaker(failureThreshold, openDuration, halfOpenMaxCalls, clock);
     }
 }
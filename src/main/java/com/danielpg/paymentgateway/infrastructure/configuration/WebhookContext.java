@@ -0,0 +1,61 @@
+package com.danielpg.paymentgateway.infrastructure.configuration;
+
+import com.danielpg.paymentgateway.application.shared.AppTransaction;
+import com.danielpg.paymentgateway.application.shared.RequesterProvider;
+import com.danielpg.paymentgateway.application.webhook.CreateWebhookSubscriptionUseCase;
+import com.danielpg.paymentgateway.application.webhook.DeleteWebhookSubscriptionUseCase;
+import com.danielpg.paymentgateway.application.webhook.FindWebhookSubscriptionsUseCase;
+import com.danielpg.paymentgateway.application.webhook.WebhookDeliveryService;
+import com.danielpg.paymentgateway.application.webhook.WebhookDestinationGuard;
+import com.danielpg.paymentgateway.application.webhook.WebhookQueue;
+import com.danielpg.paymentgateway.application.webhook.WebhookSender;
+import com.danielpg.paymentgateway.domain.shared.AppClock;
+import com.danielpg.paymentgateway.domain.webhook.WebhookSubscriptionRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class WebhookContext {
+
+    @Autowired
+    private AppClock clock;
+
+    @Autowired
+    private AppTransaction transaction;
+
+    @Autowired
+    private RequesterProvider requesterProvider;
+
+    @Autowired
+    private WebhookSubscriptionRepository subscriptionRepository;
+
+    @Bean
+    public CreateWebhookSubscriptionUseCase createWebhookSubscriptionUseCase(WebhookDestinationGuard destinationGuard) {
+        return new CreateWebhookSubscriptionUseCase(transaction, requesterProvider, subscriptionRepository,
+                destinationGuard, clock);
+    }
+
+    @Bean
+    public FindWebhookSubscriptionsUseCase findWebhookSubscriptionsUseCase() {
+        return new FindWebhookSubscriptionsUseCase(requesterProvider, subscriptionRepository);
+    }
+
+    @Bean
+    public DeleteWebhookSubscriptionUseCase deleteWebhookSubscriptionUseCase() {
+        return new DeleteWebhookSubscriptionUseCase(transaction, requesterProvider, subscriptionRepository);
+    }
+
+    @Bean
+    public WebhookDeliveryService webhookDeliveryService(WebhookQueue queue,
+                                                         WebhookSender sender,
+                                                         @Value("${webhook.delivery.batch-size:50}") int batchSize,
+                                                         @Value("${webhook.delivery.max-attempts:8}") int maxAttempts,
+                                                         @Value("${webhook.delivery.initial-backoff:1000}") long initialBackoff,
+                                                         @Value("${webhook.delivery.max-backoff:600000}") long maxBackoff,
+                                                         @Value("${webhook.delivery.lease:60000}") long lease) {
+        return new WebhookDeliveryService(transaction, subscriptionRepository, queue, sender, clock,
+                batchSize, maxAttempts, initialBackoff, maxBackoff, lease);
+    }
+}
@@ -0,0 +1,37 @@
+package com.danielpg.paymentgateway.infrastructure.controller;
+
+import com.danielpg.paymentgateway.application.shared.ResultStream;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/*
+ * Escreve um array JSON item a item, conforme as linhas saem do ResultSet. Como o status 200
+ * já foi enviado, um erro no meio do streaming apenas interrompe a resposta.
+ */
+public class JsonArrayStreaming {
+
+    private JsonArrayStreaming() {
+    }
+
+    public static <T> ResponseEntity<StreamingResponseBody> of(ObjectMapper objectMapper, ResultStream<T> items) {
+        StreamingResponseBody body = outputStream -> {
+            try (var generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.writeStartArray();
+                items.forEach(item -> {
+                    try {
+                        generator.writeObject(item);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                generator.writeEndArray();
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+}
@@ -11,7 +11,9 @@ import com.danielpg.paymentgateway.domain.user.Cpf;
 import com.danielpg.paymentgateway.infrastructure.configuration.AppErrorResponse;
 import com.danielpg.paymentgateway.infrastructure.configuration.swagger.BadRequestResponse;
 import com.danielpg.paymentgateway.infrastructure.configuration.swagger.UnauthorizedResponse;
+import com.danielpg.paymentgateway.infrastructure.idempotency.IdempotencyHandler;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -34,10 +36,13 @@ public class CreateChargeController {
 
     private final CreateChargeUseCase useCase;
     private final RequesterProvider requesterProvider;
+    private final IdempotencyHandler idempotency;
 
-    public CreateChargeController(CreateChargeUseCase useCase, RequesterProvider requesterProvider) {
+    public CreateChargeController(CreateChargeUseCase useCase, RequesterProvider requesterProvider,
+                                  IdempotencyHandler idempotency) {
         this.useCase = useCase;
         this.requesterProvider = requesterProvider;
+        this.idempotency = idempotency;
     }
 
     @PostMapping
@@ -65,14 +70,19 @@ public class CreateChargeController {
     )
     @UnauthorizedResponse
     @BadRequestResponse
-    public ResponseEntity<Response> post(@RequestBody Request request) {
+    public ResponseEntity<Response> post(
+            @Parameter(description = "Chave única por operação; repetições com a mesma chave recebem a resposta original")
+            @RequestHeader(value = IdempotencyHandler.HEADER, required = false) String idempotencyKey,
+            @RequestBody Request request) {
         LOGGER.info("Criando cobrança: userId={}, payerCpf={}, amount={}, description={}",
                 requesterProvider.requesterId(),
                 request.payerCpf != null ? DataMasking.maskCpf(request.payerCpf) : null,
                 request.amount, request.description
         );
-        var charge = useCase.createCharge(request.toUseCaseRequest());
-        return ResponseEntity.status(HttpStatus.CREATED).body(Response.of(charge));
+        return idempotency.execute(idempotencyKey, request, Response.class, () -> {
+            var charge = useCase.createCharge(request.toUseCaseRequest());
+            return ResponseEntity.status(HttpStatus.CREATED).body(Response.of(charge));
+        });
     }
 
     @Schema(name = "CreateChargeRequest")
@@ -0,0 +1,138 @@
+package com.danielpg.paymentgateway.infrastructure.controller.charge;
+
+import com.danielpg.paymentgateway.application.charge.CreateChargesUseCase;
+import com.danielpg.paymentgateway.application.shared.RequesterProvider;
+import com.danielpg.paymentgateway.domain.charge.CreateChargeService;
+import com.danielpg.paymentgateway.infrastructure.configuration.swagger.BadRequestResponse;
+import com.danielpg.paymentgateway.infrastructure.configuration.swagger.UnauthorizedResponse;
+import com.danielpg.paymentgateway.infrastructure.idempotency.IdempotencyHandler;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Tag(name = "04 - Cobranças")
+@RestController
+@RequestMapping("/charges/bulk")
+public class CreateChargesController {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CreateChargesController.class);
+
+    private final CreateChargesUseCase useCase;
+    private final RequesterProvider requesterProvider;
+    private final IdempotencyHandler idempotency;
+
+    public CreateChargesController(CreateChargesUseCase useCase, RequesterProvider requesterProvider,
+                                   IdempotencyHandler idempotency) {
+        this.useCase = useCase;
+        this.requesterProvider = requesterProvider;
+        this.idempotency = idempotency;
+    }
+
+    @PostMapping
+    @SecurityRequirement(name = "bearerAuth")
+    @Operation(
+            summary = "Cria cobranças em lote",
+            description = "Cria várias cobranças numa única requisição. Itens inválidos são listados em errors, "
+                    + "com a posição no lote, e não impedem a criação dos demais.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = Response.class)
+                            )
+                    )
+            }
+    )
+    @UnauthorizedResponse
+    @BadRequestResponse
+    public ResponseEntity<Response> post(
+            @Parameter(description = "Chave única por operação; repetições com a mesma chave recebem a resposta original")
+            @RequestHeader(value = IdempotencyHandler.HEADER, required = false) String idempotencyKey,
+            @RequestBody Request request) {
+        LOGGER.info("Criando cobranças em lote: userId={}, count={}",
+                requesterProvider.requesterId(),
+                request.charges == null ? null : request.charges.size()
+        );
+        return idempotency.execute(idempotencyKey, request, Response.class, () -> {
+            var result = useCase.createCharges(request.toUseCaseItems());
+            LOGGER.info("Cobranças em lote criadas: userId={}, created={}, errors={}",
+                    requesterProvider.requesterId(), result.created().size(), result.errors().size());
+            return ResponseEntity.ok(Response.of(result));
+        });
+    }
+
+    @Schema(name = "CreateChargesRequest")
+    public record Request(
+            @Schema(description = "Cobranças a criar")
+            List<Item> charges) {
+
+        List<CreateChargesUseCase.Item> toUseCaseItems() {
+            return charges == null ? null : charges.stream()
+                    .map(item -> item == null ? null : new CreateChargesUseCase.Item(
+                            item.payerCpf, item.amount, item.description))
+                    .toList();
+        }
+    }
+
+    @Schema(name = "CreateChargesRequestItem")
+    public record Item(
+            @Schema(description = "CPF do pagador", example = "32132132178")
+            String payerCpf,
+            @Schema(description = "Valor da cobrança", example = "5000.00")
+            BigDecimal amount,
+            @Schema(description = "Descrição da cobrança", example = "Mensalidade de maio", nullable = true)
+            String description) {
+    }
+
+    @Schema(name = "CreateChargesResponse")
+    public record Response(
+            @Schema(description = "Cobranças criadas")
+            List<CreatedItem> created,
+            @Schema(description = "Itens rejeitados")
+            List<ItemError> errors) {
+
+        public static Response of(CreateChargeService.BulkResult result) {
+            return new Response(
+                    result.created().stream().map(CreatedItem::of).toList(),
+                    result.errors().stream().map(error -> new ItemError(error.index(), error.message())).toList()
+            );
+        }
+    }
+
+    @Schema(name = "CreateChargesCreatedItem")
+    public record CreatedItem(
+            @Schema(description = "Posição do item no lote", example = "0")
+            int index,
+            @Schema(description = "ID da cobrança", example = "1")
+            Long id,
+            @Schema(description = "ID do pagador da cobrança", example = "2")
+            Long payerId,
+            @Schema(description = "Timestamp de vencimento", example = "1700003600")
+            Long dueAt) {
+
+        static CreatedItem of(CreateChargeService.CreatedItem item) {
+            var charge = item.charge();
+            return new CreatedItem(item.index(), charge.id().value(), charge.payerId().value(), charge.dueAt().value());
+        }
+    }
+
+    @Schema(name = "CreateChargesItemError")
+    public record ItemError(
+            @Schema(description = "Posição do item no lote", example = "3")
+            int index,
+            @Schema(description = "Motivo da rejeição", example = "CPF inválido: 12*******00")
+            String message) {
+    }
+}
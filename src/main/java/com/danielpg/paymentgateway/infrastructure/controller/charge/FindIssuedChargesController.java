@@ -6,6 +6,8 @@ import com.danielpg.paymentgateway.domain.charge.ChargeStatus;
 import com.danielpg.paymentgateway.domain.charge.query.issued.IssuedChargesItem;
 import com.danielpg.paymentgateway.infrastructure.configuration.swagger.BadRequestResponse;
 import com.danielpg.paymentgateway.infrastructure.configuration.swagger.UnauthorizedResponse;
+import com.danielpg.paymentgateway.infrastructure.controller.JsonArrayStreaming;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -20,6 +22,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -32,11 +35,14 @@ public class FindIssuedChargesController {
 
     private final FindIssuedChargesUseCase useCase;
     private final RequesterProvider requesterProvider;
+    private final ObjectMapper objectMapper;
 
     public FindIssuedChargesController(FindIssuedChargesUseCase useCase,
-                                       RequesterProvider requesterProvider) {
+                                       RequesterProvider requesterProvider,
+                                       ObjectMapper objectMapper) {
         this.useCase = useCase;
         this.requesterProvider = requesterProvider;
+        this.objectMapper = objectMapper;
     }
 
     @GetMapping
@@ -62,24 +68,52 @@ public class FindIssuedChargesController {
                     description = "Status das cobranças separados por vírgula (opcional)",
                     example = "PENDING,PAID"
             )
-            @RequestParam(value = "statuses", required = false) String statusCsv) {
-        LOGGER.info("Consultando cobranças emitidas: userId={}", requesterProvider.requesterId());
+            @RequestParam(value = "statuses", required = false) String statusCsv,
+            @Parameter(description = "Cursor: retorna cobranças com id maior que este (use o nextCursor da página anterior)")
+            @RequestParam(value = "afterId", required = false) Long afterId,
+            @Parameter(description = "Tamanho da página (padrão 100, máximo 1000)")
+            @RequestParam(value = "limit", required = false) Integer limit) {
+        LOGGER.info("Consultando cobranças emitidas: userId={}, afterId={}, limit={}",
+                requesterProvider.requesterId(), afterId, limit);
         var statuses = ChargeStatus.fromCsv(statusCsv);
-        var response = useCase.find(statuses);
+        var response = useCase.find(statuses, afterId, limit);
         return ResponseEntity.ok(Response.of(response));
     }
 
+    @GetMapping(params = "stream=true")
+    @SecurityRequirement(name = "bearerAuth")
+    @Operation(
+            summary = "Consulta de cobranças emitidas em streaming",
+            description = "Retorna todas as cobranças emitidas (a partir de afterId, se informado) como um array JSON "
+                    + "escrito à medida que as linhas são lidas, sem agrupamento por status."
+    )
+    @UnauthorizedResponse
+    @BadRequestResponse
+    public ResponseEntity<StreamingResponseBody> stream(
+            @RequestParam(value = "statuses", required = false) String statusCsv,
+            @RequestParam(value = "afterId", required = false) Long afterId) {
+        LOGGER.info("Consultando cobranças emitidas em streaming: userId={}, afterId={}",
+                requesterProvider.requesterId(), afterId);
+        var statuses = ChargeStatus.fromCsv(statusCsv);
+        return JsonArrayStreaming.of(objectMapper, useCase.stream(statuses, afterId));
+    }
+
     @Schema(name = "IssuedChargesResponse")
     public record Response(
             List<IssuedChargesItem> pendings,
             List<IssuedChargesItem> paids,
-            List<IssuedChargesItem> canceleds) {
+            List<IssuedChargesItem> canceleds,
+            List<IssuedChargesItem> expireds,
+            @Schema(description = "Cursor da próxima página (afterId); null quando não há mais cobranças")
+            Long nextCursor) {
 
         public static Response of(FindIssuedChargesUseCase.Response useCaseResponse) {
             return new Response(
                     useCaseResponse.pendings(),
                     useCaseResponse.paids(),
-                    useCaseResponse.canceleds()
+                    useCaseResponse.canceleds(),
+                    useCaseResponse.expireds(),
+                    useCaseResponse.nextCursor()
             );
         }
     }
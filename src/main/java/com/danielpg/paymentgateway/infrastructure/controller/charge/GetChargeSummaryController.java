@@ -0,0 +1,68 @@
+package com.danielpg.paymentgateway.infrastructure.controller.charge;
+
+import com.danielpg.paymentgateway.application.charge.GetChargeSummaryUseCase;
+import com.danielpg.paymentgateway.application.shared.RequesterProvider;
+import com.danielpg.paymentgateway.infrastructure.configuration.swagger.UnauthorizedResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@Tag(name = "04 - Cobranças")
+@RestController
+@RequestMapping("/charges/summary")
+public class GetChargeSummaryController {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(GetChargeSummaryController.class);
+
+    private final GetChargeSummaryUseCase useCase;
+    private final RequesterProvider requesterProvider;
+
+    public GetChargeSummaryController(GetChargeSummaryUseCase useCase,
+                                      RequesterProvider requesterProvider) {
+        this.useCase = useCase;
+        this.requesterProvider = requesterProvider;
+    }
+
+    @GetMapping
+    @SecurityRequirement(name = "bearerAuth")
+    @Operation(
+            summary = "Resumo de cobranças",
+            description = "Retorna a quantidade e o valor total das cobranças emitidas e recebidas, por status.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Resumo retornado com sucesso",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = Response.class)
+                            )
+                    ),
+            }
+    )
+    @UnauthorizedResponse
+    public ResponseEntity<Response> get() {
+        LOGGER.info("Consultando resumo de cobranças: userId={}", requesterProvider.requesterId());
+        return ResponseEntity.ok(Response.of(useCase.getSummary()));
+    }
+
+    @Schema(name = "ChargeSummaryResponse")
+    public record Response(
+            List<GetChargeSummaryUseCase.Totals> issued,
+            List<GetChargeSummaryUseCase.Totals> received) {
+
+        public static Response of(GetChargeSummaryUseCase.Response useCaseResponse) {
+            return new Response(useCaseResponse.issued(), useCaseResponse.received());
+        }
+    }
+}
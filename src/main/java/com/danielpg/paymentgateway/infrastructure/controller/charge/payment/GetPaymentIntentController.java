@@ -0,0 +1,95 @@
+package com.danielpg.paymentgateway.infrastructure.controller.charge.payment;
+
+import com.danielpg.paymentgateway.application.charge.payment.GetPaymentIntentUseCase;
+import com.danielpg.paymentgateway.domain.charge.payment.PaymentMethod;
+import com.danielpg.paymentgateway.domain.charge.payment.intent.PaymentIntent;
+import com.danielpg.paymentgateway.domain.charge.payment.intent.PaymentIntentId;
+import com.danielpg.paymentgateway.domain.charge.payment.intent.PaymentIntentStatus;
+import com.danielpg.paymentgateway.infrastructure.configuration.AppErrorResponse;
+import com.danielpg.paymentgateway.infrastructure.configuration.swagger.ForbiddenResponse;
+import com.danielpg.paymentgateway.infrastructure.configuration.swagger.UnauthorizedResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/payments/intents")
+@Tag(name = "05 - Pagamentos")
+public class GetPaymentIntentController {
+
+    private final GetPaymentIntentUseCase useCase;
+
+    public GetPaymentIntentController(GetPaymentIntentUseCase useCase) {
+        this.useCase = useCase;
+    }
+
+    @GetMapping("/{id}")
+    @SecurityRequirement(name = "bearerAuth")
+    @Operation(
+            summary = "Consulta uma intenção de pagamento",
+            description = "Retorna o status de uma intenção de pagamento registrada pelo usuário autenticado.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Intenção de pagamento encontrada",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = Response.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "404",
+                            description = "Intenção de pagamento não encontrada",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = AppErrorResponse.class)
+                            )
+                    )
+            }
+    )
+    @UnauthorizedResponse
+    @ForbiddenResponse
+    public ResponseEntity<Response> get(@PathVariable Long id) {
+        var intent = useCase.get(PaymentIntentId.of(id));
+        return ResponseEntity.ok(Response.of(intent));
+    }
+
+    @Schema(name = "PaymentIntentResponse")
+    public record Response(
+            @Schema(description = "Identificador da intenção de pagamento", example = "789")
+            Long id,
+            @Schema(description = "Identificador da cobrança", example = "123")
+            Long chargeId,
+            @Schema(description = "Método de pagamento", allowableValues = {"BALANCE", "CREDIT_CARD"})
+            PaymentMethod method,
+            @Schema(description = "Status da intenção",
+                    allowableValues = {"PENDING", "PROCESSING", "SUCCEEDED", "FAILED"})
+            PaymentIntentStatus status,
+            @Schema(description = "Identificador do pagamento, quando SUCCEEDED", example = "456")
+            Long paymentId,
+            @Schema(description = "Motivo da recusa, quando FAILED", example = "Pagamento não autorizado.")
+            String failureReason,
+            @Schema(description = "Data e hora da criação, em epoch time", example = "1700007201")
+            Long createdAt,
+            @Schema(description = "Data e hora da última atualização, em epoch time", example = "1700007202")
+            Long updatedAt) {
+
+        public static Response of(PaymentIntent intent) {
+            return new Response(
+                    intent.id().value(),
+                    intent.chargeId().value(),
+                    intent.method(),
+                    intent.status(),
+                    intent.paymentId() != null ? intent.paymentId().value() : null,
+                    intent.failureReason(),
+                    intent.createdAt().value(),
+                    intent.updatedAt().value()
+            );
+        }
+    }
+}
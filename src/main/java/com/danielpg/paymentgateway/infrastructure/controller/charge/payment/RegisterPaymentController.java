@@ -13,7 +13,9 @@ import com.danielpg.paymentgateway.infrastructure.configuration.AppErrorResponse
 import com.danielpg.paymentgateway.infrastructure.configuration.swagger.BadRequestResponse;
 import com.danielpg.paymentgateway.infrastructure.configuration.swagger.ForbiddenResponse;
 import com.danielpg.paymentgateway.infrastructure.configuration.swagger.UnauthorizedResponse;
+import com.danielpg.paymentgateway.infrastructure.idempotency.IdempotencyHandler;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -35,10 +37,13 @@ public class RegisterPaymentController {
 
     private final RegisterPaymentUseCase useCase;
     private final RequesterProvider requesterProvider;
+    private final IdempotencyHandler idempotency;
 
-    public RegisterPaymentController(RegisterPaymentUseCase useCase, RequesterProvider requesterProvider) {
+    public RegisterPaymentController(RegisterPaymentUseCase useCase, RequesterProvider requesterProvider,
+                                     IdempotencyHandler idempotency) {
         this.useCase = useCase;
         this.requesterProvider = requesterProvider;
+        this.idempotency = idempotency;
     }
 
     @PostMapping
@@ -109,11 +114,16 @@ public class RegisterPaymentController {
     @UnauthorizedResponse
     @BadRequestResponse
     @ForbiddenResponse
-    public ResponseEntity<Response> post(@RequestBody Request request) {
+    public ResponseEntity<Response> post(
+            @Parameter(description = "Chave única por operação; repetições com a mesma chave recebem a resposta original")
+            @RequestHeader(value = IdempotencyHandler.HEADER, required = false) String idempotencyKey,
+            @RequestBody Request request) {
         LOGGER.info("Registrando pagamento: requesterId={}, chargeId={}, method={}",
                 requesterProvider.requesterId(), request.chargeId, request.method);
-        var payment = useCase.registerPayment(request.toUseCaseRequest());
-        return ResponseEntity.status(HttpStatus.CREATED).body(Response.of(payment));
+        return idempotency.execute(idempotencyKey, request, Response.class, () -> {
+            var payment = useCase.registerPayment(request.toUseCaseRequest());
+            return ResponseEntity.status(HttpStatus.CREATED).body(Response.of(payment));
+        });
     }
 
     @Schema(name = "RegisterPaymentRequest")
@@ -0,0 +1,83 @@
+package com.danielpg.paymentgateway.infrastructure.controller.charge.payment;
+
+import com.danielpg.paymentgateway.application.charge.payment.SubmitPaymentIntentUseCase;
+import com.danielpg.paymentgateway.application.shared.RequesterProvider;
+import com.danielpg.paymentgateway.infrastructure.configuration.AppErrorResponse;
+import com.danielpg.paymentgateway.infrastructure.configuration.swagger.BadRequestResponse;
+import com.danielpg.paymentgateway.infrastructure.configuration.swagger.ForbiddenResponse;
+import com.danielpg.paymentgateway.infrastructure.configuration.swagger.UnauthorizedResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+
+@RestController
+@RequestMapping("/payments/intents")
+@Tag(name = "05 - Pagamentos")
+public class SubmitPaymentIntentController {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SubmitPaymentIntentController.class);
+
+    private final SubmitPaymentIntentUseCase useCase;
+    private final RequesterProvider requesterProvider;
+
+    public SubmitPaymentIntentController(SubmitPaymentIntentUseCase useCase, RequesterProvider requesterProvider) {
+        this.useCase = useCase;
+        this.requesterProvider = requesterProvider;
+    }
+
+    @PostMapping
+    @SecurityRequirement(name = "bearerAuth")
+    @Operation(
+            summary = "Registra o pagamento de uma cobrança de forma assíncrona",
+            description = "Valida a cobrança, grava uma intenção de pagamento e responde imediatamente. "
+                    + "A autorização e a liquidação são feitas em segundo plano; "
+                    + "acompanhe o resultado em GET /payments/intents/{id}.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "202",
+                            description = "Intenção de pagamento aceita",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = GetPaymentIntentController.Response.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "404",
+                            description = "Cobrança não encontrada",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = AppErrorResponse.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "409",
+                            description = "Cobrança não está pendente ou já foi paga",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = AppErrorResponse.class)
+                            )
+                    )
+            }
+    )
+    @UnauthorizedResponse
+    @BadRequestResponse
+    @ForbiddenResponse
+    public ResponseEntity<GetPaymentIntentController.Response> post(
+            @RequestBody RegisterPaymentController.Request request) {
+        LOGGER.info("Registrando intenção de pagamento: requesterId={}, chargeId={}, method={}",
+                requesterProvider.requesterId(), request.chargeId(), request.method());
+        var intent = useCase.submit(request.toUseCaseRequest());
+        return ResponseEntity.accepted()
+                .location(URI.create("/payments/intents/" + intent.id().value()))
+                .body(GetPaymentIntentController.Response.of(intent));
+    }
+}
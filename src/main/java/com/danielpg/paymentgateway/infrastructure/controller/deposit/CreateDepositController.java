@@ -7,7 +7,9 @@ import com.danielpg.paymentgateway.domain.shared.PositiveMoney;
 import com.danielpg.paymentgateway.infrastructure.configuration.AppErrorResponse;
 import com.danielpg.paymentgateway.infrastructure.configuration.swagger.BadRequestResponse;
 import com.danielpg.paymentgateway.infrastructure.configuration.swagger.UnauthorizedResponse;
+import com.danielpg.paymentgateway.infrastructure.idempotency.IdempotencyHandler;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -31,11 +33,14 @@ public class CreateDepositController {
 
     private final CreateDepositUseCase useCase;
     private final RequesterProvider requesterProvider;
+    private final IdempotencyHandler idempotency;
 
     public CreateDepositController(CreateDepositUseCase useCase,
-                                   RequesterProvider requesterProvider) {
+                                   RequesterProvider requesterProvider,
+                                   IdempotencyHandler idempotency) {
         this.useCase = useCase;
         this.requesterProvider = requesterProvider;
+        this.idempotency = idempotency;
     }
 
     @PostMapping
@@ -66,10 +71,15 @@ public class CreateDepositController {
     )
     @UnauthorizedResponse
     @BadRequestResponse
-    public ResponseEntity<Response> post(@RequestBody Request request) {
+    public ResponseEntity<Response> post(
+            @Parameter(description = "Chave única por operação; repetições com a mesma chave recebem a resposta original")
+            @RequestHeader(value = IdempotencyHandler.HEADER, required = false) String idempotencyKey,
+            @RequestBody Request request) {
         LOGGER.info("Depositando: userId={}, amount={}", requesterProvider.requesterId(), request.amount);
-        var deposit = useCase.createDeposit(PositiveMoney.ofNullable(request.amount).orElse(null));
-        return ResponseEntity.status(HttpStatus.CREATED).body(Response.of(deposit));
+        return idempotency.execute(idempotencyKey, request, Response.class, () -> {
+            var deposit = useCase.createDeposit(PositiveMoney.ofNullable(request.amount).orElse(null));
+            return ResponseEntity.status(HttpStatus.CREATED).body(Response.of(deposit));
+        });
     }
 
     @Schema(name = "CreateDepositRequest")
@@ -0,0 +1,102 @@
+package com.danielpg.paymentgateway.infrastructure.controller.webhook;
+
+import com.danielpg.paymentgateway.application.shared.RequesterProvider;
+import com.danielpg.paymentgateway.application.webhook.CreateWebhookSubscriptionUseCase;
+import com.danielpg.paymentgateway.domain.webhook.WebhookSubscription;
+import com.danielpg.paymentgateway.infrastructure.configuration.AppErrorResponse;
+import com.danielpg.paymentgateway.infrastructure.configuration.swagger.BadRequestResponse;
+import com.danielpg.paymentgateway.infrastructure.configuration.swagger.UnauthorizedResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "07 - Webhooks")
+@RestController
+@RequestMapping("/webhooks")
+public class CreateWebhookSubscriptionController {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CreateWebhookSubscriptionController.class);
+
+    private final CreateWebhookSubscriptionUseCase useCase;
+    private final RequesterProvider requesterProvider;
+
+    public CreateWebhookSubscriptionController(CreateWebhookSubscriptionUseCase useCase,
+                                               RequesterProvider requesterProvider) {
+        this.useCase = useCase;
+        this.requesterProvider = requesterProvider;
+    }
+
+    @PostMapping
+    @SecurityRequirement(name = "bearerAuth")
+    @Operation(
+            summary = "Cadastra um webhook",
+            description = "Cadastra uma URL que receberá as mudanças de status das cobranças emitidas pelo usuário "
+                    + "autenticado. O segredo retornado assina as notificações e não é exibido novamente.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "201",
+                            description = "Webhook cadastrado com sucesso",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = Response.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "409",
+                            description = "Limite de webhooks atingido",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = AppErrorResponse.class)
+                            )
+                    )
+            }
+    )
+    @UnauthorizedResponse
+    @BadRequestResponse
+    public ResponseEntity<Response> post(@RequestBody Request request) {
+        LOGGER.info("Cadastrando webhook: userId={}, url={}", requesterProvider.requesterId(), request.url);
+        var subscription = useCase.createSubscription(request.url);
+        LOGGER.info("Webhook cadastrado: id={}", subscription.id().value());
+        return ResponseEntity.status(HttpStatus.CREATED).body(Response.of(subscription));
+    }
+
+    @Schema(name = "CreateWebhookRequest")
+    public record Request(
+            @NotNull
+            @Schema(description = "URL de destino das notificações", example = "https://loja.com/webhooks/pagamentos")
+            String url
+    ) {}
+
+    @Schema(name = "CreateWebhookResponse")
+    public record Response(
+            @Schema(description = "ID do webhook", example = "1")
+            Long id,
+            @Schema(description = "URL de destino das notificações", example = "https://loja.com/webhooks/pagamentos")
+            String url,
+            @Schema(description = "Segredo usado na assinatura HMAC-SHA256 das notificações")
+            String secret,
+            @Schema(description = "Timestamp de criação", example = "1700000000")
+            Long createdAt
+    ) {
+        public static Response of(WebhookSubscription subscription) {
+            return new Response(
+                    subscription.id().value(),
+                    subscription.url(),
+                    subscription.secret(),
+                    subscription.createdAt().value()
+            );
+        }
+    }
+}
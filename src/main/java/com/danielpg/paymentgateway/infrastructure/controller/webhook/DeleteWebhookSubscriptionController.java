@@ -0,0 +1,64 @@
+package com.danielpg.paymentgateway.infrastructure.controller.webhook;
+
+import com.danielpg.paymentgateway.application.webhook.DeleteWebhookSubscriptionUseCase;
+import com.danielpg.paymentgateway.domain.webhook.WebhookSubscriptionId;
+import com.danielpg.paymentgateway.infrastructure.configuration.AppErrorResponse;
+import com.danielpg.paymentgateway.infrastructure.configuration.swagger.BadRequestResponse;
+import com.danielpg.paymentgateway.infrastructure.configuration.swagger.ForbiddenResponse;
+import com.danielpg.paymentgateway.infrastructure.configuration.swagger.UnauthorizedResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "07 - Webhooks")
+@RestController
+@RequestMapping("/webhooks")
+public class DeleteWebhookSubscriptionController {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DeleteWebhookSubscriptionController.class);
+
+    private final DeleteWebhookSubscriptionUseCase useCase;
+
+    public DeleteWebhookSubscriptionController(DeleteWebhookSubscriptionUseCase useCase) {
+        this.useCase = useCase;
+    }
+
+    @DeleteMapping("/{id}")
+    @SecurityRequirement(name = "bearerAuth")
+    @Operation(
+            summary = "Remove um webhook",
+            description = "Remove um webhook do usuário autenticado e descarta as notificações pendentes.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "204",
+                            description = "Webhook removido com sucesso"
+                    ),
+                    @ApiResponse(responseCode = "404", description = "Webhook não encontrado",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = AppErrorResponse.class)
+                            )
+                    )
+            }
+    )
+    @UnauthorizedResponse
+    @BadRequestResponse
+    @ForbiddenResponse
+    public ResponseEntity<Void> delete(@PathVariable Long id) {
+        LOGGER.info("Removendo webhook: id={}", id);
+        useCase.deleteSubscription(WebhookSubscriptionId.of(id));
+        LOGGER.info("Webhook removido: id={}", id);
+        return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
+    }
+}
@@ -0,0 +1,78 @@
+package com.danielpg.paymentgateway.infrastructure.controller.webhook;
+
+import com.danielpg.paymentgateway.application.shared.RequesterProvider;
+import com.danielpg.paymentgateway.application.webhook.FindWebhookSubscriptionsUseCase;
+import com.danielpg.paymentgateway.domain.webhook.WebhookSubscription;
+import com.danielpg.paymentgateway.infrastructure.configuration.swagger.UnauthorizedResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@Tag(name = "07 - Webhooks")
+@RestController
+@RequestMapping("/webhooks")
+public class FindWebhookSubscriptionsController {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FindWebhookSubscriptionsController.class);
+
+    private final FindWebhookSubscriptionsUseCase useCase;
+    private final RequesterProvider requesterProvider;
+
+    public FindWebhookSubscriptionsController(FindWebhookSubscriptionsUseCase useCase,
+                                              RequesterProvider requesterProvider) {
+        this.useCase = useCase;
+        this.requesterProvider = requesterProvider;
+    }
+
+    @GetMapping
+    @SecurityRequirement(name = "bearerAuth")
+    @Operation(
+            summary = "Lista os webhooks",
+            description = "Lista os webhooks cadastrados pelo usuário autenticado.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Webhooks retornados com sucesso",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    array = @ArraySchema(schema = @Schema(implementation = Response.class))
+                            )
+                    ),
+            }
+    )
+    @UnauthorizedResponse
+    public ResponseEntity<List<Response>> get() {
+        LOGGER.info("Consultando webhooks: userId={}", requesterProvider.requesterId());
+        return ResponseEntity.ok(useCase.find().stream().map(Response::of).toList());
+    }
+
+    @Schema(name = "WebhookResponse")
+    public record Response(
+            @Schema(description = "ID do webhook", example = "1")
+            Long id,
+            @Schema(description = "URL de destino das notificações", example = "https://loja.com/webhooks/pagamentos")
+            String url,
+            @Schema(description = "Timestamp de criação", example = "1700000000")
+            Long createdAt
+    ) {
+        public static Response of(WebhookSubscription subscription) {
+            return new Response(
+                    subscription.id().value(),
+                    subscription.url(),
+                    subscription.createdAt().value()
+            );
+        }
+    }
+}
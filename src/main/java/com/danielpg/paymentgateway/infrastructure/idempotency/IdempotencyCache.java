@@ -0,0 +1,79 @@
+package com.danielpg.paymentgateway.infrastructure.idempotency;
+
+import com.danielpg.paymentgateway.domain.shared.AppClock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Component
+public class IdempotencyCache {
+
+    private final int maxSize;
+    private final long ttl;
+    private final AppClock clock;
+    private final Map<String, Entry> entries;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public IdempotencyCache(@Value("${idempotency.cache.max-size:10000}") int maxSize,
+                            @Value("${idempotency.retention:86400000}") long ttl,
+                            AppClock clock) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("O tamanho máximo do cache deve ser positivo.");
+        }
+        if (ttl <= 0) {
+            throw new IllegalArgumentException("O tempo de vida do cache deve ser positivo.");
+        }
+        this.maxSize = maxSize;
+        this.ttl = ttl;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    public Optional<IdempotencyRecord> get(String key) {
+        lock.lock();
+        try {
+            var entry = entries.get(key);
+            if (entry == null) {
+                return Optional.empty();
+            }
+            if (clock.now().value() >= entry.expiresAt) {
+                entries.remove(key);
+                return Optional.empty();
+            }
+            return Optional.of(entry.record);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void put(String key, IdempotencyRecord record) {
+        var expiresAt = clock.now().value() + ttl;
+        lock.lock();
+        try {
+            entries.put(key, new Entry(record, expiresAt));
+            var iterator = entries.values().iterator();
+            while (entries.size() > maxSize && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private record Entry(IdempotencyRecord record, long expiresAt) {
+    }
+}
@@ -0,0 +1,273 @@
+package com.danielpg.paymentgateway.infrastructure.idempotency;
+
+import com.danielpg.paymentgateway.application.shared.RequesterProvider;
+import com.danielpg.paymentgateway.domain.shared.AppClock;
+import com.danielpg.paymentgateway.domain.shared.TimeMillis;
+import com.danielpg.paymentgateway.domain.user.UserId;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/*
+ * Executa a ação uma única vez por (usuário, Idempotency-Key) e devolve a resposta gravada nas
+ * repetições, sem chamar os casos de uso. Requisições concorrentes com a mesma chave esperam a
+ * primeira: na mesma instância por um future, entre instâncias pela reserva em tb_idempotency.
+ * Se a primeira falhar com exceção, nada é gravado e a próxima tentativa executa de novo.
+ * A resposta é gravada depois que a ação confirmou suas transações (o autorizador é chamado entre
+ * elas). Se a gravação falhar ou o processo cair nesse intervalo, a reserva fica pendente e só é
+ * reassumida após pending-timeout.
+ */
+@Component
+public class IdempotencyHandler {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    public static final int KEY_MAX_LENGTH = 100;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(IdempotencyHandler.class);
+    private static final long POLL_INTERVAL = 50L;
+
+    private final IdempotencyStore store;
+    private final IdempotencyCache cache;
+    private final RequesterProvider requesterProvider;
+    private final ObjectMapper objectMapper;
+    private final AppClock clock;
+    private final long waitTimeout;
+    private final long pendingTimeout;
+    private final long retention;
+    private final int purgeBatchSize;
+    private final ConcurrentHashMap<String, CompletableFuture<Void>> inFlight = new ConcurrentHashMap<>();
+
+    public IdempotencyHandler(IdempotencyStore store,
+                              IdempotencyCache cache,
+                              RequesterProvider requesterProvider,
+                              ObjectMapper objectMapper,
+                              AppClock clock,
+                              @Value("${idempotency.wait-timeout:30000}") long waitTimeout,
+                              @Value("${idempotency.pending-timeout:60000}") long pendingTimeout,
+                              @Value("${idempotency.retention:86400000}") long retention,
+                              @Value("${idempotency.purge-batch-size:1000}") int purgeBatchSize) {
+        if (waitTimeout <= 0 || pendingTimeout < waitTimeout || retention <= 0 || purgeBatchSize <= 0) {
+            throw new IllegalArgumentException("Configuração de idempotência inválida.");
+        }
+        this.store = store;
+        this.cache = cache;
+        this.requesterProvider = requesterProvider;
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+        this.waitTimeout = waitTimeout;
+        this.pendingTimeout = pendingTimeout;
+        this.retention = retention;
+        this.purgeBatchSize = purgeBatchSize;
+    }
+
+    public <T> ResponseEntity<T> execute(String key, Object request, Class<T> responseType,
+                                         Supplier<ResponseEntity<T>> action) {
+        if (key == null) {
+            return action.get();
+        }
+        validateKey(key);
+        var userId = requesterProvider.requesterId();
+        var cacheKey = userId.value() + ":" + key;
+        var requestHash = hash(request);
+        var deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(waitTimeout);
+
+        while (true) {
+            var cached = cache.get(cacheKey);
+            if (cached.isPresent()) {
+                return replay(cached.get(), requestHash, responseType);
+            }
+            var own = new CompletableFuture<Void>();
+            var running = inFlight.putIfAbsent(cacheKey, own);
+            if (running != null) {
+                awaitLocal(running, deadline);
+                continue;
+            }
+            try {
+                var response = executeAsOwner(userId, key, cacheKey, requestHash, responseType, action, deadline);
+                if (response.isPresent()) {
+                    return response.get();
+                }
+            } finally {
+                inFlight.remove(cacheKey, own);
+                own.complete(null);
+            }
+            checkDeadline(deadline);
+        }
+    }
+
+    /*
+     * Retorna vazio quando a reserva de outra instância foi liberada sem resposta: a requisição
+     * deve tentar de novo.
+     */
+    private <T> Optional<ResponseEntity<T>> executeAsOwner(UserId userId, String key, String cacheKey,
+                                                           String requestHash, Class<T> responseType,
+                                                           Supplier<ResponseEntity<T>> action, long deadline) {
+        var now = clock.now();
+        if (!store.reserve(userId, key, requestHash, now, TimeMillis.of(now.value() - pendingTimeout))) {
+            var stored = awaitStored(userId, key, requestHash, deadline);
+            stored.ifPresent(record -> cache.put(cacheKey, record));
+            return stored.map(record -> replay(record, requestHash, responseType));
+        }
+
+        ResponseEntity<T> response;
+        try {
+            response = action.get();
+        } catch (RuntimeException e) {
+            release(userId, key, e);
+            throw e;
+        }
+
+        var record = new IdempotencyRecord(requestHash, response.getStatusCode().value(), toJson(response.getBody()));
+        cache.put(cacheKey, record);
+        try {
+            store.complete(userId, key, record.status(), record.body(), clock.now());
+        } catch (RuntimeException e) {
+            // A ação já foi executada: a falha é devolvida ao cliente em vez de uma resposta que não
+            // poderá ser repetida. Nesta instância, as repetições recebem a resposta do cache.
+            LOGGER.error("Erro ao gravar resposta idempotente: userId={}, key={}", userId.value(), key, e);
+            throw new IllegalStateException("A requisição foi processada, mas a resposta não pôde ser gravada "
+                    + "para a Idempotency-Key.", e);
+        }
+        return Optional.of(response);
+    }
+
+    private Optional<IdempotencyRecord> awaitStored(UserId userId, String key, String requestHash, long deadline) {
+        while (true) {
+            var record = store.find(userId, key);
+            if (record.isEmpty()) {
+                return Optional.empty();
+            }
+            checkRequestHash(record.get(), requestHash);
+            if (record.get().completed()) {
+                return record;
+            }
+            checkDeadline(deadline);
+            try {
+                Thread.sleep(POLL_INTERVAL);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(pendingMessage(), e);
+            }
+        }
+    }
+
+    /*
+     * Uma falha da primeira requisição não é propagada às que esperavam: elas tentam de novo.
+     */
+    private void awaitLocal(CompletableFuture<Void> running, long deadline) {
+        try {
+            running.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            throw new IllegalStateException(pendingMessage());
+        } catch (ExecutionException ignored) {
+            // tenta de novo
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(pendingMessage(), e);
+        }
+    }
+
+    private void release(UserId userId, String key, RuntimeException cause) {
+        try {
+            store.release(userId, key);
+        } catch (RuntimeException e) {
+            LOGGER.error("Erro ao liberar Idempotency-Key: userId={}, key={}", userId.value(), key, e);
+            cause.addSuppressed(e);
+        }
+    }
+
+    private <T> ResponseEntity<T> replay(IdempotencyRecord record, String requestHash, Class<T> responseType) {
+        checkRequestHash(record, requestHash);
+        return ResponseEntity.status(record.status())
+                .header(REPLAYED_HEADER, "true")
+                .body(fromJson(record.body(), responseType));
+    }
+
+    @Scheduled(fixedDelayString = "${idempotency.purge-interval:600000}")
+    public void purgeExpired() {
+        var createdBefore = TimeMillis.of(clock.now().value() - retention);
+        var total = 0;
+        int deleted;
+        do {
+            deleted = store.deleteCreatedBefore(createdBefore, purgeBatchSize);
+            total += deleted;
+        } while (deleted == purgeBatchSize);
+        if (total > 0) {
+            LOGGER.info("Chaves de idempotência expiradas removidas: count={}", total);
+        }
+    }
+
+    private static void validateKey(String key) {
+        if (key.isBlank() || key.length() > KEY_MAX_LENGTH) {
+            throw new IllegalArgumentException("A Idempotency-Key deve ter entre 1 e " + KEY_MAX_LENGTH + " caracteres.");
+        }
+    }
+
+    private static void checkRequestHash(IdempotencyRecord record, String requestHash) {
+        if (!record.requestHash().equals(requestHash)) {
+            throw new IllegalStateException("A Idempotency-Key já foi usada em outra requisição.");
+        }
+    }
+
+    private static void checkDeadline(long deadline) {
+        if (System.nanoTime() - deadline >= 0) {
+            throw new IllegalStateException(pendingMessage());
+        }
+    }
+
+    private static String pendingMessage() {
+        return "Requisição com a mesma Idempotency-Key ainda em processamento.";
+    }
+
+    private String hash(Object request) {
+        try {
+            var content = request.getClass().getName() + ":" + objectMapper.writeValueAsString(request);
+            var digest = MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Erro ao serializar a requisição.", e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Algoritmo SHA-256 indisponível.", e);
+        }
+    }
+
+    private String toJson(Object body) {
+        if (body == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Erro ao serializar a resposta.", e);
+        }
+    }
+
+    private <T> T fromJson(String body, Class<T> responseType) {
+        if (body == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(body, responseType);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Erro ao ler a resposta gravada.", e);
+        }
+    }
+}
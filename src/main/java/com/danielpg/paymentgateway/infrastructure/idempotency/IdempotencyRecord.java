@@ -0,0 +1,15 @@
+package com.danielpg.paymentgateway.infrastructure.idempotency;
+
+/*
+ * Resposta gravada para uma Idempotency-Key. status e body são null enquanto a primeira
+ * requisição ainda está em processamento.
+ */
+public record IdempotencyRecord(
+        String requestHash,
+        Integer status,
+        String body) {
+
+    public boolean completed() {
+        return status != null;
+    }
+}
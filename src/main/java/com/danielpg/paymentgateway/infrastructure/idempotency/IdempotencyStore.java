@@ -0,0 +1,24 @@
+package com.danielpg.paymentgateway.infrastructure.idempotency;
+
+import com.danielpg.paymentgateway.domain.shared.TimeMillis;
+import com.danielpg.paymentgateway.domain.user.UserId;
+
+import java.util.Optional;
+
+public interface IdempotencyStore {
+
+    /*
+     * Reserva a chave para a requisição atual. Retorna false se a chave já existe, exceto quando
+     * a reserva anterior ficou pendente desde antes de staleBefore (processo interrompido): nesse
+     * caso ela é assumida pela requisição atual.
+     */
+    boolean reserve(UserId userId, String key, String requestHash, TimeMillis now, TimeMillis staleBefore);
+
+    Optional<IdempotencyRecord> find(UserId userId, String key);
+
+    void complete(UserId userId, String key, int status, String body, TimeMillis now);
+
+    void release(UserId userId, String key);
+
+    int deleteCreatedBefore(TimeMillis createdBefore, int limit);
+}
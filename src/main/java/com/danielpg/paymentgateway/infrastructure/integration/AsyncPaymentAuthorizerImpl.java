@@ -0,0 +1,199 @@
+package com.danielpg.paymentgateway.infrastructure.integration;
+
+import com.danielpg.paymentgateway.domain.charge.Charge;
+import com.danielpg.paymentgateway.domain.charge.payment.AsyncPaymentAuthorizer;
+import com.danielpg.paymentgateway.domain.charge.payment.AuthorizerUnavailableException;
+import com.danielpg.paymentgateway.domain.charge.payment.PaymentNotAuthorizedException;
+import com.danielpg.paymentgateway.domain.deposit.Deposit;
+import com.danielpg.paymentgateway.domain.shared.creditcard.CreditCard;
+import com.danielpg.paymentgateway.infrastructure.integration.PaymentAuthorizerImpl.OperationType;
+import com.danielpg.paymentgateway.infrastructure.integration.PaymentAuthorizerImpl.Response;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * Consulta o autorizador pelo HttpClient do JDK, com HTTP/2 quando o autorizador aceita: várias
+ * consultas dividem a mesma conexão e nenhuma thread fica bloqueada esperando a resposta.
+ * Consultas idênticas em andamento (mesma operação, id, valor e cartão), como retentativas da
+ * mesma cobrança, compartilham uma única chamada. Depósitos não são agrupados: ainda não têm id
+ * na autorização, e dois depósitos do mesmo usuário e valor são operações distintas. O circuit
+ * breaker é o mesmo do cliente síncrono.
+ */
+@Component
+public class AsyncPaymentAuthorizerImpl implements AsyncPaymentAuthorizer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncPaymentAuthorizerImpl.class);
+
+    private final String authorizerUrl;
+    private final HttpClient client;
+    private final Duration requestTimeout;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final Map<RequestKey, CompletableFuture<Void>> inFlight = new ConcurrentHashMap<>();
+
+    public AsyncPaymentAuthorizerImpl(@Value("${payment.authorizer.url}") String authorizerUrl,
+                                      @Value("${payment.authorizer.http.connect-timeout:1000}") long connectTimeout,
+                                      @Value("${payment.authorizer.http.read-timeout:3000}") long readTimeout,
+                                      @Value("${payment.authorizer.async.max-in-flight:1000}") int maxInFlight,
+                                      CircuitBreaker authorizerCircuitBreaker,
+                                      ObjectMapper objectMapper,
+                                      MeterRegistry meterRegistry) {
+        this.authorizerUrl = authorizerUrl;
+        this.requestTimeout = Duration.ofMillis(readTimeout);
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(Duration.ofMillis(connectTimeout))
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+        this.circuitBreaker = authorizerCircuitBreaker;
+        this.bulkhead = new Bulkhead(maxInFlight, 0L);
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("payment.authorizer.async.in.flight", inFlight, Map::size)
+                .description("Consultas assíncronas distintas em andamento no autorizador")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public CompletableFuture<Void> authorizePayment(Charge charge, CreditCard creditCard) {
+        return authorize(charge.id().value(), charge.amount().value(), creditCard, OperationType.PAYMENT, true);
+    }
+
+    @Override
+    public CompletableFuture<Void> authorizeCancellation(Charge charge, CreditCard creditCard) {
+        return authorize(charge.id().value(), charge.amount().value(), creditCard, OperationType.CANCEL_PAYMENT,
+                true);
+    }
+
+    @Override
+    public CompletableFuture<Void> authorizeDeposit(Deposit deposit) {
+        return authorize(deposit.userId().value(), deposit.amount().value(), null, OperationType.DEPOSIT, false);
+    }
+
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    /*
+     * Cada chamador recebe uma cópia do futuro compartilhado: cancelar a própria cópia não afeta
+     * os demais chamadores.
+     */
+    private CompletableFuture<Void> authorize(Long id, BigDecimal amount, CreditCard creditCard,
+                                              OperationType operation, boolean coalesce) {
+        URI uri;
+        try {
+            PaymentAuthorizerImpl.validateAuthorizerUrl(authorizerUrl);
+            uri = PaymentAuthorizerImpl.buildUri(authorizerUrl, amount, creditCard, operation);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        var key = new RequestKey(operation, id, uri);
+        var call = new CompletableFuture<Void>();
+        var existing = coalesce ? inFlight.putIfAbsent(key, call) : null;
+        if (existing != null) {
+            Counter.builder("payment.authorizer.async.coalesced")
+                    .description("Consultas atendidas por uma chamada idêntica já em andamento")
+                    .tag("operation", operation.name())
+                    .register(meterRegistry)
+                    .increment();
+            return existing.copy();
+        }
+        LOGGER.info("Consultando autorizador: id={}, operation={}", id, operation);
+        send(key, call);
+        return call.copy();
+    }
+
+    private void send(RequestKey key, CompletableFuture<Void> call) {
+        var sample = Timer.start(meterRegistry);
+        if (!bulkhead.tryAcquire()) {
+            finish(key, call, sample, "unavailable", new AuthorizerUnavailableException(
+                    "Limite de consultas assíncronas ao autorizador atingido: " + key.operation()));
+            return;
+        }
+        if (!circuitBreaker.tryAcquirePermission()) {
+            bulkhead.release();
+            finish(key, call, sample, "unavailable",
+                    new AuthorizerUnavailableException("Autorizador temporariamente indisponível."));
+            return;
+        }
+        var request = HttpRequest.newBuilder(key.uri())
+                .timeout(requestTimeout)
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+        client.sendAsync(request, HttpResponse.BodyHandlers.ofString()).whenComplete((response, error) -> {
+            bulkhead.release();
+            onResponse(response, error, key, call, sample);
+        });
+    }
+
+    private void onResponse(HttpResponse<String> response, Throwable error, RequestKey key,
+                            CompletableFuture<Void> call, Timer.Sample sample) {
+        if (error != null || response.statusCode() / 100 != 2) {
+            circuitBreaker.onFailure();
+            finish(key, call, sample, "unavailable",
+                    new AuthorizerUnavailableException("Falha na comunicação com o autorizador.", error));
+            return;
+        }
+        Response body;
+        try {
+            body = objectMapper.readValue(response.body(), Response.class);
+        } catch (JsonProcessingException e) {
+            circuitBreaker.onFailure();
+            finish(key, call, sample, "unavailable",
+                    new AuthorizerUnavailableException("Falha na comunicação com o autorizador.", e));
+            return;
+        }
+        circuitBreaker.onSuccess();
+
+        if (body == null || body.data() == null || body.data().authorized() == null) {
+            LOGGER.info("Resposta inesperada: {}", body);
+            finish(key, call, sample, "invalid_response",
+                    new PaymentNotAuthorizedException("Resposta inesperada do autorizador."));
+        } else if (Boolean.FALSE.equals(body.data().authorized())) {
+            finish(key, call, sample, "denied", new PaymentNotAuthorizedException(key.operation().deniedMessage()));
+        } else {
+            finish(key, call, sample, "authorized", null);
+        }
+    }
+
+    // Remove a consulta antes de completá-la: quem recebe a resposta já não deve encontrá-la em andamento.
+    private void finish(RequestKey key, CompletableFuture<Void> call, Timer.Sample sample,
+                        String outcome, Throwable error) {
+        sample.stop(Timer.builder("payment.authorizer.async.requests")
+                .description("Consultas assíncronas ao autorizador, do envio à resposta")
+                .tag("operation", key.operation().name())
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+        inFlight.remove(key, call);
+        if (error == null) {
+            call.complete(null);
+        } else {
+            call.completeExceptionally(error);
+        }
+    }
+
+    private record RequestKey(OperationType operation, Long id, URI uri) {
+    }
+}
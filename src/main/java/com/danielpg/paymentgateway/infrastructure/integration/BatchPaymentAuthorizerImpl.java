@@ -0,0 +1,286 @@
+package com.danielpg.paymentgateway.infrastructure.integration;
+
+import com.danielpg.paymentgateway.domain.charge.Charge;
+import com.danielpg.paymentgateway.domain.charge.payment.AuthorizerUnavailableException;
+import com.danielpg.paymentgateway.domain.charge.payment.BatchPaymentAuthorizer;
+import com.danielpg.paymentgateway.domain.charge.payment.PaymentNotAuthorizedException;
+import com.danielpg.paymentgateway.domain.deposit.Deposit;
+import com.danielpg.paymentgateway.domain.shared.creditcard.CreditCard;
+import com.danielpg.paymentgateway.infrastructure.integration.PaymentAuthorizerImpl.OperationType;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/*
+ * Agrupa as consultas recebidas durante window milissegundos, ou até max-size itens, e envia o
+ * lote num único POST ao endpoint de lote do autorizador. Os dados do cartão vão no corpo, não na
+ * URL. A resposta traz o resultado de cada item pelo id, que é a posição do item no lote. Uma
+ * falha de comunicação falha todos os itens do lote e conta uma falha no circuit breaker. No
+ * máximo max-in-flight lotes aguardam resposta ao mesmo tempo; além disso o lote falha sem envio.
+ */
+@Component
+public class BatchPaymentAuthorizerImpl implements BatchPaymentAuthorizer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BatchPaymentAuthorizerImpl.class);
+
+    private final String batchUrl;
+    private final int maxSize;
+    private final long window;
+    private final HttpClient client;
+    private final Duration requestTimeout;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("authorizer-batch").daemon().factory());
+    private final ReentrantLock lock = new ReentrantLock();
+    private List<PendingItem> pending = new ArrayList<>();
+    private ScheduledFuture<?> scheduledFlush;
+
+    public BatchPaymentAuthorizerImpl(@Value("${payment.authorizer.batch.url:${payment.authorizer.url}/batch}") String batchUrl,
+                                      @Value("${payment.authorizer.batch.max-size:100}") int maxSize,
+                                      @Value("${payment.authorizer.batch.window:20}") long window,
+                                      @Value("${payment.authorizer.http.connect-timeout:1000}") long connectTimeout,
+                                      @Value("${payment.authorizer.http.read-timeout:3000}") long readTimeout,
+                                      @Value("${payment.authorizer.batch.max-in-flight:10}") int maxInFlight,
+                                      CircuitBreaker authorizerCircuitBreaker,
+                                      ObjectMapper objectMapper,
+                                      MeterRegistry meterRegistry) {
+        if (maxSize <= 0 || window <= 0) {
+            throw new IllegalArgumentException("Configuração do lote do autorizador inválida.");
+        }
+        this.batchUrl = batchUrl;
+        this.maxSize = maxSize;
+        this.window = window;
+        this.requestTimeout = Duration.ofMillis(readTimeout);
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(Duration.ofMillis(connectTimeout))
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+        this.circuitBreaker = authorizerCircuitBreaker;
+        this.bulkhead = new Bulkhead(maxInFlight, 0L);
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public CompletableFuture<Void> authorizePayment(Charge charge, CreditCard creditCard) {
+        return enqueue(OperationType.PAYMENT, charge.amount().value(), creditCard);
+    }
+
+    @Override
+    public CompletableFuture<Void> authorizeCancellation(Charge charge, CreditCard creditCard) {
+        return enqueue(OperationType.CANCEL_PAYMENT, charge.amount().value(), creditCard);
+    }
+
+    @Override
+    public CompletableFuture<Void> authorizeDeposit(Deposit deposit) {
+        return enqueue(OperationType.DEPOSIT, deposit.amount().value(), null);
+    }
+
+    public void flush() {
+        List<PendingItem> batch = null;
+        lock.lock();
+        try {
+            if (!pending.isEmpty()) {
+                batch = takePending();
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (batch != null) {
+            send(batch);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+        scheduler.shutdownNow();
+    }
+
+    private CompletableFuture<Void> enqueue(OperationType operation, BigDecimal amount, CreditCard creditCard) {
+        var item = new PendingItem(operation, amount, creditCard, new CompletableFuture<>());
+        List<PendingItem> full = null;
+        lock.lock();
+        try {
+            pending.add(item);
+            if (pending.size() >= maxSize) {
+                full = takePending();
+            } else if (pending.size() == 1) {
+                scheduledFlush = scheduler.schedule(this::flush, window, TimeUnit.MILLISECONDS);
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (full != null) {
+            send(full);
+        }
+        return item.result().copy();
+    }
+
+    private List<PendingItem> takePending() {
+        var batch = pending;
+        pending = new ArrayList<>();
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        return batch;
+    }
+
+    private void send(List<PendingItem> batch) {
+        var sample = Timer.start(meterRegistry);
+        DistributionSummary.builder("payment.authorizer.batch.size")
+                .description("Itens por lote enviado ao autorizador")
+                .register(meterRegistry)
+                .record(batch.size());
+        LOGGER.info("Consultando autorizador em lote: items={}", batch.size());
+        HttpRequest request;
+        try {
+            PaymentAuthorizerImpl.validateAuthorizerUrl(batchUrl);
+            request = HttpRequest.newBuilder(URI.create(batchUrl))
+                    .timeout(requestTimeout)
+                    .header("Content-Type", "application/json")
+                    .header("Accept", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(toRequest(batch))))
+                    .build();
+        } catch (JsonProcessingException e) {
+            failAll(batch, sample, "error", new IllegalStateException("Erro ao montar o lote do autorizador.", e));
+            return;
+        } catch (RuntimeException e) {
+            failAll(batch, sample, "error", e);
+            return;
+        }
+        if (!bulkhead.tryAcquire()) {
+            failAll(batch, sample, "unavailable",
+                    new AuthorizerUnavailableException("Limite de lotes simultâneos ao autorizador atingido."));
+            return;
+        }
+        if (!circuitBreaker.tryAcquirePermission()) {
+            bulkhead.release();
+            failAll(batch, sample, "unavailable",
+                    new AuthorizerUnavailableException("Autorizador temporariamente indisponível."));
+            return;
+        }
+        client.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                .whenComplete((response, error) -> {
+                    bulkhead.release();
+                    onResponse(batch, response, error, sample);
+                });
+    }
+
+    private void onResponse(List<PendingItem> batch, HttpResponse<String> response, Throwable error,
+                            Timer.Sample sample) {
+        if (error != null || response.statusCode() / 100 != 2) {
+            circuitBreaker.onFailure();
+            failAll(batch, sample, "unavailable",
+                    new AuthorizerUnavailableException("Falha na comunicação com o autorizador.", error));
+            return;
+        }
+        BatchResponse body;
+        try {
+            body = objectMapper.readValue(response.body(), BatchResponse.class);
+        } catch (JsonProcessingException e) {
+            circuitBreaker.onFailure();
+            failAll(batch, sample, "unavailable",
+                    new AuthorizerUnavailableException("Falha na comunicação com o autorizador.", e));
+            return;
+        }
+        circuitBreaker.onSuccess();
+        stop(sample, "completed");
+
+        var results = new HashMap<Integer, Boolean>();
+        if (body != null && body.data() != null && body.data().results() != null) {
+            body.data().results().stream()
+                    .filter(result -> result != null && result.id() != null)
+                    .forEach(result -> results.put(result.id(), result.authorized()));
+        }
+        for (var i = 0; i < batch.size(); i++) {
+            var item = batch.get(i);
+            var authorized = results.get(i);
+            if (authorized == null) {
+                item.result().completeExceptionally(
+                        new PaymentNotAuthorizedException("Resposta inesperada do autorizador."));
+            } else if (!authorized) {
+                item.result().completeExceptionally(
+                        new PaymentNotAuthorizedException(item.operation().deniedMessage()));
+            } else {
+                item.result().complete(null);
+            }
+        }
+    }
+
+    private void failAll(List<PendingItem> batch, Timer.Sample sample, String outcome, Throwable error) {
+        stop(sample, outcome);
+        batch.forEach(item -> item.result().completeExceptionally(error));
+    }
+
+    private void stop(Timer.Sample sample, String outcome) {
+        sample.stop(Timer.builder("payment.authorizer.batch.requests")
+                .description("Lotes enviados ao autorizador, do envio à resposta")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+
+    private static BatchRequest toRequest(List<PendingItem> batch) {
+        var items = new ArrayList<BatchItem>(batch.size());
+        for (var i = 0; i < batch.size(); i++) {
+            var item = batch.get(i);
+            var creditCard = item.creditCard();
+            items.add(new BatchItem(i, item.operation().name(), item.amount(),
+                    creditCard == null ? null : creditCard.number().value(),
+                    creditCard == null ? null : creditCard.expirationDate().value(),
+                    creditCard == null ? null : creditCard.cvv().value()));
+        }
+        return new BatchRequest(items);
+    }
+
+    private record PendingItem(OperationType operation, BigDecimal amount, CreditCard creditCard,
+                               CompletableFuture<Void> result) {
+    }
+
+    public record BatchRequest(List<BatchItem> items) {
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record BatchItem(Integer id, String operationType, BigDecimal amount,
+                            String cardNumber, String cardExpiration, String cardCvv) {
+    }
+
+    public record BatchResponse(String status, BatchData data) {
+    }
+
+    public record BatchData(List<BatchResult> results) {
+    }
+
+    public record BatchResult(Integer id, Boolean authorized) {
+    }
+}
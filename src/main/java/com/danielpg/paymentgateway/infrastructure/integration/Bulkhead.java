@@ -0,0 +1,37 @@
+package com.danielpg.paymentgateway.infrastructure.integration;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+public class Bulkhead {
+
+    private final int maxConcurrentCalls;
+    private final long maxWait;
+    private final Semaphore permits;
+
+    public Bulkhead(int maxConcurrentCalls, long maxWait) {
+        if (maxConcurrentCalls <= 0 || maxWait < 0) {
+            throw new IllegalArgumentException("Configuração do bulkhead inválida.");
+        }
+        this.maxConcurrentCalls = maxConcurrentCalls;
+        this.maxWait = maxWait;
+        this.permits = new Semaphore(maxConcurrentCalls, true);
+    }
+
+    public boolean tryAcquire() {
+        try {
+            return permits.tryAcquire(maxWait, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    public int activeCalls() {
+        return maxConcurrentCalls - permits.availablePermits();
+    }
+}
@@ -0,0 +1,91 @@
+package com.danielpg.paymentgateway.infrastructure.integration;
+
+import com.danielpg.paymentgateway.domain.shared.AppClock;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/*
+ * Abre após failureThreshold falhas consecutivas e rejeita as chamadas durante openDuration.
+ * Depois deixa passar até halfOpenMaxCalls chamadas de teste: um sucesso o fecha de novo e uma
+ * falha o reabre.
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openDuration;
+    private final int halfOpenMaxCalls;
+    private final AppClock clock;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private int halfOpenCalls;
+    private long openedAt;
+
+    public CircuitBreaker(int failureThreshold, long openDuration, int halfOpenMaxCalls, AppClock clock) {
+        if (failureThreshold <= 0 || openDuration <= 0 || halfOpenMaxCalls <= 0) {
+            throw new IllegalArgumentException("Configuração do circuit breaker inválida.");
+        }
+        this.failureThreshold = failureThreshold;
+        this.openDuration = openDuration;
+        this.halfOpenMaxCalls = halfOpenMaxCalls;
+        this.clock = clock;
+    }
+
+    public boolean tryAcquirePermission() {
+        lock.lock();
+        try {
+            if (state == State.OPEN && clock.now().value() - openedAt >= openDuration) {
+                state = State.HALF_OPEN;
+                halfOpenCalls = 0;
+            }
+            return switch (state) {
+                case CLOSED -> true;
+                case OPEN -> false;
+                case HALF_OPEN -> halfOpenCalls++ < halfOpenMaxCalls;
+            };
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void onSuccess() {
+        lock.lock();
+        try {
+            consecutiveFailures = 0;
+            if (state == State.HALF_OPEN) {
+                state = State.CLOSED;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void onFailure() {
+        lock.lock();
+        try {
+            consecutiveFailures++;
+            if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+                state = State.OPEN;
+                openedAt = clock.now().value();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public State state() {
+        lock.lock();
+        try {
+            return state;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.danielpg.paymentgateway.infrastructure.integration;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.apache.hc.core5.pool.ConnPoolControl;
+import org.apache.hc.core5.pool.PoolStats;
+
+import java.util.function.ToDoubleFunction;
+
+public class ConnectionPoolMetrics implements MeterBinder {
+
+    private final String client;
+    private final ConnPoolControl<?> pool;
+
+    public ConnectionPoolMetrics(String client, ConnPoolControl<?> pool) {
+        this.client = client;
+        this.pool = pool;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        gauge(registry, "leased", "Conexões em uso", PoolStats::getLeased);
+        gauge(registry, "available", "Conexões ociosas no pool", PoolStats::getAvailable);
+        gauge(registry, "pending", "Requisições aguardando conexão", PoolStats::getPending);
+        gauge(registry, "max", "Limite total de conexões", PoolStats::getMax);
+    }
+
+    private void gauge(MeterRegistry registry, String name, String description, ToDoubleFunction<PoolStats> value) {
+        Gauge.builder("http.client.pool." + name, pool, p -> value.applyAsDouble(p.getTotalStats()))
+                .description(description)
+                .tag("client", client)
+                .register(registry);
+    }
+}
@@ -0,0 +1,100 @@
+package com.danielpg.paymentgateway.infrastructure.integration;
+
+import com.danielpg.paymentgateway.application.webhook.WebhookDeliveryException;
+import com.danielpg.paymentgateway.application.webhook.WebhookSender;
+import com.danielpg.paymentgateway.domain.shared.AppClock;
+import com.danielpg.paymentgateway.domain.webhook.WebhookSubscription;
+import jakarta.annotation.PreDestroy;
+import org.apache.hc.client5.http.classic.methods.HttpPost;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.apache.hc.core5.http.io.entity.StringEntity;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.HexFormat;
+
+/*
+ * O destino pode validar a origem recalculando o HMAC-SHA256 de "<timestamp>.<corpo>" com o
+ * segredo da assinatura e comparando com o cabeçalho X-Webhook-Signature.
+ */
+@Component
+public class HttpWebhookSender implements WebhookSender {
+
+    public static final String SIGNATURE_HEADER = "X-Webhook-Signature";
+    public static final String TIMESTAMP_HEADER = "X-Webhook-Timestamp";
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private final CloseableHttpClient client;
+    private final AppClock clock;
+
+    // Cada nova conexão resolve o host pelo guard, que recusa endereços não públicos.
+    public HttpWebhookSender(AppClock clock,
+                             InetWebhookDestinationGuard destinationGuard,
+                             @Value("${webhook.http.connect-timeout:2000}") long connectTimeout,
+                             @Value("${webhook.http.request-timeout:5000}") long requestTimeout) {
+        this.clock = clock;
+        this.client = HttpClients.custom()
+                .setConnectionManager(PoolingHttpClientConnectionManagerBuilder.create()
+                        .setDnsResolver(destinationGuard)
+                        .setDefaultConnectionConfig(ConnectionConfig.custom()
+                                .setConnectTimeout(Timeout.ofMilliseconds(connectTimeout))
+                                .setSocketTimeout(Timeout.ofMilliseconds(requestTimeout))
+                                .build())
+                        .build())
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setResponseTimeout(Timeout.ofMilliseconds(requestTimeout))
+                        .build())
+                .disableRedirectHandling()
+                .disableAutomaticRetries()
+                .build();
+    }
+
+    @Override
+    public void send(WebhookSubscription subscription, String body) {
+        var timestamp = String.valueOf(clock.now().value());
+        var request = new HttpPost(URI.create(subscription.url()));
+        request.setHeader(TIMESTAMP_HEADER, timestamp);
+        request.setHeader(SIGNATURE_HEADER, "sha256=" + sign(subscription.secret(), timestamp + "." + body));
+        request.setEntity(new StringEntity(body, ContentType.APPLICATION_JSON));
+        int status;
+        try {
+            status = client.execute(request, response -> {
+                EntityUtils.consume(response.getEntity());
+                return response.getCode();
+            });
+        } catch (IOException e) {
+            throw new WebhookDeliveryException("Erro de comunicação com o destino do webhook: " + e.getMessage(), e);
+        }
+        if (status / 100 != 2) {
+            throw new WebhookDeliveryException("O destino do webhook respondeu com status " + status + ".");
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        client.close();
+    }
+
+    private static String sign(String secret, String content) {
+        try {
+            var mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM));
+            return HexFormat.of().formatHex(mac.doFinal(content.getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Erro ao assinar o webhook.", e);
+        }
+    }
+}
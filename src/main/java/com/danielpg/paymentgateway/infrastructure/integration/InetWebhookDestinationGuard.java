@@ -0,0 +1,88 @@
+package com.danielpg.paymentgateway.infrastructure.integration;
+
+import com.danielpg.paymentgateway.application.webhook.WebhookDestinationGuard;
+import org.apache.hc.client5.http.DnsResolver;
+import org.apache.hc.client5.http.SystemDefaultDnsResolver;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.UnknownHostException;
+
+/*
+ * Também serve de DnsResolver para o cliente HTTP dos webhooks: a conexão usa exatamente os
+ * endereços verificados aqui, sem uma segunda resolução que um DNS malicioso poderia trocar.
+ */
+@Component
+public class InetWebhookDestinationGuard implements WebhookDestinationGuard, DnsResolver {
+
+    private final boolean allowPrivateAddresses;
+
+    public InetWebhookDestinationGuard(
+            @Value("${webhook.http.allow-private-addresses:false}") boolean allowPrivateAddresses) {
+        this.allowPrivateAddresses = allowPrivateAddresses;
+    }
+
+    @Override
+    public void ensurePublicDestination(String url) {
+        if (allowPrivateAddresses) {
+            return;
+        }
+        resolvePublic(URI.create(url).getHost());
+    }
+
+    @Override
+    public InetAddress[] resolve(String host) throws UnknownHostException {
+        try {
+            return resolvePublic(host);
+        } catch (IllegalArgumentException e) {
+            throw new UnknownHostException(e.getMessage());
+        }
+    }
+
+    @Override
+    public String resolveCanonicalHostname(String host) throws UnknownHostException {
+        return SystemDefaultDnsResolver.INSTANCE.resolveCanonicalHostname(host);
+    }
+
+    private InetAddress[] resolvePublic(String host) {
+        InetAddress[] addresses;
+        try {
+            addresses = InetAddress.getAllByName(host);
+        } catch (UnknownHostException e) {
+            throw new IllegalArgumentException("O host do webhook não pôde ser resolvido: " + host);
+        }
+        if (allowPrivateAddresses) {
+            return addresses;
+        }
+        for (var address : addresses) {
+            if (!isPublic(address)) {
+                throw new IllegalArgumentException("O destino do webhook deve ser um endereço público.");
+            }
+        }
+        return addresses;
+    }
+
+    private static boolean isPublic(InetAddress address) {
+        return !(address.isLoopbackAddress()
+                || address.isAnyLocalAddress()
+                || address.isLinkLocalAddress()
+                || address.isSiteLocalAddress()
+                || address.isMulticastAddress()
+                || isUniqueLocal(address)
+                || isSharedAddressSpace(address));
+    }
+
+    // fc00::/7, equivalente IPv6 das redes privadas.
+    private static boolean isUniqueLocal(InetAddress address) {
+        var bytes = address.getAddress();
+        return bytes.length == 16 && (bytes[0] & 0xfe) == 0xfc;
+    }
+
+    // 100.64.0.0/10 (CGNAT), usado por alguns provedores de nuvem para serviços internos.
+    private static boolean isSharedAddressSpace(InetAddress address) {
+        var bytes = address.getAddress();
+        return bytes.length == 4 && (bytes[0] & 0xff) == 100 && (bytes[1] & 0xc0) == 64;
+    }
+}
@@ -1,34 +1,72 @@
 package com.danielpg.paymentgateway.infrastructure.integration;
 
 import com.danielpg.paymentgateway.domain.charge.Charge;
+import com.danielpg.paymentgateway.domain.charge.payment.AuthorizerUnavailableException;
 import com.danielpg.paymentgateway.domain.charge.payment.PaymentAuthorizer;
 import com.danielpg.paymentgateway.domain.charge.payment.PaymentNotAuthorizedException;
 import com.danielpg.paymentgateway.domain.deposit.Deposit;
 import com.danielpg.paymentgateway.domain.shared.creditcard.CreditCard;
+import com.danielpg.paymentgateway.infrastructure.observability.AppTracer;
+import com.danielpg.paymentgateway.infrastructure.observability.AuthorizerCallEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.tracing.Span;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.math.BigDecimal;
 import java.net.MalformedURLException;
 import java.net.URI;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
 
 @Component
 public class PaymentAuthorizerImpl implements PaymentAuthorizer {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(PaymentAuthorizerImpl.class);
 
-    @Value("${payment.authorizer.url}")
-    private String authorizerUrl;
-
+    private final String authorizerUrl;
     private final RestTemplate restTemplate;
-
-    public PaymentAuthorizerImpl(RestTemplate restTemplate) {
+    private final CircuitBreaker circuitBreaker;
+    private final Map<OperationType, Bulkhead> bulkheads = new EnumMap<>(OperationType.class);
+    private final MeterRegistry meterRegistry;
+    private final AppTracer tracer;
+
+    public PaymentAuthorizerImpl(@Value("${payment.authorizer.url}") String authorizerUrl,
+                                 RestTemplate restTemplate,
+                                 CircuitBreaker authorizerCircuitBreaker,
+                                 @Value("${payment.authorizer.bulkhead.max-concurrent-calls:20}") int maxConcurrentCalls,
+                                 @Value("${payment.authorizer.bulkhead.max-wait:0}") long maxWait,
+                                 MeterRegistry meterRegistry,
+                                 AppTracer tracer) {
+        this.authorizerUrl = authorizerUrl;
         this.restTemplate = restTemplate;
+        this.circuitBreaker = authorizerCircuitBreaker;
+        this.meterRegistry = meterRegistry;
+        this.tracer = tracer;
+        for (var operation : OperationType.values()) {
+            var bulkhead = new Bulkhead(maxConcurrentCalls, maxWait);
+            bulkheads.put(operation, bulkhead);
+            Gauge.builder("payment.authorizer.bulkhead.active.calls", bulkhead, Bulkhead::activeCalls)
+                    .description("Chamadas em andamento ao autorizador")
+                    .tag("operation", operation.name())
+                    .register(meterRegistry);
+        }
+        for (var state : CircuitBreaker.State.values()) {
+            Gauge.builder("payment.authorizer.circuit.state", authorizerCircuitBreaker,
+                            breaker -> breaker.state() == state ? 1 : 0)
+                    .description("1 no estado atual do circuit breaker, 0 nos demais")
+                    .tag("state", state.name())
+                    .register(meterRegistry);
+        }
     }
 
     @Override
@@ -58,29 +96,95 @@ public class PaymentAuthorizerImpl implements PaymentAuthorizer {
     }
 
     private void authorizeGeneric(Long id, BigDecimal amount, CreditCard creditCard, OperationType operation) {
-        LOGGER.info("Consultando autorizador: id={}, operation={}", id, operation);
-        validateAuthorizerUrl();
+        tracer.inSpan("payment.authorizer", span -> {
+            span.tag("operation", operation.name());
+            authorizeGeneric(id, amount, creditCard, operation, span);
+            return null;
+        });
+    }
 
-        var finalUri = buildUri(amount, creditCard, operation);
-        LOGGER.info("{}", finalUri);
-        var response = restTemplate.getForObject(finalUri, Response.class);
+    private void authorizeGeneric(Long id, BigDecimal amount, CreditCard creditCard, OperationType operation,
+                                  Span span) {
+        LOGGER.info("Consultando autorizador: id={}, operation={}", id, operation);
+        var sample = Timer.start(meterRegistry);
+        var event = new AuthorizerCallEvent();
+        event.begin();
+        var outcome = Outcome.ERROR;
+        try {
+            validateAuthorizerUrl(authorizerUrl);
+
+            var finalUri = buildUri(authorizerUrl, amount, creditCard, operation);
+            LOGGER.info("{}", finalUri);
+            Response response;
+            try {
+                response = call(finalUri, operation);
+            } catch (AuthorizerUnavailableException e) {
+                outcome = Outcome.UNAVAILABLE;
+                throw e;
+            }
+
+            if (response == null || response.data == null || response.data.authorized == null) {
+                LOGGER.info("Resposta inesperada: {}", response);
+                outcome = Outcome.INVALID_RESPONSE;
+                throw new PaymentNotAuthorizedException("Resposta inesperada do autorizador.");
+            }
+
+            if (Boolean.FALSE.equals(response.data.authorized)) {
+                outcome = Outcome.DENIED;
+                throw new PaymentNotAuthorizedException(operation.deniedMessage());
+            }
+            outcome = Outcome.AUTHORIZED;
+        } finally {
+            var outcomeTag = outcome.name().toLowerCase(Locale.ROOT);
+            span.tag("outcome", outcomeTag);
+            sample.stop(Timer.builder("payment.authorizer.requests")
+                    .description("Consultas ao autorizador, da validação da URL à resposta")
+                    .tag("operation", operation.name())
+                    .tag("outcome", outcomeTag)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+            event.end();
+            if (event.shouldCommit()) {
+                event.operation = operation.name();
+                event.subjectId = id;
+                event.outcome = outcomeTag;
+                event.commit();
+            }
+        }
+    }
 
-        if (response == null || response.data == null || response.data.authorized == null) {
-            LOGGER.info("Resposta inesperada: {}", response);
-            throw new PaymentNotAuthorizedException("Resposta inesperada do autorizador.");
+    private Response call(URI uri, OperationType operation) {
+        var bulkhead = bulkheads.get(operation);
+        if (!bulkhead.tryAcquire()) {
+            throw new AuthorizerUnavailableException(
+                    "Limite de chamadas simultâneas ao autorizador atingido: " + operation);
         }
+        try {
+            if (!circuitBreaker.tryAcquirePermission()) {
+                throw new AuthorizerUnavailableException("Autorizador temporariamente indisponível.");
+            }
+            return callWithCircuitBreaker(uri);
+        } finally {
+            bulkhead.release();
+        }
+    }
 
-        if (Boolean.FALSE.equals(response.data.authorized)) {
-            throw new PaymentNotAuthorizedException(switch (operation) {
-                case PAYMENT -> "Pagamento não autorizado.";
-                case CANCEL_PAYMENT -> "Cancelamento não autorizado.";
-                case DEPOSIT -> "Depósito não autorizado.";
-            });
+    private Response callWithCircuitBreaker(URI uri) {
+        try {
+            var response = restTemplate.getForObject(uri, Response.class);
+            circuitBreaker.onSuccess();
+            return response;
+        } catch (RestClientException e) {
+            circuitBreaker.onFailure();
+            throw new AuthorizerUnavailableException("Falha na comunicação com o autorizador.", e);
+        } catch (RuntimeException e) {
+            circuitBreaker.onFailure();
+            throw e;
         }
     }
 
     @SuppressWarnings("ResultOfMethodCallIgnored")
-    private void validateAuthorizerUrl() {
+    static void validateAuthorizerUrl(String authorizerUrl) {
         if (StringUtils.isBlank(authorizerUrl)) {
             throw new AuthorizerConfigException("URL do autorizador não configurada.", null);
         }
@@ -91,7 +195,7 @@ public class PaymentAuthorizerImpl implements PaymentAuthorizer {
         }
     }
 
-    private URI buildUri(BigDecimal amount, CreditCard creditCard, OperationType operation) {
+    static URI buildUri(String authorizerUrl, BigDecimal amount, CreditCard creditCard, OperationType operation) {
         var builder = UriComponentsBuilder.fromUriString(authorizerUrl)
                 .queryParam("amount", amount)
                 .queryParam("operationType", operation.name());
@@ -111,10 +215,28 @@ public class PaymentAuthorizerImpl implements PaymentAuthorizer {
     public record Data(Boolean authorized) {
     }
 
-    private enum OperationType {
-        PAYMENT,
-        CANCEL_PAYMENT,
-        DEPOSIT
+    enum OperationType {
+        PAYMENT("Pagamento não autorizado."),
+        CANCEL_PAYMENT("Cancelamento não autorizado."),
+        DEPOSIT("Depósito não autorizado.");
+
+        private final String deniedMessage;
+
+        OperationType(String deniedMessage) {
+            this.deniedMessage = deniedMessage;
+        }
+
+        String deniedMessage() {
+            return deniedMessage;
+        }
+    }
+
+    private enum Outcome {
+        AUTHORIZED,
+        DENIED,
+        INVALID_RESPONSE,
+        UNAVAILABLE,
+        ERROR
     }
 
     public static class AuthorizerConfigException extends RuntimeException {
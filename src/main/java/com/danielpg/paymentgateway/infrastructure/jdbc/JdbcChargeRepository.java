@@ -4,11 +4,17 @@ import com.danielpg.paymentgateway.domain.shared.PositiveMoney;
 import com.danielpg.paymentgateway.domain.shared.TimeMillis;
 import com.danielpg.paymentgateway.domain.charge.*;
 import com.danielpg.paymentgateway.domain.user.UserId;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -20,21 +26,45 @@ public class JdbcChargeRepository implements ChargeRepository {
             VALUES (:issuerId, :payerId, :amount, :description, :createdAt, :dueAt, :status)
             """;
 
+    private static final String SQL_BATCH_INSERT = """
+            INSERT INTO tb_charge (issuer_id, payer_id, amount, description, created_at, due_at, status)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+
     private static final String SQL_UPDATE = """
             UPDATE tb_charge SET issuer_id = :issuerId, payer_id = :payerId, amount = :amount,
             description = :description, created_at = :createdAt, due_at = :dueAt, status = :status
             WHERE id = :id
             """;
 
+    private static final String SQL_UPDATE_STATUS = """
+            UPDATE tb_charge SET status = :status WHERE id = :id AND status = :expectedStatus
+            """;
+
     private static final String SQL_SELECT_BASE =
             "SELECT id, issuer_id, payer_id, amount, description, created_at, due_at, status FROM tb_charge";
 
     private static final String SQL_SELECT_BY_ID = SQL_SELECT_BASE + " WHERE id = :id";
 
+    // Percorre idx_charge_status_due_at.
+    private static final String SQL_LOCK_OVERDUE = SQL_SELECT_BASE + """
+             WHERE status = 'PENDING' AND due_at <= :now
+            ORDER BY due_at, id
+            LIMIT :limit
+            FOR UPDATE""";
+
+    private static final int INSERT_BATCH_SIZE = 1000;
+
     private final NamedParameterJdbcTemplate jdbc;
+    private final String lockOverdueSql;
 
-    public JdbcChargeRepository(NamedParameterJdbcTemplate jdbc) {
+    /*
+     * Com skipLocked, linhas já bloqueadas por outra instância são puladas em vez de aguardadas.
+     */
+    public JdbcChargeRepository(NamedParameterJdbcTemplate jdbc,
+                                @Value("${charges.expiry.skip-locked:true}") boolean skipLocked) {
         this.jdbc = jdbc;
+        this.lockOverdueSql = skipLocked ? SQL_LOCK_OVERDUE + " SKIP LOCKED" : SQL_LOCK_OVERDUE;
     }
 
     @Override
@@ -64,6 +94,74 @@ public class JdbcChargeRepository implements ChargeRepository {
         }
     }
 
+    /*
+     * Cobranças novas são inseridas em lotes JDBC e os IDs gerados são lidos de uma vez ao fim de
+     * cada lote. Com rewriteBatchedStatements=true o driver do MySQL envia o lote como um único
+     * INSERT de várias linhas.
+     */
+    @Override
+    public void saveAll(List<Charge> charges) {
+        var updates = charges.stream()
+                .filter(charge -> charge.id() != null)
+                .map(charge -> commonParams(charge).addValue("id", charge.id().value()))
+                .toArray(MapSqlParameterSource[]::new);
+        if (updates.length > 0) {
+            jdbc.batchUpdate(SQL_UPDATE, updates);
+        }
+        var created = charges.stream().filter(charge -> charge.id() == null).toList();
+        for (var from = 0; from < created.size(); from += INSERT_BATCH_SIZE) {
+            insertBatch(created.subList(from, Math.min(from + INSERT_BATCH_SIZE, created.size())));
+        }
+    }
+
+    @Override
+    public void updateStatus(Charge charge, ChargeStatus expectedStatus) {
+        var params = Map.of(
+                "id", charge.id().value(),
+                "status", charge.status().name(),
+                "expectedStatus", expectedStatus.name());
+        if (jdbc.update(SQL_UPDATE_STATUS, params) == 0) {
+            throw new IllegalStateException("A cobrança foi alterada por outra operação.");
+        }
+    }
+
+    @Override
+    public List<Charge> lockOverdue(TimeMillis now, int limit) {
+        var params = Map.of("now", now.value(), "limit", limit);
+        return jdbc.query(lockOverdueSql, params, (rs, rowNum) -> mapCharge(rs));
+    }
+
+    private void insertBatch(List<Charge> charges) {
+        var ids = jdbc.getJdbcOperations().execute(
+                (Connection connection) -> connection.prepareStatement(SQL_BATCH_INSERT, Statement.RETURN_GENERATED_KEYS),
+                (PreparedStatement statement) -> {
+                    for (var charge : charges) {
+                        statement.setLong(1, charge.issuerId().value());
+                        statement.setLong(2, charge.payerId().value());
+                        statement.setBigDecimal(3, charge.amount().value());
+                        statement.setString(4, charge.description() == null ? null : charge.description().value());
+                        statement.setLong(5, charge.createdAt().value());
+                        statement.setLong(6, charge.dueAt().value());
+                        statement.setString(7, charge.status().name());
+                        statement.addBatch();
+                    }
+                    statement.executeBatch();
+                    var generated = new ArrayList<Long>(charges.size());
+                    try (var keys = statement.getGeneratedKeys()) {
+                        while (keys.next()) {
+                            generated.add(keys.getLong(1));
+                        }
+                    }
+                    return generated;
+                });
+        if (ids == null || ids.size() != charges.size()) {
+            throw new IllegalStateException("Erro ao obter IDs gerados pelo banco de dados.");
+        }
+        for (var i = 0; i < charges.size(); i++) {
+            charges.get(i).finalizeCreation(ChargeId.of(ids.get(i)));
+        }
+    }
+
     private MapSqlParameterSource commonParams(Charge charge) {
         return new MapSqlParameterSource()
                 .addValue("issuerId", charge.issuerId().value())
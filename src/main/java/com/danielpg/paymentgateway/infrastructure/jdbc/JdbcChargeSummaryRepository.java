@@ -0,0 +1,137 @@
+package com.danielpg.paymentgateway.infrastructure.jdbc;
+
+import com.danielpg.paymentgateway.domain.charge.Charge;
+import com.danielpg.paymentgateway.domain.charge.ChargeStatus;
+import com.danielpg.paymentgateway.domain.charge.summary.ChargeSummaryItem;
+import com.danielpg.paymentgateway.domain.charge.summary.ChargeSummaryRepository;
+import com.danielpg.paymentgateway.domain.charge.summary.ChargeSummarySide;
+import com.danielpg.paymentgateway.domain.user.UserId;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+@Repository
+public class JdbcChargeSummaryRepository implements ChargeSummaryRepository {
+
+    private static final String SQL_UPSERT = """
+            INSERT INTO tb_charge_summary (user_id, side, status, charge_count, total_amount)
+            VALUES (:userId, :side, :status, :count, :amount)
+            ON DUPLICATE KEY UPDATE charge_count = charge_count + :count, total_amount = total_amount + :amount
+            """;
+
+    private static final String SQL_SELECT_BY_USER = """
+            SELECT side, status, charge_count, total_amount FROM tb_charge_summary
+            WHERE user_id = :userId
+            ORDER BY side, status
+            """;
+
+    private static final Comparator<Delta> LOCK_ORDER = Comparator
+            .comparingLong(Delta::userId)
+            .thenComparing(Delta::side)
+            .thenComparing(Delta::status);
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    public JdbcChargeSummaryRepository(NamedParameterJdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    @Override
+    public void add(Charge charge) {
+        apply(deltas(charge, charge.status(), 1));
+    }
+
+    @Override
+    public void addAll(List<Charge> charges) {
+        applySummed(charges.stream().flatMap(charge -> deltas(charge, charge.status(), 1).stream()));
+    }
+
+    @Override
+    public void move(Charge charge, ChargeStatus previousStatus) {
+        if (previousStatus == charge.status()) {
+            return;
+        }
+        var deltas = new ArrayList<Delta>();
+        deltas.addAll(deltas(charge, previousStatus, -1));
+        deltas.addAll(deltas(charge, charge.status(), 1));
+        apply(deltas);
+    }
+
+    @Override
+    public void moveAll(List<Charge> charges, ChargeStatus previousStatus) {
+        applySummed(charges.stream()
+                .filter(charge -> charge.status() != previousStatus)
+                .flatMap(charge -> Stream.concat(
+                        deltas(charge, previousStatus, -1).stream(),
+                        deltas(charge, charge.status(), 1).stream())));
+    }
+
+    @Override
+    public List<ChargeSummaryItem> find(UserId userId) {
+        return jdbc.query(SQL_SELECT_BY_USER, Map.of("userId", userId.value()), (rs, rowNum) -> new ChargeSummaryItem(
+                ChargeSummarySide.valueOf(rs.getString("side")),
+                ChargeStatus.valueOf(rs.getString("status")),
+                rs.getLong("charge_count"),
+                rs.getBigDecimal("total_amount")
+        ));
+    }
+
+    private static List<Delta> deltas(Charge charge, ChargeStatus status, int sign) {
+        var amount = charge.amount().value();
+        if (sign < 0) {
+            amount = amount.negate();
+        }
+        return List.of(
+                new Delta(charge.issuerId().value(), ChargeSummarySide.ISSUED, status, sign, amount),
+                new Delta(charge.payerId().value(), ChargeSummarySide.RECEIVED, status, sign, amount));
+    }
+
+    /*
+     * Os deltas das cobranças são somados por linha do resumo antes de gravar: um lote de um
+     * mesmo emitente vira uma única atualização do lado ISSUED.
+     */
+    private void applySummed(Stream<Delta> deltas) {
+        var totals = new HashMap<DeltaKey, Delta>();
+        deltas.forEach(delta -> totals.merge(delta.key(), delta, Delta::plus));
+        apply(new ArrayList<>(totals.values()));
+    }
+
+    /*
+     * As linhas são sempre atualizadas na mesma ordem, para que transações concorrentes que
+     * alteram cobranças dos mesmos usuários não entrem em deadlock.
+     */
+    private void apply(List<Delta> deltas) {
+        var batch = deltas.stream()
+                .sorted(LOCK_ORDER)
+                .map(delta -> new MapSqlParameterSource()
+                        .addValue("userId", delta.userId())
+                        .addValue("side", delta.side().name())
+                        .addValue("status", delta.status().name())
+                        .addValue("count", delta.count())
+                        .addValue("amount", delta.amount()))
+                .toArray(MapSqlParameterSource[]::new);
+        jdbc.batchUpdate(SQL_UPSERT, batch);
+    }
+
+    private record Delta(long userId, ChargeSummarySide side, ChargeStatus status, int count, BigDecimal amount) {
+
+        DeltaKey key() {
+            return new DeltaKey(userId, side, status);
+        }
+
+        Delta plus(Delta other) {
+            return new Delta(userId, side, status, count + other.count, amount.add(other.amount));
+        }
+    }
+
+    private record DeltaKey(long userId, ChargeSummarySide side, ChargeStatus status) {
+    }
+}
@@ -27,6 +27,11 @@ public class JdbcDepositRepository implements DepositRepository {
             WHERE id = :id
             """;
 
+    private static final String SQL_INSERT_RECONCILIATION = """
+            INSERT INTO tb_deposit_reconciliation (user_id, amount, created_at)
+            VALUES (:userId, :amount, :createdAt)
+            """;
+
     private static final String SQL_SELECT_BY_ID = """
             SELECT id, user_id, amount, created_at FROM tb_deposit WHERE id = :id
             """;
@@ -59,6 +64,11 @@ public class JdbcDepositRepository implements DepositRepository {
         }
     }
 
+    @Override
+    public void markForReconciliation(Deposit deposit) {
+        jdbc.update(SQL_INSERT_RECONCILIATION, commonParams(deposit));
+    }
+
     private MapSqlParameterSource commonParams(Deposit deposit) {
         return new MapSqlParameterSource()
                 .addValue("userId", deposit.userId().value())
@@ -0,0 +1,106 @@
+package com.danielpg.paymentgateway.infrastructure.jdbc;
+
+import com.danielpg.paymentgateway.domain.shared.TimeMillis;
+import com.danielpg.paymentgateway.domain.user.UserId;
+import com.danielpg.paymentgateway.infrastructure.idempotency.IdempotencyRecord;
+import com.danielpg.paymentgateway.infrastructure.idempotency.IdempotencyStore;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public class JdbcIdempotencyStore implements IdempotencyStore {
+
+    private static final String SQL_INSERT = """
+            INSERT INTO tb_idempotency (user_id, idempotency_key, request_hash, created_at)
+            VALUES (:userId, :key, :requestHash, :now)
+            """;
+
+    private static final String SQL_TAKE_OVER_STALE = """
+            UPDATE tb_idempotency SET request_hash = :requestHash, created_at = :now
+            WHERE user_id = :userId AND idempotency_key = :key AND status IS NULL AND created_at < :staleBefore
+            """;
+
+    private static final String SQL_SELECT = """
+            SELECT request_hash, status, body FROM tb_idempotency
+            WHERE user_id = :userId AND idempotency_key = :key
+            """;
+
+    private static final String SQL_COMPLETE = """
+            UPDATE tb_idempotency SET status = :status, body = :body, completed_at = :now
+            WHERE user_id = :userId AND idempotency_key = :key
+            """;
+
+    private static final String SQL_RELEASE = """
+            DELETE FROM tb_idempotency WHERE user_id = :userId AND idempotency_key = :key AND status IS NULL
+            """;
+
+    private static final String SQL_DELETE_CREATED_BEFORE = """
+            DELETE FROM tb_idempotency WHERE created_at < :createdBefore LIMIT :limit
+            """;
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    public JdbcIdempotencyStore(NamedParameterJdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    @Override
+    public boolean reserve(UserId userId, String key, String requestHash, TimeMillis now, TimeMillis staleBefore) {
+        var params = keyParams(userId, key)
+                .addValue("requestHash", requestHash)
+                .addValue("now", now.value())
+                .addValue("staleBefore", staleBefore.value());
+        try {
+            jdbc.update(SQL_INSERT, params);
+            return true;
+        } catch (DuplicateKeyException e) {
+            return jdbc.update(SQL_TAKE_OVER_STALE, params) == 1;
+        }
+    }
+
+    @Override
+    public Optional<IdempotencyRecord> find(UserId userId, String key) {
+        try {
+            return Optional.ofNullable(jdbc.queryForObject(SQL_SELECT, keyParams(userId, key),
+                    (rs, rowNum) -> new IdempotencyRecord(
+                            rs.getString("request_hash"),
+                            rs.getObject("status", Integer.class),
+                            rs.getString("body"))));
+        } catch (EmptyResultDataAccessException e) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void complete(UserId userId, String key, int status, String body, TimeMillis now) {
+        var params = keyParams(userId, key)
+                .addValue("status", status)
+                .addValue("body", body)
+                .addValue("now", now.value());
+        jdbc.update(SQL_COMPLETE, params);
+    }
+
+    @Override
+    public void release(UserId userId, String key) {
+        jdbc.update(SQL_RELEASE, keyParams(userId, key));
+    }
+
+    @Override
+    public int deleteCreatedBefore(TimeMillis createdBefore, int limit) {
+        var params = new MapSqlParameterSource()
+                .addValue("createdBefore", createdBefore.value())
+                .addValue("limit", limit);
+        return jdbc.update(SQL_DELETE_CREATED_BEFORE, params);
+    }
+
+    private static MapSqlParameterSource keyParams(UserId userId, String key) {
+        return new MapSqlParameterSource()
+                .addValue("userId", userId.value())
+                .addValue("key", key);
+    }
+}
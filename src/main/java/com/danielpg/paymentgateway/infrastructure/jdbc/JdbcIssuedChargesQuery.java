@@ -5,6 +5,9 @@ import com.danielpg.paymentgateway.domain.charge.query.issued.IssuedChargesQuery
 import com.danielpg.paymentgateway.domain.charge.query.issued.IssuedChargesFilter;
 import com.danielpg.paymentgateway.domain.charge.query.issued.IssuedChargesItem;
 import io.micrometer.common.util.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
@@ -12,6 +15,7 @@ import org.springframework.stereotype.Repository;
 
 import java.sql.ResultSet;
 import java.util.List;
+import java.util.function.Consumer;
 
 @Repository
 public class JdbcIssuedChargesQuery implements IssuedChargesQuery {
@@ -37,10 +41,19 @@ public class JdbcIssuedChargesQuery implements IssuedChargesQuery {
     private static final String STATUS = "status";
 
     private final NamedParameterJdbcTemplate jdbc;
+    private final NamedParameterJdbcTemplate streamingJdbc;
     private final RowMapper<IssuedChargesItem> mapper;
 
-    public JdbcIssuedChargesQuery(NamedParameterJdbcTemplate jdbc) {
+    /*
+     * O streaming usa um template próprio com fetch size, para o driver trazer as linhas em
+     * lotes (no MySQL, requer useCursorFetch=true na URL) em vez de carregar o ResultSet inteiro.
+     */
+    public JdbcIssuedChargesQuery(NamedParameterJdbcTemplate jdbc,
+                                  @Value("${charges.query.stream-fetch-size:500}") int streamFetchSize) {
         this.jdbc = jdbc;
+        var streamingTemplate = new JdbcTemplate(jdbc.getJdbcTemplate().getDataSource());
+        streamingTemplate.setFetchSize(streamFetchSize);
+        this.streamingJdbc = new NamedParameterJdbcTemplate(streamingTemplate);
         this.mapper = createMapper();
     }
 
@@ -51,13 +64,26 @@ public class JdbcIssuedChargesQuery implements IssuedChargesQuery {
         return jdbc.query(sql, params, mapper);
     }
 
+    @Override
+    public void stream(IssuedChargesFilter filter, Consumer<IssuedChargesItem> consumer) {
+        var sql = buildSql(filter);
+        var params = buildParams(filter);
+        streamingJdbc.query(sql, params, (RowCallbackHandler) rs -> consumer.accept(mapper.mapRow(rs, 0)));
+    }
+
     private String buildSql(IssuedChargesFilter filter) {
         var sql = new StringBuilder(SQL_BASE);
         var statusParams = JdbcEnumUtils.buildParams(STATUS, filter.statuses());
         if (!StringUtils.isBlank(statusParams)) {
             sql.append(" AND c.status IN ").append(statusParams);
         }
+        if (filter.afterId() != null) {
+            sql.append(" AND c.id > :afterId");
+        }
         sql.append(' ').append(SQL_ORDER);
+        if (filter.limit() != null) {
+            sql.append(" LIMIT :limit");
+        }
         return sql.toString();
     }
 
@@ -65,6 +91,8 @@ public class JdbcIssuedChargesQuery implements IssuedChargesQuery {
         var params = new MapSqlParameterSource()
                 .addValue("issuerId", filter.issuerId().value());
         JdbcEnumUtils.addParams(params, STATUS, filter.statuses());
+        params.addValue("afterId", filter.afterId());
+        params.addValue("limit", filter.limit());
         return params;
     }
 
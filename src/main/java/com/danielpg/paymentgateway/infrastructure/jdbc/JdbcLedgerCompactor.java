@@ -0,0 +1,150 @@
+package com.danielpg.paymentgateway.infrastructure.jdbc;
+
+import com.danielpg.paymentgateway.application.shared.AppTransaction;
+import com.danielpg.paymentgateway.domain.shared.AppClock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * Incorpora os lançamentos do razão ao saldo consolidado de tb_user (balance + ledger_entry_id).
+ * Créditos são gravados sem bloquear tb_user e os ids podem ser confirmados fora de ordem: a cauda
+ * é lida com FOR UPDATE, que espera os lançamentos ainda não confirmados em vez de pulá-los, senão
+ * um lançamento com id abaixo do novo ledger_entry_id ficaria fora do saldo para sempre.
+ */
+@Component
+public class JdbcLedgerCompactor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JdbcLedgerCompactor.class);
+
+    // Percorre tb_user a partir do cursor e procura a cauda pelo índice (user_id, id): o custo depende
+    // do tamanho das caudas, não do razão inteiro.
+    private static final String SQL_SELECT_PENDING_USERS = """
+            SELECT u.id FROM tb_user u
+            WHERE u.id > :afterUserId AND EXISTS (
+                SELECT 1 FROM tb_ledger_entry e
+                WHERE e.user_id = u.id AND e.id > u.ledger_entry_id AND e.created_at <= :maxCreatedAt
+                ORDER BY e.id
+                LIMIT 1 OFFSET :skippedEntries)
+            ORDER BY u.id
+            LIMIT :batchSize
+            """;
+
+    private static final String SQL_LOCK_WATERMARK = """
+            SELECT ledger_entry_id FROM tb_user WHERE id = :userId FOR UPDATE
+            """;
+
+    private static final String SQL_SELECT_TAIL = """
+            SELECT id, amount, created_at FROM tb_ledger_entry
+            WHERE user_id = :userId AND id > :ledgerEntryId
+            ORDER BY id
+            FOR UPDATE
+            """;
+
+    private static final String SQL_FOLD = """
+            UPDATE tb_user SET balance = balance + :delta, ledger_entry_id = :ledgerEntryId
+            WHERE id = :userId AND balance + :delta >= 0
+            """;
+
+    private static final String USER_ID = "userId";
+    private static final String LEDGER_ENTRY_ID = "ledgerEntryId";
+
+    private final NamedParameterJdbcTemplate jdbc;
+    private final AppTransaction transaction;
+    private final AppClock clock;
+    private final long minAge;
+    private final int minEntries;
+    private final int batchSize;
+    private long cursor;
+
+    public JdbcLedgerCompactor(NamedParameterJdbcTemplate jdbc,
+                               AppTransaction transaction,
+                               AppClock clock,
+                               @Value("${ledger.compaction.min-age:60000}") long minAge,
+                               @Value("${ledger.compaction.min-entries:100}") int minEntries,
+                               @Value("${ledger.compaction.batch-size:100}") int batchSize) {
+        if (minAge < 0 || minEntries <= 0 || batchSize <= 0) {
+            throw new IllegalArgumentException("Configuração de compactação do razão inválida.");
+        }
+        this.jdbc = jdbc;
+        this.transaction = transaction;
+        this.clock = clock;
+        this.minAge = minAge;
+        this.minEntries = minEntries;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${ledger.compaction.interval:60000}")
+    public void compactPeriodically() {
+        var compacted = compact();
+        if (compacted > 0) {
+            LOGGER.info("Saldos compactados: users={}", compacted);
+        }
+    }
+
+    // Cada execução compacta no máximo batchSize usuários e continua da anterior.
+    public int compact() {
+        var maxCreatedAt = clock.now().value() - minAge;
+        var params = new MapSqlParameterSource()
+                .addValue("afterUserId", cursor)
+                .addValue("maxCreatedAt", maxCreatedAt)
+                .addValue("skippedEntries", minEntries - 1)
+                .addValue("batchSize", batchSize);
+        var userIds = jdbc.queryForList(SQL_SELECT_PENDING_USERS, params, Long.class);
+        cursor = userIds.size() < batchSize ? 0L : userIds.get(userIds.size() - 1);
+        var compacted = 0;
+        for (var userId : userIds) {
+            if (transaction.executeWithResult(() -> compactUser(userId, maxCreatedAt))) {
+                compacted++;
+            }
+        }
+        return compacted;
+    }
+
+    private boolean compactUser(long userId, long maxCreatedAt) {
+        var watermark = jdbc.queryForObject(SQL_LOCK_WATERMARK, Map.of(USER_ID, userId), Long.class);
+        var params = new MapSqlParameterSource()
+                .addValue(USER_ID, userId)
+                .addValue(LEDGER_ENTRY_ID, watermark);
+        var tail = jdbc.query(SQL_SELECT_TAIL, params, (rs, rowNum) -> new TailEntry(
+                rs.getLong("id"), rs.getBigDecimal("amount"), rs.getLong("created_at")));
+
+        var delta = BigDecimal.ZERO;
+        var lastEntryId = watermark;
+        for (var entry : foldablePrefix(tail, maxCreatedAt)) {
+            delta = delta.add(entry.amount());
+            lastEntryId = entry.id();
+        }
+        if (lastEntryId.equals(watermark)) {
+            return false;
+        }
+        var updated = jdbc.update(SQL_FOLD, new MapSqlParameterSource()
+                .addValue(USER_ID, userId)
+                .addValue("delta", delta)
+                .addValue(LEDGER_ENTRY_ID, lastEntryId));
+        if (updated == 0) {
+            throw new IllegalStateException("Compactação deixaria saldo negativo: userId=" + userId);
+        }
+        return true;
+    }
+
+    // Lançamentos recentes ficam na cauda: compactá-los disputaria os bloqueios com os créditos.
+    private static List<TailEntry> foldablePrefix(List<TailEntry> tail, long maxCreatedAt) {
+        var end = 0;
+        while (end < tail.size() && tail.get(end).createdAt() <= maxCreatedAt) {
+            end++;
+        }
+        return tail.subList(0, end);
+    }
+
+    private record TailEntry(long id, BigDecimal amount, long createdAt) {
+    }
+}
@@ -0,0 +1,107 @@
+package com.danielpg.paymentgateway.infrastructure.jdbc;
+
+import com.danielpg.paymentgateway.domain.ledger.LedgerEntry;
+import com.danielpg.paymentgateway.domain.ledger.LedgerEntryId;
+import com.danielpg.paymentgateway.domain.ledger.LedgerRepository;
+import com.danielpg.paymentgateway.domain.user.InsufficientBalanceException;
+import com.danielpg.paymentgateway.domain.user.UserId;
+import com.danielpg.paymentgateway.domain.user.UserNotFoundException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+public class JdbcLedgerRepository implements LedgerRepository {
+
+    private static final String SQL_INSERT = """
+            INSERT INTO tb_ledger_entry (user_id, type, amount, reference_id, created_at)
+            VALUES (:userId, :type, :amount, :referenceId, :createdAt)
+            """;
+
+    private static final String SQL_LOCK_SNAPSHOT = """
+            SELECT balance, ledger_entry_id FROM tb_user WHERE id = :userId FOR UPDATE
+            """;
+
+    private static final String SQL_LOCK_TAIL = """
+            SELECT amount FROM tb_ledger_entry
+            WHERE user_id = :userId AND id > :ledgerEntryId FOR UPDATE
+            """;
+
+    private static final String USER_ID = "userId";
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    public JdbcLedgerRepository(NamedParameterJdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    @Override
+    public void append(LedgerEntry entry) {
+        if (entry.type().isDebit()) {
+            ensureSufficientBalance(entry);
+        }
+        try {
+            var keyHolder = new CustomKeyHolder();
+            jdbc.update(SQL_INSERT, params(entry), keyHolder);
+            entry.finalizeCreation(LedgerEntryId.of(keyHolder.asLong()));
+        } catch (DataIntegrityViolationException e) {
+            throw new UserNotFoundException(entry.userId());
+        }
+    }
+
+    @Override
+    public void appendAll(List<LedgerEntry> entries) {
+        entries.stream()
+                .sorted(Comparator.comparing(entry -> entry.userId().value()))
+                .forEach(this::append);
+    }
+
+    /*
+     * Créditos são apenas inserções e não tocam tb_user. Débitos bloqueiam o usuário, para que dois
+     * débitos do mesmo usuário sejam serializados, e leem a cauda com FOR UPDATE, para enxergar todos
+     * os lançamentos confirmados independentemente do snapshot da transação.
+     */
+    private void ensureSufficientBalance(LedgerEntry entry) {
+        var balance = currentBalance(entry.userId());
+        if (balance.compareTo(entry.amount().value()) < 0) {
+            throw new InsufficientBalanceException();
+        }
+    }
+
+    private BigDecimal currentBalance(UserId userId) {
+        var snapshot = lockSnapshot(userId);
+        var params = new MapSqlParameterSource()
+                .addValue(USER_ID, userId.value())
+                .addValue("ledgerEntryId", snapshot.ledgerEntryId());
+        return jdbc.queryForList(SQL_LOCK_TAIL, params, BigDecimal.class).stream()
+                .reduce(snapshot.balance(), BigDecimal::add);
+    }
+
+    private Snapshot lockSnapshot(UserId userId) {
+        try {
+            return jdbc.queryForObject(SQL_LOCK_SNAPSHOT, Map.of(USER_ID, userId.value()),
+                    (rs, rowNum) -> new Snapshot(rs.getBigDecimal("balance"), rs.getLong("ledger_entry_id")));
+        } catch (EmptyResultDataAccessException e) {
+            throw new UserNotFoundException(userId);
+        }
+    }
+
+    private MapSqlParameterSource params(LedgerEntry entry) {
+        return new MapSqlParameterSource()
+                .addValue(USER_ID, entry.userId().value())
+                .addValue("type", entry.type().name())
+                .addValue("amount", entry.signedAmount())
+                .addValue("referenceId", entry.referenceId())
+                .addValue("createdAt", entry.createdAt().value());
+    }
+
+    private record Snapshot(BigDecimal balance, long ledgerEntryId) {
+    }
+}
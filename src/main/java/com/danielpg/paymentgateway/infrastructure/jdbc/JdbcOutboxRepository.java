@@ -0,0 +1,110 @@
+package com.danielpg.paymentgateway.infrastructure.jdbc;
+
+import com.danielpg.paymentgateway.application.event.OutboxMessage;
+import com.danielpg.paymentgateway.application.event.OutboxRepository;
+import com.danielpg.paymentgateway.domain.event.DomainEvent;
+import com.danielpg.paymentgateway.domain.event.DomainEventPublisher;
+import com.danielpg.paymentgateway.domain.shared.AppClock;
+import com.danielpg.paymentgateway.domain.shared.TimeMillis;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Map;
+
+@Repository
+public class JdbcOutboxRepository implements OutboxRepository, DomainEventPublisher {
+
+    private static final String SQL_INSERT = """
+            INSERT INTO tb_outbox (event_type, aggregate_type, aggregate_id, payload, created_at)
+            VALUES (:eventType, :aggregateType, :aggregateId, :payload, :createdAt)
+            """;
+
+    private static final String SQL_LOCK_PENDING = """
+            SELECT id, event_type, aggregate_type, aggregate_id, payload, created_at FROM tb_outbox
+            WHERE published_at IS NULL
+            ORDER BY id
+            LIMIT :limit
+            FOR UPDATE
+            """;
+
+    private static final String SQL_MARK_PUBLISHED = """
+            UPDATE tb_outbox SET published_at = :publishedAt WHERE id IN (:ids)
+            """;
+
+    private static final String SQL_DELETE_PUBLISHED = """
+            DELETE FROM tb_outbox WHERE published_at < :publishedBefore LIMIT :limit
+            """;
+
+    private final NamedParameterJdbcTemplate jdbc;
+    private final ObjectMapper objectMapper;
+    private final AppClock clock;
+
+    public JdbcOutboxRepository(NamedParameterJdbcTemplate jdbc, ObjectMapper objectMapper, AppClock clock) {
+        this.jdbc = jdbc;
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+    }
+
+    @Override
+    public void publish(DomainEvent event) {
+        jdbc.update(SQL_INSERT, insertParams(event, clock.now()));
+    }
+
+    @Override
+    public void publishAll(List<? extends DomainEvent> events) {
+        var now = clock.now();
+        var batch = events.stream()
+                .map(event -> insertParams(event, now))
+                .toArray(MapSqlParameterSource[]::new);
+        jdbc.batchUpdate(SQL_INSERT, batch);
+    }
+
+    private MapSqlParameterSource insertParams(DomainEvent event, TimeMillis now) {
+        return new MapSqlParameterSource()
+                .addValue("eventType", event.type())
+                .addValue("aggregateType", event.aggregateType())
+                .addValue("aggregateId", event.aggregateId())
+                .addValue("payload", toJson(event))
+                .addValue("createdAt", now.value());
+    }
+
+    @Override
+    public List<OutboxMessage> lockPending(int limit) {
+        return jdbc.query(SQL_LOCK_PENDING, Map.of("limit", limit), (rs, rowNum) -> new OutboxMessage(
+                rs.getLong("id"),
+                rs.getString("event_type"),
+                rs.getString("aggregate_type"),
+                rs.getLong("aggregate_id"),
+                rs.getString("payload"),
+                rs.getLong("created_at")
+        ));
+    }
+
+    @Override
+    public void markPublished(List<Long> ids, TimeMillis publishedAt) {
+        var params = new MapSqlParameterSource()
+                .addValue("ids", ids)
+                .addValue("publishedAt", publishedAt.value());
+        jdbc.update(SQL_MARK_PUBLISHED, params);
+    }
+
+    @Override
+    public int deletePublished(TimeMillis publishedBefore, int limit) {
+        var params = new MapSqlParameterSource()
+                .addValue("publishedBefore", publishedBefore.value())
+                .addValue("limit", limit);
+        return jdbc.update(SQL_DELETE_PUBLISHED, params);
+    }
+
+    private String toJson(DomainEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Erro ao serializar o evento: " + event.type(), e);
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.danielpg.paymentgateway.infrastructure.jdbc;
+
+import com.danielpg.paymentgateway.domain.charge.ChargeId;
+import com.danielpg.paymentgateway.domain.charge.payment.PaymentId;
+import com.danielpg.paymentgateway.domain.charge.payment.PaymentMethod;
+import com.danielpg.paymentgateway.domain.charge.payment.intent.*;
+import com.danielpg.paymentgateway.domain.shared.TimeMillis;
+import com.danielpg.paymentgateway.domain.shared.creditcard.CreditCard;
+import com.danielpg.paymentgateway.domain.shared.creditcard.CreditCardCvv;
+import com.danielpg.paymentgateway.domain.shared.creditcard.CreditCardExpirationDate;
+import com.danielpg.paymentgateway.domain.shared.creditcard.CreditCardNumber;
+import com.danielpg.paymentgateway.domain.user.UserId;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@Repository
+public class JdbcPaymentIntentRepository implements PaymentIntentRepository {
+
+    private static final String SQL_INSERT = """
+            INSERT INTO tb_payment_intent (charge_id, payer_id, method, credit_card_number, credit_card_expiration,
+                credit_card_cvv, status, attempts, payment_id, failure_reason, created_at, updated_at)
+            VALUES (:chargeId, :payerId, :method, :creditCardNumber, :creditCardExpiration,
+                :creditCardCvv, :status, :attempts, :paymentId, :failureReason, :createdAt, :updatedAt)
+            """;
+
+    private static final String SQL_UPDATE = """
+            UPDATE tb_payment_intent
+            SET status = :status,
+                payment_id = :paymentId,
+                failure_reason = :failureReason,
+                credit_card_number = :creditCardNumber,
+                credit_card_expiration = :creditCardExpiration,
+                credit_card_cvv = :creditCardCvv,
+                authorized_at = :authorizedAt,
+                updated_at = :updatedAt
+            WHERE id = :id
+            """;
+
+    private static final String SQL_SELECT_BY_ID = """
+            SELECT id, charge_id, payer_id, method, credit_card_number, credit_card_expiration, credit_card_cvv,
+                status, attempts, payment_id, failure_reason, authorized_at, created_at, updated_at
+            FROM tb_payment_intent WHERE id = :id
+            """;
+
+    private static final String SQL_CLAIM = """
+            UPDATE tb_payment_intent
+            SET status = 'PROCESSING', attempts = attempts + 1, updated_at = :now
+            WHERE id = :id AND status = 'PENDING'
+            """;
+
+    private static final String SQL_RELEASE = """
+            UPDATE tb_payment_intent SET status = 'PENDING', authorized_at = NULL, updated_at = :now
+            WHERE id = :id AND status = 'PROCESSING'
+            """;
+
+    private static final String SQL_RELEASE_STALE = """
+            UPDATE tb_payment_intent SET status = 'PENDING', updated_at = :now
+            WHERE status = 'PROCESSING' AND authorized_at IS NULL AND updated_at <= :processingBefore
+            """;
+
+    private static final String SQL_SELECT_STALE_AUTHORIZED = """
+            SELECT id FROM tb_payment_intent
+            WHERE status = 'PROCESSING' AND authorized_at IS NOT NULL AND updated_at <= :processingBefore
+            ORDER BY id
+            LIMIT :limit
+            """;
+
+    private static final String SQL_CLAIM_STALE_AUTHORIZED = """
+            UPDATE tb_payment_intent SET updated_at = :now
+            WHERE id = :id AND status = 'PROCESSING' AND authorized_at IS NOT NULL
+                AND updated_at <= :processingBefore
+            """;
+
+    private static final String SQL_SELECT_PENDING = """
+            SELECT id FROM tb_payment_intent
+            WHERE status = 'PENDING' AND updated_at <= :updatedBefore
+            ORDER BY id
+            LIMIT :limit
+            """;
+
+    private static final String NOW = "now";
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    public JdbcPaymentIntentRepository(NamedParameterJdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    @Override
+    public Optional<PaymentIntent> get(PaymentIntentId id) {
+        try {
+            var params = Map.of("id", id.value());
+            return Optional.ofNullable(jdbc.queryForObject(SQL_SELECT_BY_ID, params, (rs, rowNum) -> mapIntent(rs)));
+        } catch (EmptyResultDataAccessException e) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public PaymentIntent getOrThrow(PaymentIntentId id) {
+        return get(id).orElseThrow(() -> new PaymentIntentNotFoundException(id));
+    }
+
+    @Override
+    public void save(PaymentIntent intent) {
+        if (intent.id() == null) {
+            var keyHolder = new CustomKeyHolder();
+            jdbc.update(SQL_INSERT, insertParams(intent), keyHolder);
+            intent.finalizeCreation(PaymentIntentId.of(keyHolder.asLong()));
+        } else {
+            jdbc.update(SQL_UPDATE, updateParams(intent).addValue("id", intent.id().value()));
+        }
+    }
+
+    @Override
+    public boolean claim(PaymentIntentId id, TimeMillis now) {
+        var params = Map.of("id", id.value(), NOW, now.value());
+        return jdbc.update(SQL_CLAIM, params) == 1;
+    }
+
+    @Override
+    public void release(PaymentIntentId id, TimeMillis now) {
+        jdbc.update(SQL_RELEASE, Map.of("id", id.value(), NOW, now.value()));
+    }
+
+    @Override
+    public int releaseStale(TimeMillis processingBefore, TimeMillis now) {
+        var params = Map.of("processingBefore", processingBefore.value(), NOW, now.value());
+        return jdbc.update(SQL_RELEASE_STALE, params);
+    }
+
+    @Override
+    public List<PaymentIntentId> findStaleAuthorized(TimeMillis processingBefore, int limit) {
+        var params = Map.of("processingBefore", processingBefore.value(), "limit", limit);
+        return jdbc.queryForList(SQL_SELECT_STALE_AUTHORIZED, params, Long.class).stream()
+                .map(PaymentIntentId::of)
+                .toList();
+    }
+
+    @Override
+    public boolean claimStaleAuthorized(PaymentIntentId id, TimeMillis processingBefore, TimeMillis now) {
+        var params = Map.of("id", id.value(), "processingBefore", processingBefore.value(), NOW, now.value());
+        return jdbc.update(SQL_CLAIM_STALE_AUTHORIZED, params) == 1;
+    }
+
+    @Override
+    public List<PaymentIntentId> findPending(TimeMillis updatedBefore, int limit) {
+        var params = Map.of("updatedBefore", updatedBefore.value(), "limit", limit);
+        return jdbc.queryForList(SQL_SELECT_PENDING, params, Long.class).stream()
+                .map(PaymentIntentId::of)
+                .toList();
+    }
+
+    private static MapSqlParameterSource insertParams(PaymentIntent intent) {
+        return updateParams(intent)
+                .addValue("chargeId", intent.chargeId().value())
+                .addValue("payerId", intent.payerId().value())
+                .addValue("method", intent.method().name())
+                .addValue("attempts", intent.attempts())
+                .addValue("createdAt", intent.createdAt().value());
+    }
+
+    // Intenções encerradas não têm cartão: o UPDATE apaga número, validade e CVV gravados.
+    private static MapSqlParameterSource updateParams(PaymentIntent intent) {
+        var creditCard = intent.creditCard();
+        return new MapSqlParameterSource()
+                .addValue("status", intent.status().name())
+                .addValue("paymentId", intent.paymentId() != null ? intent.paymentId().value() : null)
+                .addValue("failureReason", intent.failureReason())
+                .addValue("creditCardNumber", creditCard != null ? creditCard.number().value() : null)
+                .addValue("creditCardExpiration", creditCard != null ? creditCard.expirationDate().value() : null)
+                .addValue("creditCardCvv", creditCard != null ? creditCard.cvv().value() : null)
+                .addValue("authorizedAt", intent.authorizedAt() != null ? intent.authorizedAt().value() : null)
+                .addValue("updatedAt", intent.updatedAt().value());
+    }
+
+    private static PaymentIntent mapIntent(ResultSet rs) throws SQLException {
+        var method = PaymentMethod.valueOf(rs.getString("method"));
+        var builder = PaymentIntent.builder()
+                .withId(PaymentIntentId.of(rs.getLong("id")))
+                .withChargeId(ChargeId.of(rs.getLong("charge_id")))
+                .withPayerId(UserId.of(rs.getLong("payer_id")))
+                .withMethod(method)
+                .withStatus(PaymentIntentStatus.valueOf(rs.getString("status")))
+                .withAttempts(rs.getInt("attempts"))
+                .withPaymentId(PaymentId.ofNullable(rs.getObject("payment_id", Long.class)).orElse(null))
+                .withFailureReason(rs.getString("failure_reason"))
+                .withAuthorizedAt(TimeMillis.ofNullable(rs.getObject("authorized_at", Long.class)).orElse(null))
+                .withCreatedAt(TimeMillis.of(rs.getLong("created_at")))
+                .withUpdatedAt(TimeMillis.of(rs.getLong("updated_at")));
+
+        if (method == PaymentMethod.CREDIT_CARD && rs.getString("credit_card_number") != null) {
+            builder.withCreditCard(CreditCard.builder()
+                    .withNumber(CreditCardNumber.ofNullable(rs.getString("credit_card_number")).orElse(null))
+                    .withExpirationDate(CreditCardExpirationDate.ofNullable(
+                            rs.getString("credit_card_expiration")).orElse(null))
+                    .withCvv(CreditCardCvv.ofNullable(rs.getString("credit_card_cvv")).orElse(null))
+                    .build());
+        }
+        return builder.build();
+    }
+}
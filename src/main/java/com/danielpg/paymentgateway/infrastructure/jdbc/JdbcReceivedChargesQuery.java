@@ -4,6 +4,9 @@ import com.danielpg.paymentgateway.domain.charge.ChargeStatus;
 import com.danielpg.paymentgateway.domain.charge.query.received.ReceivedChargesFilter;
 import com.danielpg.paymentgateway.domain.charge.query.received.ReceivedChargesItem;
 import com.danielpg.paymentgateway.domain.charge.query.received.ReceivedChargesQuery;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
@@ -11,6 +14,7 @@ import org.springframework.stereotype.Repository;
 
 import java.sql.ResultSet;
 import java.util.List;
+import java.util.function.Consumer;
 
 @Repository
 public class JdbcReceivedChargesQuery implements ReceivedChargesQuery {
@@ -36,10 +40,15 @@ public class JdbcReceivedChargesQuery implements ReceivedChargesQuery {
     private static final String STATUS = "status";
 
     private final NamedParameterJdbcTemplate jdbc;
+    private final NamedParameterJdbcTemplate streamingJdbc;
     private final RowMapper<ReceivedChargesItem> mapper;
 
-    public JdbcReceivedChargesQuery(NamedParameterJdbcTemplate jdbc) {
+    public JdbcReceivedChargesQuery(NamedParameterJdbcTemplate jdbc,
+                                    @Value("${charges.query.stream-fetch-size:500}") int streamFetchSize) {
         this.jdbc = jdbc;
+        var streamingTemplate = new JdbcTemplate(jdbc.getJdbcTemplate().getDataSource());
+        streamingTemplate.setFetchSize(streamFetchSize);
+        this.streamingJdbc = new NamedParameterJdbcTemplate(streamingTemplate);
         this.mapper = createMapper();
     }
 
@@ -50,13 +59,26 @@ public class JdbcReceivedChargesQuery implements ReceivedChargesQuery {
         return jdbc.query(sql, params, mapper);
     }
 
+    @Override
+    public void stream(ReceivedChargesFilter filter, Consumer<ReceivedChargesItem> consumer) {
+        var sql = buildSql(filter);
+        var params = buildParams(filter);
+        streamingJdbc.query(sql, params, (RowCallbackHandler) rs -> consumer.accept(mapper.mapRow(rs, 0)));
+    }
+
     private String buildSql(ReceivedChargesFilter filter) {
         var sql = new StringBuilder(SQL_BASE);
         if (filter.statuses() != null && !filter.statuses().isEmpty()) {
             var statusParams = JdbcEnumUtils.buildParams(STATUS, filter.statuses());
             sql.append(" AND c.status IN ").append(statusParams);
         }
+        if (filter.afterId() != null) {
+            sql.append(" AND c.id > :afterId");
+        }
         sql.append(' ').append(SQL_ORDER);
+        if (filter.limit() != null) {
+            sql.append(" LIMIT :limit");
+        }
         return sql.toString();
     }
 
@@ -66,6 +88,8 @@ public class JdbcReceivedChargesQuery implements ReceivedChargesQuery {
         if (filter.statuses() != null && !filter.statuses().isEmpty()) {
             JdbcEnumUtils.addParams(params, STATUS, filter.statuses());
         }
+        params.addValue("afterId", filter.afterId());
+        params.addValue("limit", filter.limit());
         return params;
     }
 
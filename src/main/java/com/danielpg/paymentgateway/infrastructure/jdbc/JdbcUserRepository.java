@@ -1,12 +1,15 @@
 package com.danielpg.paymentgateway.infrastructure.jdbc;
 
 import com.danielpg.paymentgateway.domain.user.*;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 
@@ -20,21 +23,31 @@ public class JdbcUserRepository implements UserRepository {
 
     private static final String SQL_UPDATE = """
             UPDATE tb_user SET name = :name, cpf = :cpf, email_address = :email_address,
-            hashed_password = :hashedPassword, balance = :balance WHERE id = :id
+            hashed_password = :hashedPassword WHERE id = :id
             """;
 
-    private static final String SQL_SELECT_BASE =
-            "SELECT id, name, cpf, email_address, hashed_password, balance FROM tb_user";
+    private static final String SQL_SELECT_BASE = """
+            SELECT u.id, u.name, u.cpf, u.email_address, u.hashed_password, u.balance
+            FROM tb_user u""";
 
-    private static final String SQL_SELECT_BY_ID = SQL_SELECT_BASE + " WHERE id = :id";
-    private static final String SQL_SELECT_BY_CPF = SQL_SELECT_BASE + " WHERE cpf = :cpf";
-    private static final String SQL_SELECT_BY_EMAIL = SQL_SELECT_BASE + " WHERE email_address = :email_address";
+    // balance é o último saldo consolidado; os lançamentos após ledger_entry_id formam a cauda.
+    private static final String SQL_SELECT_BY_ID = """
+            SELECT u.id, u.name, u.cpf, u.email_address, u.hashed_password,
+            u.balance + COALESCE((SELECT SUM(e.amount) FROM tb_ledger_entry e
+                WHERE e.user_id = u.id AND e.id > u.ledger_entry_id), 0) AS balance
+            FROM tb_user u WHERE u.id = :id""";
+
+    private static final String SQL_SELECT_BY_CPF = SQL_SELECT_BASE + " WHERE u.cpf = :cpf";
+    private static final String SQL_SELECT_BY_EMAIL = SQL_SELECT_BASE + " WHERE u.email_address = :email_address";
+    private static final String SQL_SELECT_IDS_BY_CPF = "SELECT id, cpf FROM tb_user WHERE cpf IN (:cpfs)";
     private static final String EMAIL_ADDRESS = "email_address";
 
     private final NamedParameterJdbcTemplate jdbc;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public JdbcUserRepository(NamedParameterJdbcTemplate jdbc) {
+    public JdbcUserRepository(NamedParameterJdbcTemplate jdbc, ApplicationEventPublisher eventPublisher) {
         this.jdbc = jdbc;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -47,6 +60,19 @@ public class JdbcUserRepository implements UserRepository {
         return queryForOptional(SQL_SELECT_BY_ID, Map.of("id", id.value()));
     }
 
+    @Override
+    public Map<Cpf, UserId> findIdsByCpf(Collection<Cpf> cpfs) {
+        var ids = new HashMap<Cpf, UserId>();
+        if (cpfs.isEmpty()) {
+            return ids;
+        }
+        var values = cpfs.stream().map(Cpf::value).distinct().toList();
+        jdbc.query(SQL_SELECT_IDS_BY_CPF, Map.of("cpfs", values), rs -> {
+            ids.put(Cpf.of(rs.getString("cpf")), UserId.of(rs.getLong("id")));
+        });
+        return ids;
+    }
+
     @Override
     public User getOrThrow(UserId id) {
         return get(id).orElseThrow(() -> new UserNotFoundException(id));
@@ -74,6 +100,7 @@ public class JdbcUserRepository implements UserRepository {
             } else {
                 var params = commonParams(user).addValue("id", user.id().value());
                 jdbc.update(SQL_UPDATE, params);
+                eventPublisher.publishEvent(new UserChangedEvent(user.id()));
             }
         } catch (DuplicateKeyException e) {
             throw new UserAlreadyExistsException("Já existe um usuário com mesmo CPF ou e-mail", e);
@@ -0,0 +1,176 @@
+package com.danielpg.paymentgateway.infrastructure.jdbc;
+
+import com.danielpg.paymentgateway.application.webhook.PendingWebhook;
+import com.danielpg.paymentgateway.application.webhook.WebhookQueue;
+import com.danielpg.paymentgateway.domain.shared.TimeMillis;
+import com.danielpg.paymentgateway.domain.webhook.WebhookSubscriptionId;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+@Repository
+public class JdbcWebhookQueue implements WebhookQueue {
+
+    private static final String SQL_UPSERT = """
+            INSERT INTO tb_webhook_delivery (subscription_id, charge_id, payload, version, attempts, next_attempt_at, created_at)
+            VALUES (:subscriptionId, :chargeId, :payload, 1, 0, :now, :now)
+            ON DUPLICATE KEY UPDATE payload = :payload, version = version + 1
+            """;
+
+    private static final String SQL_SELECT_DUE_SUBSCRIPTIONS = """
+            SELECT DISTINCT subscription_id FROM tb_webhook_delivery
+            WHERE next_attempt_at <= :now
+            ORDER BY subscription_id
+            LIMIT :limit
+            """;
+
+    private static final String SQL_LOCK_DUE = """
+            SELECT id, subscription_id, charge_id, version, attempts, payload FROM tb_webhook_delivery
+            WHERE subscription_id = :subscriptionId AND next_attempt_at <= :now
+            ORDER BY id
+            LIMIT :limit
+            FOR UPDATE
+            """;
+
+    private static final String SQL_LEASE = """
+            UPDATE tb_webhook_delivery SET next_attempt_at = :leaseUntil WHERE id IN (:ids)
+            """;
+
+    private static final String SQL_DELETE_DELIVERED = """
+            DELETE FROM tb_webhook_delivery WHERE id = :id AND version = :version
+            """;
+
+    private static final String SQL_RELEASE_UPDATED = """
+            UPDATE tb_webhook_delivery SET attempts = 0, next_attempt_at = :now WHERE id IN (:ids)
+            """;
+
+    private static final String SQL_RESCHEDULE = """
+            UPDATE tb_webhook_delivery
+            SET attempts = attempts + 1, next_attempt_at = :nextAttemptAt, last_error = :error
+            WHERE id IN (:ids)
+            """;
+
+    private static final String SQL_INSERT_DEAD_LETTER = """
+            INSERT INTO tb_webhook_dead_letter (subscription_id, charge_id, payload, attempts, last_error, created_at, failed_at)
+            SELECT subscription_id, charge_id, payload, attempts + 1, :error, created_at, :now FROM tb_webhook_delivery
+            WHERE id IN (:ids)
+            """;
+
+    private static final String SQL_DELETE = """
+            DELETE FROM tb_webhook_delivery WHERE id IN (:ids)
+            """;
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    public JdbcWebhookQueue(NamedParameterJdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    /*
+     * As linhas são atualizadas em ordem de assinatura, para que transações concorrentes não
+     * entrem em deadlock.
+     */
+    @Override
+    public void enqueue(List<WebhookSubscriptionId> subscriptionIds, long chargeId, String payload, TimeMillis now) {
+        if (subscriptionIds.isEmpty()) {
+            return;
+        }
+        var batch = subscriptionIds.stream()
+                .sorted(Comparator.comparing(WebhookSubscriptionId::value))
+                .map(id -> new MapSqlParameterSource()
+                        .addValue("subscriptionId", id.value())
+                        .addValue("chargeId", chargeId)
+                        .addValue("payload", payload)
+                        .addValue("now", now.value()))
+                .toArray(MapSqlParameterSource[]::new);
+        jdbc.batchUpdate(SQL_UPSERT, batch);
+    }
+
+    @Override
+    public List<WebhookSubscriptionId> findDueSubscriptions(TimeMillis now, int limit) {
+        var params = new MapSqlParameterSource()
+                .addValue("now", now.value())
+                .addValue("limit", limit);
+        return jdbc.query(SQL_SELECT_DUE_SUBSCRIPTIONS, params,
+                (rs, rowNum) -> WebhookSubscriptionId.of(rs.getLong("subscription_id")));
+    }
+
+    @Override
+    public List<PendingWebhook> claim(WebhookSubscriptionId subscriptionId, TimeMillis now, int limit,
+                                      TimeMillis leaseUntil) {
+        var params = new MapSqlParameterSource()
+                .addValue("subscriptionId", subscriptionId.value())
+                .addValue("now", now.value())
+                .addValue("limit", limit);
+        var deliveries = jdbc.query(SQL_LOCK_DUE, params, (rs, rowNum) -> new PendingWebhook(
+                rs.getLong("id"),
+                rs.getLong("subscription_id"),
+                rs.getLong("charge_id"),
+                rs.getLong("version"),
+                rs.getInt("attempts"),
+                rs.getString("payload")
+        ));
+        if (!deliveries.isEmpty()) {
+            jdbc.update(SQL_LEASE, new MapSqlParameterSource()
+                    .addValue("ids", ids(deliveries))
+                    .addValue("leaseUntil", leaseUntil.value()));
+        }
+        return deliveries;
+    }
+
+    @Override
+    public void complete(List<PendingWebhook> deliveries, TimeMillis now) {
+        if (deliveries.isEmpty()) {
+            return;
+        }
+        var batch = deliveries.stream()
+                .map(delivery -> new MapSqlParameterSource()
+                        .addValue("id", delivery.id())
+                        .addValue("version", delivery.version()))
+                .toArray(MapSqlParameterSource[]::new);
+        var counts = jdbc.batchUpdate(SQL_DELETE_DELIVERED, batch);
+        var updated = new ArrayList<Long>();
+        for (var i = 0; i < counts.length; i++) {
+            if (counts[i] == 0) {
+                updated.add(deliveries.get(i).id());
+            }
+        }
+        if (!updated.isEmpty()) {
+            jdbc.update(SQL_RELEASE_UPDATED, new MapSqlParameterSource()
+                    .addValue("ids", updated)
+                    .addValue("now", now.value()));
+        }
+    }
+
+    @Override
+    public void reschedule(List<PendingWebhook> deliveries, TimeMillis nextAttemptAt, String error) {
+        if (deliveries.isEmpty()) {
+            return;
+        }
+        jdbc.update(SQL_RESCHEDULE, new MapSqlParameterSource()
+                .addValue("ids", ids(deliveries))
+                .addValue("nextAttemptAt", nextAttemptAt.value())
+                .addValue("error", error));
+    }
+
+    @Override
+    public void moveToDeadLetter(List<PendingWebhook> deliveries, String error, TimeMillis now) {
+        if (deliveries.isEmpty()) {
+            return;
+        }
+        var params = new MapSqlParameterSource()
+                .addValue("ids", ids(deliveries))
+                .addValue("error", error)
+                .addValue("now", now.value());
+        jdbc.update(SQL_INSERT_DEAD_LETTER, params);
+        jdbc.update(SQL_DELETE, params);
+    }
+
+    private static List<Long> ids(List<PendingWebhook> deliveries) {
+        return deliveries.stream().map(PendingWebhook::id).toList();
+    }
+}
@@ -0,0 +1,105 @@
+package com.danielpg.paymentgateway.infrastructure.jdbc;
+
+import com.danielpg.paymentgateway.domain.shared.TimeMillis;
+import com.danielpg.paymentgateway.domain.user.UserId;
+import com.danielpg.paymentgateway.domain.webhook.WebhookSubscription;
+import com.danielpg.paymentgateway.domain.webhook.WebhookSubscriptionId;
+import com.danielpg.paymentgateway.domain.webhook.WebhookSubscriptionNotFoundException;
+import com.danielpg.paymentgateway.domain.webhook.WebhookSubscriptionRepository;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@Repository
+public class JdbcWebhookSubscriptionRepository implements WebhookSubscriptionRepository {
+
+    private static final String SQL_INSERT = """
+            INSERT INTO tb_webhook_subscription (user_id, url, secret, created_at)
+            VALUES (:userId, :url, :secret, :createdAt)
+            """;
+
+    private static final String SQL_UPDATE = """
+            UPDATE tb_webhook_subscription SET user_id = :userId, url = :url, secret = :secret, created_at = :createdAt
+            WHERE id = :id
+            """;
+
+    private static final String SQL_SELECT = """
+            SELECT id, user_id, url, secret, created_at FROM tb_webhook_subscription
+            """;
+
+    private static final String SQL_SELECT_BY_ID = SQL_SELECT + "WHERE id = :id";
+
+    private static final String SQL_SELECT_BY_USER = SQL_SELECT + "WHERE user_id = :userId ORDER BY id";
+
+    private static final String SQL_DELETE = """
+            DELETE FROM tb_webhook_subscription WHERE id = :id
+            """;
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    public JdbcWebhookSubscriptionRepository(NamedParameterJdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    @Override
+    public Optional<WebhookSubscription> get(WebhookSubscriptionId id) {
+        try {
+            var params = Map.of("id", id.value());
+            return Optional.ofNullable(jdbc.queryForObject(SQL_SELECT_BY_ID, params, (rs, rowNum) -> mapSubscription(rs)));
+        } catch (EmptyResultDataAccessException e) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public WebhookSubscription getOrThrow(WebhookSubscriptionId id) {
+        return get(id).orElseThrow(() -> new WebhookSubscriptionNotFoundException(id));
+    }
+
+    @Override
+    public List<WebhookSubscription> findByUser(UserId userId) {
+        return jdbc.query(SQL_SELECT_BY_USER, Map.of("userId", userId.value()), (rs, rowNum) -> mapSubscription(rs));
+    }
+
+    @Override
+    public void save(WebhookSubscription subscription) {
+        if (subscription.id() == null) {
+            var keyHolder = new CustomKeyHolder();
+            jdbc.update(SQL_INSERT, commonParams(subscription), keyHolder);
+            subscription.finalizeCreation(WebhookSubscriptionId.of(keyHolder.asLong()));
+        } else {
+            var params = commonParams(subscription).addValue("id", subscription.id().value());
+            jdbc.update(SQL_UPDATE, params);
+        }
+    }
+
+    @Override
+    public void delete(WebhookSubscriptionId id) {
+        jdbc.update(SQL_DELETE, Map.of("id", id.value()));
+    }
+
+    private MapSqlParameterSource commonParams(WebhookSubscription subscription) {
+        return new MapSqlParameterSource()
+                .addValue("userId", subscription.userId().value())
+                .addValue("url", subscription.url())
+                .addValue("secret", subscription.secret())
+                .addValue("createdAt", subscription.createdAt().value());
+    }
+
+    private WebhookSubscription mapSubscription(ResultSet rs) throws SQLException {
+        return WebhookSubscription.builder()
+                .withId(WebhookSubscriptionId.of(rs.getLong("id")))
+                .withUserId(UserId.of(rs.getLong("user_id")))
+                .withUrl(rs.getString("url"))
+                .withSecret(rs.getString("secret"))
+                .withCreatedAt(TimeMillis.of(rs.getLong("created_at")))
+                .build();
+    }
+}
@@ -0,0 +1,6 @@
+package com.danielpg.paymentgateway.infrastructure.jdbc;
+
+import com.danielpg.paymentgateway.domain.user.UserId;
+
+public record UserChangedEvent(UserId userId) {
+}
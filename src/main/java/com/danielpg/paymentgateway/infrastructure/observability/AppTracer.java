@@ -0,0 +1,48 @@
+package com.danielpg.paymentgateway.infrastructure.observability;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+
+import java.util.function.Supplier;
+
+public class AppTracer {
+
+    private final Supplier<Tracer> tracerSupplier;
+    private volatile Tracer tracer;
+
+    public AppTracer(Supplier<Tracer> tracerSupplier) {
+        this.tracerSupplier = tracerSupplier;
+    }
+
+    public static AppTracer noop() {
+        return new AppTracer(() -> Tracer.NOOP);
+    }
+
+    public <T, E extends Throwable> T inSpan(String name, SpanCallback<T, E> callback) throws E {
+        var currentTracer = tracer();
+        var span = currentTracer.nextSpan().name(name).start();
+        try (var ignored = currentTracer.withSpan(span)) {
+            return callback.call(span);
+        } catch (Throwable e) {
+            span.error(e);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+
+    private Tracer tracer() {
+        var current = tracer;
+        if (current == null) {
+            var resolved = tracerSupplier.get();
+            current = resolved == null ? Tracer.NOOP : resolved;
+            tracer = current;
+        }
+        return current;
+    }
+
+    @FunctionalInterface
+    public interface SpanCallback<T, E extends Throwable> {
+        T call(Span span) throws E;
+    }
+}
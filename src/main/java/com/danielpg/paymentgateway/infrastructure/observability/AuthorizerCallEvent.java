@@ -0,0 +1,21 @@
+package com.danielpg.paymentgateway.infrastructure.observability;
+
+import jdk.jfr.*;
+
+@Name("com.danielpg.paymentgateway.AuthorizerCall")
+@Label("Authorizer Call")
+@Description("Consulta ao autorizador externo, incluindo espera no bulkhead e circuit breaker")
+@Category({"Payment Gateway"})
+@StackTrace(false)
+public class AuthorizerCallEvent extends Event {
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Subject Id")
+    @Description("Id da cobrança, ou do usuário nas operações de depósito")
+    public long subjectId;
+
+    @Label("Outcome")
+    public String outcome;
+}
@@ -0,0 +1,64 @@
+package com.danielpg.paymentgateway.infrastructure.observability;
+
+import com.danielpg.paymentgateway.domain.charge.CancelChargeService;
+import com.danielpg.paymentgateway.domain.charge.payment.RegisterPaymentService;
+import com.danielpg.paymentgateway.domain.deposit.CreateDepositService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.tracing.Tracer;
+import org.aopalliance.aop.Advice;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import java.util.List;
+import java.util.Set;
+
+public class InstrumentedBeanPostProcessor implements BeanPostProcessor {
+
+    public static final String USE_CASE_METRIC = "app.usecase.calls";
+    public static final String REPOSITORY_METRIC = "app.repository.calls";
+
+    private static final String APPLICATION_PACKAGE = "com.danielpg.paymentgateway.application";
+    private static final String JDBC_PACKAGE = "com.danielpg.paymentgateway.infrastructure.jdbc";
+    private static final Set<Class<?>> SETTLEMENT_SERVICES = Set.of(
+            RegisterPaymentService.class, CancelChargeService.class, CreateDepositService.class);
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final AppTracer tracer;
+
+    public InstrumentedBeanPostProcessor(ObjectProvider<MeterRegistry> meterRegistry, ObjectProvider<Tracer> tracer) {
+        this.meterRegistry = meterRegistry;
+        this.tracer = new AppTracer(tracer::getIfAvailable);
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        var type = AopUtils.getTargetClass(bean);
+        var advices = advices(type);
+        if (advices.isEmpty()) {
+            return bean;
+        }
+        var factory = new ProxyFactory(bean);
+        factory.setProxyTargetClass(true);
+        advices.forEach(factory::addAdvice);
+        return factory.getProxy(type.getClassLoader());
+    }
+
+    private List<Advice> advices(Class<?> type) {
+        var packageName = type.getPackageName();
+        var simpleName = type.getSimpleName();
+        if (packageName.startsWith(APPLICATION_PACKAGE) && simpleName.endsWith("UseCase")) {
+            return List.of(new TracingInterceptor("usecase", simpleName, tracer),
+                    new TimingInterceptor(USE_CASE_METRIC, simpleName, meterRegistry));
+        }
+        if (packageName.equals(JDBC_PACKAGE) && simpleName.startsWith("Jdbc")) {
+            return List.of(new TracingInterceptor("repository", simpleName, tracer),
+                    new TimingInterceptor(REPOSITORY_METRIC, simpleName, meterRegistry));
+        }
+        if (SETTLEMENT_SERVICES.contains(type)) {
+            return List.of(new SettlementEventInterceptor(simpleName));
+        }
+        return List.of();
+    }
+}
@@ -0,0 +1,27 @@
+package com.danielpg.paymentgateway.infrastructure.observability;
+
+import jdk.jfr.*;
+
+@Name("com.danielpg.paymentgateway.Settlement")
+@Label("Settlement Step")
+@Description("Etapa de pagamento, cancelamento de cobrança ou depósito nos serviços de domínio")
+@Category({"Payment Gateway"})
+@StackTrace(false)
+public class SettlementEvent extends Event {
+
+    @Label("Service")
+    String service;
+
+    @Label("Method")
+    String method;
+
+    @Label("Charge Id")
+    long chargeId;
+
+    @Label("User Id")
+    long userId;
+
+    @Label("Outcome")
+    @Description("success ou o nome simples da exceção")
+    String outcome;
+}
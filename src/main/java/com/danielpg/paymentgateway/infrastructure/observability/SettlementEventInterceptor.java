@@ -0,0 +1,68 @@
+package com.danielpg.paymentgateway.infrastructure.observability;
+
+import com.danielpg.paymentgateway.domain.charge.Charge;
+import com.danielpg.paymentgateway.domain.charge.payment.RegisterPaymentRequest;
+import com.danielpg.paymentgateway.domain.deposit.Deposit;
+import com.danielpg.paymentgateway.domain.deposit.DepositRequest;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+import java.lang.reflect.Modifier;
+
+class SettlementEventInterceptor implements MethodInterceptor {
+
+    private final String service;
+
+    SettlementEventInterceptor(String service) {
+        this.service = service;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        var method = invocation.getMethod();
+        if (method.getDeclaringClass() == Object.class || !Modifier.isPublic(method.getModifiers())) {
+            return invocation.proceed();
+        }
+        var event = new SettlementEvent();
+        event.begin();
+        var outcome = "success";
+        try {
+            return invocation.proceed();
+        } catch (Throwable e) {
+            outcome = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.service = service;
+                event.method = method.getName();
+                event.outcome = outcome;
+                describeSubject(event, invocation.getArguments());
+                event.commit();
+            }
+        }
+    }
+
+    private static void describeSubject(SettlementEvent event, Object[] arguments) {
+        for (var argument : arguments) {
+            switch (argument) {
+                case Charge charge -> describeCharge(event, charge);
+                case RegisterPaymentRequest request -> describeCharge(event, request.charge());
+                case Deposit deposit -> event.userId = deposit.userId().value();
+                case DepositRequest request -> event.userId = request.userId().value();
+                case null, default -> {
+                }
+            }
+        }
+    }
+
+    private static void describeCharge(SettlementEvent event, Charge charge) {
+        if (charge == null) {
+            return;
+        }
+        if (charge.id() != null) {
+            event.chargeId = charge.id().value();
+        }
+        event.userId = charge.payerId().value();
+    }
+}
@@ -0,0 +1,55 @@
+package com.danielpg.paymentgateway.infrastructure.observability;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+class TimingInterceptor implements MethodInterceptor {
+
+    private static final String NO_EXCEPTION = "none";
+
+    private final String metric;
+    private final String className;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final Map<Method, Timer> successTimers = new ConcurrentHashMap<>();
+
+    TimingInterceptor(String metric, String className, ObjectProvider<MeterRegistry> meterRegistry) {
+        this.metric = metric;
+        this.className = className;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        var method = invocation.getMethod();
+        var registry = meterRegistry.getIfAvailable();
+        if (registry == null || method.getDeclaringClass() == Object.class || !Modifier.isPublic(method.getModifiers())) {
+            return invocation.proceed();
+        }
+        var sample = Timer.start(registry);
+        try {
+            var result = invocation.proceed();
+            sample.stop(successTimers.computeIfAbsent(method, m -> timer(registry, m, NO_EXCEPTION)));
+            return result;
+        } catch (Throwable e) {
+            sample.stop(timer(registry, method, e.getClass().getSimpleName()));
+            throw e;
+        }
+    }
+
+    private Timer timer(MeterRegistry registry, Method method, String exception) {
+        return Timer.builder(metric)
+                .tag("class", className)
+                .tag("method", method.getName())
+                .tag("outcome", NO_EXCEPTION.equals(exception) ? "success" : "error")
+                .tag("exception", exception)
+                .register(registry);
+    }
+}
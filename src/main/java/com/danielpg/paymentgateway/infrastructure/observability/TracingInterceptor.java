@@ -0,0 +1,31 @@
+package com.danielpg.paymentgateway.infrastructure.observability;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+import java.lang.reflect.Modifier;
+
+class TracingInterceptor implements MethodInterceptor {
+
+    private final String component;
+    private final String className;
+    private final AppTracer tracer;
+
+    TracingInterceptor(String component, String className, AppTracer tracer) {
+        this.component = component;
+        this.className = className;
+        this.tracer = tracer;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        var method = invocation.getMethod();
+        if (method.getDeclaringClass() == Object.class || !Modifier.isPublic(method.getModifiers())) {
+            return invocation.proceed();
+        }
+        return tracer.inSpan(className + "." + method.getName(), span -> {
+            span.tag("component", component);
+            return invocation.proceed();
+        });
+    }
+}
@@ -4,6 +4,7 @@ import java.io.IOException;
 import java.util.Optional;
 
 import com.danielpg.paymentgateway.application.auth.Token;
+import com.danielpg.paymentgateway.infrastructure.observability.AppTracer;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
 import io.micrometer.common.lang.NonNull;
@@ -22,9 +23,13 @@ import jakarta.servlet.http.HttpServletResponse;
 public class JwtAuthFilter extends OncePerRequestFilter {
 
     private final JwtTokenService tokenService;
+    private final PrincipalCache principalCache;
+    private final AppTracer tracer;
 
-    public JwtAuthFilter(JwtTokenService tokenService) {
+    public JwtAuthFilter(JwtTokenService tokenService, PrincipalCache principalCache, AppTracer tracer) {
         this.tokenService = tokenService;
+        this.principalCache = principalCache;
+        this.tracer = tracer;
     }
 
     @Override
@@ -34,7 +39,10 @@ public class JwtAuthFilter extends OncePerRequestFilter {
             throws ServletException, IOException {
         try {
             if (isUnauthenticated()) {
-                processAuthentication(request);
+                tracer.inSpan("jwt.authentication", span -> {
+                    processAuthentication(request);
+                    return null;
+                });
             }
             filterChain.doFilter(request, response);
         } catch (JwtException e) {
@@ -62,7 +70,8 @@ public class JwtAuthFilter extends OncePerRequestFilter {
             throw new JwtException("Token nao fornecido.;");
         }
 
-        var token = tokenService.decode(tokenOpt.get());
+        var token = principalCache.get(tokenOpt.get())
+                .orElseGet(() -> decodeAndCache(tokenOpt.get()));
 
         if (token.isExpired()) {
             throw new ExpiredJwtException(null, null, "Token expirado.");
@@ -71,6 +80,12 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         authenticateUser(token, request);
     }
 
+    private Token decodeAndCache(String rawToken) {
+        var token = tokenService.decode(rawToken);
+        principalCache.put(token);
+        return token;
+    }
+
     private Optional<String> extractToken(HttpServletRequest request) {
         var authorizationHeader = request.getHeader("Authorization");
         return isTokenPresent(authorizationHeader)
@@ -0,0 +1,91 @@
+package com.danielpg.paymentgateway.infrastructure.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.security.Keys;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.security.Key;
+import java.util.HashMap;
+import java.util.Map;
+
+@Component
+public class JwtKeyRing {
+
+    private final String currentKeyId;
+    private final SecretKey currentKey;
+    private final Map<String, SecretKey> keys;
+    private final JwtParser parser;
+
+    public JwtKeyRing(@Value("${jwt.secret.key}") String secretKey,
+                      @Value("${jwt.secret.key-id:default}") String currentKeyId,
+                      @Value("${jwt.secret.previous-keys:}") String previousKeys) {
+        if (StringUtils.isBlank(currentKeyId)) {
+            throw new IllegalArgumentException("O identificador da chave JWT é requerido.");
+        }
+        this.currentKeyId = currentKeyId.trim();
+        this.currentKey = buildKey(secretKey);
+        this.keys = Map.copyOf(buildKeys(this.currentKeyId, currentKey, previousKeys));
+        this.parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new KeyIdResolver())
+                .build();
+    }
+
+    public String currentKeyId() {
+        return currentKeyId;
+    }
+
+    public SecretKey currentKey() {
+        return currentKey;
+    }
+
+    public JwtParser parser() {
+        return parser;
+    }
+
+    private static Map<String, SecretKey> buildKeys(String currentKeyId, SecretKey currentKey, String previousKeys) {
+        var result = new HashMap<String, SecretKey>();
+        if (StringUtils.isNotBlank(previousKeys)) {
+            for (var pair : previousKeys.split(",")) {
+                var separator = pair.indexOf(':');
+                if (separator <= 0 || separator == pair.length() - 1) {
+                    throw new IllegalArgumentException("Chave JWT anterior inválida. Use o formato kid:segredo.");
+                }
+                result.put(pair.substring(0, separator).trim(), buildKey(pair.substring(separator + 1).trim()));
+            }
+        }
+        result.put(currentKeyId, currentKey);
+        return result;
+    }
+
+    private static SecretKey buildKey(String secret) {
+        if (StringUtils.isBlank(secret)) {
+            throw new IllegalArgumentException("A chave secreta JWT é requerida.");
+        }
+        return Keys.hmacShaKeyFor(secret.getBytes());
+    }
+
+    private class KeyIdResolver extends SigningKeyResolverAdapter {
+
+        @Override
+        @SuppressWarnings("rawtypes")
+        public Key resolveSigningKey(JwsHeader header, Claims claims) {
+            var keyId = header.getKeyId();
+            if (keyId == null) {
+                return currentKey;
+            }
+            var key = keys.get(keyId);
+            if (key == null) {
+                throw new JwtException("Chave de assinatura desconhecida: " + keyId);
+            }
+            return key;
+        }
+    }
+}
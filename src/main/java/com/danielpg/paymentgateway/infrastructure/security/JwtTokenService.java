@@ -7,30 +7,28 @@ import com.danielpg.paymentgateway.domain.user.EmailAddress;
 import com.danielpg.paymentgateway.domain.user.User;
 import com.danielpg.paymentgateway.domain.user.UserRepository;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import javax.crypto.SecretKey;
 import java.util.Date;
 
 @Service
 public class JwtTokenService implements AppTokenService {
 
-    @Value("${jwt.secret.key}")
-    private String secretKey;
-
     @Value("${jwt.lifetime}")
     private Long lifetime;
 
     private final UserRepository userRepository;
     private final AppClock clock;
+    private final JwtKeyRing keyRing;
 
-    public JwtTokenService(UserRepository userRepository, AppClock appClock) {
+    public JwtTokenService(UserRepository userRepository, AppClock appClock, JwtKeyRing keyRing) {
         this.userRepository = userRepository;
         this.clock = appClock;
+        this.keyRing = keyRing;
     }
 
     @Override
@@ -47,9 +45,10 @@ public class JwtTokenService implements AppTokenService {
 
     private String buildRawToken(EmailAddress emailAddress, long expiration) {
         return Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, keyRing.currentKeyId())
                 .setSubject(emailAddress.value())
                 .setExpiration(new Date(expiration))
-                .signWith(getKey(), SignatureAlgorithm.HS512)
+                .signWith(keyRing.currentKey(), SignatureAlgorithm.HS512)
                 .compact();
     }
 
@@ -71,13 +70,7 @@ public class JwtTokenService implements AppTokenService {
     }
 
     private Claims parseClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getKey())
-                .build().parseClaimsJws(token).getBody();
-    }
-
-    private SecretKey getKey() {
-        return Keys.hmacShaKeyFor(secretKey.getBytes());
+        return keyRing.parser().parseClaimsJws(token).getBody();
     }
 
 }
@@ -0,0 +1,139 @@
+package com.danielpg.paymentgateway.infrastructure.security;
+
+import com.danielpg.paymentgateway.application.auth.Token;
+import com.danielpg.paymentgateway.domain.shared.AppClock;
+import com.danielpg.paymentgateway.domain.user.UserId;
+import com.danielpg.paymentgateway.infrastructure.jdbc.UserChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Component
+public class PrincipalCache {
+
+    private final int maxSize;
+    private final long ttl;
+    private final AppClock clock;
+    private final Map<String, Entry> entries;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public PrincipalCache(@Value("${jwt.principal-cache.max-size:10000}") int maxSize,
+                          @Value("${jwt.principal-cache.ttl:60000}") long ttl,
+                          AppClock clock) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("O tamanho máximo do cache deve ser positivo.");
+        }
+        if (ttl <= 0) {
+            throw new IllegalArgumentException("O tempo de vida do cache deve ser positivo.");
+        }
+        this.maxSize = maxSize;
+        this.ttl = ttl;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    public Optional<Token> get(String rawToken) {
+        var key = fingerprint(rawToken);
+        lock.lock();
+        try {
+            var entry = entries.get(key);
+            if (entry == null) {
+                misses.incrementAndGet();
+                return Optional.empty();
+            }
+            if (entry.isExpired(clock.now().value())) {
+                entries.remove(key);
+                evictions.incrementAndGet();
+                misses.incrementAndGet();
+                return Optional.empty();
+            }
+            hits.incrementAndGet();
+            return Optional.of(entry.token);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void put(Token token) {
+        var key = fingerprint(token.rawToken());
+        var expiresAt = Math.min(clock.now().value() + ttl, token.expiration());
+        lock.lock();
+        try {
+            entries.put(key, new Entry(token, expiresAt));
+            evictEldestIfFull();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void invalidate(UserId userId) {
+        lock.lock();
+        try {
+            var iterator = entries.values().iterator();
+            while (iterator.hasNext()) {
+                if (userId.equals(iterator.next().token.user().id())) {
+                    iterator.remove();
+                    evictions.incrementAndGet();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @EventListener
+    public void onUserChanged(UserChangedEvent event) {
+        invalidate(event.userId());
+    }
+
+    public Stats stats() {
+        lock.lock();
+        try {
+            return new Stats(hits.get(), misses.get(), evictions.get(), entries.size());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void evictEldestIfFull() {
+        var iterator = entries.values().iterator();
+        while (entries.size() > maxSize && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            evictions.incrementAndGet();
+        }
+    }
+
+    private static String fingerprint(String rawToken) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256")
+                    .digest(rawToken.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Algoritmo SHA-256 indisponível.", e);
+        }
+    }
+
+    private record Entry(Token token, long expiresAt) {
+        boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+
+    public record Stats(long hits, long misses, long evictions, int size) {
+    }
+}
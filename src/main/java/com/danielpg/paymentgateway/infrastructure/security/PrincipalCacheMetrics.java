@@ -0,0 +1,34 @@
+package com.danielpg.paymentgateway.infrastructure.security;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.function.ToDoubleFunction;
+
+public class PrincipalCacheMetrics implements MeterBinder {
+
+    private final PrincipalCache cache;
+
+    public PrincipalCacheMetrics(PrincipalCache cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        counter(registry, "hits", "Tokens encontrados no cache", PrincipalCache.Stats::hits);
+        counter(registry, "misses", "Tokens ausentes no cache", PrincipalCache.Stats::misses);
+        counter(registry, "evictions", "Entradas expiradas ou removidas por tamanho", PrincipalCache.Stats::evictions);
+        Gauge.builder("jwt.principal.cache.size", cache, c -> c.stats().size())
+                .description("Entradas no cache")
+                .register(registry);
+    }
+
+    private void counter(MeterRegistry registry, String name, String description,
+                         ToDoubleFunction<PrincipalCache.Stats> value) {
+        FunctionCounter.builder("jwt.principal.cache." + name, cache, c -> value.applyAsDouble(c.stats()))
+                .description(description)
+                .register(registry);
+    }
+}
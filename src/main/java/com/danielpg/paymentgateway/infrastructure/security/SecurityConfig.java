@@ -1,5 +1,6 @@
 package com.danielpg.paymentgateway.infrastructure.security;
 
+import jakarta.servlet.DispatcherType;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.annotation.Order;
@@ -37,7 +38,10 @@ public class SecurityConfig {
                         new AntPathRequestMatcher("/users", "POST"),
                         new AntPathRequestMatcher("/auth/login", "POST"),
                         new AntPathRequestMatcher("/swagger-ui/**"),
-                        new AntPathRequestMatcher("/v3/api-docs/**")
+                        new AntPathRequestMatcher("/v3/api-docs/**"),
+                        // Fora dos testes, o actuator só responde na porta de gerenciamento (management.server.port).
+                        new AntPathRequestMatcher("/actuator/health", "GET"),
+                        new AntPathRequestMatcher("/actuator/prometheus", "GET")
                 ))
                 .authorizeHttpRequests(auth -> auth.anyRequest().permitAll())
                 .build();
@@ -49,7 +53,10 @@ public class SecurityConfig {
         return http
                 .cors(withDefaults())
                 .csrf(AbstractHttpConfigurer::disable)
-                .authorizeHttpRequests(auth -> auth.anyRequest().authenticated())
+                // O dispatch ASYNC (respostas em streaming) só ocorre após a requisição original ter sido autorizada.
+                .authorizeHttpRequests(auth -> auth
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                        .anyRequest().authenticated())
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class)
                 .build();
@@ -1,18 +1,23 @@
 package com.danielpg.paymentgateway.infrastructure.shared;
 
 import com.danielpg.paymentgateway.application.shared.AppTransaction;
+import com.danielpg.paymentgateway.infrastructure.observability.AppTracer;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.function.Supplier;
+
 @Component
 public class SpringAppTransaction implements AppTransaction {
 
     private final PlatformTransactionManager transactionManager;
+    private final AppTracer tracer;
 
-    public SpringAppTransaction(PlatformTransactionManager transactionManager) {
+    public SpringAppTransaction(PlatformTransactionManager transactionManager, AppTracer tracer) {
         this.transactionManager = transactionManager;
+        this.tracer = tracer;
     }
 
     @Override
@@ -23,6 +28,15 @@ public class SpringAppTransaction implements AppTransaction {
     @Override
     public void execute(Runnable runnable) {
         var template = new TransactionTemplate(transactionManager);
-        template.executeWithoutResult(status -> runnable.run());
+        tracer.inSpan("transaction", span -> {
+            template.executeWithoutResult(status -> runnable.run());
+            return null;
+        });
+    }
+
+    @Override
+    public <T> T executeWithResult(Supplier<T> supplier) {
+        var template = new TransactionTemplate(transactionManager);
+        return tracer.inSpan("transaction", span -> template.execute(status -> supplier.get()));
     }
 }
@@ -0,0 +1,61 @@
+package com.danielpg.paymentgateway.infrastructure.webhook;
+
+import com.danielpg.paymentgateway.application.event.OutboxMessage;
+import com.danielpg.paymentgateway.application.event.OutboxSubscriber;
+import com.danielpg.paymentgateway.application.webhook.WebhookQueue;
+import com.danielpg.paymentgateway.domain.charge.ChargeStatusChangedEvent;
+import com.danielpg.paymentgateway.domain.shared.AppClock;
+import com.danielpg.paymentgateway.domain.user.UserId;
+import com.danielpg.paymentgateway.domain.webhook.WebhookSubscription;
+import com.danielpg.paymentgateway.domain.webhook.WebhookSubscriptionRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+
+/*
+ * Enfileira, na mesma transação do relay do outbox, uma notificação para cada webhook do emissor
+ * quando a cobrança muda de status (paga, cancelada). A criação da cobrança não é notificada.
+ */
+@Component
+public class WebhookOutboxSubscriber implements OutboxSubscriber {
+
+    private final WebhookSubscriptionRepository subscriptionRepository;
+    private final WebhookQueue queue;
+    private final ObjectMapper objectMapper;
+    private final AppClock clock;
+
+    public WebhookOutboxSubscriber(WebhookSubscriptionRepository subscriptionRepository,
+                                   WebhookQueue queue,
+                                   ObjectMapper objectMapper,
+                                   AppClock clock) {
+        this.subscriptionRepository = subscriptionRepository;
+        this.queue = queue;
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+    }
+
+    @Override
+    public boolean accepts(String eventType) {
+        return ChargeStatusChangedEvent.TYPE.equals(eventType);
+    }
+
+    @Override
+    public void onMessage(OutboxMessage message) {
+        var event = parse(message);
+        if (event.previousStatus() == null) {
+            return;
+        }
+        var subscriptionIds = subscriptionRepository.findByUser(UserId.of(event.issuerId())).stream()
+                .map(WebhookSubscription::id)
+                .toList();
+        queue.enqueue(subscriptionIds, event.chargeId(), message.payload(), clock.now());
+    }
+
+    private ChargeStatusChangedEvent parse(OutboxMessage message) {
+        try {
+            return objectMapper.readValue(message.payload(), ChargeStatusChangedEvent.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Erro ao ler o evento do outbox: id=" + message.id(), e);
+        }
+    }
+}
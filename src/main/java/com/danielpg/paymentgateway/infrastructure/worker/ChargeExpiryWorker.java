@@ -0,0 +1,44 @@
+package com.danielpg.paymentgateway.infrastructure.worker;
+
+import com.danielpg.paymentgateway.application.charge.ExpireOverdueChargesUseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ChargeExpiryWorker {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ChargeExpiryWorker.class);
+
+    private final ExpireOverdueChargesUseCase useCase;
+    private final int maxBatches;
+
+    public ChargeExpiryWorker(ExpireOverdueChargesUseCase useCase,
+                              @Value("${charges.expiry.max-batches:100}") int maxBatches) {
+        if (maxBatches <= 0) {
+            throw new IllegalArgumentException("Configuração da expiração de cobranças inválida.");
+        }
+        this.useCase = useCase;
+        this.maxBatches = maxBatches;
+    }
+
+    @Scheduled(fixedDelayString = "${charges.expiry.interval:60000}")
+    public void poll() {
+        var total = 0;
+        try {
+            var batches = 0;
+            int expired;
+            do {
+                expired = useCase.expireBatch();
+                total += expired;
+            } while (expired == useCase.batchSize() && ++batches < maxBatches);
+        } catch (RuntimeException e) {
+            LOGGER.error("Erro ao expirar cobranças vencidas", e);
+        }
+        if (total > 0) {
+            LOGGER.info("Cobranças vencidas expiradas: count={}", total);
+        }
+    }
+}
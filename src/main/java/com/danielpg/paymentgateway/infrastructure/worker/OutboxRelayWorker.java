@@ -0,0 +1,105 @@
+package com.danielpg.paymentgateway.infrastructure.worker;
+
+import com.danielpg.paymentgateway.application.event.OutboxRelay;
+import com.danielpg.paymentgateway.application.event.OutboxRepository;
+import com.danielpg.paymentgateway.domain.shared.AppClock;
+import com.danielpg.paymentgateway.domain.shared.TimeMillis;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/*
+ * O lock é um ReentrantLock, e não synchronized, porque o lote faz JDBC: em virtual thread,
+ * synchronized prenderia a thread de plataforma.
+ */
+@Component
+public class OutboxRelayWorker {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(OutboxRelayWorker.class);
+
+    private final OutboxRelay relay;
+    private final OutboxRepository repository;
+    private final AppClock clock;
+    private final long minBackoff;
+    private final long maxBackoff;
+    private final long retention;
+    private final ReentrantLock lock = new ReentrantLock();
+    private long backoff;
+    private long nextPollAt;
+
+    public OutboxRelayWorker(OutboxRelay relay,
+                             OutboxRepository repository,
+                             AppClock clock,
+                             @Value("${outbox.relay.interval:200}") long minBackoff,
+                             @Value("${outbox.relay.max-backoff:5000}") long maxBackoff,
+                             @Value("${outbox.relay.retention:86400000}") long retention) {
+        if (minBackoff <= 0 || maxBackoff < minBackoff || retention <= 0) {
+            throw new IllegalArgumentException("Configuração do relay do outbox inválida.");
+        }
+        this.relay = relay;
+        this.repository = repository;
+        this.clock = clock;
+        this.minBackoff = minBackoff;
+        this.maxBackoff = maxBackoff;
+        this.retention = retention;
+        this.backoff = minBackoff;
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.interval:200}")
+    public void poll() {
+        lock.lock();
+        try {
+            var now = clock.now().value();
+            if (now < nextPollAt) {
+                return;
+            }
+            var total = drain();
+            backoff = total > 0 ? minBackoff : Math.min(backoff * 2, maxBackoff);
+            nextPollAt = clock.now().value() + backoff;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int drain() {
+        lock.lock();
+        try {
+            var total = 0;
+            int published;
+            do {
+                try {
+                    published = relay.relayBatch();
+                } catch (RuntimeException e) {
+                    LOGGER.error("Erro ao drenar o outbox", e);
+                    break;
+                }
+                total += published;
+            } while (published == relay.batchSize());
+            return total;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.purge-interval:600000}")
+    public void purgePublished() {
+        var publishedBefore = TimeMillis.of(clock.now().value() - retention);
+        var total = 0;
+        int deleted;
+        do {
+            deleted = repository.deletePublished(publishedBefore, relay.batchSize());
+            total += deleted;
+        } while (deleted == relay.batchSize());
+        if (total > 0) {
+            LOGGER.info("Mensagens publicadas removidas do outbox: count={}", total);
+        }
+    }
+
+    public long currentBackoff() {
+        return backoff;
+    }
+}
@@ -0,0 +1,125 @@
+package com.danielpg.paymentgateway.infrastructure.worker;
+
+import com.danielpg.paymentgateway.application.charge.payment.PaymentIntentDispatcher;
+import com.danielpg.paymentgateway.application.charge.payment.ProcessPaymentIntentUseCase;
+import com.danielpg.paymentgateway.application.shared.AppTransaction;
+import com.danielpg.paymentgateway.domain.charge.payment.intent.PaymentIntentId;
+import com.danielpg.paymentgateway.domain.charge.payment.intent.PaymentIntentRepository;
+import com.danielpg.paymentgateway.domain.shared.AppClock;
+import com.danielpg.paymentgateway.domain.shared.TimeMillis;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+ * O semáforo limita quantas intenções ficam ativas ao mesmo tempo e deve ficar abaixo do bulkhead
+ * do autorizador; as demais aguardam sem ocupar threads de plataforma nem conexões.
+ */
+@Component
+public class PaymentIntentWorker implements PaymentIntentDispatcher {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PaymentIntentWorker.class);
+
+    private final ProcessPaymentIntentUseCase processUseCase;
+    private final PaymentIntentRepository repository;
+    private final AppTransaction transaction;
+    private final AppClock clock;
+    private final Semaphore permits;
+    private final long retryDelay;
+    private final long staleAfter;
+    private final int batchSize;
+    private final long shutdownTimeout;
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+    private final ExecutorService executor =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("payment-intent-", 0).factory());
+
+    public PaymentIntentWorker(ProcessPaymentIntentUseCase processUseCase,
+                               PaymentIntentRepository repository,
+                               AppTransaction transaction,
+                               AppClock clock,
+                               @Value("${payment.intent.worker.max-concurrency:16}") int maxConcurrency,
+                               @Value("${payment.intent.worker.retry-delay:30000}") long retryDelay,
+                               @Value("${payment.intent.worker.stale-after:300000}") long staleAfter,
+                               @Value("${payment.intent.worker.batch-size:100}") int batchSize,
+                               @Value("${payment.intent.worker.shutdown-timeout:10000}") long shutdownTimeout) {
+        if (maxConcurrency <= 0 || retryDelay < 0 || staleAfter <= 0 || batchSize <= 0) {
+            throw new IllegalArgumentException("Configuração do processamento de intenções inválida.");
+        }
+        this.processUseCase = processUseCase;
+        this.repository = repository;
+        this.transaction = transaction;
+        this.clock = clock;
+        this.permits = new Semaphore(maxConcurrency);
+        this.retryDelay = retryDelay;
+        this.staleAfter = staleAfter;
+        this.batchSize = batchSize;
+        this.shutdownTimeout = shutdownTimeout;
+    }
+
+    @Override
+    public void dispatch(PaymentIntentId id) {
+        submit(id, () -> processUseCase.process(id));
+    }
+
+    @Scheduled(fixedDelayString = "${payment.intent.worker.resume-interval:10000}")
+    public void resumePending() {
+        var now = clock.now();
+        var processingBefore = TimeMillis.of(now.value() - staleAfter);
+        var released = new AtomicInteger();
+        transaction.execute(() -> released.set(repository.releaseStale(processingBefore, now)));
+        if (released.get() > 0) {
+            LOGGER.warn("Intenções de pagamento presas em processamento liberadas: count={}", released.get());
+        }
+        repository.findStaleAuthorized(processingBefore, batchSize).forEach(id ->
+                submit(id, () -> processUseCase.cancelStaleAuthorization(id, processingBefore)));
+        repository.findPending(TimeMillis.of(now.value() - retryDelay), batchSize).forEach(this::dispatch);
+    }
+
+    public int activeCount() {
+        return inFlight.size();
+    }
+
+    private void submit(PaymentIntentId id, Runnable task) {
+        if (inFlight.add(id.value())) {
+            executor.execute(() -> run(id, task));
+        }
+    }
+
+    private void run(PaymentIntentId id, Runnable task) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            inFlight.remove(id.value());
+            return;
+        }
+        try {
+            task.run();
+        } catch (RuntimeException e) {
+            LOGGER.error("Erro ao processar intenção de pagamento: id={}", id.value(), e);
+        } finally {
+            permits.release();
+            inFlight.remove(id.value());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(shutdownTimeout, TimeUnit.MILLISECONDS)) {
+            LOGGER.warn("Intenções de pagamento ainda em processamento no encerramento: count={}", inFlight.size());
+            executor.shutdownNow();
+        }
+    }
+}
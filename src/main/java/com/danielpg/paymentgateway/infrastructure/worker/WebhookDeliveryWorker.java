@@ -0,0 +1,102 @@
+package com.danielpg.paymentgateway.infrastructure.worker;
+
+import com.danielpg.paymentgateway.application.webhook.WebhookDeliveryService;
+import com.danielpg.paymentgateway.application.webhook.WebhookQueue;
+import com.danielpg.paymentgateway.domain.shared.AppClock;
+import com.danielpg.paymentgateway.domain.webhook.WebhookSubscriptionId;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Uma virtual thread por destino: cada assinatura tem no máximo um envio em curso, e ela drena
+ * os lotes vencidos da assinatura até esvaziar ou o destino falhar. Um destino lento ou fora do
+ * ar só atrasa as próprias notificações. O semáforo limita quantos destinos recebem ao mesmo tempo.
+ */
+@Component
+public class WebhookDeliveryWorker {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(WebhookDeliveryWorker.class);
+
+    private final WebhookDeliveryService deliveryService;
+    private final WebhookQueue queue;
+    private final AppClock clock;
+    private final Semaphore permits;
+    private final int maxDestinations;
+    private final long shutdownTimeout;
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+    private final ExecutorService executor =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("webhook-", 0).factory());
+
+    public WebhookDeliveryWorker(WebhookDeliveryService deliveryService,
+                                 WebhookQueue queue,
+                                 AppClock clock,
+                                 @Value("${webhook.delivery.max-concurrency:32}") int maxConcurrency,
+                                 @Value("${webhook.delivery.max-destinations:1000}") int maxDestinations,
+                                 @Value("${webhook.delivery.shutdown-timeout:10000}") long shutdownTimeout) {
+        if (maxConcurrency <= 0 || maxDestinations <= 0) {
+            throw new IllegalArgumentException("Configuração da entrega de webhooks inválida.");
+        }
+        this.deliveryService = deliveryService;
+        this.queue = queue;
+        this.clock = clock;
+        this.permits = new Semaphore(maxConcurrency);
+        this.maxDestinations = maxDestinations;
+        this.shutdownTimeout = shutdownTimeout;
+    }
+
+    @Scheduled(fixedDelayString = "${webhook.delivery.interval:1000}")
+    public void poll() {
+        queue.findDueSubscriptions(clock.now(), maxDestinations).forEach(this::dispatch);
+    }
+
+    public void dispatch(WebhookSubscriptionId subscriptionId) {
+        if (inFlight.add(subscriptionId.value())) {
+            executor.execute(() -> run(subscriptionId));
+        }
+    }
+
+    public int activeCount() {
+        return inFlight.size();
+    }
+
+    private void run(WebhookSubscriptionId subscriptionId) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            inFlight.remove(subscriptionId.value());
+            return;
+        }
+        try {
+            int delivered;
+            do {
+                delivered = deliveryService.deliverNext(subscriptionId);
+            } while (delivered == deliveryService.batchSize());
+        } catch (RuntimeException e) {
+            LOGGER.error("Erro ao entregar webhooks: subscriptionId={}", subscriptionId.value(), e);
+        } finally {
+            permits.release();
+            inFlight.remove(subscriptionId.value());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(shutdownTimeout, TimeUnit.MILLISECONDS)) {
+            LOGGER.warn("Webhooks ainda em envio no encerramento: count={}", inFlight.size());
+            executor.shutdownNow();
+        }
+    }
+}
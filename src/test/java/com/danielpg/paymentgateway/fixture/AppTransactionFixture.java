@@ -3,6 +3,8 @@ package com.danielpg.paymentgateway.fixture;
 import com.danielpg.paymentgateway.application.shared.AppTransaction;
 import org.mockito.stubbing.Stubber;
 
+import java.util.function.Supplier;
+
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.Mockito.*;
@@ -17,10 +19,22 @@ public class AppTransactionFixture {
         doAnswer(invocationOnMock -> {
             when(transaction.inTransaction()).thenReturn(true);
             Runnable runnable = invocationOnMock.getArgument(0);
-            runnable.run();
-            when(transaction.inTransaction()).thenReturn(false);
+            try {
+                runnable.run();
+            } finally {
+                when(transaction.inTransaction()).thenReturn(false);
+            }
             return null;
         }).when(transaction).execute(any());
+        doAnswer(invocationOnMock -> {
+            when(transaction.inTransaction()).thenReturn(true);
+            Supplier<?> supplier = invocationOnMock.getArgument(0);
+            try {
+                return supplier.get();
+            } finally {
+                when(transaction.inTransaction()).thenReturn(false);
+            }
+        }).when(transaction).executeWithResult(any());
         return transaction;
     }
 
@@ -30,4 +44,11 @@ public class AppTransactionFixture {
             return null;
         });
     }
+
+    public static Stubber assertThatOutsideTransaction(AppTransaction transaction) {
+        return doAnswer(invocationOnMock -> {
+            assertThat(transaction.inTransaction(), is(false));
+            return null;
+        });
+    }
 }
@@ -0,0 +1,33 @@
+package com.danielpg.paymentgateway.fixture;
+
+import com.danielpg.paymentgateway.domain.ledger.LedgerEntry;
+import com.danielpg.paymentgateway.domain.ledger.LedgerEntryId;
+import com.danielpg.paymentgateway.domain.ledger.LedgerEntryType;
+import com.danielpg.paymentgateway.domain.shared.PositiveMoney;
+import com.danielpg.paymentgateway.domain.shared.TimeMillis;
+import com.danielpg.paymentgateway.domain.user.UserId;
+
+import java.math.BigDecimal;
+
+public class LedgerEntryFixture {
+
+    public static final LedgerEntryId LEDGER_ENTRY_ID = LedgerEntryId.of(1L);
+    public static final UserId USER_ID = UserId.of(1L);
+    public static final LedgerEntryType TYPE = LedgerEntryType.DEPOSIT;
+    public static final PositiveMoney AMOUNT = PositiveMoney.of(BigDecimal.TEN);
+    public static final Long REFERENCE_ID = 1L;
+    public static final TimeMillis CREATED_AT = TimeMillis.of(0L);
+
+    private LedgerEntryFixture() {
+    }
+
+    public static LedgerEntry.Builder builder() {
+        return LedgerEntry.builder()
+                .withId(LEDGER_ENTRY_ID)
+                .withUserId(USER_ID)
+                .withType(TYPE)
+                .withAmount(AMOUNT)
+                .withReferenceId(REFERENCE_ID)
+                .withCreatedAt(CREATED_AT);
+    }
+}
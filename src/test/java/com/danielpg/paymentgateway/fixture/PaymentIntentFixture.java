@@ -0,0 +1,30 @@
+package com.danielpg.paymentgateway.fixture;
+
+import com.danielpg.paymentgateway.domain.charge.payment.PaymentMethod;
+import com.danielpg.paymentgateway.domain.charge.payment.intent.PaymentIntent;
+import com.danielpg.paymentgateway.domain.charge.payment.intent.PaymentIntentId;
+import com.danielpg.paymentgateway.domain.charge.payment.intent.PaymentIntentStatus;
+import com.danielpg.paymentgateway.domain.shared.TimeMillis;
+
+import static com.danielpg.paymentgateway.fixture.ChargeFixture.CHARGE_ID;
+import static com.danielpg.paymentgateway.fixture.ChargeFixture.PAYER_ID;
+
+public class PaymentIntentFixture {
+
+    public static final PaymentIntentId INTENT_ID = PaymentIntentId.of(369L);
+    public static final TimeMillis CREATED_AT = TimeMillis.of(1700007200L);
+
+    private PaymentIntentFixture() {
+    }
+
+    public static PaymentIntent.Builder builder() {
+        return PaymentIntent.builder()
+                .withId(INTENT_ID)
+                .withChargeId(CHARGE_ID)
+                .withPayerId(PAYER_ID)
+                .withMethod(PaymentMethod.CREDIT_CARD)
+                .withCreditCard(CreditCardFixture.builder().build())
+                .withStatus(PaymentIntentStatus.PENDING)
+                .withCreatedAt(CREATED_AT);
+    }
+}
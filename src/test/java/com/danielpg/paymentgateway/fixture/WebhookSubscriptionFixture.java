@@ -0,0 +1,27 @@
+package com.danielpg.paymentgateway.fixture;
+
+import com.danielpg.paymentgateway.domain.shared.TimeMillis;
+import com.danielpg.paymentgateway.domain.user.UserId;
+import com.danielpg.paymentgateway.domain.webhook.WebhookSubscription;
+import com.danielpg.paymentgateway.domain.webhook.WebhookSubscriptionId;
+
+public class WebhookSubscriptionFixture {
+
+    public static final WebhookSubscriptionId SUBSCRIPTION_ID = WebhookSubscriptionId.of(1L);
+    public static final UserId USER_ID = UserId.of(1L);
+    public static final String URL = "https://loja.com/webhooks";
+    public static final String SECRET = "segredo";
+    public static final TimeMillis CREATED_AT = TimeMillis.of(1L);
+
+    private WebhookSubscriptionFixture() {
+    }
+
+    public static WebhookSubscription.Builder builder() {
+        return WebhookSubscription.builder()
+                .withId(SUBSCRIPTION_ID)
+                .withUserId(USER_ID)
+                .withUrl(URL)
+                .withSecret(SECRET)
+                .withCreatedAt(CREATED_AT);
+    }
+}
@@ -3,12 +3,15 @@ package com.danielpg.paymentgateway.it.infrastructure.controller.charge;
 import com.danielpg.paymentgateway.domain.charge.ChargeId;
 import com.danielpg.paymentgateway.domain.charge.ChargeRepository;
 import com.danielpg.paymentgateway.domain.charge.ChargeStatus;
+import com.danielpg.paymentgateway.infrastructure.idempotency.IdempotencyHandler;
 import com.danielpg.paymentgateway.it.infrastructure.controller.ControllerTestBase;
 import org.json.JSONObject;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.UUID;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
@@ -66,6 +69,36 @@ public class CreateChargeControllerTest extends ControllerTestBase {
         assertThat(charge.status(), is(ChargeStatus.PENDING));
     }
 
+    @Test
+    void createsChargeOnlyOnceWhenIdempotencyKeyIsRepeated() throws Exception {
+        var requestBody = REQUEST_BODY.formatted(VALID_PAYER_CPF, AMOUNT, DESCRIPTION);
+        var key = UUID.randomUUID().toString();
+
+        var ids = new ArrayList<Long>();
+        for (var i = 0; i < 2; i++) {
+            var response = mockMvc.perform(post(ENDPOINT)
+                            .header(AUTHORIZATION, userToken())
+                            .header(IdempotencyHandler.HEADER, key)
+                            .content(requestBody).contentType(APPLICATION_JSON))
+                    .andExpect(status().isCreated())
+                    .andReturn().getResponse().getContentAsString();
+            ids.add(new JSONObject(response).getLong("id"));
+        }
+
+        assertThat(ids.get(1), is(ids.get(0)));
+        assertThat(chargeRepository.get(ChargeId.of(ids.get(0) + 1)).isPresent(), is(false));
+    }
+
+    @Test
+    void returnsBadRequestWhenIdempotencyKeyIsTooLong() throws Exception {
+        mockMvc.perform(post(ENDPOINT)
+                        .header(AUTHORIZATION, userToken())
+                        .header(IdempotencyHandler.HEADER, "k".repeat(IdempotencyHandler.KEY_MAX_LENGTH + 1))
+                        .content(REQUEST_BODY.formatted(VALID_PAYER_CPF, AMOUNT, DESCRIPTION))
+                        .contentType(APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void returnsUnauthorizedWhenUserIsUnauthenticated() throws Exception {
         var requestBody = REQUEST_BODY.formatted(VALID_PAYER_CPF, AMOUNT, DESCRIPTION);
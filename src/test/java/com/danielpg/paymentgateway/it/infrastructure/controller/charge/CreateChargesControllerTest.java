@@ -0,0 +1,124 @@
+package com.danielpg.paymentgateway.it.infrastructure.controller.charge;
+
+import com.danielpg.paymentgateway.domain.charge.ChargeId;
+import com.danielpg.paymentgateway.domain.charge.ChargeRepository;
+import com.danielpg.paymentgateway.domain.charge.ChargeStatus;
+import com.danielpg.paymentgateway.domain.user.UserId;
+import com.danielpg.paymentgateway.it.infrastructure.controller.ControllerTestBase;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.StringJoiner;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+class CreateChargesControllerTest extends ControllerTestBase {
+
+    private static final String ENDPOINT = "/charges/bulk";
+    private static final String ITEM = """
+            {"payerCpf": "%s", "amount": %s, "description": "Mensalidade"}
+            """;
+
+    private static final String VALID_PAYER_CPF = "32132132178";
+    private static final String NON_EXISTENT_PAYER_CPF = "00000099970";
+    private static final String INVALID_PAYER_CPF = "456";
+
+    @Autowired
+    private ChargeRepository chargeRepository;
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbc;
+
+    @Test
+    void createsValidChargesAndReportsInvalidItems() throws Exception {
+        var outboxBefore = count("tb_outbox");
+        var body = body(
+                ITEM.formatted(VALID_PAYER_CPF, "10.00"),
+                ITEM.formatted(NON_EXISTENT_PAYER_CPF, "10.00"),
+                ITEM.formatted(VALID_PAYER_CPF, "-1.00"),
+                ITEM.formatted(VALID_PAYER_CPF, "20.00"),
+                ITEM.formatted(INVALID_PAYER_CPF, "10.00"));
+
+        var response = new JSONObject(mockMvc.perform(post(ENDPOINT)
+                        .header(AUTHORIZATION, userToken())
+                        .content(body).contentType(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8));
+
+        var created = response.getJSONArray("created");
+        assertThat(created.length(), is(2));
+        assertThat(created.getJSONObject(0).getInt("index"), is(0));
+        assertThat(created.getJSONObject(1).getInt("index"), is(3));
+        var charge = chargeRepository.get(ChargeId.of(created.getJSONObject(1).getLong("id"))).orElseThrow();
+        assertThat(charge.issuerId(), is(CURRENT_USER.id()));
+        assertThat(charge.payerId(), is(UserId.of(2L)));
+        assertThat(charge.amount().value(), comparesEqualTo(new BigDecimal("20.00")));
+        assertThat(charge.status(), is(ChargeStatus.PENDING));
+
+        var errors = response.getJSONArray("errors");
+        assertThat(errors.length(), is(3));
+        assertThat(errors.getJSONObject(0).getInt("index"), is(1));
+        assertThat(errors.getJSONObject(0).getString("message"), is("Usuário com CPF 00*******70 não encontrado."));
+        assertThat(errors.getJSONObject(1).getInt("index"), is(2));
+        assertThat(errors.getJSONObject(2).getInt("index"), is(4));
+        assertThat(count("tb_outbox"), is(outboxBefore + 2));
+    }
+
+    @Test
+    void createsThousandsOfChargesInOneRequest() throws Exception {
+        var items = new String[2000];
+        for (var i = 0; i < items.length; i++) {
+            items[i] = ITEM.formatted(VALID_PAYER_CPF, "1.00");
+        }
+
+        var response = new JSONObject(mockMvc.perform(post(ENDPOINT)
+                        .header(AUTHORIZATION, userToken())
+                        .content(body(items)).contentType(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8));
+
+        assertThat(response.getJSONArray("created").length(), is(2000));
+        assertThat(response.getJSONArray("errors").length(), is(0));
+        var summary = jdbc.queryForObject("""
+                SELECT charge_count FROM tb_charge_summary WHERE user_id = 1 AND side = 'ISSUED' AND status = 'PENDING'
+                """, Map.of(), Long.class);
+        assertThat(summary, is(2001L));
+    }
+
+    @Test
+    void returnsBadRequestWhenBatchIsEmpty() throws Exception {
+        mockMvc.perform(post(ENDPOINT)
+                        .header(AUTHORIZATION, userToken())
+                        .content(body()).contentType(APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void returnsUnauthorizedWhenUserIsUnauthenticated() throws Exception {
+        mockMvc.perform(post(ENDPOINT)
+                        .content(body(ITEM.formatted(VALID_PAYER_CPF, "10.00"))).contentType(APPLICATION_JSON))
+                .andExpect(status().isUnauthorized());
+    }
+
+    private static String body(String... items) {
+        var joiner = new StringJoiner(",", "{\"charges\": [", "]}");
+        for (var item : items) {
+            joiner.add(item);
+        }
+        return joiner.toString();
+    }
+
+    private int count(String table) {
+        return jdbc.queryForObject("SELECT COUNT(*) FROM " + table, Map.of(), Integer.class);
+    }
+}
@@ -4,10 +4,17 @@ import com.danielpg.paymentgateway.ResourceLoader;
 import com.danielpg.paymentgateway.it.infrastructure.controller.ControllerTestBase;
 import org.junit.jupiter.api.Test;
 import org.skyscreamer.jsonassert.JSONAssert;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
 
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 class FindIssuedChargesControllerTest extends ControllerTestBase {
@@ -20,6 +27,9 @@ class FindIssuedChargesControllerTest extends ControllerTestBase {
     private static final String EXPECTED_PAID_CANCELED_RESPONSE =
             ResourceLoader.load("/api/charges-issued-expected-paid-canceled-charges-response.json");
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @Test
     void findsAllChargesWhenNoStatusesProvided() throws Exception {
         var responseContent = mockMvc.perform(get(ENDPOINT)
@@ -43,6 +53,32 @@ class FindIssuedChargesControllerTest extends ControllerTestBase {
         JSONAssert.assertEquals(EXPECTED_PAID_CANCELED_RESPONSE, responseContent, true);
     }
 
+    @Test
+    void findsExpiredChargesOnly() throws Exception {
+        expireCharge(1);
+
+        mockMvc.perform(get(ENDPOINT)
+                        .header(HttpHeaders.AUTHORIZATION, userToken())
+                        .param("statuses", "EXPIRED")
+                        .contentType(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.expireds[*].chargeId", contains(1)))
+                .andExpect(jsonPath("$.pendings", empty()));
+    }
+
+    @Test
+    void returnsExpiredChargesCountedInPage() throws Exception {
+        expireCharge(1);
+
+        mockMvc.perform(get(ENDPOINT)
+                        .header(HttpHeaders.AUTHORIZATION, userToken())
+                        .param("limit", "2")
+                        .contentType(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.expireds[*].chargeId", contains(1)))
+                .andExpect(jsonPath("$.nextCursor").value(2));
+    }
+
     @Test
     void returnsUnauthorizedWhenUserIsUnauthenticated() throws Exception {
         mockMvc.perform(get(ENDPOINT)
@@ -58,4 +94,40 @@ class FindIssuedChargesControllerTest extends ControllerTestBase {
                         .contentType(APPLICATION_JSON))
                 .andExpect(status().isBadRequest());
     }
+
+    @Test
+    void returnsNextCursorWhenPageIsFull() throws Exception {
+        mockMvc.perform(get(ENDPOINT)
+                        .header(HttpHeaders.AUTHORIZATION, userToken())
+                        .param("limit", "2")
+                        .contentType(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nextCursor").value(2));
+    }
+
+    @Test
+    void returnsBadRequestWhenLimitIsOutOfRange() throws Exception {
+        mockMvc.perform(get(ENDPOINT)
+                        .header(HttpHeaders.AUTHORIZATION, userToken())
+                        .param("limit", "1001")
+                        .contentType(APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void streamsAllChargesAsJsonArray() throws Exception {
+        var result = mockMvc.perform(get(ENDPOINT)
+                        .header(HttpHeaders.AUTHORIZATION, userToken())
+                        .param("stream", "true"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].chargeId", contains(1, 2, 5, 7)));
+    }
+
+    private void expireCharge(long chargeId) {
+        jdbcTemplate.update("UPDATE tb_charge SET status = 'EXPIRED' WHERE id = ?", chargeId);
+    }
 }
@@ -0,0 +1,71 @@
+package com.danielpg.paymentgateway.it.infrastructure.controller.charge;
+
+import com.danielpg.paymentgateway.ResourceLoader;
+import com.danielpg.paymentgateway.it.infrastructure.controller.ControllerTestBase;
+import org.junit.jupiter.api.Test;
+import org.skyscreamer.jsonassert.JSONAssert;
+import org.springframework.http.HttpHeaders;
+
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class GetChargeSummaryControllerTest extends ControllerTestBase {
+
+    private static final String ENDPOINT = "/charges/summary";
+
+    private static final String EXPECTED_RESPONSE =
+            ResourceLoader.load("/api/charges-summary-expected-response.json");
+
+    @Test
+    void returnsSummaryOfIssuedAndReceivedCharges() throws Exception {
+        var responseContent = mockMvc.perform(get(ENDPOINT)
+                        .header(HttpHeaders.AUTHORIZATION, userToken()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        JSONAssert.assertEquals(EXPECTED_RESPONSE, responseContent, true);
+    }
+
+    @Test
+    void reflectsCreatedCharge() throws Exception {
+        mockMvc.perform(post("/charges")
+                        .header(HttpHeaders.AUTHORIZATION, userToken())
+                        .content("""
+                                {"payerCpf": "32132132178", "amount": 150.01, "description": "Nova cobrança"}
+                                """)
+                        .contentType(APPLICATION_JSON))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get(ENDPOINT)
+                        .header(HttpHeaders.AUTHORIZATION, userToken()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.issued[0].status").value("PENDING"))
+                .andExpect(jsonPath("$.issued[0].count").value(2))
+                .andExpect(jsonPath("$.issued[0].total").value(300.01));
+    }
+
+    @Test
+    void reflectsCanceledCharge() throws Exception {
+        mockMvc.perform(patch("/charges/1/cancel")
+                        .header(HttpHeaders.AUTHORIZATION, userToken()))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get(ENDPOINT)
+                        .header(HttpHeaders.AUTHORIZATION, userToken()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.issued[0].count").value(0))
+                .andExpect(jsonPath("$.issued[2].status").value("CANCELED"))
+                .andExpect(jsonPath("$.issued[2].count").value(2))
+                .andExpect(jsonPath("$.issued[2].total").value(450.00));
+    }
+
+    @Test
+    void returnsUnauthorizedWhenUserIsUnauthenticated() throws Exception {
+        mockMvc.perform(get(ENDPOINT))
+                .andExpect(status().isUnauthorized());
+    }
+}
@@ -0,0 +1,126 @@
+package com.danielpg.paymentgateway.it.infrastructure.controller.charge.payment;
+
+import com.danielpg.paymentgateway.domain.charge.ChargeId;
+import com.danielpg.paymentgateway.domain.charge.ChargeRepository;
+import com.danielpg.paymentgateway.domain.charge.ChargeStatus;
+import com.danielpg.paymentgateway.domain.charge.payment.PaymentAuthorizer;
+import com.danielpg.paymentgateway.domain.charge.payment.PaymentNotAuthorizedException;
+import com.danielpg.paymentgateway.it.infrastructure.controller.ControllerTestBase;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+class PaymentIntentControllerTest extends ControllerTestBase {
+
+    private static final String ENDPOINT = "/payments/intents";
+    private static final long CHARGE_ID_SUCCESS = 4L;
+    private static final long CHARGE_ID_FORBIDDEN = 1L;
+    private static final long CHARGE_ID_PAID = 8L;
+    private static final long TIMEOUT_MILLIS = 5000L;
+
+    private static final String REQUEST_WITH_CARD = """
+            {
+                "chargeId": %d,
+                "method": "CREDIT_CARD",
+                "creditCard": {
+                    "number": "4111111111111111",
+                    "expirationDate": "12/30",
+                    "cvv": "123"
+                }
+            }
+            """;
+
+    @Autowired
+    private ChargeRepository chargeRepository;
+
+    @MockBean
+    private PaymentAuthorizer paymentAuthorizer;
+
+    @Test
+    void acceptsIntentAndSettlesPaymentInBackground() throws Exception {
+        var result = mockMvc.perform(post(ENDPOINT)
+                        .header(AUTHORIZATION, userToken())
+                        .content(REQUEST_WITH_CARD.formatted(CHARGE_ID_SUCCESS)).contentType(APPLICATION_JSON))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", startsWith(ENDPOINT + "/")))
+                .andExpect(jsonPath("$.status").value("PENDING"))
+                .andReturn();
+        var intentId = new JSONObject(result.getResponse().getContentAsString(StandardCharsets.UTF_8)).getLong("id");
+
+        var intent = awaitFinished(intentId);
+
+        assertThat(intent.getString("status"), is("SUCCEEDED"));
+        assertThat(intent.isNull("paymentId"), is(false));
+        assertThat(chargeRepository.getOrThrow(ChargeId.of(CHARGE_ID_SUCCESS)).status(), is(ChargeStatus.PAID));
+    }
+
+    @Test
+    void reportsFailureWhenAuthorizerDenies() throws Exception {
+        doThrow(new PaymentNotAuthorizedException("Pagamento não autorizado."))
+                .when(paymentAuthorizer).authorizePayment(any(), any());
+
+        var result = mockMvc.perform(post(ENDPOINT)
+                        .header(AUTHORIZATION, userToken())
+                        .content(REQUEST_WITH_CARD.formatted(CHARGE_ID_SUCCESS)).contentType(APPLICATION_JSON))
+                .andExpect(status().isAccepted())
+                .andReturn();
+        var intentId = new JSONObject(result.getResponse().getContentAsString(StandardCharsets.UTF_8)).getLong("id");
+
+        var intent = awaitFinished(intentId);
+
+        assertThat(intent.getString("status"), is("FAILED"));
+        assertThat(intent.getString("failureReason"), is("Pagamento não autorizado."));
+        assertThat(chargeRepository.getOrThrow(ChargeId.of(CHARGE_ID_SUCCESS)).status(), is(ChargeStatus.PENDING));
+    }
+
+    @Test
+    void rejectsSynchronouslyWhenChargeIsPaid() throws Exception {
+        mockMvc.perform(post(ENDPOINT)
+                        .header(AUTHORIZATION, userToken())
+                        .content(REQUEST_WITH_CARD.formatted(CHARGE_ID_PAID)).contentType(APPLICATION_JSON))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    void returnsForbiddenWhenUserIsNotPayer() throws Exception {
+        mockMvc.perform(post(ENDPOINT)
+                        .header(AUTHORIZATION, userToken())
+                        .content(REQUEST_WITH_CARD.formatted(CHARGE_ID_FORBIDDEN)).contentType(APPLICATION_JSON))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void returnsNotFoundForUnknownIntent() throws Exception {
+        mockMvc.perform(get(ENDPOINT + "/999").header(AUTHORIZATION, userToken()))
+                .andExpect(status().isNotFound());
+    }
+
+    private JSONObject awaitFinished(long intentId) throws Exception {
+        var deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (true) {
+            var body = mockMvc.perform(get(ENDPOINT + "/" + intentId).header(AUTHORIZATION, userToken()))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+            var intent = new JSONObject(body);
+            var status = intent.getString("status");
+            if (status.equals("SUCCEEDED") || status.equals("FAILED") || System.currentTimeMillis() > deadline) {
+                return intent;
+            }
+            Thread.sleep(20);
+        }
+    }
+}
@@ -157,4 +157,18 @@ public class RegisterPaymentControllerTest extends ControllerTestBase {
                 .andExpect(status().isConflict());
     }
 
+    @Test
+    void returnsServiceUnavailableWhenAuthorizerIsUnavailable() throws Exception {
+        var requestBody = REQUEST_WITH_CARD.formatted(
+                CHARGE_ID_SUCCESS, CARD_NUMBER, CARD_EXPIRATION, CARD_CVV);
+
+        doThrow(new AuthorizerUnavailableException("Autorizador temporariamente indisponível."))
+                .when(paymentAuthorizer).authorizePayment(any(), any());
+
+        mockMvc.perform(post(ENDPOINT)
+                        .header(AUTHORIZATION, userToken())
+                        .content(requestBody).contentType(APPLICATION_JSON))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.message").value("Autorizador temporariamente indisponível."));
+    }
 }
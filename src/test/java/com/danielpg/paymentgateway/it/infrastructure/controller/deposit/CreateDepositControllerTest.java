@@ -6,25 +6,32 @@ import com.danielpg.paymentgateway.domain.deposit.DepositId;
 import com.danielpg.paymentgateway.domain.deposit.DepositRepository;
 import com.danielpg.paymentgateway.domain.user.UserId;
 import com.danielpg.paymentgateway.domain.user.UserRepository;
+import com.danielpg.paymentgateway.infrastructure.idempotency.IdempotencyHandler;
 import com.danielpg.paymentgateway.it.infrastructure.controller.ControllerTestBase;
 import org.json.JSONObject;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.NullSource;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.skyscreamer.jsonassert.JSONAssert;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.ResultActions;
 
 import java.math.BigDecimal;
+import java.util.UUID;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.comparesEqualTo;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.springframework.http.HttpHeaders.AUTHORIZATION;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 class CreateDepositControllerTest extends ControllerTestBase {
@@ -107,6 +114,54 @@ class CreateDepositControllerTest extends ControllerTestBase {
         assertThat(userBalance(CURRENT_USER.id()), comparesEqualTo(initialBalance));
     }
 
+    @Test
+    void replaysResponseWhenIdempotencyKeyIsRepeated() throws Exception {
+        var initialBalance = userBalance(CURRENT_USER.id());
+        var key = UUID.randomUUID().toString();
+
+        var first = postDeposit(key, VALID_AMOUNT)
+                .andExpect(status().isCreated())
+                .andExpect(header().doesNotExist(IdempotencyHandler.REPLAYED_HEADER))
+                .andReturn().getResponse().getContentAsString();
+        var second = postDeposit(key, VALID_AMOUNT)
+                .andExpect(status().isCreated())
+                .andExpect(header().string(IdempotencyHandler.REPLAYED_HEADER, "true"))
+                .andReturn().getResponse().getContentAsString();
+
+        JSONAssert.assertEquals(first, second, true);
+        verify(paymentAuthorizer, times(1)).authorizeDeposit(any());
+        assertThat(userBalance(CURRENT_USER.id()), comparesEqualTo(initialBalance.add(VALID_AMOUNT)));
+    }
+
+    @Test
+    void returnsConflictWhenIdempotencyKeyIsReusedWithAnotherRequest() throws Exception {
+        var key = UUID.randomUUID().toString();
+        postDeposit(key, VALID_AMOUNT).andExpect(status().isCreated());
+
+        postDeposit(key, BigDecimal.ONE).andExpect(status().isConflict());
+
+        verify(paymentAuthorizer, times(1)).authorizeDeposit(any());
+    }
+
+    @Test
+    void executesAgainWhenFirstRequestWithIdempotencyKeyFailed() throws Exception {
+        var key = UUID.randomUUID().toString();
+        doThrow(PaymentNotAuthorizedException.class).doNothing().when(paymentAuthorizer).authorizeDeposit(any());
+
+        postDeposit(key, VALID_AMOUNT).andExpect(status().isConflict());
+        postDeposit(key, VALID_AMOUNT).andExpect(status().isCreated());
+
+        verify(paymentAuthorizer, times(2)).authorizeDeposit(any());
+    }
+
+    private ResultActions postDeposit(String idempotencyKey, BigDecimal amount) throws Exception {
+        return mockMvc.perform(post(ENDPOINT)
+                .header(AUTHORIZATION, userToken())
+                .header(IdempotencyHandler.HEADER, idempotencyKey)
+                .content("{\"amount\": " + amount + "}")
+                .contentType(APPLICATION_JSON));
+    }
+
     private BigDecimal userBalance(UserId userId) {
         return userRepository.get(userId)
                 .map(u -> u.balance().value())
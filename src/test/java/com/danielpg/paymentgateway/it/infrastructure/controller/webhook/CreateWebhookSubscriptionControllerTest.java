@@ -0,0 +1,63 @@
+package com.danielpg.paymentgateway.it.infrastructure.controller.webhook;
+
+import com.danielpg.paymentgateway.domain.webhook.WebhookSubscriptionId;
+import com.danielpg.paymentgateway.domain.webhook.WebhookSubscriptionRepository;
+import com.danielpg.paymentgateway.it.infrastructure.controller.ControllerTestBase;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class CreateWebhookSubscriptionControllerTest extends ControllerTestBase {
+
+    private static final String ENDPOINT = "/webhooks";
+
+    @Autowired
+    private WebhookSubscriptionRepository subscriptionRepository;
+
+    @Test
+    void createsSubscriptionForAuthenticatedUser() throws Exception {
+        mockMvc.perform(post(ENDPOINT)
+                        .header(HttpHeaders.AUTHORIZATION, userToken())
+                        .content("""
+                                {"url": "https://loja.com/webhooks"}
+                                """)
+                        .contentType(APPLICATION_JSON))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").value(1))
+                .andExpect(jsonPath("$.url").value("https://loja.com/webhooks"))
+                .andExpect(jsonPath("$.secret").value(matchesPattern("[0-9a-f]{64}")))
+                .andExpect(jsonPath("$.createdAt").value(0));
+
+        var subscription = subscriptionRepository.getOrThrow(WebhookSubscriptionId.of(1L));
+        assertThat(subscription.userId(), is(CURRENT_USER.id()));
+    }
+
+    @Test
+    void returnsBadRequestWhenUrlIsInvalid() throws Exception {
+        mockMvc.perform(post(ENDPOINT)
+                        .header(HttpHeaders.AUTHORIZATION, userToken())
+                        .content("""
+                                {"url": "ftp://loja.com/webhooks"}
+                                """)
+                        .contentType(APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void returnsUnauthorizedWhenUserIsUnauthenticated() throws Exception {
+        mockMvc.perform(post(ENDPOINT)
+                        .content("""
+                                {"url": "https://loja.com/webhooks"}
+                                """)
+                        .contentType(APPLICATION_JSON))
+                .andExpect(status().isUnauthorized());
+    }
+}
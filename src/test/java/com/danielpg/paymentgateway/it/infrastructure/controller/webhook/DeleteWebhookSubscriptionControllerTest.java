@@ -0,0 +1,64 @@
+package com.danielpg.paymentgateway.it.infrastructure.controller.webhook;
+
+import com.danielpg.paymentgateway.domain.shared.TimeMillis;
+import com.danielpg.paymentgateway.domain.user.UserId;
+import com.danielpg.paymentgateway.domain.webhook.WebhookSubscription;
+import com.danielpg.paymentgateway.domain.webhook.WebhookSubscriptionId;
+import com.danielpg.paymentgateway.domain.webhook.WebhookSubscriptionRepository;
+import com.danielpg.paymentgateway.it.infrastructure.controller.ControllerTestBase;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class DeleteWebhookSubscriptionControllerTest extends ControllerTestBase {
+
+    private static final String ENDPOINT_TEMPLATE = "/webhooks/%d";
+
+    @Autowired
+    private WebhookSubscriptionRepository subscriptionRepository;
+
+    @Test
+    void deletesSubscriptionOfAuthenticatedUser() throws Exception {
+        var id = save(1L);
+
+        mockMvc.perform(delete(ENDPOINT_TEMPLATE.formatted(id.value()))
+                        .header(HttpHeaders.AUTHORIZATION, userToken()))
+                .andExpect(status().isNoContent());
+
+        assertThat(subscriptionRepository.get(id).isEmpty(), is(true));
+    }
+
+    @Test
+    void returnsForbiddenWhenSubscriptionBelongsToAnotherUser() throws Exception {
+        var id = save(2L);
+
+        mockMvc.perform(delete(ENDPOINT_TEMPLATE.formatted(id.value()))
+                        .header(HttpHeaders.AUTHORIZATION, userToken()))
+                .andExpect(status().isForbidden());
+
+        assertThat(subscriptionRepository.get(id).isPresent(), is(true));
+    }
+
+    @Test
+    void returnsNotFoundWhenSubscriptionDoesNotExist() throws Exception {
+        mockMvc.perform(delete(ENDPOINT_TEMPLATE.formatted(999L))
+                        .header(HttpHeaders.AUTHORIZATION, userToken()))
+                .andExpect(status().isNotFound());
+    }
+
+    private WebhookSubscriptionId save(long userId) {
+        var subscription = WebhookSubscription.builder()
+                .withUserId(UserId.of(userId))
+                .withUrl("https://loja.com/webhooks")
+                .withSecret("segredo")
+                .withCreatedAt(TimeMillis.of(0L))
+                .build();
+        subscriptionRepository.save(subscription);
+        return subscription.id();
+    }
+}
@@ -0,0 +1,52 @@
+package com.danielpg.paymentgateway.it.infrastructure.controller.webhook;
+
+import com.danielpg.paymentgateway.domain.shared.TimeMillis;
+import com.danielpg.paymentgateway.domain.user.UserId;
+import com.danielpg.paymentgateway.domain.webhook.WebhookSubscription;
+import com.danielpg.paymentgateway.domain.webhook.WebhookSubscriptionRepository;
+import com.danielpg.paymentgateway.it.infrastructure.controller.ControllerTestBase;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class FindWebhookSubscriptionsControllerTest extends ControllerTestBase {
+
+    private static final String ENDPOINT = "/webhooks";
+
+    @Autowired
+    private WebhookSubscriptionRepository subscriptionRepository;
+
+    @Test
+    void returnsOnlySubscriptionsOfAuthenticatedUserWithoutSecret() throws Exception {
+        save(1L, "https://loja.com/webhooks");
+        save(2L, "https://outra-loja.com/webhooks");
+
+        mockMvc.perform(get(ENDPOINT)
+                        .header(HttpHeaders.AUTHORIZATION, userToken()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id").value(1))
+                .andExpect(jsonPath("$[0].url").value("https://loja.com/webhooks"))
+                .andExpect(jsonPath("$[0].secret").doesNotExist());
+    }
+
+    @Test
+    void returnsUnauthorizedWhenUserIsUnauthenticated() throws Exception {
+        mockMvc.perform(get(ENDPOINT))
+                .andExpect(status().isUnauthorized());
+    }
+
+    private void save(long userId, String url) {
+        subscriptionRepository.save(WebhookSubscription.builder()
+                .withUserId(UserId.of(userId))
+                .withUrl(url)
+                .withSecret("segredo")
+                .withCreatedAt(TimeMillis.of(0L))
+                .build());
+    }
+}
@@ -0,0 +1,159 @@
+package com.danielpg.paymentgateway.it.infrastructure.integration;
+
+import com.danielpg.paymentgateway.domain.charge.Charge;
+import com.danielpg.paymentgateway.domain.charge.ChargeId;
+import com.danielpg.paymentgateway.domain.charge.payment.AuthorizerUnavailableException;
+import com.danielpg.paymentgateway.domain.charge.payment.PaymentNotAuthorizedException;
+import com.danielpg.paymentgateway.domain.shared.AppClock;
+import com.danielpg.paymentgateway.domain.shared.TimeMillis;
+import com.danielpg.paymentgateway.domain.shared.creditcard.CreditCard;
+import com.danielpg.paymentgateway.fixture.ChargeFixture;
+import com.danielpg.paymentgateway.fixture.CreditCardFixture;
+import com.danielpg.paymentgateway.fixture.DepositFixture;
+import com.danielpg.paymentgateway.infrastructure.integration.AsyncPaymentAuthorizerImpl;
+import com.danielpg.paymentgateway.infrastructure.integration.CircuitBreaker;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AsyncPaymentAuthorizerTest {
+
+    private static final long READ_TIMEOUT = 1000L;
+
+    private AuthorizerStubServer server;
+    private CircuitBreaker circuitBreaker;
+    private SimpleMeterRegistry meterRegistry;
+    private AsyncPaymentAuthorizerImpl authorizer;
+
+    private Charge charge;
+    private CreditCard creditCard;
+
+    @BeforeEach
+    void beforeEach() throws Exception {
+        server = new AuthorizerStubServer();
+        var clock = mock(AppClock.class);
+        when(clock.now()).thenReturn(TimeMillis.of(0L));
+        circuitBreaker = new CircuitBreaker(2, 5000L, 1, clock);
+        meterRegistry = new SimpleMeterRegistry();
+        authorizer = new AsyncPaymentAuthorizerImpl(server.url(), 500L, READ_TIMEOUT, 100, circuitBreaker,
+                new ObjectMapper(), meterRegistry);
+
+        charge = ChargeFixture.builder().build();
+        creditCard = CreditCardFixture.builder().build();
+    }
+
+    @AfterEach
+    void afterEach() {
+        server.close();
+    }
+
+    @Test
+    void completesWhenAuthorized() {
+        assertDoesNotThrow(() -> authorizer.authorizePayment(charge, creditCard).get(1, TimeUnit.SECONDS));
+        assertDoesNotThrow(() -> authorizer.authorizeDeposit(DepositFixture.builder().build())
+                .get(1, TimeUnit.SECONDS));
+
+        assertThat(server.requestCount(), is(2));
+        assertThat(authorizer.inFlightCount(), is(0));
+    }
+
+    @Test
+    void failsWithPaymentNotAuthorizedExceptionWhenDenied() {
+        server.setAuthorized(false);
+
+        var ex = assertThrows(ExecutionException.class,
+                () -> authorizer.authorizeCancellation(charge, creditCard).get(1, TimeUnit.SECONDS));
+
+        assertThat(ex.getCause(), instanceOf(PaymentNotAuthorizedException.class));
+        assertThat(ex.getCause().getMessage(), is("Cancelamento não autorizado."));
+        assertThat(circuitBreaker.state(), is(CircuitBreaker.State.CLOSED));
+    }
+
+    @Test
+    void coalescesIdenticalRequestsInFlight() throws Exception {
+        server.setDelayMillis(200L);
+
+        var futures = IntStream.range(0, 20)
+                .mapToObj(i -> authorizer.authorizePayment(charge, creditCard))
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(futures).get(1, TimeUnit.SECONDS);
+
+        assertThat(server.requestCount(), is(1));
+        assertThat(meterRegistry.get("payment.authorizer.async.coalesced").tag("operation", "PAYMENT")
+                .counter().count(), is(19.0));
+        assertThat(authorizer.inFlightCount(), is(0));
+    }
+
+    @Test
+    void sendsSeparateRequestsForDifferentCharges() throws Exception {
+        server.setDelayMillis(100L);
+        var other = ChargeFixture.builder().withId(ChargeId.of(2L)).build();
+
+        CompletableFuture.allOf(
+                authorizer.authorizePayment(charge, creditCard),
+                authorizer.authorizePayment(other, creditCard),
+                authorizer.authorizeCancellation(charge, creditCard)).get(1, TimeUnit.SECONDS);
+
+        assertThat(server.requestCount(), is(3));
+    }
+
+    @Test
+    void sendsSeparateRequestsForDifferentDepositsOfSameUserAndAmount() throws Exception {
+        server.setDelayMillis(100L);
+        var first = DepositFixture.builder().withId(null).build();
+        var second = DepositFixture.builder().withId(null).build();
+
+        CompletableFuture.allOf(
+                authorizer.authorizeDeposit(first),
+                authorizer.authorizeDeposit(second)).get(1, TimeUnit.SECONDS);
+
+        assertThat(server.requestCount(), is(2));
+        assertThat(authorizer.inFlightCount(), is(0));
+    }
+
+    @Test
+    void cancellingOneCallerDoesNotAffectTheOthers() throws Exception {
+        server.setDelayMillis(100L);
+        var first = authorizer.authorizePayment(charge, creditCard);
+        var second = authorizer.authorizePayment(charge, creditCard);
+
+        first.cancel(true);
+
+        assertDoesNotThrow(() -> second.get(1, TimeUnit.SECONDS));
+        assertThat(server.requestCount(), is(1));
+    }
+
+    @Test
+    void failsWithAuthorizerUnavailableExceptionAndOpensCircuit() {
+        server.setStatus(500);
+
+        for (var i = 0; i < 2; i++) {
+            var ex = assertThrows(ExecutionException.class,
+                    () -> authorizer.authorizePayment(charge, creditCard).get(1, TimeUnit.SECONDS));
+            assertThat(ex.getCause(), instanceOf(AuthorizerUnavailableException.class));
+        }
+        var requestsBeforeOpen = server.requestCount();
+
+        var ex = assertThrows(ExecutionException.class,
+                () -> authorizer.authorizePayment(charge, creditCard).get(1, TimeUnit.SECONDS));
+
+        assertThat(ex.getCause().getMessage(), is("Autorizador temporariamente indisponível."));
+        assertThat(circuitBreaker.state(), is(CircuitBreaker.State.OPEN));
+        assertThat(server.requestCount(), is(requestsBeforeOpen));
+    }
+}
@@ -0,0 +1,72 @@
+package com.danielpg.paymentgateway.it.infrastructure.integration;
+
+import com.danielpg.paymentgateway.infrastructure.configuration.SpringContext;
+import com.danielpg.paymentgateway.infrastructure.integration.PaymentAuthorizerImpl.Response;
+import io.micrometer.observation.ObservationRegistry;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AuthorizerHttpClientTest {
+
+    private static final long READ_TIMEOUT = 200L;
+
+    private AuthorizerStubServer server;
+    private PoolingHttpClientConnectionManager connectionManager;
+    private CloseableHttpClient httpClient;
+    private RestTemplate restTemplate;
+
+    @BeforeEach
+    void beforeEach() throws Exception {
+        server = new AuthorizerStubServer();
+        var context = new SpringContext();
+        connectionManager = context.authorizerConnectionManager(4, 2, 500L, READ_TIMEOUT, 60_000L);
+        httpClient = context.authorizerHttpClient(connectionManager, READ_TIMEOUT, 100L, 30_000L);
+        restTemplate = context.restTemplate(httpClient, ObservationRegistry.NOOP);
+    }
+
+    @AfterEach
+    void afterEach() throws Exception {
+        httpClient.close();
+        server.close();
+    }
+
+    @Test
+    void reusesPooledConnectionAcrossRequests() {
+        for (int i = 0; i < 5; i++) {
+            var response = restTemplate.getForObject(server.url(), Response.class);
+            assertThat(response.data().authorized(), is(true));
+        }
+
+        assertThat(server.requestCount(), is(5));
+        assertThat(server.remotePorts(), hasSize(1));
+        assertThat(connectionManager.getTotalStats().getAvailable(), is(1));
+        assertThat(connectionManager.getTotalStats().getLeased(), is(0));
+    }
+
+    @Test
+    void failsWhenAuthorizerExceedsReadTimeout() {
+        server.setDelayMillis(READ_TIMEOUT * 5);
+        var url = server.url();
+
+        var start = System.nanoTime();
+        assertThrows(ResourceAccessException.class, () -> restTemplate.getForObject(url, Response.class));
+        var elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertThat(elapsedMillis, lessThan(READ_TIMEOUT * 4));
+    }
+
+    @Test
+    void appliesConfiguredPoolLimits() {
+        assertThat(connectionManager.getMaxTotal(), is(4));
+        assertThat(connectionManager.getDefaultMaxPerRoute(), is(2));
+    }
+}
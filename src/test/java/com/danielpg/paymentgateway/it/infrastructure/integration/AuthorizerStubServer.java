@@ -0,0 +1,122 @@
+package com.danielpg.paymentgateway.it.infrastructure.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class AuthorizerStubServer implements AutoCloseable {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final HttpServer server;
+    private final AtomicLong delayMillis = new AtomicLong();
+    private final AtomicBoolean authorized = new AtomicBoolean(true);
+    private final AtomicInteger status = new AtomicInteger(200);
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private final Set<Integer> remotePorts = ConcurrentHashMap.newKeySet();
+    private final AtomicReference<Headers> lastRequestHeaders = new AtomicReference<>(new Headers());
+    private final AtomicReference<String> lastRequestBody = new AtomicReference<>();
+    private final Set<BigDecimal> deniedAmounts = ConcurrentHashMap.newKeySet();
+
+    public AuthorizerStubServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", this::handle);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.start();
+    }
+
+    public String url() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/authorize";
+    }
+
+    public void setDelayMillis(long delayMillis) {
+        this.delayMillis.set(delayMillis);
+    }
+
+    public void setAuthorized(boolean authorized) {
+        this.authorized.set(authorized);
+    }
+
+    public void setStatus(int status) {
+        this.status.set(status);
+    }
+
+    public int requestCount() {
+        return requestCount.get();
+    }
+
+    public Set<Integer> remotePorts() {
+        return Set.copyOf(remotePorts);
+    }
+
+    public String lastRequestHeader(String name) {
+        return lastRequestHeaders.get().getFirst(name);
+    }
+
+    public String lastRequestBody() {
+        return lastRequestBody.get();
+    }
+
+    public void denyAmount(BigDecimal amount) {
+        deniedAmounts.add(amount);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        lastRequestHeaders.set(exchange.getRequestHeaders());
+        requestCount.incrementAndGet();
+        remotePorts.add(exchange.getRemoteAddress().getPort());
+        try {
+            Thread.sleep(delayMillis.get());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        var body = "POST".equals(exchange.getRequestMethod())
+                ? batchResponse(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8))
+                : singleResponse();
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status.get(), body.length);
+        try (var out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private byte[] singleResponse() {
+        return "{\"status\":\"success\",\"data\":{\"authorized\":%s}}"
+                .formatted(authorized.get())
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    @SuppressWarnings("unchecked")
+    private byte[] batchResponse(String requestBody) throws IOException {
+        lastRequestBody.set(requestBody);
+        var items = (List<Map<String, Object>>) MAPPER.readValue(requestBody, Map.class).get("items");
+        var results = new ArrayList<Map<String, Object>>();
+        for (var item : items) {
+            var amount = new BigDecimal(item.get("amount").toString());
+            var denied = deniedAmounts.stream().anyMatch(deniedAmount -> deniedAmount.compareTo(amount) == 0);
+            results.add(Map.of("id", item.get("id"), "authorized", authorized.get() && !denied));
+        }
+        return MAPPER.writeValueAsBytes(Map.of("status", "success", "data", Map.of("results", results)));
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
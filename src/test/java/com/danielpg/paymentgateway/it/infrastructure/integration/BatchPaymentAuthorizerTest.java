@@ -0,0 +1,145 @@
+package com.danielpg.paymentgateway.it.infrastructure.integration;
+
+import com.danielpg.paymentgateway.domain.charge.payment.AuthorizerUnavailableException;
+import com.danielpg.paymentgateway.domain.charge.payment.PaymentNotAuthorizedException;
+import com.danielpg.paymentgateway.domain.deposit.Deposit;
+import com.danielpg.paymentgateway.domain.shared.AppClock;
+import com.danielpg.paymentgateway.domain.shared.PositiveMoney;
+import com.danielpg.paymentgateway.domain.shared.TimeMillis;
+import com.danielpg.paymentgateway.fixture.ChargeFixture;
+import com.danielpg.paymentgateway.fixture.CreditCardFixture;
+import com.danielpg.paymentgateway.fixture.DepositFixture;
+import com.danielpg.paymentgateway.infrastructure.integration.BatchPaymentAuthorizerImpl;
+import com.danielpg.paymentgateway.infrastructure.integration.CircuitBreaker;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BatchPaymentAuthorizerTest {
+
+    private AuthorizerStubServer server;
+    private CircuitBreaker circuitBreaker;
+    private SimpleMeterRegistry meterRegistry;
+    private BatchPaymentAuthorizerImpl authorizer;
+
+    @BeforeEach
+    void beforeEach() throws Exception {
+        server = new AuthorizerStubServer();
+        var clock = mock(AppClock.class);
+        when(clock.now()).thenReturn(TimeMillis.of(0L));
+        circuitBreaker = new CircuitBreaker(5, 5000L, 1, clock);
+        meterRegistry = new SimpleMeterRegistry();
+        authorizer = authorizer(100, 50L);
+    }
+
+    @AfterEach
+    void afterEach() {
+        authorizer.shutdown();
+        server.close();
+    }
+
+    @Test
+    void sendsCallsWithinWindowInOnePost() throws Exception {
+        var futures = IntStream.range(0, 10)
+                .mapToObj(i -> authorizer.authorizeDeposit(deposit("1" + i)))
+                .toArray(CompletableFuture[]::new);
+
+        CompletableFuture.allOf(futures).get(5, TimeUnit.SECONDS);
+
+        assertThat(server.requestCount(), is(1));
+        assertThat(server.lastRequestBody(), allOf(
+                containsString("\"id\":9"),
+                containsString("\"operationType\":\"DEPOSIT\""),
+                not(containsString("cardNumber"))));
+        assertThat(meterRegistry.get("payment.authorizer.batch.size").summary().max(), is(10.0));
+    }
+
+    @Test
+    void sendsBatchAsSoonAsItIsFull() throws Exception {
+        authorizer.shutdown();
+        authorizer = authorizer(3, 60_000L);
+
+        CompletableFuture.allOf(
+                authorizer.authorizeDeposit(deposit("10")),
+                authorizer.authorizeDeposit(deposit("11")),
+                authorizer.authorizeDeposit(deposit("12"))).get(5, TimeUnit.SECONDS);
+
+        assertThat(server.requestCount(), is(1));
+    }
+
+    @Test
+    void deliversEachResultToItsCaller() {
+        server.denyAmount(new BigDecimal("11"));
+        var charge = ChargeFixture.builder().build();
+
+        var cancellation = authorizer.authorizeCancellation(charge, CreditCardFixture.builder().build());
+        var authorized = authorizer.authorizeDeposit(deposit("10"));
+        var denied = authorizer.authorizeDeposit(deposit("11"));
+
+        assertDoesNotThrow(() -> cancellation.get(5, TimeUnit.SECONDS));
+        assertDoesNotThrow(() -> authorized.get(5, TimeUnit.SECONDS));
+        var ex = assertThrows(ExecutionException.class, () -> denied.get(5, TimeUnit.SECONDS));
+        assertThat(ex.getCause(), instanceOf(PaymentNotAuthorizedException.class));
+        assertThat(ex.getCause().getMessage(), is("Depósito não autorizado."));
+        assertThat(server.requestCount(), is(1));
+        assertThat(server.lastRequestBody(), containsString("\"cardNumber\""));
+    }
+
+    @Test
+    void failsAllItemsWhenAuthorizerFails() {
+        server.setStatus(500);
+
+        var first = authorizer.authorizeDeposit(deposit("10"));
+        var second = authorizer.authorizeDeposit(deposit("11"));
+
+        for (var future : List.of(first, second)) {
+            var ex = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+            assertThat(ex.getCause(), instanceOf(AuthorizerUnavailableException.class));
+        }
+        assertThat(server.requestCount(), is(1));
+    }
+
+    @Test
+    void failsBatchWithoutSendingWhenInFlightLimitIsReached() throws Exception {
+        authorizer.shutdown();
+        authorizer = authorizer(1, 60_000L, 1);
+        server.setDelayMillis(300L);
+
+        var first = authorizer.authorizeDeposit(deposit("10"));
+        var second = authorizer.authorizeDeposit(deposit("11"));
+
+        var ex = assertThrows(ExecutionException.class, () -> second.get(5, TimeUnit.SECONDS));
+        assertThat(ex.getCause(), instanceOf(AuthorizerUnavailableException.class));
+        assertDoesNotThrow(() -> first.get(5, TimeUnit.SECONDS));
+        assertThat(server.requestCount(), is(1));
+    }
+
+    private BatchPaymentAuthorizerImpl authorizer(int maxSize, long window) {
+        return authorizer(maxSize, window, 10);
+    }
+
+    private BatchPaymentAuthorizerImpl authorizer(int maxSize, long window, int maxInFlight) {
+        return new BatchPaymentAuthorizerImpl(server.url() + "/batch", maxSize, window, 500L, 1000L,
+                maxInFlight, circuitBreaker, new ObjectMapper(), meterRegistry);
+    }
+
+    private static Deposit deposit(String amount) {
+        return DepositFixture.builder().withAmount(PositiveMoney.of(new BigDecimal(amount))).build();
+    }
+}
@@ -0,0 +1,180 @@
+package com.danielpg.paymentgateway.it.infrastructure.integration;
+
+import com.danielpg.paymentgateway.domain.charge.Charge;
+import com.danielpg.paymentgateway.domain.charge.payment.AuthorizerUnavailableException;
+import com.danielpg.paymentgateway.domain.deposit.Deposit;
+import com.danielpg.paymentgateway.domain.shared.AppClock;
+import com.danielpg.paymentgateway.domain.shared.TimeMillis;
+import com.danielpg.paymentgateway.domain.shared.creditcard.CreditCard;
+import com.danielpg.paymentgateway.fixture.ChargeFixture;
+import com.danielpg.paymentgateway.fixture.CreditCardFixture;
+import com.danielpg.paymentgateway.fixture.DepositFixture;
+import com.danielpg.paymentgateway.fixture.JfrFixture;
+import com.danielpg.paymentgateway.infrastructure.configuration.SpringContext;
+import com.danielpg.paymentgateway.infrastructure.integration.CircuitBreaker;
+import com.danielpg.paymentgateway.infrastructure.integration.PaymentAuthorizerImpl;
+import com.danielpg.paymentgateway.infrastructure.observability.AppTracer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PaymentAuthorizerResilienceTest {
+
+    private static final long READ_TIMEOUT = 200L;
+    private static final long OPEN_DURATION = 5000L;
+
+    private AuthorizerStubServer server;
+    private CloseableHttpClient httpClient;
+    private AppClock clock;
+    private CircuitBreaker circuitBreaker;
+    private SimpleMeterRegistry meterRegistry;
+    private PaymentAuthorizerImpl authorizer;
+
+    private Charge charge;
+    private CreditCard creditCard;
+    private Deposit deposit;
+
+    @BeforeEach
+    void beforeEach() throws Exception {
+        server = new AuthorizerStubServer();
+        clock = mock(AppClock.class);
+        when(clock.now()).thenReturn(TimeMillis.of(0L));
+
+        var context = new SpringContext();
+        var connectionManager = context.authorizerConnectionManager(10, 10, 500L, READ_TIMEOUT, 60_000L);
+        httpClient = context.authorizerHttpClient(connectionManager, READ_TIMEOUT, 100L, 30_000L);
+        circuitBreaker = context.authorizerCircuitBreaker(clock, 2, OPEN_DURATION, 1);
+        meterRegistry = new SimpleMeterRegistry();
+        authorizer = new PaymentAuthorizerImpl(server.url(),
+                context.restTemplate(httpClient, ObservationRegistry.NOOP), circuitBreaker, 1, 0L,
+                meterRegistry, AppTracer.noop());
+
+        charge = ChargeFixture.builder().build();
+        creditCard = CreditCardFixture.builder().build();
+        deposit = DepositFixture.builder().build();
+    }
+
+    @AfterEach
+    void afterEach() throws Exception {
+        httpClient.close();
+        server.close();
+    }
+
+    @Test
+    void wrapsTimeoutInAuthorizerUnavailableException() {
+        server.setDelayMillis(READ_TIMEOUT * 3);
+
+        var ex = assertThrows(AuthorizerUnavailableException.class,
+                () -> authorizer.authorizePayment(charge, creditCard));
+
+        assertThat(ex.getMessage(), is("Falha na comunicação com o autorizador."));
+        assertThat(ex.getCause(), instanceOf(ResourceAccessException.class));
+    }
+
+    @Test
+    void opensCircuitAfterRepeatedFailuresAndFailsFast() {
+        server.setDelayMillis(READ_TIMEOUT * 3);
+        assertThrows(AuthorizerUnavailableException.class, () -> authorizer.authorizePayment(charge, creditCard));
+        assertThrows(AuthorizerUnavailableException.class, () -> authorizer.authorizePayment(charge, creditCard));
+        var requestsBeforeOpen = server.requestCount();
+
+        var start = System.nanoTime();
+        var ex = assertThrows(AuthorizerUnavailableException.class,
+                () -> authorizer.authorizeDeposit(deposit));
+        var elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertThat(ex.getMessage(), is("Autorizador temporariamente indisponível."));
+        assertThat(circuitBreaker.state(), is(CircuitBreaker.State.OPEN));
+        assertThat(server.requestCount(), is(requestsBeforeOpen));
+        assertThat(elapsedMillis, lessThan(READ_TIMEOUT));
+    }
+
+    @Test
+    void closesCircuitWhenProbeSucceedsAfterRecovery() {
+        server.setStatus(500);
+        assertThrows(AuthorizerUnavailableException.class, () -> authorizer.authorizePayment(charge, creditCard));
+        assertThrows(AuthorizerUnavailableException.class, () -> authorizer.authorizePayment(charge, creditCard));
+        assertThat(circuitBreaker.state(), is(CircuitBreaker.State.OPEN));
+
+        server.setStatus(200);
+        when(clock.now()).thenReturn(TimeMillis.of(OPEN_DURATION));
+
+        assertDoesNotThrow(() -> authorizer.authorizePayment(charge, creditCard));
+        assertThat(circuitBreaker.state(), is(CircuitBreaker.State.CLOSED));
+    }
+
+    @Test
+    void bulkheadRejectsConcurrentCallsOfSameOperationOnly() throws Exception {
+        server.setDelayMillis(READ_TIMEOUT / 2);
+        var inFlight = CompletableFuture.runAsync(() -> authorizer.authorizePayment(charge, creditCard));
+        awaitRequests(1);
+
+        var ex = assertThrows(AuthorizerUnavailableException.class,
+                () -> authorizer.authorizePayment(charge, creditCard));
+        assertDoesNotThrow(() -> authorizer.authorizeDeposit(deposit));
+        inFlight.get(1, TimeUnit.SECONDS);
+
+        assertThat(ex.getMessage(), is("Limite de chamadas simultâneas ao autorizador atingido: PAYMENT"));
+        assertThat(circuitBreaker.state(), is(CircuitBreaker.State.CLOSED));
+    }
+
+    @Test
+    void recordsRoundTripByOperationAndOutcome() {
+        authorizer.authorizeDeposit(deposit);
+        server.setStatus(500);
+        assertThrows(AuthorizerUnavailableException.class, () -> authorizer.authorizePayment(charge, creditCard));
+        assertThrows(AuthorizerUnavailableException.class, () -> authorizer.authorizePayment(charge, creditCard));
+
+        assertThat(requestCount("DEPOSIT", "authorized"), is(1L));
+        assertThat(requestCount("PAYMENT", "unavailable"), is(2L));
+        assertThat(meterRegistry.get("payment.authorizer.circuit.state").tag("state", "OPEN").gauge().value(), is(1.0));
+        assertThat(meterRegistry.get("payment.authorizer.circuit.state").tag("state", "CLOSED").gauge().value(), is(0.0));
+        assertThat(meterRegistry.get("payment.authorizer.bulkhead.active.calls").tag("operation", "PAYMENT")
+                .gauge().value(), is(0.0));
+    }
+
+    @Test
+    void emitsJfrEventPerAuthorizerCall() {
+        var events = JfrFixture.record("com.danielpg.paymentgateway.AuthorizerCall", () -> {
+            authorizer.authorizeDeposit(deposit);
+            server.setStatus(500);
+            assertThrows(AuthorizerUnavailableException.class, () -> authorizer.authorizePayment(charge, creditCard));
+        });
+
+        assertThat(events, hasSize(2));
+        assertThat(events.get(0).getString("operation"), is("DEPOSIT"));
+        assertThat(events.get(0).getLong("subjectId"), is(deposit.userId().value()));
+        assertThat(events.get(0).getString("outcome"), is("authorized"));
+        assertThat(events.get(1).getString("operation"), is("PAYMENT"));
+        assertThat(events.get(1).getLong("subjectId"), is(charge.id().value()));
+        assertThat(events.get(1).getString("outcome"), is("unavailable"));
+    }
+
+    private long requestCount(String operation, String outcome) {
+        return meterRegistry.get("payment.authorizer.requests")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .timer().count();
+    }
+
+    private void awaitRequests(int count) throws InterruptedException {
+        var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        while (server.requestCount() < count && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.danielpg.paymentgateway.it.infrastructure.jdbc;
+
+import com.danielpg.paymentgateway.domain.charge.ChargeStatus;
+import com.danielpg.paymentgateway.domain.charge.query.issued.IssuedChargesFilter;
+import com.danielpg.paymentgateway.domain.charge.query.received.ReceivedChargesFilter;
+import com.danielpg.paymentgateway.domain.user.UserId;
+import com.danielpg.paymentgateway.infrastructure.jdbc.JdbcIssuedChargesQuery;
+import com.danielpg.paymentgateway.infrastructure.jdbc.JdbcReceivedChargesQuery;
+import com.danielpg.paymentgateway.it.infrastructure.IntegrationTestBase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.util.Set;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsStringIgnoringCase;
+import static org.hamcrest.Matchers.not;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest
+class ChargeIndexesExplainTest extends IntegrationTestBase {
+
+    private static final UserId USER_ID = UserId.of(1L);
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbc;
+
+    private NamedParameterJdbcTemplate capturingJdbc;
+
+    @BeforeEach
+    void beforeEach() {
+        capturingJdbc = mock(NamedParameterJdbcTemplate.class);
+        when(capturingJdbc.getJdbcTemplate()).thenReturn(jdbc.getJdbcTemplate());
+    }
+
+    @Test
+    void issuedChargesWithSingleStatusUseIssuerStatusIndex() {
+        new JdbcIssuedChargesQuery(capturingJdbc, 500)
+                .execute(new IssuedChargesFilter(USER_ID, Set.of(ChargeStatus.PENDING), 0L, 100));
+
+        assertUsesIndex("idx_charge_issuer_status_id");
+    }
+
+    @Test
+    void issuedChargesWithManyStatusesUseIssuerStatusIndex() {
+        new JdbcIssuedChargesQuery(capturingJdbc, 500)
+                .execute(new IssuedChargesFilter(USER_ID, Set.of(ChargeStatus.PAID, ChargeStatus.CANCELED), 0L, 100));
+
+        assertUsesIndex("idx_charge_issuer_status_id");
+    }
+
+    @Test
+    void receivedChargesWithSingleStatusUsePayerStatusIndex() {
+        new JdbcReceivedChargesQuery(capturingJdbc, 500)
+                .execute(new ReceivedChargesFilter(USER_ID, Set.of(ChargeStatus.PENDING), 0L, 100));
+
+        assertUsesIndex("idx_charge_payer_status_id");
+    }
+
+    @Test
+    void receivedChargesWithManyStatusesUsePayerStatusIndex() {
+        new JdbcReceivedChargesQuery(capturingJdbc, 500)
+                .execute(new ReceivedChargesFilter(USER_ID, Set.of(ChargeStatus.PAID, ChargeStatus.CANCELED), 0L, 100));
+
+        assertUsesIndex("idx_charge_payer_status_id");
+    }
+
+    @SuppressWarnings("unchecked")
+    private void assertUsesIndex(String index) {
+        var sql = ArgumentCaptor.forClass(String.class);
+        var params = ArgumentCaptor.forClass(SqlParameterSource.class);
+        verify(capturingJdbc).query(sql.capture(), params.capture(), any(RowMapper.class));
+
+        var plan = jdbc.queryForObject("EXPLAIN " + sql.getValue(), params.getValue(), String.class);
+
+        assertThat(plan, containsStringIgnoringCase(index));
+        assertThat(plan, not(containsStringIgnoringCase("tb_charge.tableScan")));
+    }
+}
@@ -0,0 +1,172 @@
+package com.danielpg.paymentgateway.it.infrastructure.jdbc;
+
+import com.danielpg.paymentgateway.application.shared.AppTransaction;
+import com.danielpg.paymentgateway.domain.charge.Charge;
+import com.danielpg.paymentgateway.domain.charge.ChargeRepository;
+import com.danielpg.paymentgateway.domain.charge.ChargeStatus;
+import com.danielpg.paymentgateway.domain.charge.payment.PaymentMethod;
+import com.danielpg.paymentgateway.domain.charge.payment.RegisterPaymentRequest;
+import com.danielpg.paymentgateway.domain.charge.payment.RegisterPaymentService;
+import com.danielpg.paymentgateway.domain.shared.PositiveMoney;
+import com.danielpg.paymentgateway.domain.shared.TimeMillis;
+import com.danielpg.paymentgateway.domain.user.*;
+import com.danielpg.paymentgateway.fixture.UserFixture;
+import com.danielpg.paymentgateway.it.infrastructure.IntegrationTestBase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.danielpg.paymentgateway.fixture.CpfFixture.CPF1;
+import static com.danielpg.paymentgateway.fixture.CpfFixture.CPF2;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+@SpringBootTest
+class ConcurrentBalancePaymentTest extends IntegrationTestBase {
+
+    private static final int PAYMENTS = 300;
+    private static final int CROSSED_PAYMENTS = 60;
+    private static final int THREADS = 8;
+    private static final PositiveMoney AMOUNT = PositiveMoney.of(BigDecimal.ONE);
+    private static final Balance PAYER_BALANCE = Balance.of(new BigDecimal("1000.00"));
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private AppTransaction transaction;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ChargeRepository chargeRepository;
+
+    @Autowired
+    private RegisterPaymentService registerPaymentService;
+
+    /*
+     * No modo MySQL, o H2 2.2 ajusta a sequência de colunas IDENTITY a cada INSERT sem sincronização e,
+     * com INSERTs concorrentes, pode repetir um id. Colunas com DEFAULT de sequência não passam por esse
+     * ajuste, então o esquema deste teste troca as IDENTITY por sequências próprias.
+     */
+    @BeforeEach
+    void replaceIdentitiesWithSequences() {
+        var tables = jdbcTemplate.queryForList("""
+                SELECT table_name FROM information_schema.columns
+                WHERE table_schema = 'PUBLIC' AND column_name = 'ID' AND is_identity = 'YES'
+                """, String.class);
+        for (var table : tables) {
+            var nextId = jdbcTemplate.queryForObject(
+                    "SELECT COALESCE(MAX(id), 0) + 1 FROM " + table, Long.class);
+            jdbcTemplate.execute("CREATE SEQUENCE seq_" + table + " START WITH " + nextId);
+            jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN id DROP IDENTITY");
+            jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN id SET DEFAULT NEXT VALUE FOR seq_" + table);
+        }
+    }
+
+    @Test
+    void hotIssuerReceivesEveryConcurrentBalancePayment() throws Exception {
+        var hotIssuer = userRepository.getOrThrow(UserId.of(2L));
+        var crossedPayee = userRepository.getOrThrow(UserId.of(1L));
+        var payers = List.of(
+                crossedPayee,
+                createPayer(CPF1, "payer1@email.com"),
+                createPayer(CPF2, "payer2@email.com"));
+        var charges = createCharges(hotIssuer, payers);
+        charges.addAll(createCrossedCharges(crossedPayee, hotIssuer));
+        Collections.shuffle(charges, new Random(0L));
+        var initialTotal = totalBalance(hotIssuer, payers);
+
+        payConcurrently(charges);
+
+        var expectedIssuerBalance = hotIssuer.balance().value()
+                .add(AMOUNT.value().multiply(BigDecimal.valueOf(PAYMENTS - CROSSED_PAYMENTS)));
+        assertThat(userRepository.getOrThrow(hotIssuer.id()).balance().value(), is(expectedIssuerBalance));
+        assertThat(totalBalance(hotIssuer, payers), is(initialTotal));
+        for (var charge : charges) {
+            assertThat(chargeRepository.getOrThrow(charge.id()).status(), is(ChargeStatus.PAID));
+        }
+    }
+
+    private void payConcurrently(List<Charge> charges) throws Exception {
+        var executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            var futures = new ArrayList<Future<?>>();
+            for (var charge : charges) {
+                futures.add(executor.submit(() -> pay(charge)));
+            }
+            for (var future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private void pay(Charge charge) {
+        transaction.execute(() -> registerPaymentService.registerPayment(
+                RegisterPaymentRequest.builder()
+                        .withCharge(chargeRepository.getOrThrow(charge.id()))
+                        .withMethod(PaymentMethod.BALANCE)
+                        .build()));
+    }
+
+    private User createPayer(Cpf cpf, String email) {
+        var payer = UserFixture.builder()
+                .withId(null)
+                .withCpf(cpf)
+                .withEmailAddress(EmailAddress.of(email))
+                .withBalance(PAYER_BALANCE)
+                .build();
+        userRepository.save(payer);
+        return payer;
+    }
+
+    private List<Charge> createCharges(User issuer, List<User> payers) {
+        var charges = new ArrayList<Charge>();
+        for (int i = 0; i < PAYMENTS; i++) {
+            charges.add(createCharge(issuer, payers.get(i % payers.size())));
+        }
+        return charges;
+    }
+
+    private List<Charge> createCrossedCharges(User issuer, User payer) {
+        var charges = new ArrayList<Charge>();
+        for (int i = 0; i < CROSSED_PAYMENTS; i++) {
+            charges.add(createCharge(issuer, payer));
+        }
+        return charges;
+    }
+
+    private Charge createCharge(User issuer, User payer) {
+        var charge = Charge.builder()
+                .withIssuerId(issuer.id())
+                .withPayerId(payer.id())
+                .withAmount(AMOUNT)
+                .withCreatedAt(TimeMillis.of(0L))
+                .withDueAt(TimeMillis.of(1L))
+                .withStatus(ChargeStatus.PENDING)
+                .build();
+        chargeRepository.save(charge);
+        return charge;
+    }
+
+    private BigDecimal totalBalance(User issuer, List<User> payers) {
+        var total = userRepository.getOrThrow(issuer.id()).balance().value();
+        for (var payer : payers) {
+            total = total.add(userRepository.getOrThrow(payer.id()).balance().value());
+        }
+        return total;
+    }
+}
@@ -1,11 +1,19 @@
 package com.danielpg.paymentgateway.it.infrastructure.jdbc;
 
+import com.danielpg.paymentgateway.application.shared.AppTransaction;
 import com.danielpg.paymentgateway.domain.charge.*;
+import com.danielpg.paymentgateway.domain.shared.TimeMillis;
 import com.danielpg.paymentgateway.it.infrastructure.IntegrationTestBase;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
 import static com.danielpg.paymentgateway.fixture.ChargeFixture.builder;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
@@ -17,6 +25,9 @@ class JdbcChargeRepositoryTest extends IntegrationTestBase {
     @Autowired
     private ChargeRepository repository;
 
+    @Autowired
+    private AppTransaction transaction;
+
     @Test
     void getByIdReturnsChargeWhenFound() {
         var charge = builder().withId(null).build();
@@ -58,6 +69,70 @@ class JdbcChargeRepositoryTest extends IntegrationTestBase {
         assertThat(charge, is(retrieved));
     }
 
+    @Test
+    void saveAllInsertsChargesAndAssignsGeneratedIdsInOrder() {
+        var charges = new ArrayList<Charge>();
+        for (var i = 1; i <= 1500; i++) {
+            charges.add(builder().withId(null).withDescription(ChargeDescription.of("Lote " + i)).build());
+        }
+
+        repository.saveAll(charges);
+
+        for (var charge : List.of(charges.get(0), charges.get(999), charges.get(1000), charges.get(1499))) {
+            assertThat(repository.get(charge.id()).orElseThrow(), is(charge));
+        }
+        assertThat(charges.stream().map(Charge::id).distinct().count(), is(1500L));
+    }
+
+    @Test
+    void saveAllUpdatesExistingCharges() {
+        var existing = builder().withId(null).build();
+        repository.save(existing);
+        existing.changeStatusToCanceled();
+        var created = builder().withId(null).build();
+
+        repository.saveAll(List.of(existing, created));
+
+        assertThat(repository.get(existing.id()).orElseThrow().status(), is(ChargeStatus.CANCELED));
+        assertThat(repository.get(created.id()).orElseThrow(), is(created));
+    }
+
+    @Test
+    void lockOverdueReturnsPendingChargesDueUntilNowOrderedByDueDate() {
+        var overdue = repository.lockOverdue(TimeMillis.of(1700021609L), 10);
+
+        assertThat(overdue.stream().map(charge -> charge.id().value()).toList(), is(List.of(1L, 4L, 9L)));
+        assertThat(repository.lockOverdue(TimeMillis.of(1700007201L), 1).get(0).id(), is(ChargeId.of(1L)));
+        assertThat(repository.lockOverdue(TimeMillis.of(1700003599L), 10), is(empty()));
+    }
+
+    @Test
+    void concurrentLockOverdueCallsReturnDisjointCharges() throws Exception {
+        var now = TimeMillis.of(1700021609L);
+        var locked = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var executor = Executors.newSingleThreadExecutor();
+        try {
+            var first = executor.submit(() -> transaction.executeWithResult(() -> {
+                var charges = repository.lockOverdue(now, 1);
+                locked.countDown();
+                awaitQuietly(release);
+                return charges;
+            }));
+            assertThat(locked.await(10, TimeUnit.SECONDS), is(true));
+
+            var second = transaction.executeWithResult(() -> repository.lockOverdue(now, 10));
+            release.countDown();
+
+            var firstIds = first.get(10, TimeUnit.SECONDS).stream().map(Charge::id).toList();
+            assertThat(firstIds, is(List.of(ChargeId.of(1L))));
+            assertThat(second.stream().map(Charge::id).toList(), everyItem(not(in(firstIds))));
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+
     @Test
     void mustUpdateExistingCharge() {
         var charge = builder().withId(null).build();
@@ -104,4 +179,40 @@ class JdbcChargeRepositoryTest extends IntegrationTestBase {
         var reloaded = repository.get(charge.id()).orElseThrow();
         assertThat(reloaded.status(), is(ChargeStatus.CANCELED));
     }
+
+    @Test
+    void updateStatusWritesStatusWhenExpectedStatusMatches() {
+        var charge = builder().withId(null).withStatus(ChargeStatus.PENDING).build();
+        repository.save(charge);
+
+        charge.changeStatusToPaid();
+        repository.updateStatus(charge, ChargeStatus.PENDING);
+
+        assertThat(repository.get(charge.id()).orElseThrow().status(), is(ChargeStatus.PAID));
+    }
+
+    @Test
+    void updateStatusThrowsExceptionWhenChargeWasChangedConcurrently() {
+        var charge = builder().withId(null).withStatus(ChargeStatus.PENDING).build();
+        repository.save(charge);
+        var expired = repository.get(charge.id()).orElseThrow();
+        expired.changeStatusToExpired(TimeMillis.of(Long.MAX_VALUE));
+        repository.save(expired);
+
+        charge.changeStatusToPaid();
+        var exception = assertThrows(IllegalStateException.class,
+                () -> repository.updateStatus(charge, ChargeStatus.PENDING)
+        );
+
+        assertThat(exception.getMessage(), is("A cobrança foi alterada por outra operação."));
+        assertThat(repository.get(charge.id()).orElseThrow().status(), is(ChargeStatus.EXPIRED));
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
 }
@@ -0,0 +1,146 @@
+package com.danielpg.paymentgateway.it.infrastructure.jdbc;
+
+import com.danielpg.paymentgateway.domain.charge.ChargeId;
+import com.danielpg.paymentgateway.domain.charge.ChargeStatus;
+import com.danielpg.paymentgateway.domain.charge.summary.ChargeSummaryItem;
+import com.danielpg.paymentgateway.domain.charge.summary.ChargeSummaryRepository;
+import com.danielpg.paymentgateway.domain.charge.summary.ChargeSummarySide;
+import com.danielpg.paymentgateway.domain.shared.PositiveMoney;
+import com.danielpg.paymentgateway.domain.user.UserId;
+import com.danielpg.paymentgateway.fixture.ChargeFixture;
+import com.danielpg.paymentgateway.it.infrastructure.IntegrationTestBase;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static com.danielpg.paymentgateway.domain.charge.ChargeStatus.*;
+import static com.danielpg.paymentgateway.domain.charge.summary.ChargeSummarySide.ISSUED;
+import static com.danielpg.paymentgateway.domain.charge.summary.ChargeSummarySide.RECEIVED;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+@SpringBootTest
+class JdbcChargeSummaryRepositoryTest extends IntegrationTestBase {
+
+    private static final UserId USER1 = UserId.of(1L);
+    private static final UserId USER2 = UserId.of(2L);
+    private static final PositiveMoney AMOUNT = PositiveMoney.of(new BigDecimal("10.00"));
+
+    @Autowired
+    private ChargeSummaryRepository repository;
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbc;
+
+    @Test
+    void findReturnsSummaryBuiltFromExistingCharges() {
+        var result = repository.find(USER1);
+
+        assertThat(result, is(List.of(
+                item(ISSUED, PENDING, 1, "150.00"),
+                item(ISSUED, PAID, 2, "550.50"),
+                item(ISSUED, CANCELED, 1, "300.00"),
+                item(RECEIVED, PENDING, 2, "1200.01"),
+                item(RECEIVED, PAID, 1, "1000.00"),
+                item(RECEIVED, CANCELED, 2, "1500.00")
+        )));
+    }
+
+    @Test
+    void findReturnsEmptyListWhenUserHasNoCharges() {
+        assertThat(repository.find(UserId.of(999L)), is(List.of()));
+    }
+
+    @Test
+    void addIncrementsIssuerAndPayerTotals() {
+        var charge = ChargeFixture.builder().withAmount(AMOUNT).withStatus(PENDING).build();
+
+        repository.add(charge);
+
+        assertThat(find(USER1, ISSUED, PENDING), is(item(ISSUED, PENDING, 2, "160.00")));
+        assertThat(find(USER2, RECEIVED, PENDING), is(item(RECEIVED, PENDING, 2, "160.00")));
+    }
+
+    @Test
+    void addCreatesRowsWhenUserHasNoSummaryYet() {
+        jdbc.getJdbcOperations().update("DELETE FROM tb_charge_summary");
+        var charge = ChargeFixture.builder().withAmount(AMOUNT).withStatus(PENDING).build();
+
+        repository.add(charge);
+
+        assertThat(repository.find(USER1), is(List.of(item(ISSUED, PENDING, 1, "10.00"))));
+        assertThat(repository.find(USER2), is(List.of(item(RECEIVED, PENDING, 1, "10.00"))));
+    }
+
+    @Test
+    void addAllAggregatesChargesOfTheSameUsers() {
+        var charges = List.of(
+                ChargeFixture.builder().withId(null).withAmount(AMOUNT).withStatus(PENDING).build(),
+                ChargeFixture.builder().withId(null).withAmount(AMOUNT).withStatus(PENDING).build(),
+                ChargeFixture.builder().withId(null).withAmount(AMOUNT).withStatus(PAID).build());
+
+        repository.addAll(charges);
+
+        assertThat(find(USER1, ISSUED, PENDING), is(item(ISSUED, PENDING, 3, "170.00")));
+        assertThat(find(USER1, ISSUED, PAID), is(item(ISSUED, PAID, 3, "560.50")));
+        assertThat(find(USER2, RECEIVED, PENDING), is(item(RECEIVED, PENDING, 3, "170.00")));
+    }
+
+    @Test
+    void moveTransfersChargeBetweenStatuses() {
+        var charge = ChargeFixture.builder()
+                .withId(ChargeId.of(1L))
+                .withAmount(PositiveMoney.of(new BigDecimal("150.00")))
+                .withStatus(PAID)
+                .build();
+
+        repository.move(charge, PENDING);
+
+        assertThat(find(USER1, ISSUED, PENDING), is(item(ISSUED, PENDING, 0, "0.00")));
+        assertThat(find(USER1, ISSUED, PAID), is(item(ISSUED, PAID, 3, "700.50")));
+        assertThat(find(USER2, RECEIVED, PENDING), is(item(RECEIVED, PENDING, 0, "0.00")));
+        assertThat(find(USER2, RECEIVED, PAID), is(item(RECEIVED, PAID, 3, "700.50")));
+    }
+
+    @Test
+    void moveAllTransfersAllChargesFromPreviousStatus() {
+        var charges = List.of(
+                ChargeFixture.builder().withAmount(AMOUNT).withStatus(PENDING).build(),
+                ChargeFixture.builder().withAmount(AMOUNT).withStatus(PENDING).build(),
+                ChargeFixture.builder().withAmount(AMOUNT).withStatus(PENDING).build());
+        repository.addAll(charges);
+        charges.get(0).changeStatusToExpired(ChargeFixture.DUE_AT);
+        charges.get(1).changeStatusToExpired(ChargeFixture.DUE_AT);
+
+        repository.moveAll(charges, PENDING);
+
+        assertThat(find(USER1, ISSUED, PENDING), is(item(ISSUED, PENDING, 2, "160.00")));
+        assertThat(find(USER1, ISSUED, EXPIRED), is(item(ISSUED, EXPIRED, 2, "20.00")));
+        assertThat(find(USER2, RECEIVED, EXPIRED), is(item(RECEIVED, EXPIRED, 2, "20.00")));
+    }
+
+    @Test
+    void moveDoesNothingWhenStatusIsUnchanged() {
+        var before = repository.find(USER1);
+        var charge = ChargeFixture.builder().withAmount(AMOUNT).withStatus(PENDING).build();
+
+        repository.move(charge, PENDING);
+
+        assertThat(repository.find(USER1), is(before));
+    }
+
+    private ChargeSummaryItem find(UserId userId, ChargeSummarySide side, ChargeStatus status) {
+        return repository.find(userId).stream()
+                .filter(item -> item.side() == side && item.status() == status)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static ChargeSummaryItem item(ChargeSummarySide side, ChargeStatus status, long count, String total) {
+        return new ChargeSummaryItem(side, status, count, new BigDecimal(total));
+    }
+}
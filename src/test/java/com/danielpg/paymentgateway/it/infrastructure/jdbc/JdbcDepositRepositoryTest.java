@@ -7,6 +7,7 @@ import com.danielpg.paymentgateway.it.infrastructure.IntegrationTestBase;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 import java.math.BigDecimal;
 
@@ -20,6 +21,9 @@ class JdbcDepositRepositoryTest extends IntegrationTestBase {
     @Autowired
     private DepositRepository repository;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @Test
     void getReturnsDepositWhenFound() {
         var deposit = builder().withId(null).build();
@@ -65,4 +69,17 @@ class JdbcDepositRepositoryTest extends IntegrationTestBase {
         var reloaded = repository.get(deposit.id()).orElseThrow();
         assertThat(reloaded.amount().value(), is(updated.amount().value()));
     }
+
+    @Test
+    void markForReconciliationRecordsUnsavedDeposit() {
+        var deposit = builder().withId(null).build();
+
+        repository.markForReconciliation(deposit);
+
+        var row = jdbcTemplate.queryForMap("SELECT user_id, amount, created_at FROM tb_deposit_reconciliation");
+        assertThat(((Number) row.get("user_id")).longValue(), is(deposit.userId().value()));
+        assertThat(row.get("amount"), is(deposit.amount().value()));
+        assertThat(((Number) row.get("created_at")).longValue(), is(deposit.createdAt().value()));
+        assertThat(repository.get(DepositId.of(1L)).isEmpty(), is(true));
+    }
 }
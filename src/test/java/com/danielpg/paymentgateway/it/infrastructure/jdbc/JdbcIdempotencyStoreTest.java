@@ -0,0 +1,82 @@
+package com.danielpg.paymentgateway.it.infrastructure.jdbc;
+
+import com.danielpg.paymentgateway.domain.shared.TimeMillis;
+import com.danielpg.paymentgateway.domain.user.UserId;
+import com.danielpg.paymentgateway.infrastructure.idempotency.IdempotencyRecord;
+import com.danielpg.paymentgateway.infrastructure.idempotency.IdempotencyStore;
+import com.danielpg.paymentgateway.it.infrastructure.IntegrationTestBase;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.Optional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+@SpringBootTest
+class JdbcIdempotencyStoreTest extends IntegrationTestBase {
+
+    private static final UserId USER1 = UserId.of(1L);
+    private static final UserId USER2 = UserId.of(2L);
+    private static final String KEY = "chave-1";
+    private static final String HASH = "a".repeat(64);
+    private static final TimeMillis NOW = TimeMillis.of(10000L);
+    private static final TimeMillis STALE_BEFORE = TimeMillis.of(5000L);
+
+    @Autowired
+    private IdempotencyStore store;
+
+    @Test
+    void reservesKeyOnlyOncePerUser() {
+        assertThat(store.reserve(USER1, KEY, HASH, NOW, STALE_BEFORE), is(true));
+        assertThat(store.reserve(USER1, KEY, HASH, NOW, STALE_BEFORE), is(false));
+        assertThat(store.reserve(USER2, KEY, HASH, NOW, STALE_BEFORE), is(true));
+
+        assertThat(store.find(USER1, KEY), is(Optional.of(new IdempotencyRecord(HASH, null, null))));
+    }
+
+    @Test
+    void takesOverStalePendingReservation() {
+        store.reserve(USER1, KEY, HASH, TimeMillis.of(1000L), TimeMillis.of(0L));
+        var otherHash = "b".repeat(64);
+
+        assertThat(store.reserve(USER1, KEY, otherHash, NOW, STALE_BEFORE), is(true));
+
+        assertThat(store.find(USER1, KEY).orElseThrow().requestHash(), is(otherHash));
+    }
+
+    @Test
+    void doesNotTakeOverCompletedKey() {
+        store.reserve(USER1, KEY, HASH, TimeMillis.of(1000L), TimeMillis.of(0L));
+        store.complete(USER1, KEY, 201, "{\"id\":1}", TimeMillis.of(1500L));
+
+        assertThat(store.reserve(USER1, KEY, HASH, NOW, STALE_BEFORE), is(false));
+        assertThat(store.find(USER1, KEY), is(Optional.of(new IdempotencyRecord(HASH, 201, "{\"id\":1}"))));
+    }
+
+    @Test
+    void releaseRemovesOnlyPendingReservation() {
+        store.reserve(USER1, KEY, HASH, NOW, STALE_BEFORE);
+        store.reserve(USER2, KEY, HASH, NOW, STALE_BEFORE);
+        store.complete(USER2, KEY, 201, "{}", NOW);
+
+        store.release(USER1, KEY);
+        store.release(USER2, KEY);
+
+        assertThat(store.find(USER1, KEY).isEmpty(), is(true));
+        assertThat(store.find(USER2, KEY).isPresent(), is(true));
+    }
+
+    @Test
+    void deleteCreatedBeforeRemovesExpiredKeysInBatches() {
+        store.reserve(USER1, "k1", HASH, TimeMillis.of(1000L), TimeMillis.of(0L));
+        store.reserve(USER1, "k2", HASH, TimeMillis.of(2000L), TimeMillis.of(0L));
+        store.reserve(USER1, "k3", HASH, NOW, STALE_BEFORE);
+
+        assertThat(store.deleteCreatedBefore(STALE_BEFORE, 1), is(1));
+        assertThat(store.deleteCreatedBefore(STALE_BEFORE, 10), is(1));
+
+        assertThat(store.find(USER1, "k3").isPresent(), is(true));
+    }
+}
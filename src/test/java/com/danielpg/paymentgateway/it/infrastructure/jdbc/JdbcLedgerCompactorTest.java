@@ -0,0 +1,182 @@
+package com.danielpg.paymentgateway.it.infrastructure.jdbc;
+
+import com.danielpg.paymentgateway.application.shared.AppTransaction;
+import com.danielpg.paymentgateway.domain.ledger.LedgerEntry;
+import com.danielpg.paymentgateway.domain.ledger.LedgerEntryType;
+import com.danielpg.paymentgateway.domain.ledger.LedgerRepository;
+import com.danielpg.paymentgateway.domain.shared.PositiveMoney;
+import com.danielpg.paymentgateway.domain.shared.TimeMillis;
+import com.danielpg.paymentgateway.domain.user.UserId;
+import com.danielpg.paymentgateway.domain.user.UserRepository;
+import com.danielpg.paymentgateway.infrastructure.jdbc.JdbcLedgerCompactor;
+import com.danielpg.paymentgateway.it.infrastructure.IntegrationTestBase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+import static com.danielpg.paymentgateway.fixture.LedgerEntryFixture.builder;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest
+class JdbcLedgerCompactorTest extends IntegrationTestBase {
+
+    private static final long MIN_AGE = 1000L;
+    private static final UserId USER1 = UserId.of(1L);
+    private static final UserId USER2 = UserId.of(2L);
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbc;
+
+    @Autowired
+    private AppTransaction transaction;
+
+    @Autowired
+    private LedgerRepository ledgerRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private JdbcLedgerCompactor compactor;
+
+    @BeforeEach
+    void setup() {
+        compactor = new JdbcLedgerCompactor(jdbc, transaction, clock, MIN_AGE, 1, 10);
+    }
+
+    @Test
+    void foldsOldEntriesIntoSnapshot() {
+        var last = append(USER1, LedgerEntryType.DEPOSIT, "10.50", 0L);
+        append(USER2, LedgerEntryType.PAYMENT_RECEIVED, "1.00", 0L);
+        when(clock.now()).thenReturn(TimeMillis.of(MIN_AGE));
+
+        var compacted = compactor.compact();
+
+        assertThat(compacted, is(2));
+        assertThat(snapshot(USER1), is(new BigDecimal("1010.50")));
+        assertThat(watermark(USER1), is(last.id().value()));
+        assertThat(balance(USER1), is(new BigDecimal("1010.50")));
+        assertThat(balance(USER2), is(new BigDecimal("5001.00")));
+    }
+
+    @Test
+    void keepsRecentEntriesInTail() {
+        var old = append(USER1, LedgerEntryType.DEPOSIT, "10.00", 0L);
+        append(USER1, LedgerEntryType.DEPOSIT, "5.00", MIN_AGE);
+        when(clock.now()).thenReturn(TimeMillis.of(MIN_AGE));
+
+        compactor.compact();
+
+        assertThat(snapshot(USER1), is(new BigDecimal("1010.00")));
+        assertThat(watermark(USER1), is(old.id().value()));
+        assertThat(balance(USER1), is(new BigDecimal("1015.00")));
+    }
+
+    @Test
+    void stopsAtFirstRecentEntryEvenIfLaterOnesAreOld() {
+        append(USER1, LedgerEntryType.DEPOSIT, "5.00", MIN_AGE);
+        append(USER1, LedgerEntryType.DEPOSIT, "10.00", 0L);
+        when(clock.now()).thenReturn(TimeMillis.of(MIN_AGE));
+
+        var compacted = compactor.compact();
+
+        assertThat(compacted, is(0));
+        assertThat(snapshot(USER1), is(new BigDecimal("1000.00")));
+        assertThat(watermark(USER1), is(0L));
+        assertThat(balance(USER1), is(new BigDecimal("1015.00")));
+    }
+
+    @Test
+    void skipsUsersWithFewerEntriesThanMinimum() {
+        var lazyCompactor = new JdbcLedgerCompactor(jdbc, transaction, clock, MIN_AGE, 2, 10);
+        append(USER1, LedgerEntryType.DEPOSIT, "10.00", 0L);
+        when(clock.now()).thenReturn(TimeMillis.of(MIN_AGE));
+
+        assertThat(lazyCompactor.compact(), is(0));
+        assertThat(watermark(USER1), is(0L));
+    }
+
+    @Test
+    void debitAfterCompactionUsesSnapshotPlusTail() {
+        append(USER1, LedgerEntryType.DEPOSIT, "10.00", 0L);
+        when(clock.now()).thenReturn(TimeMillis.of(MIN_AGE));
+        compactor.compact();
+        append(USER1, LedgerEntryType.DEPOSIT, "5.00", MIN_AGE);
+
+        append(USER1, LedgerEntryType.PAYMENT_SENT, "1015.00", MIN_AGE);
+
+        assertThat(balance(USER1), is(new BigDecimal("0.00")));
+    }
+
+    @Test
+    void resumesFromLastUserOfPreviousBatch() {
+        var pagedCompactor = new JdbcLedgerCompactor(jdbc, transaction, clock, MIN_AGE, 1, 1);
+        append(USER1, LedgerEntryType.DEPOSIT, "10.00", 0L);
+        append(USER2, LedgerEntryType.DEPOSIT, "20.00", 0L);
+        when(clock.now()).thenReturn(TimeMillis.of(MIN_AGE));
+
+        assertThat(pagedCompactor.compact(), is(1));
+        assertThat(snapshot(USER1), is(new BigDecimal("1010.00")));
+        assertThat(snapshot(USER2), is(new BigDecimal("5000.00")));
+
+        assertThat(pagedCompactor.compact(), is(1));
+        assertThat(snapshot(USER2), is(new BigDecimal("5020.00")));
+        assertThat(pagedCompactor.compact(), is(0));
+    }
+
+    @Test
+    void refusesFoldThatWouldMakeSnapshotNegative() {
+        jdbc.update("""
+                INSERT INTO tb_ledger_entry (user_id, type, amount, reference_id, created_at)
+                VALUES (1, 'PAYMENT_SENT', -1000.01, 1, 0)
+                """, Map.of());
+        when(clock.now()).thenReturn(TimeMillis.of(MIN_AGE));
+
+        assertThrows(IllegalStateException.class, () -> compactor.compact());
+        assertThat(snapshot(USER1), is(new BigDecimal("1000.00")));
+        assertThat(watermark(USER1), is(0L));
+    }
+
+    @Test
+    void rejectsInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new JdbcLedgerCompactor(jdbc, transaction, clock, -1L, 1, 10));
+        assertThrows(IllegalArgumentException.class,
+                () -> new JdbcLedgerCompactor(jdbc, transaction, clock, MIN_AGE, 0, 10));
+        assertThrows(IllegalArgumentException.class,
+                () -> new JdbcLedgerCompactor(jdbc, transaction, clock, MIN_AGE, 1, 0));
+    }
+
+    private LedgerEntry append(UserId userId, LedgerEntryType type, String amount, long createdAt) {
+        var entry = builder()
+                .withId(null)
+                .withUserId(userId)
+                .withType(type)
+                .withAmount(PositiveMoney.of(new BigDecimal(amount)))
+                .withCreatedAt(TimeMillis.of(createdAt))
+                .build();
+        ledgerRepository.append(entry);
+        return entry;
+    }
+
+    private BigDecimal balance(UserId userId) {
+        return userRepository.getOrThrow(userId).balance().value();
+    }
+
+    private BigDecimal snapshot(UserId userId) {
+        return jdbc.queryForObject("SELECT balance FROM tb_user WHERE id = :id",
+                Map.of("id", userId.value()), BigDecimal.class);
+    }
+
+    private Long watermark(UserId userId) {
+        return jdbc.queryForObject("SELECT ledger_entry_id FROM tb_user WHERE id = :id",
+                Map.of("id", userId.value()), Long.class);
+    }
+}
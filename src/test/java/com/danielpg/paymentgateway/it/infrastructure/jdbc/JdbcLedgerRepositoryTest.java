@@ -0,0 +1,142 @@
+package com.danielpg.paymentgateway.it.infrastructure.jdbc;
+
+import com.danielpg.paymentgateway.domain.ledger.LedgerEntry;
+import com.danielpg.paymentgateway.domain.ledger.LedgerEntryType;
+import com.danielpg.paymentgateway.domain.ledger.LedgerRepository;
+import com.danielpg.paymentgateway.domain.shared.PositiveMoney;
+import com.danielpg.paymentgateway.domain.user.InsufficientBalanceException;
+import com.danielpg.paymentgateway.domain.user.UserId;
+import com.danielpg.paymentgateway.domain.user.UserNotFoundException;
+import com.danielpg.paymentgateway.domain.user.UserRepository;
+import com.danielpg.paymentgateway.it.infrastructure.IntegrationTestBase;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static com.danielpg.paymentgateway.fixture.LedgerEntryFixture.builder;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+class JdbcLedgerRepositoryTest extends IntegrationTestBase {
+
+    private static final UserId USER1 = UserId.of(1L);
+    private static final UserId USER2 = UserId.of(2L);
+
+    @Autowired
+    private LedgerRepository repository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbc;
+
+    @Test
+    void appendInsertsEntryAndAssignsId() {
+        var entry = entry(USER1, LedgerEntryType.DEPOSIT, "10.50");
+
+        repository.append(entry);
+
+        assertThat(entry.id(), notNullValue());
+        assertThat(entryCount(USER1), is(1));
+    }
+
+    @Test
+    void creditIsAddedToBalanceWithoutTouchingSnapshot() {
+        repository.append(entry(USER1, LedgerEntryType.DEPOSIT, "10.50"));
+
+        assertThat(balance(USER1), is(new BigDecimal("1010.50")));
+        assertThat(snapshot(USER1), is(new BigDecimal("1000.00")));
+    }
+
+    @Test
+    void creditThrowsExceptionWhenUserNotFound() {
+        var entry = entry(UserId.of(999L), LedgerEntryType.DEPOSIT, "1.00");
+
+        assertThrows(UserNotFoundException.class, () -> repository.append(entry));
+    }
+
+    @Test
+    void debitIsSubtractedFromBalance() {
+        repository.append(entry(USER1, LedgerEntryType.PAYMENT_SENT, "1000.00"));
+
+        assertThat(balance(USER1), is(new BigDecimal("0.00")));
+    }
+
+    @Test
+    void debitConsidersEntriesNotYetCompacted() {
+        repository.append(entry(USER1, LedgerEntryType.DEPOSIT, "5.00"));
+
+        repository.append(entry(USER1, LedgerEntryType.PAYMENT_SENT, "1005.00"));
+
+        assertThat(balance(USER1), is(new BigDecimal("0.00")));
+    }
+
+    @Test
+    void debitThrowsExceptionWhenBalanceIsInsufficient() {
+        var entry = entry(USER1, LedgerEntryType.PAYMENT_SENT, "1000.01");
+
+        assertThrows(InsufficientBalanceException.class, () -> repository.append(entry));
+
+        assertThat(balance(USER1), is(new BigDecimal("1000.00")));
+        assertThat(entryCount(USER1), is(0));
+    }
+
+    @Test
+    void debitThrowsExceptionWhenUserNotFound() {
+        var entry = entry(UserId.of(999L), LedgerEntryType.REFUND_SENT, "1.00");
+
+        var exception = assertThrows(UserNotFoundException.class, () -> repository.append(entry));
+
+        assertThat(exception.getMessage(), is("Usuário com ID 999 não encontrado."));
+    }
+
+    @Test
+    void appendAllMovesAmountBetweenUsers() {
+        repository.appendAll(List.of(
+                entry(USER2, LedgerEntryType.PAYMENT_SENT, "100.00"),
+                entry(USER1, LedgerEntryType.PAYMENT_RECEIVED, "100.00")));
+
+        assertThat(balance(USER1), is(new BigDecimal("1100.00")));
+        assertThat(balance(USER2), is(new BigDecimal("4900.00")));
+    }
+
+    @Test
+    void storesDebitsAsNegativeAmounts() {
+        repository.append(entry(USER1, LedgerEntryType.REFUND_SENT, "1.00"));
+
+        var amount = jdbc.queryForObject("SELECT amount FROM tb_ledger_entry WHERE user_id = :userId",
+                Map.of("userId", USER1.value()), BigDecimal.class);
+        assertThat(amount, is(new BigDecimal("-1.00")));
+    }
+
+    private static LedgerEntry entry(UserId userId, LedgerEntryType type, String amount) {
+        return builder()
+                .withId(null)
+                .withUserId(userId)
+                .withType(type)
+                .withAmount(PositiveMoney.of(new BigDecimal(amount)))
+                .build();
+    }
+
+    private BigDecimal balance(UserId userId) {
+        return userRepository.getOrThrow(userId).balance().value();
+    }
+
+    private BigDecimal snapshot(UserId userId) {
+        return jdbc.queryForObject("SELECT balance FROM tb_user WHERE id = :id",
+                Map.of("id", userId.value()), BigDecimal.class);
+    }
+
+    private int entryCount(UserId userId) {
+        return jdbc.queryForObject("SELECT COUNT(*) FROM tb_ledger_entry WHERE user_id = :userId",
+                Map.of("userId", userId.value()), Integer.class);
+    }
+}
@@ -0,0 +1,107 @@
+package com.danielpg.paymentgateway.it.infrastructure.jdbc;
+
+import com.danielpg.paymentgateway.application.event.OutboxMessage;
+import com.danielpg.paymentgateway.application.shared.AppTransaction;
+import com.danielpg.paymentgateway.domain.charge.ChargeId;
+import com.danielpg.paymentgateway.domain.charge.ChargeStatus;
+import com.danielpg.paymentgateway.domain.charge.ChargeStatusChangedEvent;
+import com.danielpg.paymentgateway.domain.shared.TimeMillis;
+import com.danielpg.paymentgateway.fixture.ChargeFixture;
+import com.danielpg.paymentgateway.infrastructure.jdbc.JdbcOutboxRepository;
+import com.danielpg.paymentgateway.it.infrastructure.IntegrationTestBase;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest
+class JdbcOutboxRepositoryTest extends IntegrationTestBase {
+
+    @Autowired
+    private JdbcOutboxRepository repository;
+
+    @Autowired
+    private AppTransaction transaction;
+
+    @Test
+    void publishStoresEventAsJson() {
+        when(clock.now()).thenReturn(TimeMillis.of(123L));
+        var charge = ChargeFixture.builder().withStatus(ChargeStatus.CANCELED).build();
+
+        repository.publish(ChargeStatusChangedEvent.of(charge, ChargeStatus.PENDING, TimeMillis.of(100L)));
+
+        var message = lockPending(10).get(0);
+        assertThat(message.eventType(), is(ChargeStatusChangedEvent.TYPE));
+        assertThat(message.aggregateType(), is("charge"));
+        assertThat(message.aggregateId(), is(charge.id().value()));
+        assertThat(message.createdAt(), is(123L));
+        assertThat(message.payload(), allOf(
+                containsString("\"chargeId\":1"),
+                containsString("\"previousStatus\":\"PENDING\""),
+                containsString("\"status\":\"CANCELED\""),
+                containsString("\"occurredAt\":100")));
+    }
+
+    @Test
+    void lockPendingReturnsUnpublishedMessagesInIdOrderUpToLimit() {
+        var ids = publishMany(3);
+
+        var messages = lockPending(2);
+
+        assertThat(messages.stream().map(OutboxMessage::id).toList(), is(ids.subList(0, 2)));
+    }
+
+    @Test
+    void markPublishedRemovesMessagesFromPending() {
+        var ids = publishMany(3);
+
+        repository.markPublished(ids.subList(0, 2), TimeMillis.of(10L));
+
+        assertThat(lockPending(10).stream().map(OutboxMessage::id).toList(), is(ids.subList(2, 3)));
+    }
+
+    @Test
+    void deletePublishedRemovesOnlyMessagesPublishedBeforeGivenTime() {
+        var ids = publishMany(3);
+        repository.markPublished(List.of(ids.get(0)), TimeMillis.of(10L));
+        repository.markPublished(List.of(ids.get(1)), TimeMillis.of(20L));
+
+        var deleted = repository.deletePublished(TimeMillis.of(15L), 10);
+
+        assertThat(deleted, is(1));
+        assertThat(repository.deletePublished(TimeMillis.of(15L), 10), is(0));
+        assertThat(lockPending(10).stream().map(OutboxMessage::id).toList(), is(ids.subList(2, 3)));
+    }
+
+    @Test
+    void publishAllStoresEventsInOrder() {
+        var events = List.of(
+                ChargeStatusChangedEvent.of(ChargeFixture.builder().withId(ChargeId.of(10L)).build(), null, TimeMillis.of(1L)),
+                ChargeStatusChangedEvent.of(ChargeFixture.builder().withId(ChargeId.of(11L)).build(), null, TimeMillis.of(1L)));
+
+        repository.publishAll(events);
+
+        assertThat(lockPending(10).stream().map(OutboxMessage::aggregateId).toList(), is(List.of(10L, 11L)));
+    }
+
+    private List<Long> publishMany(int count) {
+        for (int i = 0; i < count; i++) {
+            repository.publish(ChargeStatusChangedEvent.of(
+                    ChargeFixture.builder().build(), null, TimeMillis.of((long) i)));
+        }
+        return lockPending(count).stream().map(OutboxMessage::id).toList();
+    }
+
+    private List<OutboxMessage> lockPending(int limit) {
+        var result = new AtomicReference<List<OutboxMessage>>(new ArrayList<>());
+        transaction.execute(() -> result.set(repository.lockPending(limit)));
+        return result.get();
+    }
+}
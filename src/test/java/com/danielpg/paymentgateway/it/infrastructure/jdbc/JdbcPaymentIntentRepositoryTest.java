@@ -0,0 +1,192 @@
+package com.danielpg.paymentgateway.it.infrastructure.jdbc;
+
+import com.danielpg.paymentgateway.domain.charge.payment.PaymentId;
+import com.danielpg.paymentgateway.domain.charge.payment.intent.PaymentIntent;
+import com.danielpg.paymentgateway.domain.charge.payment.intent.PaymentIntentId;
+import com.danielpg.paymentgateway.domain.charge.payment.intent.PaymentIntentNotFoundException;
+import com.danielpg.paymentgateway.domain.charge.payment.intent.PaymentIntentRepository;
+import com.danielpg.paymentgateway.domain.charge.payment.intent.PaymentIntentStatus;
+import com.danielpg.paymentgateway.domain.shared.TimeMillis;
+import com.danielpg.paymentgateway.fixture.PaymentIntentFixture;
+import com.danielpg.paymentgateway.it.infrastructure.IntegrationTestBase;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.util.Map;
+
+import static com.danielpg.paymentgateway.fixture.PaymentIntentFixture.CREATED_AT;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+class JdbcPaymentIntentRepositoryTest extends IntegrationTestBase {
+
+    private static final TimeMillis LATER = TimeMillis.of(CREATED_AT.value() + 1000);
+
+    @Autowired
+    private PaymentIntentRepository repository;
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbc;
+
+    @Test
+    void savesAndReadsIntent() {
+        var intent = newIntent();
+
+        var saved = repository.getOrThrow(intent.id());
+
+        assertThat(saved, is(intent));
+    }
+
+    @Test
+    void getReturnsEmptyWhenNotFound() {
+        assertThat(repository.get(PaymentIntentId.of(999L)).isEmpty(), is(true));
+    }
+
+    @Test
+    void getOrThrowThrowsWhenNotFound() {
+        var id = PaymentIntentId.of(999L);
+
+        var exception = assertThrows(PaymentIntentNotFoundException.class, () -> repository.getOrThrow(id));
+
+        assertThat(exception.getMessage(), is("Intenção de pagamento não encontrada: 999"));
+    }
+
+    @Test
+    void claimSucceedsOnlyOnceAndCountsAttempts() {
+        var intent = newIntent();
+
+        assertThat(repository.claim(intent.id(), LATER), is(true));
+        assertThat(repository.claim(intent.id(), LATER), is(false));
+
+        var claimed = repository.getOrThrow(intent.id());
+        assertThat(claimed.status(), is(PaymentIntentStatus.PROCESSING));
+        assertThat(claimed.attempts(), is(1));
+        assertThat(claimed.updatedAt(), is(LATER));
+    }
+
+    @Test
+    void releaseReturnsIntentToPending() {
+        var intent = newIntent();
+        repository.claim(intent.id(), LATER);
+
+        repository.release(intent.id(), LATER);
+
+        assertThat(repository.getOrThrow(intent.id()).status(), is(PaymentIntentStatus.PENDING));
+        assertThat(repository.claim(intent.id(), LATER), is(true));
+        assertThat(repository.getOrThrow(intent.id()).attempts(), is(2));
+    }
+
+    @Test
+    void savesOutcome() {
+        var intent = newIntent();
+        repository.claim(intent.id(), LATER);
+        var claimed = repository.getOrThrow(intent.id());
+
+        claimed.markSucceeded(PaymentId.of(1L), LATER);
+        repository.save(claimed);
+
+        var saved = repository.getOrThrow(intent.id());
+        assertThat(saved.status(), is(PaymentIntentStatus.SUCCEEDED));
+        assertThat(saved.paymentId(), is(PaymentId.of(1L)));
+        assertThat(saved.creditCard(), nullValue());
+        var cardColumns = jdbc.queryForMap("SELECT credit_card_number, credit_card_expiration, credit_card_cvv "
+                + "FROM tb_payment_intent WHERE id = :id", Map.of("id", intent.id().value()));
+        assertThat(cardColumns.values(), everyItem(nullValue()));
+    }
+
+    @Test
+    void savesAuthorization() {
+        var intent = newIntent();
+        repository.claim(intent.id(), CREATED_AT);
+        var claimed = repository.getOrThrow(intent.id());
+
+        claimed.markAuthorized(LATER);
+        repository.save(claimed);
+
+        var saved = repository.getOrThrow(intent.id());
+        assertThat(saved.authorizedAt(), is(LATER));
+        assertThat(saved.creditCard(), is(intent.creditCard()));
+    }
+
+    @Test
+    void releaseStaleOnlyAffectsOldProcessingIntents() {
+        var stale = newIntent();
+        var recent = newIntent();
+        repository.claim(stale.id(), CREATED_AT);
+        repository.claim(recent.id(), LATER);
+
+        var released = repository.releaseStale(CREATED_AT, LATER);
+
+        assertThat(released, is(1));
+        assertThat(repository.getOrThrow(stale.id()).status(), is(PaymentIntentStatus.PENDING));
+        assertThat(repository.getOrThrow(recent.id()).status(), is(PaymentIntentStatus.PROCESSING));
+    }
+
+    @Test
+    void releaseStaleSkipsAuthorizedIntents() {
+        var authorized = authorizedIntent(CREATED_AT);
+
+        assertThat(repository.releaseStale(CREATED_AT, LATER), is(0));
+        assertThat(repository.getOrThrow(authorized.id()).status(), is(PaymentIntentStatus.PROCESSING));
+    }
+
+    @Test
+    void findStaleAuthorizedReturnsOnlyOldAuthorizedIntents() {
+        var stale = authorizedIntent(CREATED_AT);
+        authorizedIntent(LATER);
+        repository.claim(newIntent().id(), CREATED_AT);
+
+        assertThat(repository.findStaleAuthorized(CREATED_AT, 10), contains(stale.id()));
+    }
+
+    @Test
+    void claimStaleAuthorizedSucceedsOnlyOnce() {
+        var stale = authorizedIntent(CREATED_AT);
+
+        assertThat(repository.claimStaleAuthorized(stale.id(), CREATED_AT, LATER), is(true));
+        assertThat(repository.claimStaleAuthorized(stale.id(), CREATED_AT, LATER), is(false));
+        assertThat(repository.getOrThrow(stale.id()).updatedAt(), is(LATER));
+    }
+
+    @Test
+    void releaseDiscardsAuthorization() {
+        var authorized = authorizedIntent(CREATED_AT);
+
+        repository.release(authorized.id(), LATER);
+
+        var released = repository.getOrThrow(authorized.id());
+        assertThat(released.status(), is(PaymentIntentStatus.PENDING));
+        assertThat(released.isAuthorized(), is(false));
+    }
+
+    @Test
+    void findPendingReturnsOldPendingIntentsInOrder() {
+        var first = newIntent();
+        var second = newIntent();
+        var processing = newIntent();
+        repository.claim(processing.id(), CREATED_AT);
+
+        assertThat(repository.findPending(CREATED_AT, 10), contains(first.id(), second.id()));
+        assertThat(repository.findPending(CREATED_AT, 1), contains(first.id()));
+        assertThat(repository.findPending(TimeMillis.of(CREATED_AT.value() - 1), 10), empty());
+    }
+
+    private PaymentIntent authorizedIntent(TimeMillis authorizedAt) {
+        var intent = newIntent();
+        repository.claim(intent.id(), authorizedAt);
+        var claimed = repository.getOrThrow(intent.id());
+        claimed.markAuthorized(authorizedAt);
+        repository.save(claimed);
+        return claimed;
+    }
+
+    private PaymentIntent newIntent() {
+        var intent = PaymentIntentFixture.builder().withId(null).build();
+        repository.save(intent);
+        return intent;
+    }
+}
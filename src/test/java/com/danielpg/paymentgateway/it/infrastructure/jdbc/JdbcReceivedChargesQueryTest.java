@@ -11,6 +11,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 
@@ -136,4 +137,33 @@ class JdbcReceivedChargesQueryTest extends IntegrationTestBase {
 
         assertThat(result, is(EXPECTED_CANCELED_CHARGES));
     }
+
+    @Test
+    void returnsFirstPageWhenLimitIsGiven() {
+        var filter = new ReceivedChargesFilter(UserId.of(1L), null, null, 2);
+
+        var result = repository.execute(filter);
+
+        assertThat(result, is(EXPECTED_ALL_CHARGES.subList(0, 2)));
+    }
+
+    @Test
+    void returnsNextPageWhenAfterIdIsGiven() {
+        var afterId = EXPECTED_ALL_CHARGES.get(1).chargeId();
+        var filter = new ReceivedChargesFilter(UserId.of(1L), null, afterId, 2);
+
+        var result = repository.execute(filter);
+
+        assertThat(result, is(EXPECTED_ALL_CHARGES.subList(2, 4)));
+    }
+
+    @Test
+    void streamsAllChargesInOrder() {
+        var filter = new ReceivedChargesFilter(UserId.of(1L), null);
+        var result = new ArrayList<ReceivedChargesItem>();
+
+        repository.stream(filter, result::add);
+
+        assertThat(result, is(EXPECTED_ALL_CHARGES));
+    }
 }
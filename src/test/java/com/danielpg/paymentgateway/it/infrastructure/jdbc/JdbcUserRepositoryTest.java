@@ -6,6 +6,10 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
 import static com.danielpg.paymentgateway.fixture.UserFixture.builder;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
@@ -116,4 +120,35 @@ class JdbcUserRepositoryTest extends IntegrationTestBase {
         var reloaded = repository.get(user.id()).orElseThrow();
         assertThat(reloaded.name().value(), is("Updated Name"));
     }
+
+    @Test
+    void findIdsByCpfReturnsOnlyExistingUsers() {
+        var user1 = Cpf.of("12312312387");
+        var user2 = Cpf.of("32132132178");
+        var unknown = Cpf.of("00000099970");
+
+        var ids = repository.findIdsByCpf(List.of(user1, user2, unknown, user1));
+
+        assertThat(ids, is(Map.of(user1, UserId.of(1L), user2, UserId.of(2L))));
+    }
+
+    @Test
+    void findIdsByCpfReturnsEmptyMapWhenNoCpfIsGiven() {
+        assertThat(repository.findIdsByCpf(List.of()), is(Map.of()));
+    }
+
+    @Test
+    void saveDoesNotOverwriteBalance() {
+        var user = repository.getOrThrow(UserId.of(1L));
+        var updated = builder()
+                .withId(user.id())
+                .withCpf(user.cpf())
+                .withEmailAddress(user.emailAddress())
+                .withBalance(Balance.of(new BigDecimal("1.00")))
+                .build();
+
+        repository.save(updated);
+
+        assertThat(repository.getOrThrow(user.id()).balance(), is(user.balance()));
+    }
 }
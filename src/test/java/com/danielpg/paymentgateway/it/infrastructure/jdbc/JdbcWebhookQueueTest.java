@@ -0,0 +1,162 @@
+package com.danielpg.paymentgateway.it.infrastructure.jdbc;
+
+import com.danielpg.paymentgateway.application.webhook.PendingWebhook;
+import com.danielpg.paymentgateway.application.webhook.WebhookQueue;
+import com.danielpg.paymentgateway.domain.shared.TimeMillis;
+import com.danielpg.paymentgateway.domain.user.UserId;
+import com.danielpg.paymentgateway.domain.webhook.WebhookSubscription;
+import com.danielpg.paymentgateway.domain.webhook.WebhookSubscriptionId;
+import com.danielpg.paymentgateway.domain.webhook.WebhookSubscriptionRepository;
+import com.danielpg.paymentgateway.it.infrastructure.IntegrationTestBase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@SpringBootTest
+class JdbcWebhookQueueTest extends IntegrationTestBase {
+
+    private static final TimeMillis NOW = TimeMillis.of(1000L);
+    private static final TimeMillis LEASE_UNTIL = TimeMillis.of(61000L);
+
+    @Autowired
+    private WebhookQueue queue;
+
+    @Autowired
+    private WebhookSubscriptionRepository subscriptionRepository;
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbc;
+
+    private WebhookSubscriptionId first;
+    private WebhookSubscriptionId second;
+
+    @BeforeEach
+    void setUp() {
+        first = createSubscription(1L);
+        second = createSubscription(1L);
+    }
+
+    @Test
+    void enqueuesOneNotificationPerSubscription() {
+        queue.enqueue(List.of(second, first), 1L, "{\"status\":\"PAID\"}", NOW);
+
+        assertThat(queue.findDueSubscriptions(NOW, 10), is(List.of(first, second)));
+        assertThat(queue.claim(first, NOW, 10, LEASE_UNTIL), contains(
+                new PendingWebhook(id(first, 1L), first.value(), 1L, 1L, 0, "{\"status\":\"PAID\"}")));
+    }
+
+    @Test
+    void coalescesUpdatesOfTheSameCharge() {
+        queue.enqueue(List.of(first), 1L, "{\"status\":\"PAID\"}", NOW);
+        queue.enqueue(List.of(first), 1L, "{\"status\":\"CANCELED\"}", TimeMillis.of(2000L));
+
+        var claimed = queue.claim(first, NOW, 10, LEASE_UNTIL);
+
+        assertThat(claimed, hasSize(1));
+        assertThat(claimed.get(0).payload(), is("{\"status\":\"CANCELED\"}"));
+        assertThat(claimed.get(0).version(), is(2L));
+    }
+
+    @Test
+    void claimLeasesNotificationsUntilCompletedOrExpired() {
+        queue.enqueue(List.of(first), 1L, "{}", NOW);
+        queue.enqueue(List.of(first), 4L, "{}", NOW);
+
+        assertThat(queue.claim(first, NOW, 1, LEASE_UNTIL), hasSize(1));
+        assertThat(queue.claim(first, NOW, 10, LEASE_UNTIL), hasSize(1));
+        assertThat(queue.claim(first, NOW, 10, LEASE_UNTIL), is(empty()));
+        assertThat(queue.findDueSubscriptions(NOW, 10), is(empty()));
+        assertThat(queue.claim(first, LEASE_UNTIL, 10, TimeMillis.of(120000L)), hasSize(2));
+    }
+
+    @Test
+    void completeRemovesDeliveredNotifications() {
+        queue.enqueue(List.of(first), 1L, "{}", NOW);
+        var claimed = queue.claim(first, NOW, 10, LEASE_UNTIL);
+
+        queue.complete(claimed, NOW);
+
+        assertThat(count("tb_webhook_delivery"), is(0));
+    }
+
+    @Test
+    void completeKeepsNotificationUpdatedDuringDelivery() {
+        queue.enqueue(List.of(first), 1L, "{\"status\":\"PAID\"}", NOW);
+        var claimed = queue.claim(first, NOW, 10, LEASE_UNTIL);
+        queue.enqueue(List.of(first), 1L, "{\"status\":\"CANCELED\"}", NOW);
+
+        queue.complete(claimed, TimeMillis.of(2000L));
+
+        var pending = queue.claim(first, TimeMillis.of(2000L), 10, LEASE_UNTIL);
+        assertThat(pending, hasSize(1));
+        assertThat(pending.get(0).payload(), is("{\"status\":\"CANCELED\"}"));
+        assertThat(pending.get(0).attempts(), is(0));
+    }
+
+    @Test
+    void rescheduleIncrementsAttemptsAndPostponesNextAttempt() {
+        queue.enqueue(List.of(first), 1L, "{}", NOW);
+        var claimed = queue.claim(first, NOW, 10, LEASE_UNTIL);
+
+        queue.reschedule(claimed, TimeMillis.of(5000L), "status 500");
+
+        assertThat(queue.claim(first, TimeMillis.of(4999L), 10, LEASE_UNTIL), is(empty()));
+        var retried = queue.claim(first, TimeMillis.of(5000L), 10, LEASE_UNTIL);
+        assertThat(retried.get(0).attempts(), is(1));
+    }
+
+    @Test
+    void moveToDeadLetterRemovesFromQueue() {
+        queue.enqueue(List.of(first, second), 1L, "{\"status\":\"PAID\"}", NOW);
+        var claimed = queue.claim(first, NOW, 10, LEASE_UNTIL);
+
+        queue.moveToDeadLetter(claimed, "timeout", TimeMillis.of(9000L));
+
+        assertThat(count("tb_webhook_delivery"), is(1));
+        var deadLetter = jdbc.queryForMap("SELECT * FROM tb_webhook_dead_letter", Map.of());
+        assertThat(deadLetter.get("SUBSCRIPTION_ID"), is(first.value()));
+        assertThat(deadLetter.get("CHARGE_ID"), is(1L));
+        assertThat(deadLetter.get("PAYLOAD"), is("{\"status\":\"PAID\"}"));
+        assertThat(deadLetter.get("ATTEMPTS"), is(1));
+        assertThat(deadLetter.get("LAST_ERROR"), is("timeout"));
+        assertThat(deadLetter.get("FAILED_AT"), is(9000L));
+    }
+
+    @Test
+    void deletingSubscriptionDiscardsItsNotifications() {
+        queue.enqueue(List.of(first, second), 1L, "{}", NOW);
+
+        subscriptionRepository.delete(first);
+
+        assertThat(queue.findDueSubscriptions(NOW, 10), is(List.of(second)));
+    }
+
+    private WebhookSubscriptionId createSubscription(long userId) {
+        var subscription = WebhookSubscription.builder()
+                .withUserId(UserId.of(userId))
+                .withUrl("https://loja.com/webhooks")
+                .withSecret("segredo")
+                .withCreatedAt(NOW)
+                .build();
+        subscriptionRepository.save(subscription);
+        return subscription.id();
+    }
+
+    private long id(WebhookSubscriptionId subscriptionId, long chargeId) {
+        return jdbc.queryForObject("""
+                SELECT id FROM tb_webhook_delivery WHERE subscription_id = :subscriptionId AND charge_id = :chargeId
+                """, Map.of("subscriptionId", subscriptionId.value(), "chargeId", chargeId), Long.class);
+    }
+
+    private int count(String table) {
+        return jdbc.queryForObject("SELECT COUNT(*) FROM " + table, Map.of(), Integer.class);
+    }
+}
@@ -0,0 +1,35 @@
+package com.danielpg.paymentgateway.it.infrastructure.observability;
+
+import com.danielpg.paymentgateway.it.infrastructure.controller.ControllerTestBase;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureObservability(tracing = false)
+class PrometheusMetricsTest extends ControllerTestBase {
+
+    private static final long CHARGE_ID_FORBIDDEN = 4L; // emitente=2
+
+    @Test
+    void exposesUseCaseRepositoryAndExceptionMetricsWithoutAuthentication() throws Exception {
+        mockMvc.perform(patch("/charges/%d/cancel".formatted(CHARGE_ID_FORBIDDEN))
+                        .header("Authorization", userToken()))
+                .andExpect(status().isForbidden());
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(allOf(
+                        containsString("app_usecase_calls_seconds_count{class=\"CancelChargeUseCase\","
+                                + "exception=\"AccessForbiddenException\",method=\"cancelCharge\",outcome=\"error\""),
+                        containsString("app_repository_calls_seconds_count{class=\"JdbcChargeRepository\","
+                                + "exception=\"none\",method=\"getOrThrow\",outcome=\"success\""),
+                        containsString("app_exceptions_total{exception=\"AccessForbiddenException\""),
+                        containsString("jwt_principal_cache_misses_total"))));
+    }
+}
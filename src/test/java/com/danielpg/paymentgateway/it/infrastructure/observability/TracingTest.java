@@ -0,0 +1,131 @@
+package com.danielpg.paymentgateway.it.infrastructure.observability;
+
+import com.danielpg.paymentgateway.it.infrastructure.controller.ControllerTestBase;
+import com.danielpg.paymentgateway.it.infrastructure.integration.AuthorizerStubServer;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureObservability(metrics = false)
+class TracingTest extends ControllerTestBase {
+
+    private static final AuthorizerStubServer AUTHORIZER = startAuthorizer();
+    private static final long CHARGE_ID = 4L; // pagador=1
+
+    @Autowired
+    private InMemorySpanExporter exporter;
+
+    @Autowired
+    private SdkTracerProvider tracerProvider;
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("payment.authorizer.url", AUTHORIZER::url);
+        registry.add("management.tracing.sampling.probability", () -> "1.0");
+    }
+
+    @AfterAll
+    static void afterAll() {
+        AUTHORIZER.close();
+    }
+
+    @BeforeEach
+    void clearSpans() {
+        tracerProvider.forceFlush().join(10, TimeUnit.SECONDS);
+        exporter.spans.clear();
+    }
+
+    @Test
+    void tracesCardPaymentFromControllerToAuthorizer() throws Exception {
+        mockMvc.perform(post("/payments")
+                        .header(AUTHORIZATION, userToken())
+                        .contentType(APPLICATION_JSON)
+                        .content("""
+                                {
+                                    "chargeId": %d,
+                                    "method": "CREDIT_CARD",
+                                    "creditCard": {"number": "4111111111111111", "expirationDate": "12/30", "cvv": "123"}
+                                }
+                                """.formatted(CHARGE_ID)))
+                .andExpect(status().isCreated());
+        tracerProvider.forceFlush().join(10, TimeUnit.SECONDS);
+
+        var spans = List.copyOf(exporter.spans);
+        var names = spans.stream().map(SpanData::getName).toList();
+        assertThat(names, hasItems("http post /payments", "jwt.authentication", "transaction",
+                "RegisterPaymentUseCase.registerPayment", "payment.authorizer"));
+        assertThat(names, hasItem(startsWith("JdbcChargeRepository.")));
+
+        var traceId = span(spans, "http post /payments").getTraceId();
+        assertThat(spans.stream().map(SpanData::getTraceId).distinct().toList(), contains(traceId));
+        assertThat(span(spans, "payment.authorizer").getAttributes().asMap().values(),
+                hasItems("PAYMENT", "authorized"));
+        assertThat(AUTHORIZER.lastRequestHeader("traceparent"), containsString(traceId));
+    }
+
+    private static SpanData span(List<SpanData> spans, String name) {
+        return spans.stream().filter(span -> span.getName().equals(name)).findFirst().orElseThrow();
+    }
+
+    private static AuthorizerStubServer startAuthorizer() {
+        try {
+            return new AuthorizerStubServer();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @TestConfiguration
+    static class ExporterConfiguration {
+
+        @Bean
+        InMemorySpanExporter inMemorySpanExporter() {
+            return new InMemorySpanExporter();
+        }
+    }
+
+    static class InMemorySpanExporter implements SpanExporter {
+
+        private final List<SpanData> spans = new CopyOnWriteArrayList<>();
+
+        @Override
+        public CompletableResultCode export(Collection<SpanData> exported) {
+            spans.addAll(exported);
+            return CompletableResultCode.ofSuccess();
+        }
+
+        @Override
+        public CompletableResultCode flush() {
+            return CompletableResultCode.ofSuccess();
+        }
+
+        @Override
+        public CompletableResultCode shutdown() {
+            return CompletableResultCode.ofSuccess();
+        }
+    }
+}
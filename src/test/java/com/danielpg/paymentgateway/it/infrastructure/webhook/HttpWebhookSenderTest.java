@@ -0,0 +1,61 @@
+package com.danielpg.paymentgateway.it.infrastructure.webhook;
+
+import com.danielpg.paymentgateway.application.webhook.WebhookDeliveryException;
+import com.danielpg.paymentgateway.domain.shared.TimeMillis;
+import com.danielpg.paymentgateway.domain.webhook.WebhookSubscription;
+import com.danielpg.paymentgateway.fixture.WebhookSubscriptionFixture;
+import com.danielpg.paymentgateway.infrastructure.integration.HttpWebhookSender;
+import com.danielpg.paymentgateway.infrastructure.integration.InetWebhookDestinationGuard;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class HttpWebhookSenderTest {
+
+    private WebhookStubServer server;
+    private WebhookSubscription subscription;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = new WebhookStubServer();
+        subscription = WebhookSubscriptionFixture.builder().withUrl(server.url()).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @Test
+    void deliversToAllowedDestination() throws IOException {
+        var sender = newSender(new InetWebhookDestinationGuard(true));
+
+        sender.send(subscription, "{}");
+        sender.close();
+
+        assertThat(server.requests(), hasSize(1));
+        assertThat(server.requests().get(0).body(), is("{}"));
+        assertThat(server.requests().get(0).timestamp(), is("1"));
+    }
+
+    @Test
+    void neverConnectsToAddressRejectedByTheGuard() throws IOException {
+        var sender = newSender(new InetWebhookDestinationGuard(false));
+
+        var exception = assertThrows(WebhookDeliveryException.class, () -> sender.send(subscription, "{}"));
+        sender.close();
+
+        assertThat(exception.getMessage(), containsString("O destino do webhook deve ser um endereço público."));
+        assertThat(server.requests(), empty());
+    }
+
+    private static HttpWebhookSender newSender(InetWebhookDestinationGuard guard) {
+        return new HttpWebhookSender(() -> TimeMillis.of(1L), guard, 2000L, 5000L);
+    }
+}
@@ -0,0 +1,136 @@
+package com.danielpg.paymentgateway.it.infrastructure.webhook;
+
+import com.danielpg.paymentgateway.application.shared.AppTransaction;
+import com.danielpg.paymentgateway.application.webhook.WebhookDeliveryService;
+import com.danielpg.paymentgateway.domain.charge.CancelChargeService;
+import com.danielpg.paymentgateway.domain.charge.ChargeId;
+import com.danielpg.paymentgateway.domain.charge.ChargeRepository;
+import com.danielpg.paymentgateway.domain.charge.ChargeStatusChangedEvent;
+import com.danielpg.paymentgateway.domain.event.DomainEventPublisher;
+import com.danielpg.paymentgateway.domain.shared.TimeMillis;
+import com.danielpg.paymentgateway.domain.user.UserId;
+import com.danielpg.paymentgateway.domain.webhook.WebhookSubscription;
+import com.danielpg.paymentgateway.domain.webhook.WebhookSubscriptionRepository;
+import com.danielpg.paymentgateway.infrastructure.worker.OutboxRelayWorker;
+import com.danielpg.paymentgateway.it.infrastructure.IntegrationTestBase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.HexFormat;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@SpringBootTest
+class WebhookDeliveryIntegrationTest extends IntegrationTestBase {
+
+    private static final String SECRET = "segredo";
+
+    @Autowired
+    private AppTransaction transaction;
+
+    @Autowired
+    private ChargeRepository chargeRepository;
+
+    @Autowired
+    private CancelChargeService cancelChargeService;
+
+    @Autowired
+    private DomainEventPublisher eventPublisher;
+
+    @Autowired
+    private OutboxRelayWorker outboxRelayWorker;
+
+    @Autowired
+    private WebhookDeliveryService deliveryService;
+
+    @Autowired
+    private WebhookSubscriptionRepository subscriptionRepository;
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbc;
+
+    private WebhookStubServer server;
+    private WebhookSubscription subscription;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = new WebhookStubServer();
+        subscription = WebhookSubscription.builder()
+                .withUserId(UserId.of(1L))
+                .withUrl(server.url())
+                .withSecret(SECRET)
+                .withCreatedAt(TimeMillis.of(0L))
+                .build();
+        subscriptionRepository.save(subscription);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @Test
+    void deliversStatusChangesOfChargesIssuedByTheSubscriber() throws Exception {
+        cancelCharge(1L);
+        cancelCharge(4L);
+        outboxRelayWorker.drain();
+
+        assertThat(deliveryService.deliverNext(subscription.id()), is(1));
+
+        assertThat(server.requests(), hasSize(1));
+        var request = server.requests().get(0);
+        assertThat(request.body(), startsWith("[{"));
+        assertThat(request.body(), containsString("\"chargeId\":1,"));
+        assertThat(request.body(), containsString("\"status\":\"CANCELED\""));
+        assertThat(request.signature(), is("sha256=" + hmac(request.timestamp() + "." + request.body())));
+        assertThat(pendingCount(), is(0));
+    }
+
+    @Test
+    void doesNotNotifyChargeCreation() {
+        var charge = chargeRepository.getOrThrow(ChargeId.of(1L));
+        transaction.execute(() -> eventPublisher.publish(ChargeStatusChangedEvent.of(charge, null, TimeMillis.of(0L))));
+        outboxRelayWorker.drain();
+
+        assertThat(deliveryService.deliverNext(subscription.id()), is(0));
+        assertThat(server.requests(), is(empty()));
+    }
+
+    @Test
+    void keepsNotificationForRetryWhenDestinationFails() {
+        server.setStatus(500);
+        cancelCharge(1L);
+        outboxRelayWorker.drain();
+
+        assertThat(deliveryService.deliverNext(subscription.id()), is(0));
+
+        assertThat(server.requests(), hasSize(1));
+        var pending = jdbc.queryForMap("SELECT attempts, next_attempt_at, last_error FROM tb_webhook_delivery", Map.of());
+        assertThat(pending.get("ATTEMPTS"), is(1));
+        assertThat((Long) pending.get("NEXT_ATTEMPT_AT"), greaterThan(0L));
+        assertThat((String) pending.get("LAST_ERROR"), containsString("500"));
+    }
+
+    private void cancelCharge(long id) {
+        transaction.execute(() -> cancelChargeService.cancelCharge(chargeRepository.getOrThrow(ChargeId.of(id))));
+    }
+
+    private int pendingCount() {
+        return jdbc.queryForObject("SELECT COUNT(*) FROM tb_webhook_delivery", Map.of(), Integer.class);
+    }
+
+    private static String hmac(String content) throws Exception {
+        var mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        return HexFormat.of().formatHex(mac.doFinal(content.getBytes(StandardCharsets.UTF_8)));
+    }
+}
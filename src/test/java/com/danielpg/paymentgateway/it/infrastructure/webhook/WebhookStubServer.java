@@ -0,0 +1,58 @@
+package com.danielpg.paymentgateway.it.infrastructure.webhook;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class WebhookStubServer implements AutoCloseable {
+
+    private final HttpServer server;
+    private final AtomicInteger status = new AtomicInteger(200);
+    private final List<Request> requests = new CopyOnWriteArrayList<>();
+
+    public WebhookStubServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", this::handle);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.start();
+    }
+
+    public String url() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/webhooks";
+    }
+
+    public void setStatus(int status) {
+        this.status.set(status);
+    }
+
+    public List<Request> requests() {
+        return List.copyOf(requests);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (var in = exchange.getRequestBody()) {
+            var headers = exchange.getRequestHeaders();
+            requests.add(new Request(
+                    new String(in.readAllBytes(), StandardCharsets.UTF_8),
+                    headers.getFirst("X-Webhook-Timestamp"),
+                    headers.getFirst("X-Webhook-Signature")));
+        }
+        exchange.sendResponseHeaders(status.get(), -1);
+        exchange.close();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    public record Request(String body, String timestamp, String signature) {
+    }
+}
@@ -0,0 +1,94 @@
+package com.danielpg.paymentgateway.it.infrastructure.worker;
+
+import com.danielpg.paymentgateway.application.charge.ExpireOverdueChargesUseCase;
+import com.danielpg.paymentgateway.application.shared.AppTransaction;
+import com.danielpg.paymentgateway.domain.charge.ChargeId;
+import com.danielpg.paymentgateway.domain.charge.ChargeRepository;
+import com.danielpg.paymentgateway.domain.charge.ChargeStatus;
+import com.danielpg.paymentgateway.domain.charge.ChargeStatusChangedEvent;
+import com.danielpg.paymentgateway.domain.charge.summary.ChargeSummaryRepository;
+import com.danielpg.paymentgateway.domain.event.DomainEventPublisher;
+import com.danielpg.paymentgateway.domain.shared.TimeMillis;
+import com.danielpg.paymentgateway.infrastructure.worker.ChargeExpiryWorker;
+import com.danielpg.paymentgateway.it.infrastructure.IntegrationTestBase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest
+class ChargeExpiryIntegrationTest extends IntegrationTestBase {
+
+    // Vencimento da cobrança 4; a cobrança 1 venceu antes e a 9 vence depois.
+    private static final TimeMillis NOW = TimeMillis.of(1700007201L);
+
+    @Autowired
+    private AppTransaction transaction;
+
+    @Autowired
+    private ChargeRepository chargeRepository;
+
+    @Autowired
+    private ChargeSummaryRepository chargeSummaryRepository;
+
+    @Autowired
+    private DomainEventPublisher eventPublisher;
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbc;
+
+    private ChargeExpiryWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        when(clock.now()).thenReturn(NOW);
+        var useCase = new ExpireOverdueChargesUseCase(transaction, chargeRepository, chargeSummaryRepository,
+                eventPublisher, clock, 1);
+        worker = new ChargeExpiryWorker(useCase, 10);
+    }
+
+    @Test
+    void expiresOnlyPendingOverdueChargesInBatches() {
+        worker.poll();
+
+        assertThat(status(1L), is(ChargeStatus.EXPIRED));
+        assertThat(status(4L), is(ChargeStatus.EXPIRED));
+        assertThat(status(9L), is(ChargeStatus.PENDING));
+        assertThat(status(2L), is(ChargeStatus.PAID));
+        assertThat(chargeRepository.lockOverdue(NOW, 10), is(empty()));
+    }
+
+    @Test
+    void movesSummaryAndPublishesStatusChange() {
+        worker.poll();
+
+        assertThat(summaryCount(1L, "ISSUED", "PENDING"), is(0L));
+        assertThat(summaryCount(1L, "ISSUED", "EXPIRED"), is(1L));
+        assertThat(summaryCount(1L, "RECEIVED", "EXPIRED"), is(1L));
+        assertThat(summaryCount(1L, "RECEIVED", "PENDING"), is(1L));
+        var payloads = jdbc.queryForList("SELECT payload FROM tb_outbox WHERE event_type = :type ORDER BY id",
+                Map.of("type", ChargeStatusChangedEvent.TYPE), String.class);
+        assertThat(payloads, hasSize(2));
+        assertThat(payloads.get(0), allOf(
+                containsString("\"chargeId\":1"),
+                containsString("\"previousStatus\":\"PENDING\""),
+                containsString("\"status\":\"EXPIRED\"")));
+    }
+
+    private ChargeStatus status(long chargeId) {
+        return chargeRepository.getOrThrow(ChargeId.of(chargeId)).status();
+    }
+
+    private long summaryCount(long userId, String side, String status) {
+        return jdbc.queryForObject("""
+                SELECT charge_count FROM tb_charge_summary WHERE user_id = :userId AND side = :side AND status = :status
+                """, Map.of("userId", userId, "side", side, "status", status), Long.class);
+    }
+}
@@ -0,0 +1,121 @@
+package com.danielpg.paymentgateway.it.infrastructure.worker;
+
+import com.danielpg.paymentgateway.application.event.OutboxMessage;
+import com.danielpg.paymentgateway.application.event.OutboxRelay;
+import com.danielpg.paymentgateway.application.event.OutboxRepository;
+import com.danielpg.paymentgateway.application.event.OutboxSubscriber;
+import com.danielpg.paymentgateway.application.shared.AppTransaction;
+import com.danielpg.paymentgateway.domain.charge.CancelChargeService;
+import com.danielpg.paymentgateway.domain.charge.ChargeId;
+import com.danielpg.paymentgateway.domain.charge.ChargeRepository;
+import com.danielpg.paymentgateway.domain.charge.ChargeStatusChangedEvent;
+import com.danielpg.paymentgateway.infrastructure.worker.OutboxRelayWorker;
+import com.danielpg.paymentgateway.it.infrastructure.IntegrationTestBase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@SpringBootTest
+class OutboxRelayIntegrationTest extends IntegrationTestBase {
+
+    @Autowired
+    private AppTransaction transaction;
+
+    @Autowired
+    private OutboxRepository outboxRepository;
+
+    @Autowired
+    private ChargeRepository chargeRepository;
+
+    @Autowired
+    private CancelChargeService cancelChargeService;
+
+    private RecordingSubscriber subscriber;
+    private OutboxRelayWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        subscriber = new RecordingSubscriber();
+        var relay = new OutboxRelay(transaction, outboxRepository, List.of(subscriber), clock, 2);
+        worker = new OutboxRelayWorker(relay, outboxRepository, clock, 100L, 1000L, 60000L);
+    }
+
+    @Test
+    void deliversEventWrittenInTheSameTransactionAsTheStatusChange() {
+        cancelCharge(1L);
+
+        var published = worker.drain();
+
+        assertThat(published, is(1));
+        assertThat(subscriber.messages, hasSize(1));
+        var message = subscriber.messages.get(0);
+        assertThat(message.eventType(), is(ChargeStatusChangedEvent.TYPE));
+        assertThat(message.aggregateId(), is(1L));
+        assertThat(message.payload(), containsString("\"status\":\"CANCELED\""));
+        assertThat(worker.drain(), is(0));
+    }
+
+    @Test
+    void drainsSeveralBatchesInIdOrder() {
+        cancelCharge(1L);
+        cancelCharge(4L);
+        cancelCharge(9L);
+
+        var published = worker.drain();
+
+        assertThat(published, is(3));
+        assertThat(subscriber.messages.stream().map(OutboxMessage::aggregateId).toList(), is(List.of(1L, 4L, 9L)));
+    }
+
+    @Test
+    void doesNotWriteEventWhenTransactionRollsBack() {
+        try {
+            transaction.execute(() -> {
+                cancelChargeService.cancelCharge(chargeRepository.getOrThrow(ChargeId.of(1L)));
+                throw new IllegalStateException("rollback");
+            });
+        } catch (IllegalStateException ignored) {
+            // esperado
+        }
+
+        assertThat(worker.drain(), is(0));
+        assertThat(subscriber.messages, is(empty()));
+    }
+
+    @Test
+    void redeliversMessageAfterSubscriberFailure() {
+        cancelCharge(1L);
+        subscriber.failuresLeft = 1;
+
+        assertThat(worker.drain(), is(0));
+        assertThat(worker.drain(), is(1));
+
+        assertThat(subscriber.messages, hasSize(1));
+    }
+
+    private void cancelCharge(long id) {
+        transaction.execute(() -> cancelChargeService.cancelCharge(chargeRepository.getOrThrow(ChargeId.of(id))));
+    }
+
+    private static class RecordingSubscriber implements OutboxSubscriber {
+
+        private final List<OutboxMessage> messages = new ArrayList<>();
+        private int failuresLeft;
+
+        @Override
+        public void onMessage(OutboxMessage message) {
+            if (failuresLeft > 0) {
+                failuresLeft--;
+                throw new IllegalStateException("Falha simulada");
+            }
+            messages.add(message);
+        }
+    }
+}
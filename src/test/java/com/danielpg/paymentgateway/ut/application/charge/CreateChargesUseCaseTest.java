@@ -0,0 +1,98 @@
+package com.danielpg.paymentgateway.ut.application.charge;
+
+import com.danielpg.paymentgateway.application.charge.CreateChargesUseCase;
+import com.danielpg.paymentgateway.application.shared.AppTransaction;
+import com.danielpg.paymentgateway.application.shared.RequesterProvider;
+import com.danielpg.paymentgateway.domain.charge.CreateChargeService;
+import com.danielpg.paymentgateway.fixture.AppTransactionFixture;
+import com.danielpg.paymentgateway.fixture.ChargeFixture;
+import com.danielpg.paymentgateway.fixture.UserFixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.danielpg.paymentgateway.fixture.AppTransactionFixture.assertThatInTransaction;
+import static com.danielpg.paymentgateway.fixture.ChargeFixture.ISSUER_CPF;
+import static com.danielpg.paymentgateway.fixture.CpfFixture.CPF2_VALUE;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class CreateChargesUseCaseTest {
+
+    private static final int MAX_ITEMS = 3;
+    private static final CreateChargesUseCase.Item VALID_ITEM =
+            new CreateChargesUseCase.Item(CPF2_VALUE, BigDecimal.TEN, "Mensalidade");
+
+    private AppTransaction transaction;
+    private RequesterProvider requesterProvider;
+    private CreateChargeService createChargeService;
+    private CreateChargesUseCase useCase;
+
+    @BeforeEach
+    void beforeEach() {
+        transaction = AppTransactionFixture.mockedTransaction();
+        requesterProvider = mock(RequesterProvider.class);
+        createChargeService = mock(CreateChargeService.class);
+        useCase = new CreateChargesUseCase(transaction, requesterProvider, createChargeService, MAX_ITEMS);
+
+        when(requesterProvider.requester()).thenReturn(UserFixture.builder().withCpf(ISSUER_CPF).build());
+        assertThatInTransaction(transaction).when(createChargeService).createCharges(any(), any());
+    }
+
+    @Test
+    void sendsOnlyValidItemsToServiceAndMergesErrorsByIndex() {
+        var created = new CreateChargeService.CreatedItem(0, ChargeFixture.builder().build());
+        var notFound = new CreateChargeService.ItemError(2, "Usuário com CPF 99*******08 não encontrado.");
+        doReturn(new CreateChargeService.BulkResult(List.of(created), List.of(notFound)))
+                .when(createChargeService).createCharges(any(), any());
+
+        var result = useCase.createCharges(List.of(
+                VALID_ITEM,
+                new CreateChargesUseCase.Item("123", BigDecimal.TEN, null),
+                VALID_ITEM));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<CreateChargeService.BulkItem>> items = ArgumentCaptor.forClass(List.class);
+        verify(createChargeService).createCharges(eq(ISSUER_CPF), items.capture());
+        assertThat(items.getValue().stream().map(CreateChargeService.BulkItem::index).toList(), is(List.of(0, 2)));
+        assertThat(result.created(), is(List.of(created)));
+        assertThat(result.errors(), is(List.of(
+                new CreateChargeService.ItemError(1, "CPF inválido: ***"),
+                notFound)));
+    }
+
+    @Test
+    void reportsRequiredFieldsPerItem() {
+        var result = useCase.createCharges(Arrays.asList(
+                new CreateChargesUseCase.Item(null, BigDecimal.TEN, null),
+                new CreateChargesUseCase.Item(CPF2_VALUE, null, null),
+                null));
+
+        assertThat(result.errors().stream().map(CreateChargeService.ItemError::message).toList(), is(List.of(
+                "O CPF do pagador é requerido.",
+                "O valor é requerido.",
+                "A cobrança é requerida.")));
+        verifyNoInteractions(createChargeService);
+        verify(transaction, never()).executeWithResult(any());
+    }
+
+    @Test
+    void throwsExceptionWhenBatchIsEmptyOrTooLarge() {
+        var tooMany = List.of(VALID_ITEM, VALID_ITEM, VALID_ITEM, VALID_ITEM);
+
+        assertThrows(IllegalArgumentException.class, () -> useCase.createCharges(List.of()));
+        assertThrows(IllegalArgumentException.class, () -> useCase.createCharges(null));
+        var exception = assertThrows(IllegalArgumentException.class, () -> useCase.createCharges(tooMany));
+
+        assertThat(exception.getMessage(), is("O lote deve ter de 1 a 3 cobranças."));
+        verifyNoInteractions(createChargeService);
+    }
+}
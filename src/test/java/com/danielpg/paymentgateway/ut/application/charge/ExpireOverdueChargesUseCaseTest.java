@@ -0,0 +1,85 @@
+package com.danielpg.paymentgateway.ut.application.charge;
+
+import com.danielpg.paymentgateway.application.charge.ExpireOverdueChargesUseCase;
+import com.danielpg.paymentgateway.application.shared.AppTransaction;
+import com.danielpg.paymentgateway.domain.charge.ChargeId;
+import com.danielpg.paymentgateway.domain.charge.ChargeRepository;
+import com.danielpg.paymentgateway.domain.charge.ChargeStatus;
+import com.danielpg.paymentgateway.domain.charge.ChargeStatusChangedEvent;
+import com.danielpg.paymentgateway.domain.charge.summary.ChargeSummaryRepository;
+import com.danielpg.paymentgateway.domain.event.DomainEventPublisher;
+import com.danielpg.paymentgateway.domain.shared.AppClock;
+import com.danielpg.paymentgateway.domain.shared.TimeMillis;
+import com.danielpg.paymentgateway.fixture.AppTransactionFixture;
+import com.danielpg.paymentgateway.fixture.ChargeFixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.danielpg.paymentgateway.fixture.AppTransactionFixture.assertThatInTransaction;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ExpireOverdueChargesUseCaseTest {
+
+    private static final int BATCH_SIZE = 2;
+    private static final TimeMillis NOW = TimeMillis.of(1000L);
+
+    private AppTransaction transaction;
+    private ChargeRepository chargeRepository;
+    private ChargeSummaryRepository chargeSummaryRepository;
+    private DomainEventPublisher eventPublisher;
+    private AppClock clock;
+    private ExpireOverdueChargesUseCase useCase;
+
+    @BeforeEach
+    void beforeEach() {
+        transaction = AppTransactionFixture.mockedTransaction();
+        chargeRepository = mock(ChargeRepository.class);
+        chargeSummaryRepository = mock(ChargeSummaryRepository.class);
+        eventPublisher = mock(DomainEventPublisher.class);
+        clock = mock(AppClock.class);
+        when(clock.now()).thenReturn(NOW);
+        useCase = new ExpireOverdueChargesUseCase(transaction, chargeRepository, chargeSummaryRepository,
+                eventPublisher, clock, BATCH_SIZE);
+    }
+
+    @Test
+    void expiresLockedChargesInTransaction() {
+        var first = ChargeFixture.builder().withId(ChargeId.of(1L)).build();
+        var second = ChargeFixture.builder().withId(ChargeId.of(2L)).build();
+        when(chargeRepository.lockOverdue(NOW, BATCH_SIZE)).thenReturn(List.of(first, second));
+        assertThatInTransaction(transaction).when(chargeRepository).saveAll(any());
+
+        var expired = useCase.expireBatch();
+
+        assertThat(expired, is(2));
+        assertThat(first.status(), is(ChargeStatus.EXPIRED));
+        assertThat(second.status(), is(ChargeStatus.EXPIRED));
+        verify(chargeRepository).saveAll(List.of(first, second));
+        verify(chargeSummaryRepository).moveAll(List.of(first, second), ChargeStatus.PENDING);
+        verify(eventPublisher).publishAll(List.of(
+                ChargeStatusChangedEvent.of(first, ChargeStatus.PENDING, NOW),
+                ChargeStatusChangedEvent.of(second, ChargeStatus.PENDING, NOW)));
+    }
+
+    @Test
+    void doesNothingWhenThereIsNoOverdueCharge() {
+        when(chargeRepository.lockOverdue(NOW, BATCH_SIZE)).thenReturn(List.of());
+
+        assertThat(useCase.expireBatch(), is(0));
+
+        verify(chargeRepository, never()).saveAll(any());
+        verifyNoInteractions(chargeSummaryRepository, eventPublisher);
+    }
+
+    @Test
+    void throwsExceptionWhenBatchSizeIsNotPositive() {
+        assertThrows(IllegalArgumentException.class, () -> new ExpireOverdueChargesUseCase(transaction,
+                chargeRepository, chargeSummaryRepository, eventPublisher, clock, 0));
+    }
+}
@@ -11,12 +11,16 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 public class FindIssuedChargesUseCaseTest {
@@ -24,13 +28,14 @@ public class FindIssuedChargesUseCaseTest {
     private static final long NOW = System.currentTimeMillis();
 
     private static final IssuedChargesFilter FILTER =
-            new IssuedChargesFilter(UserId.of(1L), Set.of());
+            new IssuedChargesFilter(UserId.of(1L), Set.of(), null, IssuedChargesFilter.DEFAULT_LIMIT);
 
     private static final List<IssuedChargesItem> ITEMS = List.of(
             createItem(1L, ChargeStatus.PENDING),
             createItem(2L, ChargeStatus.PAID),
             createItem(3L, ChargeStatus.PENDING),
-            createItem(4L, ChargeStatus.CANCELED)
+            createItem(4L, ChargeStatus.CANCELED),
+            createItem(5L, ChargeStatus.EXPIRED)
     );
 
     private static final FindIssuedChargesUseCase.Response EXPECTED =
@@ -40,7 +45,9 @@ public class FindIssuedChargesUseCaseTest {
                             createItem(3L, ChargeStatus.PENDING)
                     ),
                     List.of(createItem(2L, ChargeStatus.PAID)),
-                    List.of(createItem(4L, ChargeStatus.CANCELED))
+                    List.of(createItem(4L, ChargeStatus.CANCELED)),
+                    List.of(createItem(5L, ChargeStatus.EXPIRED)),
+                    null
             );
 
 
@@ -88,6 +95,46 @@ public class FindIssuedChargesUseCaseTest {
         verify(issuedChargesQuery).execute(FILTER);
     }
 
+    @Test
+    void returnsNextCursorWhenPageIsFull() {
+        var filter = new IssuedChargesFilter(UserId.of(1L), Set.of(), 10L, 2);
+        when(requesterProvider.requesterId()).thenReturn(filter.issuerId());
+        when(issuedChargesQuery.execute(filter)).thenReturn(ITEMS.subList(0, 2));
+
+        var response = useCase.find(Set.of(), 10L, 2);
+
+        assertThat(response.nextCursor(), is(2L));
+        verify(issuedChargesQuery).execute(filter);
+    }
+
+    @Test
+    void returnsNullNextCursorWhenPageIsNotFull() {
+        var filter = new IssuedChargesFilter(UserId.of(1L), Set.of(), null, 10);
+        when(requesterProvider.requesterId()).thenReturn(filter.issuerId());
+        when(issuedChargesQuery.execute(filter)).thenReturn(ITEMS);
+
+        var response = useCase.find(Set.of(), null, 10);
+
+        assertThat(response.nextCursor(), is((Long) null));
+    }
+
+    @Test
+    void streamDelegatesToQueryWithoutLimit() {
+        var filter = new IssuedChargesFilter(UserId.of(1L), Set.of(), 3L, null);
+        when(requesterProvider.requesterId()).thenReturn(filter.issuerId());
+        doAnswer(invocation -> {
+            Consumer<IssuedChargesItem> consumer = invocation.getArgument(1);
+            ITEMS.forEach(consumer);
+            return null;
+        }).when(issuedChargesQuery).stream(eq(filter), any());
+
+        var received = new ArrayList<IssuedChargesItem>();
+        useCase.stream(Set.of(), 3L).forEach(received::add);
+
+        assertThat(received, is(ITEMS));
+        verify(issuedChargesQuery).stream(eq(filter), any());
+    }
+
     private static IssuedChargesItem createItem(Long id, ChargeStatus status) {
         return new IssuedChargesItem(
                 id,
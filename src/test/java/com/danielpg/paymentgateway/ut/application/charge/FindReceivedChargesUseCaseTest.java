@@ -11,12 +11,16 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 public class FindReceivedChargesUseCaseTest {
@@ -24,13 +28,14 @@ public class FindReceivedChargesUseCaseTest {
     private static final long NOW = System.currentTimeMillis();
 
     private static final ReceivedChargesFilter FILTER =
-            new ReceivedChargesFilter(UserId.of(1L), Set.of());
+            new ReceivedChargesFilter(UserId.of(1L), Set.of(), null, ReceivedChargesFilter.DEFAULT_LIMIT);
 
     private static final List<ReceivedChargesItem> ITEMS = List.of(
             createItem(1L, ChargeStatus.PENDING),
             createItem(2L, ChargeStatus.PAID),
             createItem(3L, ChargeStatus.PENDING),
-            createItem(4L, ChargeStatus.CANCELED)
+            createItem(4L, ChargeStatus.CANCELED),
+            createItem(5L, ChargeStatus.EXPIRED)
     );
 
     private static final FindReceivedChargesUseCase.Response EXPECTED =
@@ -40,7 +45,9 @@ public class FindReceivedChargesUseCaseTest {
                             createItem(3L, ChargeStatus.PENDING)
                     ),
                     List.of(createItem(2L, ChargeStatus.PAID)),
-                    List.of(createItem(4L, ChargeStatus.CANCELED))
+                    List.of(createItem(4L, ChargeStatus.CANCELED)),
+                    List.of(createItem(5L, ChargeStatus.EXPIRED)),
+                    null
             );
 
     private RequesterProvider requesterProvider;
@@ -87,6 +94,46 @@ public class FindReceivedChargesUseCaseTest {
         verify(receivedChargesQuery).execute(FILTER);
     }
 
+    @Test
+    void returnsNextCursorWhenPageIsFull() {
+        var filter = new ReceivedChargesFilter(UserId.of(1L), Set.of(), 10L, 2);
+        when(requesterProvider.requesterId()).thenReturn(filter.payerId());
+        when(receivedChargesQuery.execute(filter)).thenReturn(ITEMS.subList(0, 2));
+
+        var response = useCase.find(Set.of(), 10L, 2);
+
+        assertThat(response.nextCursor(), is(2L));
+        verify(receivedChargesQuery).execute(filter);
+    }
+
+    @Test
+    void returnsNullNextCursorWhenPageIsNotFull() {
+        var filter = new ReceivedChargesFilter(UserId.of(1L), Set.of(), null, 10);
+        when(requesterProvider.requesterId()).thenReturn(filter.payerId());
+        when(receivedChargesQuery.execute(filter)).thenReturn(ITEMS);
+
+        var response = useCase.find(Set.of(), null, 10);
+
+        assertThat(response.nextCursor(), is((Long) null));
+    }
+
+    @Test
+    void streamDelegatesToQueryWithoutLimit() {
+        var filter = new ReceivedChargesFilter(UserId.of(1L), Set.of(), 3L, null);
+        when(requesterProvider.requesterId()).thenReturn(filter.payerId());
+        doAnswer(invocation -> {
+            Consumer<ReceivedChargesItem> consumer = invocation.getArgument(1);
+            ITEMS.forEach(consumer);
+            return null;
+        }).when(receivedChargesQuery).stream(eq(filter), any());
+
+        var received = new ArrayList<ReceivedChargesItem>();
+        useCase.stream(Set.of(), 3L).forEach(received::add);
+
+        assertThat(received, is(ITEMS));
+        verify(receivedChargesQuery).stream(eq(filter), any());
+    }
+
     private static ReceivedChargesItem createItem(Long id, ChargeStatus status) {
         return new ReceivedChargesItem(
                 id,
@@ -0,0 +1,82 @@
+package com.danielpg.paymentgateway.ut.application.charge;
+
+import com.danielpg.paymentgateway.application.charge.GetChargeSummaryUseCase;
+import com.danielpg.paymentgateway.application.charge.GetChargeSummaryUseCase.Totals;
+import com.danielpg.paymentgateway.application.shared.RequesterProvider;
+import com.danielpg.paymentgateway.domain.charge.summary.ChargeSummaryItem;
+import com.danielpg.paymentgateway.domain.charge.summary.ChargeSummaryRepository;
+import com.danielpg.paymentgateway.domain.user.UserId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static com.danielpg.paymentgateway.domain.charge.ChargeStatus.*;
+import static com.danielpg.paymentgateway.domain.charge.summary.ChargeSummarySide.ISSUED;
+import static com.danielpg.paymentgateway.domain.charge.summary.ChargeSummarySide.RECEIVED;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+class GetChargeSummaryUseCaseTest {
+
+    private static final UserId USER_ID = UserId.of(1L);
+    private static final BigDecimal ZERO = new BigDecimal("0.00");
+
+    private RequesterProvider requesterProvider;
+    private ChargeSummaryRepository chargeSummaryRepository;
+    private GetChargeSummaryUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        requesterProvider = mock(RequesterProvider.class);
+        chargeSummaryRepository = mock(ChargeSummaryRepository.class);
+        useCase = new GetChargeSummaryUseCase(requesterProvider, chargeSummaryRepository);
+        when(requesterProvider.requesterId()).thenReturn(USER_ID);
+    }
+
+    @Test
+    void groupsItemsBySideAndFillsMissingStatusesWithZero() {
+        when(chargeSummaryRepository.find(USER_ID)).thenReturn(List.of(
+                new ChargeSummaryItem(ISSUED, PAID, 2L, new BigDecimal("20.00")),
+                new ChargeSummaryItem(RECEIVED, PENDING, 1L, new BigDecimal("5.50")),
+                new ChargeSummaryItem(RECEIVED, CANCELED, 3L, new BigDecimal("30.00"))
+        ));
+
+        var response = useCase.getSummary();
+
+        assertThat(response.issued(), is(List.of(
+                new Totals(PENDING, 0L, ZERO),
+                new Totals(PAID, 2L, new BigDecimal("20.00")),
+                new Totals(CANCELED, 0L, ZERO),
+                new Totals(EXPIRED, 0L, ZERO))));
+        assertThat(response.received(), is(List.of(
+                new Totals(PENDING, 1L, new BigDecimal("5.50")),
+                new Totals(PAID, 0L, ZERO),
+                new Totals(CANCELED, 3L, new BigDecimal("30.00")),
+                new Totals(EXPIRED, 0L, ZERO))));
+    }
+
+    @Test
+    void returnsZeroTotalsWhenUserHasNoCharges() {
+        when(chargeSummaryRepository.find(USER_ID)).thenReturn(List.of());
+
+        var response = useCase.getSummary();
+
+        var zeros = List.of(new Totals(PENDING, 0L, ZERO), new Totals(PAID, 0L, ZERO), new Totals(CANCELED, 0L, ZERO),
+                new Totals(EXPIRED, 0L, ZERO));
+        assertThat(response.issued(), is(zeros));
+        assertThat(response.received(), is(zeros));
+    }
+
+    @Test
+    void throwsExceptionWhenRequesterProviderFails() {
+        when(requesterProvider.requesterId()).thenThrow(RuntimeException.class);
+
+        assertThrows(RuntimeException.class, () -> useCase.getSummary());
+
+        verifyNoInteractions(chargeSummaryRepository);
+    }
+}
@@ -0,0 +1,202 @@
+package com.danielpg.paymentgateway.ut.application.charge.payment;
+
+import com.danielpg.paymentgateway.application.charge.payment.ProcessPaymentIntentUseCase;
+import com.danielpg.paymentgateway.domain.charge.Charge;
+import com.danielpg.paymentgateway.domain.charge.ChargeRepository;
+import com.danielpg.paymentgateway.domain.charge.payment.*;
+import com.danielpg.paymentgateway.domain.charge.payment.intent.PaymentIntent;
+import com.danielpg.paymentgateway.domain.charge.payment.intent.PaymentIntentRepository;
+import com.danielpg.paymentgateway.domain.charge.payment.intent.PaymentIntentStatus;
+import com.danielpg.paymentgateway.domain.shared.AppClock;
+import com.danielpg.paymentgateway.domain.shared.TimeMillis;
+import com.danielpg.paymentgateway.fixture.AppTransactionFixture;
+import com.danielpg.paymentgateway.fixture.ChargeFixture;
+import com.danielpg.paymentgateway.fixture.PaymentFixture;
+import com.danielpg.paymentgateway.fixture.PaymentIntentFixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import static com.danielpg.paymentgateway.fixture.PaymentIntentFixture.INTENT_ID;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+class ProcessPaymentIntentUseCaseTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+    private static final TimeMillis NOW = TimeMillis.of(1700007300L);
+    private static final TimeMillis STALE_BEFORE = TimeMillis.of(1700007000L);
+
+    private ChargeRepository chargeRepository;
+    private RegisterPaymentService registerPaymentService;
+    private PaymentIntentRepository intentRepository;
+    private ProcessPaymentIntentUseCase useCase;
+    private Charge charge;
+
+    @BeforeEach
+    void beforeEach() {
+        var transaction = AppTransactionFixture.mockedTransaction();
+        var clock = mock(AppClock.class);
+        chargeRepository = mock(ChargeRepository.class);
+        registerPaymentService = mock(RegisterPaymentService.class);
+        intentRepository = mock(PaymentIntentRepository.class);
+        useCase = new ProcessPaymentIntentUseCase(transaction, chargeRepository, registerPaymentService,
+                intentRepository, clock, MAX_ATTEMPTS);
+
+        charge = ChargeFixture.builder().build();
+        when(clock.now()).thenReturn(NOW);
+        when(chargeRepository.getOrThrow(charge.id())).thenReturn(charge);
+        when(intentRepository.claim(INTENT_ID, NOW)).thenReturn(true);
+        when(intentRepository.getOrThrow(INTENT_ID)).thenAnswer(invocation -> processingIntent(1));
+    }
+
+    @Test
+    void doesNothingWhenIntentIsAlreadyClaimed() {
+        when(intentRepository.claim(INTENT_ID, NOW)).thenReturn(false);
+
+        useCase.process(INTENT_ID);
+
+        verifyNoInteractions(registerPaymentService);
+        verify(intentRepository, never()).save(any());
+    }
+
+    @Test
+    void marksIntentSucceededAfterCompletingPayment() {
+        var payment = PaymentFixture.builderWithCreditCard().build();
+        when(registerPaymentService.completePayment(any())).thenReturn(payment);
+
+        useCase.process(INTENT_ID);
+
+        var saved = savedIntent();
+        assertThat(saved.status(), is(PaymentIntentStatus.SUCCEEDED));
+        assertThat(saved.paymentId(), is(payment.id()));
+        assertThat(saved.creditCard(), nullValue());
+        var inOrder = inOrder(registerPaymentService);
+        inOrder.verify(registerPaymentService).validatePayment(any());
+        inOrder.verify(registerPaymentService).authorizePayment(any());
+        inOrder.verify(registerPaymentService).completePayment(any());
+        verify(registerPaymentService, never()).cancelAuthorization(any());
+    }
+
+    @Test
+    void recordsAuthorizationBeforeCompletingPayment() {
+        var payment = PaymentFixture.builderWithCreditCard().build();
+        when(registerPaymentService.completePayment(any())).thenAnswer(invocation -> {
+            verify(intentRepository).save(argThat(PaymentIntent::isAuthorized));
+            return payment;
+        });
+
+        useCase.process(INTENT_ID);
+
+        assertThat(savedIntent().authorizedAt(), is(NOW));
+    }
+
+    @Test
+    void marksIntentFailedWhenAuthorizationIsDenied() {
+        doThrow(new PaymentNotAuthorizedException("Pagamento não autorizado."))
+                .when(registerPaymentService).authorizePayment(any());
+
+        useCase.process(INTENT_ID);
+
+        var saved = savedIntent();
+        assertThat(saved.status(), is(PaymentIntentStatus.FAILED));
+        assertThat(saved.failureReason(), is("Pagamento não autorizado."));
+        verify(registerPaymentService, never()).completePayment(any());
+    }
+
+    @Test
+    void releasesIntentWhenAuthorizerIsUnavailable() {
+        doThrow(new AuthorizerUnavailableException("Autorizador temporariamente indisponível."))
+                .when(registerPaymentService).authorizePayment(any());
+
+        useCase.process(INTENT_ID);
+
+        verify(intentRepository).release(INTENT_ID, NOW);
+        verify(intentRepository, never()).save(any());
+    }
+
+    @Test
+    void failsIntentWhenAuthorizerIsUnavailableOnLastAttempt() {
+        when(intentRepository.getOrThrow(INTENT_ID)).thenAnswer(invocation -> processingIntent(MAX_ATTEMPTS));
+        doThrow(new AuthorizerUnavailableException("Autorizador temporariamente indisponível."))
+                .when(registerPaymentService).authorizePayment(any());
+
+        useCase.process(INTENT_ID);
+
+        verify(intentRepository, never()).release(any(), any());
+        assertThat(savedIntent().status(), is(PaymentIntentStatus.FAILED));
+    }
+
+    @Test
+    void cancelsAuthorizationAndFailsIntentWhenCompletionFails() {
+        doThrow(new IllegalStateException("A cobrança não está pendente."))
+                .when(registerPaymentService).completePayment(any());
+
+        useCase.process(INTENT_ID);
+
+        verify(registerPaymentService).cancelAuthorization(any());
+        var saved = savedIntent();
+        assertThat(saved.status(), is(PaymentIntentStatus.FAILED));
+        assertThat(saved.failureReason(), is("A cobrança não está pendente."));
+    }
+
+    @Test
+    void cancelsStaleAuthorizationAndReleasesIntent() {
+        when(intentRepository.claimStaleAuthorized(INTENT_ID, STALE_BEFORE, NOW)).thenReturn(true);
+
+        useCase.cancelStaleAuthorization(INTENT_ID, STALE_BEFORE);
+
+        var inOrder = inOrder(registerPaymentService, intentRepository);
+        inOrder.verify(registerPaymentService).cancelAuthorization(any());
+        inOrder.verify(intentRepository).release(INTENT_ID, NOW);
+        verify(registerPaymentService, never()).authorizePayment(any());
+    }
+
+    @Test
+    void keepsStaleIntentWhenCancellationFails() {
+        when(intentRepository.claimStaleAuthorized(INTENT_ID, STALE_BEFORE, NOW)).thenReturn(true);
+        doThrow(new AuthorizerUnavailableException("Autorizador temporariamente indisponível."))
+                .when(registerPaymentService).cancelAuthorization(any());
+
+        assertThrows(AuthorizerUnavailableException.class,
+                () -> useCase.cancelStaleAuthorization(INTENT_ID, STALE_BEFORE));
+
+        verify(intentRepository, never()).release(any(), any());
+    }
+
+    @Test
+    void doesNothingWhenStaleIntentIsAlreadyClaimed() {
+        when(intentRepository.claimStaleAuthorized(INTENT_ID, STALE_BEFORE, NOW)).thenReturn(false);
+
+        useCase.cancelStaleAuthorization(INTENT_ID, STALE_BEFORE);
+
+        verifyNoInteractions(registerPaymentService);
+        verify(intentRepository, never()).release(any(), any());
+    }
+
+    @Test
+    void rejectsInvalidMaxAttempts() {
+        var transaction = AppTransactionFixture.mockedTransaction();
+        var clock = mock(AppClock.class);
+
+        assertThrows(IllegalArgumentException.class, () -> new ProcessPaymentIntentUseCase(transaction,
+                chargeRepository, registerPaymentService, intentRepository, clock, 0));
+    }
+
+    private PaymentIntent processingIntent(int attempts) {
+        return PaymentIntentFixture.builder()
+                .withChargeId(charge.id())
+                .withStatus(PaymentIntentStatus.PROCESSING)
+                .withAttempts(attempts)
+                .build();
+    }
+
+    private PaymentIntent savedIntent() {
+        var captor = ArgumentCaptor.forClass(PaymentIntent.class);
+        verify(intentRepository, atLeastOnce()).save(captor.capture());
+        return captor.getValue();
+    }
+}
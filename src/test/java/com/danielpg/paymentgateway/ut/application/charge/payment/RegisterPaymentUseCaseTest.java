@@ -1,6 +1,7 @@
 package com.danielpg.paymentgateway.ut.application.charge.payment;
 
 import static com.danielpg.paymentgateway.fixture.AppTransactionFixture.assertThatInTransaction;
+import static com.danielpg.paymentgateway.fixture.AppTransactionFixture.assertThatOutsideTransaction;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -12,6 +13,7 @@ import com.danielpg.paymentgateway.application.shared.RequesterProvider;
 import com.danielpg.paymentgateway.domain.charge.Charge;
 import com.danielpg.paymentgateway.domain.charge.ChargeRepository;
 import com.danielpg.paymentgateway.domain.charge.payment.*;
+import com.danielpg.paymentgateway.domain.shared.creditcard.CreditCard;
 import com.danielpg.paymentgateway.domain.user.UserId;
 import com.danielpg.paymentgateway.fixture.AppTransactionFixture;
 import com.danielpg.paymentgateway.fixture.ChargeFixture;
@@ -43,6 +45,10 @@ class RegisterPaymentUseCaseTest {
         when(chargeRepository.getOrThrow(charge.id())).thenReturn(charge);
         when(requesterProvider.requesterId()).thenReturn(charge.payerId());
         assertThatInTransaction(transaction).when(registerPaymentService).registerPayment(any());
+        assertThatInTransaction(transaction).when(registerPaymentService).validatePayment(any());
+        assertThatInTransaction(transaction).when(registerPaymentService).completePayment(any());
+        assertThatOutsideTransaction(transaction).when(registerPaymentService).authorizePayment(any());
+        assertThatOutsideTransaction(transaction).when(registerPaymentService).cancelAuthorization(any());
     }
 
     @Test
@@ -65,7 +71,7 @@ class RegisterPaymentUseCaseTest {
     }
 
     @Test
-    void registersPaymentWithCreditCardSuccessfully() {
+    void registersPaymentWithCreditCardAuthorizingOutsideTransaction() {
         var creditCard = CreditCardFixture.builder().build();
 
         var expectedPayment = PaymentFixture.builder()
@@ -74,19 +80,73 @@ class RegisterPaymentUseCaseTest {
                 .withCreditCard(creditCard)
                 .build();
 
-        var expectedServiceRequest = RegisterPaymentRequest.builder()
-                .withCharge(charge)
-                .withMethod(PaymentMethod.CREDIT_CARD)
-                .withCreditCard(creditCard)
-                .build();
+        var expectedServiceRequest = creditCardServiceRequest(creditCard);
 
-        doReturn(expectedPayment).when(registerPaymentService).registerPayment(expectedServiceRequest);
+        doReturn(expectedPayment).when(registerPaymentService).completePayment(expectedServiceRequest);
 
         var request = new RegisterPaymentUseCase.Request(charge.id(), PaymentMethod.CREDIT_CARD, creditCard);
         var payment = useCase.registerPayment(request);
 
         assertThat(payment, is(expectedPayment));
-        verify(registerPaymentService).registerPayment(expectedServiceRequest);
+        var inOrder = inOrder(registerPaymentService);
+        inOrder.verify(registerPaymentService).validatePayment(expectedServiceRequest);
+        inOrder.verify(registerPaymentService).authorizePayment(expectedServiceRequest);
+        inOrder.verify(registerPaymentService).completePayment(expectedServiceRequest);
+        verify(registerPaymentService, never()).registerPayment(any());
+        verify(registerPaymentService, never()).cancelAuthorization(any());
+    }
+
+    @Test
+    void doesNotAuthorizeWhenValidationFails() {
+        var creditCard = CreditCardFixture.builder().build();
+        doThrow(IllegalStateException.class).when(registerPaymentService).validatePayment(any());
+
+        var request = new RegisterPaymentUseCase.Request(charge.id(), PaymentMethod.CREDIT_CARD, creditCard);
+        assertThrows(IllegalStateException.class, () -> useCase.registerPayment(request));
+
+        verify(registerPaymentService, never()).authorizePayment(any());
+        verify(registerPaymentService, never()).completePayment(any());
+        verify(registerPaymentService, never()).cancelAuthorization(any());
+    }
+
+    @Test
+    void doesNotCompensateWhenAuthorizationFails() {
+        var creditCard = CreditCardFixture.builder().build();
+        doThrow(PaymentNotAuthorizedException.class).when(registerPaymentService).authorizePayment(any());
+
+        var request = new RegisterPaymentUseCase.Request(charge.id(), PaymentMethod.CREDIT_CARD, creditCard);
+        assertThrows(PaymentNotAuthorizedException.class, () -> useCase.registerPayment(request));
+
+        verify(registerPaymentService, never()).completePayment(any());
+        verify(registerPaymentService, never()).cancelAuthorization(any());
+    }
+
+    @Test
+    void cancelsAuthorizationWhenCompletionFails() {
+        var creditCard = CreditCardFixture.builder().build();
+        var failure = new IllegalStateException("A cobrança não está pendente.");
+        doThrow(failure).when(registerPaymentService).completePayment(any());
+
+        var request = new RegisterPaymentUseCase.Request(charge.id(), PaymentMethod.CREDIT_CARD, creditCard);
+        var exception = assertThrows(IllegalStateException.class, () -> useCase.registerPayment(request));
+
+        assertThat(exception, is(failure));
+        verify(registerPaymentService).cancelAuthorization(creditCardServiceRequest(creditCard));
+    }
+
+    @Test
+    void keepsOriginalExceptionWhenCompensationFails() {
+        var creditCard = CreditCardFixture.builder().build();
+        var failure = new IllegalStateException("A cobrança não está pendente.");
+        var compensationFailure = new AuthorizerUnavailableException("Autorizador temporariamente indisponível.");
+        doThrow(failure).when(registerPaymentService).completePayment(any());
+        doThrow(compensationFailure).when(registerPaymentService).cancelAuthorization(any());
+
+        var request = new RegisterPaymentUseCase.Request(charge.id(), PaymentMethod.CREDIT_CARD, creditCard);
+        var exception = assertThrows(IllegalStateException.class, () -> useCase.registerPayment(request));
+
+        assertThat(exception, is(failure));
+        assertThat(exception.getSuppressed(), arrayContaining(compensationFailure));
     }
 
     @Test
@@ -120,4 +180,12 @@ class RegisterPaymentUseCaseTest {
 
         verify(registerPaymentService, never()).registerPayment(any());
     }
+
+    private RegisterPaymentRequest creditCardServiceRequest(CreditCard creditCard) {
+        return RegisterPaymentRequest.builder()
+                .withCharge(charge)
+                .withMethod(PaymentMethod.CREDIT_CARD)
+                .withCreditCard(creditCard)
+                .build();
+    }
 }
@@ -1,6 +1,7 @@
 package com.danielpg.paymentgateway.ut.application.deposit;
 
 import static com.danielpg.paymentgateway.fixture.AppTransactionFixture.assertThatInTransaction;
+import static com.danielpg.paymentgateway.fixture.AppTransactionFixture.assertThatOutsideTransaction;
 import static com.danielpg.paymentgateway.fixture.DepositFixture.*;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
@@ -9,6 +10,7 @@ import static org.mockito.Mockito.*;
 
 import com.danielpg.paymentgateway.application.deposit.CreateDepositUseCase;
 import com.danielpg.paymentgateway.application.shared.RequesterProvider;
+import com.danielpg.paymentgateway.domain.charge.payment.PaymentNotAuthorizedException;
 import com.danielpg.paymentgateway.domain.deposit.CreateDepositService;
 import com.danielpg.paymentgateway.domain.deposit.Deposit;
 import com.danielpg.paymentgateway.domain.deposit.DepositRequest;
@@ -36,18 +38,26 @@ class CreateDepositUseCaseTest {
 
         expectedDeposit = DepositFixture.builder().withId(null).build();
 
-        assertThatInTransaction(transaction).when(createDepositService).createDeposit(any());
-        doReturn(expectedDeposit).when(createDepositService).createDeposit(any());
+        assertThatInTransaction(transaction).when(createDepositService).prepareDeposit(any());
+        assertThatInTransaction(transaction).when(createDepositService).completeDeposit(any());
+        assertThatOutsideTransaction(transaction).when(createDepositService).authorizeDeposit(any());
+        assertThatInTransaction(transaction).when(createDepositService).markForReconciliation(any());
+        doReturn(expectedDeposit).when(createDepositService).prepareDeposit(any());
+        doReturn(expectedDeposit).when(createDepositService).completeDeposit(any());
     }
 
     @Test
-    void createsDepositSuccessfully() {
+    void createsDepositAuthorizingOutsideTransaction() {
         var createdDeposit = useCase.createDeposit(AMOUNT);
 
         assertThat(createdDeposit, is(expectedDeposit));
 
         var captor = ArgumentCaptor.forClass(DepositRequest.class);
-        verify(createDepositService).createDeposit(captor.capture());
+        var inOrder = inOrder(createDepositService);
+        inOrder.verify(createDepositService).prepareDeposit(captor.capture());
+        inOrder.verify(createDepositService).authorizeDeposit(expectedDeposit);
+        inOrder.verify(createDepositService).completeDeposit(expectedDeposit);
+        verify(createDepositService, never()).markForReconciliation(any());
 
         var actualRequest = captor.getValue();
         assertThat(actualRequest.userId(), is(USER_ID));
@@ -60,16 +70,51 @@ class CreateDepositUseCaseTest {
 
         assertThrows(RuntimeException.class, () -> useCase.createDeposit(AMOUNT));
 
-        verify(createDepositService, never()).createDeposit(any());
+        verifyNoInteractions(createDepositService);
     }
 
     @Test
-    void propagatesExceptionWhenServiceFails() {
-        when(createDepositService.createDeposit(any())).thenThrow(RuntimeException.class);
+    void doesNotAuthorizeWhenPreparationFails() {
+        doThrow(RuntimeException.class).when(createDepositService).prepareDeposit(any());
 
         assertThrows(RuntimeException.class, () -> useCase.createDeposit(AMOUNT));
 
-        verify(createDepositService).createDeposit(any());
+        verify(createDepositService, never()).authorizeDeposit(any());
+        verify(createDepositService, never()).completeDeposit(any());
+    }
+
+    @Test
+    void doesNotCompensateWhenAuthorizationFails() {
+        doThrow(PaymentNotAuthorizedException.class).when(createDepositService).authorizeDeposit(any());
+
+        assertThrows(PaymentNotAuthorizedException.class, () -> useCase.createDeposit(AMOUNT));
+
+        verify(createDepositService, never()).completeDeposit(any());
+        verify(createDepositService, never()).markForReconciliation(any());
+    }
+
+    @Test
+    void marksDepositForReconciliationWhenCompletionFails() {
+        var failure = new RuntimeException("Falha ao salvar depósito");
+        doThrow(failure).when(createDepositService).completeDeposit(any());
+
+        var exception = assertThrows(RuntimeException.class, () -> useCase.createDeposit(AMOUNT));
+
+        assertThat(exception, is(failure));
+        verify(createDepositService).markForReconciliation(expectedDeposit);
+    }
+
+    @Test
+    void keepsOriginalExceptionWhenReconciliationMarkFails() {
+        var failure = new RuntimeException("Falha ao salvar depósito");
+        var compensationFailure = new RuntimeException("Falha ao marcar depósito");
+        doThrow(failure).when(createDepositService).completeDeposit(any());
+        doThrow(compensationFailure).when(createDepositService).markForReconciliation(any());
+
+        var exception = assertThrows(RuntimeException.class, () -> useCase.createDeposit(AMOUNT));
+
+        assertThat(exception, is(failure));
+        assertThat(exception.getSuppressed(), arrayContaining(compensationFailure));
     }
 
 }
@@ -0,0 +1,125 @@
+package com.danielpg.paymentgateway.ut.application.event;
+
+import com.danielpg.paymentgateway.application.event.OutboxMessage;
+import com.danielpg.paymentgateway.application.event.OutboxRelay;
+import com.danielpg.paymentgateway.application.event.OutboxRepository;
+import com.danielpg.paymentgateway.application.event.OutboxSubscriber;
+import com.danielpg.paymentgateway.application.shared.AppTransaction;
+import com.danielpg.paymentgateway.domain.shared.AppClock;
+import com.danielpg.paymentgateway.domain.shared.TimeMillis;
+import com.danielpg.paymentgateway.fixture.AppTransactionFixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.danielpg.paymentgateway.fixture.AppTransactionFixture.assertThatInTransaction;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+class OutboxRelayTest {
+
+    private static final int BATCH_SIZE = 3;
+    private static final TimeMillis NOW = TimeMillis.of(1_000L);
+    private static final OutboxMessage MESSAGE1 = message(1L, "charge.status-changed");
+    private static final OutboxMessage MESSAGE2 = message(2L, "payment.registered");
+    private static final OutboxMessage MESSAGE3 = message(3L, "charge.status-changed");
+
+    private AppTransaction transaction;
+    private OutboxRepository repository;
+    private OutboxSubscriber subscriber1;
+    private OutboxSubscriber subscriber2;
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        transaction = AppTransactionFixture.mockedTransaction();
+        repository = mock(OutboxRepository.class);
+        subscriber1 = mock(OutboxSubscriber.class);
+        subscriber2 = mock(OutboxSubscriber.class);
+        when(subscriber1.accepts(any())).thenReturn(true);
+        when(subscriber2.accepts(any())).thenReturn(true);
+        var clock = mock(AppClock.class);
+        when(clock.now()).thenReturn(NOW);
+        relay = new OutboxRelay(transaction, repository, List.of(subscriber1, subscriber2), clock, BATCH_SIZE);
+    }
+
+    @Test
+    void deliversMessagesInOrderAndMarksThemPublished() {
+        when(repository.lockPending(BATCH_SIZE)).thenReturn(List.of(MESSAGE1, MESSAGE2, MESSAGE3));
+        assertThatInTransaction(transaction).when(repository).markPublished(any(), any());
+
+        var published = relay.relayBatch();
+
+        assertThat(published, is(3));
+        var inOrder = inOrder(subscriber1, subscriber2, repository);
+        inOrder.verify(subscriber1).onMessage(MESSAGE1);
+        inOrder.verify(subscriber2).onMessage(MESSAGE1);
+        inOrder.verify(subscriber1).onMessage(MESSAGE2);
+        inOrder.verify(subscriber2).onMessage(MESSAGE2);
+        inOrder.verify(subscriber1).onMessage(MESSAGE3);
+        inOrder.verify(subscriber2).onMessage(MESSAGE3);
+        inOrder.verify(repository).markPublished(List.of(1L, 2L, 3L), NOW);
+    }
+
+    @Test
+    void skipsSubscribersThatDoNotAcceptEventType() {
+        when(subscriber2.accepts("payment.registered")).thenReturn(false);
+        when(repository.lockPending(BATCH_SIZE)).thenReturn(List.of(MESSAGE2));
+
+        relay.relayBatch();
+
+        verify(subscriber1).onMessage(MESSAGE2);
+        verify(subscriber2, never()).onMessage(any());
+        verify(repository).markPublished(List.of(2L), NOW);
+    }
+
+    @Test
+    void marksOnlyDeliveredPrefixWhenSubscriberFails() {
+        when(repository.lockPending(BATCH_SIZE)).thenReturn(List.of(MESSAGE1, MESSAGE2, MESSAGE3));
+        doThrow(RuntimeException.class).when(subscriber2).onMessage(MESSAGE2);
+
+        var published = relay.relayBatch();
+
+        assertThat(published, is(1));
+        verify(subscriber1, never()).onMessage(MESSAGE3);
+        verify(repository).markPublished(List.of(1L), NOW);
+    }
+
+    @Test
+    void doesNotMarkAnythingWhenFirstMessageFails() {
+        when(repository.lockPending(BATCH_SIZE)).thenReturn(List.of(MESSAGE1, MESSAGE2));
+        doThrow(RuntimeException.class).when(subscriber1).onMessage(MESSAGE1);
+
+        var published = relay.relayBatch();
+
+        assertThat(published, is(0));
+        verify(repository, never()).markPublished(any(), any());
+    }
+
+    @Test
+    void returnsZeroWhenOutboxIsEmpty() {
+        when(repository.lockPending(BATCH_SIZE)).thenReturn(List.of());
+
+        assertThat(relay.relayBatch(), is(0));
+
+        verifyNoInteractions(subscriber1, subscriber2);
+        verify(repository, never()).markPublished(any(), any());
+    }
+
+    @Test
+    void throwsExceptionWhenBatchSizeIsNotPositive() {
+        var clock = mock(AppClock.class);
+
+        var exception = assertThrows(IllegalArgumentException.class,
+                () -> new OutboxRelay(transaction, repository, List.of(), clock, 0));
+
+        assertThat(exception.getMessage(), is("O tamanho do lote do outbox deve ser positivo."));
+    }
+
+    private static OutboxMessage message(long id, String eventType) {
+        return new OutboxMessage(id, eventType, "charge", 10L + id, "{}", 500L + id);
+    }
+}
@@ -0,0 +1,101 @@
+package com.danielpg.paymentgateway.ut.application.webhook;
+
+import com.danielpg.paymentgateway.application.shared.RequesterProvider;
+import com.danielpg.paymentgateway.application.webhook.CreateWebhookSubscriptionUseCase;
+import com.danielpg.paymentgateway.application.webhook.WebhookDestinationGuard;
+import com.danielpg.paymentgateway.domain.shared.AppClock;
+import com.danielpg.paymentgateway.domain.shared.TimeMillis;
+import com.danielpg.paymentgateway.domain.webhook.WebhookSubscription;
+import com.danielpg.paymentgateway.domain.webhook.WebhookSubscriptionRepository;
+import com.danielpg.paymentgateway.fixture.AppTransactionFixture;
+import com.danielpg.paymentgateway.fixture.WebhookSubscriptionFixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static com.danielpg.paymentgateway.fixture.AppTransactionFixture.assertThatInTransaction;
+import static com.danielpg.paymentgateway.fixture.WebhookSubscriptionFixture.URL;
+import static com.danielpg.paymentgateway.fixture.WebhookSubscriptionFixture.USER_ID;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+class CreateWebhookSubscriptionUseCaseTest {
+
+    private static final TimeMillis NOW = TimeMillis.of(1000L);
+
+    private WebhookSubscriptionRepository subscriptionRepository;
+    private WebhookDestinationGuard destinationGuard;
+    private CreateWebhookSubscriptionUseCase useCase;
+
+    @BeforeEach
+    void beforeEach() {
+        var transaction = AppTransactionFixture.mockedTransaction();
+        var requesterProvider = mock(RequesterProvider.class);
+        var clock = mock(AppClock.class);
+        subscriptionRepository = mock(WebhookSubscriptionRepository.class);
+        destinationGuard = mock(WebhookDestinationGuard.class);
+
+        useCase = new CreateWebhookSubscriptionUseCase(transaction, requesterProvider, subscriptionRepository,
+                destinationGuard, clock);
+
+        when(requesterProvider.requesterId()).thenReturn(USER_ID);
+        when(clock.now()).thenReturn(NOW);
+        when(subscriptionRepository.findByUser(USER_ID)).thenReturn(List.of());
+        assertThatInTransaction(transaction).when(subscriptionRepository).save(any());
+    }
+
+    @Test
+    void createsSubscriptionWithGeneratedSecret() {
+        var subscription = useCase.createSubscription(URL);
+
+        assertThat(subscription.userId(), is(USER_ID));
+        assertThat(subscription.url(), is(URL));
+        assertThat(subscription.createdAt(), is(NOW));
+        assertThat(subscription.secret(), matchesPattern("[0-9a-f]{64}"));
+        verify(subscriptionRepository).save(subscription);
+    }
+
+    @Test
+    void generatesDifferentSecrets() {
+        var first = useCase.createSubscription(URL);
+        var second = useCase.createSubscription(URL);
+
+        assertThat(first.secret(), not(second.secret()));
+    }
+
+    @Test
+    void throwsExceptionWhenLimitIsReached() {
+        List<WebhookSubscription> existing = Collections.nCopies(
+                CreateWebhookSubscriptionUseCase.MAX_SUBSCRIPTIONS_PER_USER,
+                WebhookSubscriptionFixture.builder().build());
+        when(subscriptionRepository.findByUser(USER_ID)).thenReturn(existing);
+
+        var ex = assertThrows(IllegalStateException.class, () -> useCase.createSubscription(URL));
+
+        assertThat(ex.getMessage(), is("Limite de 10 webhooks por usuário atingido."));
+        verify(subscriptionRepository, never()).save(any());
+    }
+
+    @Test
+    void throwsExceptionWhenDestinationIsNotPublic() {
+        doThrow(new IllegalArgumentException("O destino do webhook deve ser um endereço público."))
+                .when(destinationGuard).ensurePublicDestination("http://169.254.169.254/latest");
+
+        var ex = assertThrows(IllegalArgumentException.class,
+                () -> useCase.createSubscription("http://169.254.169.254/latest"));
+
+        assertThat(ex.getMessage(), is("O destino do webhook deve ser um endereço público."));
+        verify(subscriptionRepository, never()).save(any());
+    }
+
+    @Test
+    void throwsExceptionWhenUrlIsInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> useCase.createSubscription("ftp://loja.com"));
+
+        verify(subscriptionRepository, never()).save(any());
+    }
+}
@@ -0,0 +1,65 @@
+package com.danielpg.paymentgateway.ut.application.webhook;
+
+import com.danielpg.paymentgateway.application.auth.AccessForbiddenException;
+import com.danielpg.paymentgateway.application.shared.RequesterProvider;
+import com.danielpg.paymentgateway.application.webhook.DeleteWebhookSubscriptionUseCase;
+import com.danielpg.paymentgateway.domain.user.UserId;
+import com.danielpg.paymentgateway.domain.webhook.WebhookSubscriptionNotFoundException;
+import com.danielpg.paymentgateway.domain.webhook.WebhookSubscriptionRepository;
+import com.danielpg.paymentgateway.fixture.AppTransactionFixture;
+import com.danielpg.paymentgateway.fixture.WebhookSubscriptionFixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.danielpg.paymentgateway.fixture.AppTransactionFixture.assertThatInTransaction;
+import static com.danielpg.paymentgateway.fixture.WebhookSubscriptionFixture.SUBSCRIPTION_ID;
+import static com.danielpg.paymentgateway.fixture.WebhookSubscriptionFixture.USER_ID;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+class DeleteWebhookSubscriptionUseCaseTest {
+
+    private RequesterProvider requesterProvider;
+    private WebhookSubscriptionRepository subscriptionRepository;
+    private DeleteWebhookSubscriptionUseCase useCase;
+
+    @BeforeEach
+    void beforeEach() {
+        var transaction = AppTransactionFixture.mockedTransaction();
+        requesterProvider = mock(RequesterProvider.class);
+        subscriptionRepository = mock(WebhookSubscriptionRepository.class);
+
+        useCase = new DeleteWebhookSubscriptionUseCase(transaction, requesterProvider, subscriptionRepository);
+
+        when(requesterProvider.requesterId()).thenReturn(USER_ID);
+        when(subscriptionRepository.getOrThrow(SUBSCRIPTION_ID))
+                .thenReturn(WebhookSubscriptionFixture.builder().build());
+        assertThatInTransaction(transaction).when(subscriptionRepository).delete(SUBSCRIPTION_ID);
+    }
+
+    @Test
+    void deletesSubscriptionOfRequester() {
+        useCase.deleteSubscription(SUBSCRIPTION_ID);
+
+        verify(subscriptionRepository).delete(SUBSCRIPTION_ID);
+    }
+
+    @Test
+    void throwsAccessForbiddenWhenSubscriptionBelongsToAnotherUser() {
+        when(requesterProvider.requesterId()).thenReturn(UserId.of(2L));
+
+        assertThrows(AccessForbiddenException.class, () -> useCase.deleteSubscription(SUBSCRIPTION_ID));
+
+        verify(subscriptionRepository, never()).delete(any());
+    }
+
+    @Test
+    void propagatesExceptionWhenSubscriptionDoesNotExist() {
+        when(subscriptionRepository.getOrThrow(SUBSCRIPTION_ID))
+                .thenThrow(new WebhookSubscriptionNotFoundException(SUBSCRIPTION_ID));
+
+        assertThrows(WebhookSubscriptionNotFoundException.class, () -> useCase.deleteSubscription(SUBSCRIPTION_ID));
+
+        verify(subscriptionRepository, never()).delete(any());
+    }
+}
@@ -0,0 +1,130 @@
+package com.danielpg.paymentgateway.ut.application.webhook;
+
+import com.danielpg.paymentgateway.application.shared.AppTransaction;
+import com.danielpg.paymentgateway.application.webhook.PendingWebhook;
+import com.danielpg.paymentgateway.application.webhook.WebhookDeliveryException;
+import com.danielpg.paymentgateway.application.webhook.WebhookDeliveryService;
+import com.danielpg.paymentgateway.application.webhook.WebhookQueue;
+import com.danielpg.paymentgateway.application.webhook.WebhookSender;
+import com.danielpg.paymentgateway.domain.shared.AppClock;
+import com.danielpg.paymentgateway.domain.shared.TimeMillis;
+import com.danielpg.paymentgateway.domain.webhook.WebhookSubscription;
+import com.danielpg.paymentgateway.domain.webhook.WebhookSubscriptionRepository;
+import com.danielpg.paymentgateway.fixture.AppTransactionFixture;
+import com.danielpg.paymentgateway.fixture.WebhookSubscriptionFixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static com.danielpg.paymentgateway.fixture.AppTransactionFixture.assertThatOutsideTransaction;
+import static com.danielpg.paymentgateway.fixture.WebhookSubscriptionFixture.SUBSCRIPTION_ID;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+class WebhookDeliveryServiceTest {
+
+    private static final int BATCH_SIZE = 2;
+    private static final int MAX_ATTEMPTS = 4;
+    private static final long INITIAL_BACKOFF = 1000L;
+    private static final long MAX_BACKOFF = 3000L;
+    private static final long LEASE = 60000L;
+    private static final TimeMillis NOW = TimeMillis.of(10000L);
+
+    private static final PendingWebhook FIRST = new PendingWebhook(1L, 1L, 10L, 1L, 0, "{\"chargeId\":10}");
+    private static final PendingWebhook SECOND = new PendingWebhook(2L, 1L, 11L, 1L, 2, "{\"chargeId\":11}");
+    private static final PendingWebhook LAST_TRY = new PendingWebhook(3L, 1L, 12L, 1L, 3, "{\"chargeId\":12}");
+
+    private AppTransaction transaction;
+    private WebhookSubscriptionRepository subscriptionRepository;
+    private WebhookQueue queue;
+    private WebhookSender sender;
+    private WebhookDeliveryService service;
+    private WebhookSubscription subscription;
+
+    @BeforeEach
+    void beforeEach() {
+        transaction = AppTransactionFixture.mockedTransaction();
+        subscriptionRepository = mock(WebhookSubscriptionRepository.class);
+        queue = mock(WebhookQueue.class);
+        sender = mock(WebhookSender.class);
+        var clock = mock(AppClock.class);
+        when(clock.now()).thenReturn(NOW);
+
+        service = new WebhookDeliveryService(transaction, subscriptionRepository, queue, sender, clock,
+                BATCH_SIZE, MAX_ATTEMPTS, INITIAL_BACKOFF, MAX_BACKOFF, LEASE);
+
+        subscription = WebhookSubscriptionFixture.builder().build();
+        when(subscriptionRepository.get(SUBSCRIPTION_ID)).thenReturn(Optional.of(subscription));
+    }
+
+    @Test
+    void sendsClaimedNotificationsInOneRequestOutsideTransaction() {
+        claim(FIRST, SECOND);
+        assertThatOutsideTransaction(transaction).when(sender).send(any(), any());
+
+        var delivered = service.deliverNext(SUBSCRIPTION_ID);
+
+        assertThat(delivered, is(2));
+        verify(queue).claim(SUBSCRIPTION_ID, NOW, BATCH_SIZE, TimeMillis.of(NOW.value() + LEASE));
+        verify(sender).send(subscription, "[{\"chargeId\":10},{\"chargeId\":11}]");
+        verify(queue).complete(List.of(FIRST, SECOND), NOW);
+    }
+
+    @Test
+    void doesNothingWhenThereIsNothingDue() {
+        claim();
+
+        assertThat(service.deliverNext(SUBSCRIPTION_ID), is(0));
+
+        verifyNoInteractions(sender);
+        verify(queue, never()).complete(any(), any());
+    }
+
+    @Test
+    void doesNothingWhenSubscriptionWasDeleted() {
+        when(subscriptionRepository.get(SUBSCRIPTION_ID)).thenReturn(Optional.empty());
+
+        assertThat(service.deliverNext(SUBSCRIPTION_ID), is(0));
+
+        verifyNoInteractions(queue, sender);
+    }
+
+    @Test
+    void reschedulesWithExponentialBackoffWhenDestinationFails() {
+        claim(FIRST, SECOND);
+        doThrow(new WebhookDeliveryException("status 500")).when(sender).send(any(), any());
+
+        assertThat(service.deliverNext(SUBSCRIPTION_ID), is(0));
+
+        verify(queue).reschedule(List.of(FIRST), TimeMillis.of(NOW.value() + 1000L), "status 500");
+        verify(queue).reschedule(List.of(SECOND), TimeMillis.of(NOW.value() + MAX_BACKOFF), "status 500");
+        verify(queue, never()).complete(any(), any());
+        verify(queue, never()).moveToDeadLetter(any(), any(), any());
+    }
+
+    @Test
+    void movesToDeadLetterWhenAttemptsAreExhausted() {
+        claim(FIRST, LAST_TRY);
+        doThrow(new WebhookDeliveryException("timeout")).when(sender).send(any(), any());
+
+        service.deliverNext(SUBSCRIPTION_ID);
+
+        verify(queue).reschedule(List.of(FIRST), TimeMillis.of(NOW.value() + 1000L), "timeout");
+        verify(queue).moveToDeadLetter(List.of(LAST_TRY), "timeout", NOW);
+    }
+
+    @Test
+    void throwsExceptionWhenConfigurationIsInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> new WebhookDeliveryService(transaction,
+                subscriptionRepository, queue, sender, mock(AppClock.class), BATCH_SIZE, MAX_ATTEMPTS,
+                MAX_BACKOFF, INITIAL_BACKOFF, LEASE));
+    }
+
+    private void claim(PendingWebhook... deliveries) {
+        when(queue.claim(eq(SUBSCRIPTION_ID), any(), anyInt(), any())).thenReturn(List.of(deliveries));
+    }
+}
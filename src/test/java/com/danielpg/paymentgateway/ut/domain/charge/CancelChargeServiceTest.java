@@ -5,10 +5,17 @@ import com.danielpg.paymentgateway.domain.charge.Charge;
 import com.danielpg.paymentgateway.domain.charge.ChargeStatus;
 import com.danielpg.paymentgateway.domain.charge.ChargeRepository;
 import com.danielpg.paymentgateway.domain.charge.payment.*;
+import com.danielpg.paymentgateway.domain.charge.ChargeStatusChangedEvent;
+import com.danielpg.paymentgateway.domain.charge.summary.ChargeSummaryRepository;
+import com.danielpg.paymentgateway.domain.event.DomainEventPublisher;
+import com.danielpg.paymentgateway.domain.ledger.LedgerEntry;
+import com.danielpg.paymentgateway.domain.ledger.LedgerEntryType;
+import com.danielpg.paymentgateway.domain.ledger.LedgerRepository;
+import com.danielpg.paymentgateway.domain.shared.AppClock;
 import com.danielpg.paymentgateway.domain.shared.PositiveMoney;
+import com.danielpg.paymentgateway.domain.shared.TimeMillis;
 import com.danielpg.paymentgateway.domain.user.Balance;
 import com.danielpg.paymentgateway.domain.user.User;
-import com.danielpg.paymentgateway.domain.user.UserRepository;
 import com.danielpg.paymentgateway.fixture.ChargeFixture;
 import com.danielpg.paymentgateway.fixture.CreditCardFixture;
 import com.danielpg.paymentgateway.fixture.UserFixture;
@@ -16,6 +23,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.Optional;
 
 import static com.danielpg.paymentgateway.fixture.ChargeFixture.ISSUER_ID;
@@ -28,10 +36,14 @@ import static org.mockito.Mockito.*;
 
 class CancelChargeServiceTest {
 
+    private static final TimeMillis NOW = TimeMillis.of(999L);
+
     private ChargeRepository chargeRepository;
-    private UserRepository userRepository;
+    private LedgerRepository ledgerRepository;
     private PaymentRepository paymentRepository;
     private PaymentAuthorizer paymentAuthorizer;
+    private ChargeSummaryRepository chargeSummaryRepository;
+    private DomainEventPublisher eventPublisher;
     private CancelChargeService service;
 
     private Charge pendingCharge;
@@ -45,11 +57,16 @@ class CancelChargeServiceTest {
     @BeforeEach
     void setup() {
         chargeRepository = mock(ChargeRepository.class);
-        userRepository = mock(UserRepository.class);
+        ledgerRepository = mock(LedgerRepository.class);
         paymentRepository = mock(PaymentRepository.class);
         paymentAuthorizer = mock(PaymentAuthorizer.class);
+        chargeSummaryRepository = mock(ChargeSummaryRepository.class);
+        eventPublisher = mock(DomainEventPublisher.class);
+        var clock = mock(AppClock.class);
+        when(clock.now()).thenReturn(NOW);
 
-        service = new CancelChargeService(chargeRepository, userRepository, paymentRepository, paymentAuthorizer);
+        service = new CancelChargeService(chargeRepository, ledgerRepository, paymentRepository,
+                paymentAuthorizer, chargeSummaryRepository, eventPublisher, clock);
 
         pendingCharge = ChargeFixture.builder()
                 .withStatus(ChargeStatus.PENDING)
@@ -88,9 +105,6 @@ class CancelChargeServiceTest {
                 .withId(PAYER_ID)
                 .withBalance(Balance.of(new BigDecimal("10.00")))
                 .build();
-
-        when(userRepository.getOrThrow(issuer.id())).thenReturn(issuer);
-        when(userRepository.getOrThrow(payer.id())).thenReturn(payer);
     }
 
     @Test
@@ -98,8 +112,10 @@ class CancelChargeServiceTest {
         service.cancelCharge(pendingCharge);
 
         assertThat(pendingCharge.status(), is(ChargeStatus.CANCELED));
-        verify(chargeRepository).save(pendingCharge);
-        verifyNoInteractions(userRepository);
+        verify(chargeRepository).updateStatus(pendingCharge, ChargeStatus.PENDING);
+        verify(chargeSummaryRepository).move(pendingCharge, ChargeStatus.PENDING);
+        verify(eventPublisher).publish(ChargeStatusChangedEvent.of(pendingCharge, ChargeStatus.PENDING, NOW));
+        verifyNoInteractions(ledgerRepository);
         verifyNoInteractions(paymentRepository);
         verifyNoInteractions(paymentAuthorizer);
     }
@@ -112,11 +128,12 @@ class CancelChargeServiceTest {
         service.cancelCharge(paidChargeBalance);
 
         assertThat(paidChargeBalance.status(), is(ChargeStatus.CANCELED));
-        assertThat(issuer.balance().value(), is(new BigDecimal("18.00")));
-        assertThat(payer.balance().value(), is(new BigDecimal("12.00")));
-        verify(chargeRepository).save(paidChargeBalance);
-        verify(userRepository).save(issuer);
-        verify(userRepository).save(payer);
+        verify(chargeRepository).updateStatus(paidChargeBalance, ChargeStatus.PAID);
+        verify(chargeSummaryRepository).move(paidChargeBalance, ChargeStatus.PAID);
+        verify(eventPublisher).publish(ChargeStatusChangedEvent.of(paidChargeBalance, ChargeStatus.PAID, NOW));
+        verify(ledgerRepository).appendAll(List.of(
+                ledgerEntry(paidChargeBalance, issuer, LedgerEntryType.REFUND_SENT),
+                ledgerEntry(paidChargeBalance, payer, LedgerEntryType.REFUND_RECEIVED)));
         verifyNoInteractions(paymentAuthorizer);
     }
 
@@ -129,8 +146,9 @@ class CancelChargeServiceTest {
 
         assertThat(paidChargeCard.status(), is(ChargeStatus.CANCELED));
         verify(paymentAuthorizer).authorizeCancellation(paidChargeCard, paymentCard.creditCard());
-        verify(chargeRepository).save(paidChargeCard);
-        verifyNoInteractions(userRepository);
+        verify(chargeRepository).updateStatus(paidChargeCard, ChargeStatus.PAID);
+        verify(chargeSummaryRepository).move(paidChargeCard, ChargeStatus.PAID);
+        verifyNoInteractions(ledgerRepository);
     }
 
     @Test
@@ -143,7 +161,19 @@ class CancelChargeServiceTest {
 
         assertThat(ex.getMessage(), is("A cobrança não pode ser cancelada no status atual: " + canceledCharge.status()));
         verifyNoInteractions(paymentAuthorizer);
-        verifyNoInteractions(userRepository);
-        verify(chargeRepository, never()).save(any());
+        verifyNoInteractions(ledgerRepository);
+        verify(chargeRepository, never()).updateStatus(any(), any());
+        verifyNoInteractions(chargeSummaryRepository);
+        verifyNoInteractions(eventPublisher);
+    }
+
+    private static LedgerEntry ledgerEntry(Charge charge, User user, LedgerEntryType type) {
+        return LedgerEntry.builder()
+                .withUserId(user.id())
+                .withType(type)
+                .withAmount(charge.amount())
+                .withReferenceId(charge.id().value())
+                .withCreatedAt(NOW)
+                .build();
     }
 }
@@ -192,6 +192,42 @@ class ChargeTest {
         assertThat(exception.getMessage(), is("A cobrança já está cancelada."));
     }
 
+    @Test
+    void changesStatusToExpiredWhenPendingAndOverdue() {
+        var charge = ChargeFixture.builder()
+                .withStatus(ChargeStatus.PENDING)
+                .build();
+
+        charge.changeStatusToExpired(DUE_AT);
+
+        assertThat(charge.status(), is(ChargeStatus.EXPIRED));
+    }
+
+    @Test
+    void changesStatusToExpiredThrowsExceptionWhenNotOverdue() {
+        var charge = ChargeFixture.builder()
+                .withStatus(ChargeStatus.PENDING)
+                .build();
+        var beforeDue = TimeMillis.of(DUE_AT.value() - 1);
+
+        var exception = assertThrows(IllegalStateException.class, () -> charge.changeStatusToExpired(beforeDue));
+
+        assertThat(exception.getMessage(), is("A cobrança ainda não venceu."));
+        assertThat(charge.status(), is(ChargeStatus.PENDING));
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = ChargeStatus.class, names = "PENDING", mode = EnumSource.Mode.EXCLUDE)
+    void changesStatusToExpiredThrowsExceptionWhenNotPending(ChargeStatus initialStatus) {
+        var charge = ChargeFixture.builder()
+                .withStatus(initialStatus)
+                .build();
+
+        var exception = assertThrows(IllegalStateException.class, () -> charge.changeStatusToExpired(DUE_AT));
+
+        assertThat(exception.getMessage(), is("A cobrança não está pendente."));
+    }
+
     @Test
     void ensurePendingStatusDoesNotThrowWhenPending() {
         var charge = ChargeFixture.builder()
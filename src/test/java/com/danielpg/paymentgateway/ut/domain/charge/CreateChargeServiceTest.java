@@ -3,8 +3,13 @@ package com.danielpg.paymentgateway.ut.domain.charge;
 import com.danielpg.paymentgateway.domain.shared.AppClock;
 import com.danielpg.paymentgateway.domain.shared.PositiveMoney;
 import com.danielpg.paymentgateway.domain.shared.TimeMillis;
+import com.danielpg.paymentgateway.domain.charge.Charge;
+import com.danielpg.paymentgateway.domain.charge.ChargeId;
 import com.danielpg.paymentgateway.domain.charge.ChargeRepository;
 import com.danielpg.paymentgateway.domain.charge.CreateChargeService;
+import com.danielpg.paymentgateway.domain.charge.ChargeStatusChangedEvent;
+import com.danielpg.paymentgateway.domain.charge.summary.ChargeSummaryRepository;
+import com.danielpg.paymentgateway.domain.event.DomainEventPublisher;
 import com.danielpg.paymentgateway.domain.user.Cpf;
 import com.danielpg.paymentgateway.domain.user.User;
 import com.danielpg.paymentgateway.domain.user.UserNotFoundException;
@@ -15,7 +20,10 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static com.danielpg.paymentgateway.domain.charge.ChargeStatus.PENDING;
 import static com.danielpg.paymentgateway.domain.user.UserNotFoundException.USER_WITH_CPF_NOT_FOUND;
@@ -38,6 +46,8 @@ class CreateChargeServiceTest {
 
     private UserRepository userRepository;
     private ChargeRepository chargeRepository;
+    private ChargeSummaryRepository chargeSummaryRepository;
+    private DomainEventPublisher eventPublisher;
     private CreateChargeService service;
 
     @BeforeEach
@@ -46,7 +56,21 @@ class CreateChargeServiceTest {
         when(clock.now()).thenReturn(NOW);
         userRepository = mock(UserRepository.class);
         chargeRepository = mock(ChargeRepository.class);
-        service = new CreateChargeService(userRepository, chargeRepository, clock);
+        chargeSummaryRepository = mock(ChargeSummaryRepository.class);
+        eventPublisher = mock(DomainEventPublisher.class);
+        service = new CreateChargeService(userRepository, chargeRepository, chargeSummaryRepository,
+                eventPublisher, clock);
+        doAnswer(invocation -> {
+            invocation.<Charge>getArgument(0).finalizeCreation(CHARGE_ID);
+            return null;
+        }).when(chargeRepository).save(any());
+        doAnswer(invocation -> {
+            var charges = invocation.<List<Charge>>getArgument(0);
+            for (var i = 0; i < charges.size(); i++) {
+                charges.get(i).finalizeCreation(ChargeId.of(i + 1L));
+            }
+            return null;
+        }).when(chargeRepository).saveAll(any());
     }
 
     @Test
@@ -64,7 +88,10 @@ class CreateChargeServiceTest {
         assertThat(charge.createdAt(), is(NOW));
         assertThat(charge.dueAt(), is(NOW.plusDays(30)));
         assertThat(charge.status(), is(PENDING));
-        verify(chargeRepository).save(charge);
+        var inOrder = inOrder(chargeRepository, chargeSummaryRepository);
+        inOrder.verify(chargeRepository).save(charge);
+        inOrder.verify(chargeSummaryRepository).add(charge);
+        verify(eventPublisher).publish(ChargeStatusChangedEvent.of(charge, null, NOW));
     }
 
     @Test
@@ -75,6 +102,8 @@ class CreateChargeServiceTest {
 
         assertThat(exception.getMessage(), is("Usuário com CPF 00*******91 não encontrado."));
         verifyNoInteractions(chargeRepository);
+        verifyNoInteractions(chargeSummaryRepository);
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
@@ -88,6 +117,59 @@ class CreateChargeServiceTest {
         verifyNoInteractions(chargeRepository);
     }
 
+    @Test
+    void createChargesResolvesPayersOnceAndSavesValidChargesInBatch() {
+        var unknownPayer = Cpf.of("00000099970");
+        when(userRepository.get(ISSUER_CPF)).thenReturn(Optional.of(ISSUER));
+        when(userRepository.findIdsByCpf(Set.of(PAYER_CPF, ISSUER_CPF, unknownPayer)))
+                .thenReturn(Map.of(PAYER_CPF, PAYER_ID, ISSUER_CPF, ISSUER_ID));
+        var items = List.of(
+                new CreateChargeService.BulkItem(0, PAYER_CPF, AMOUNT, DESCRIPTION),
+                new CreateChargeService.BulkItem(2, unknownPayer, AMOUNT, null),
+                new CreateChargeService.BulkItem(3, ISSUER_CPF, AMOUNT, null),
+                new CreateChargeService.BulkItem(5, PAYER_CPF, AMOUNT, null));
+
+        var result = service.createCharges(ISSUER_CPF, items);
+
+        assertThat(result.created().stream().map(CreateChargeService.CreatedItem::index).toList(), is(List.of(0, 5)));
+        assertThat(result.errors(), is(List.of(
+                new CreateChargeService.ItemError(2, "Usuário com CPF 00*******70 não encontrado."),
+                new CreateChargeService.ItemError(3, "O devedor não pode ser igual ao emitente."))));
+        var charges = result.created().stream().map(CreateChargeService.CreatedItem::charge).toList();
+        assertThat(charges.get(0).payerId(), is(PAYER_ID));
+        assertThat(charges.get(0).dueAt(), is(NOW.plusDays(30)));
+        verify(userRepository, never()).get(PAYER_CPF);
+        verify(chargeRepository).saveAll(charges);
+        verify(chargeRepository, never()).save(any());
+        verify(chargeSummaryRepository).addAll(charges);
+        verify(eventPublisher).publishAll(List.of(
+                ChargeStatusChangedEvent.of(charges.get(0), null, NOW),
+                ChargeStatusChangedEvent.of(charges.get(1), null, NOW)));
+    }
+
+    @Test
+    void createChargesSavesNothingWhenNoItemIsValid() {
+        when(userRepository.get(ISSUER_CPF)).thenReturn(Optional.of(ISSUER));
+        when(userRepository.findIdsByCpf(any())).thenReturn(Map.of());
+
+        var result = service.createCharges(ISSUER_CPF,
+                List.of(new CreateChargeService.BulkItem(0, PAYER_CPF, AMOUNT, null)));
+
+        assertThat(result.created(), is(empty()));
+        assertThat(result.errors(), hasSize(1));
+        verifyNoInteractions(chargeRepository, chargeSummaryRepository, eventPublisher);
+    }
+
+    @Test
+    void createChargesThrowsExceptionWhenIssuerNotFound() {
+        when(userRepository.get(ISSUER_CPF)).thenReturn(Optional.empty());
+        var items = List.of(new CreateChargeService.BulkItem(0, PAYER_CPF, AMOUNT, null));
+
+        assertThrows(UserNotFoundException.class, () -> service.createCharges(ISSUER_CPF, items));
+
+        verifyNoInteractions(chargeRepository);
+    }
+
     @Test
     void returnsChargeWithDueAtCalculatedFromCreatedAt() {
         when(userRepository.get(ISSUER_CPF)).thenReturn(java.util.Optional.of(ISSUER));
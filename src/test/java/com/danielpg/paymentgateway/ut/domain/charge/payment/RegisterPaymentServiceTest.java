@@ -2,10 +2,16 @@ package com.danielpg.paymentgateway.ut.domain.charge.payment;
 
 import com.danielpg.paymentgateway.domain.charge.ChargeStatus;
 import com.danielpg.paymentgateway.domain.charge.payment.*;
+import com.danielpg.paymentgateway.domain.charge.ChargeStatusChangedEvent;
+import com.danielpg.paymentgateway.domain.charge.summary.ChargeSummaryRepository;
+import com.danielpg.paymentgateway.domain.event.DomainEventPublisher;
 import com.danielpg.paymentgateway.domain.shared.AppClock;
 import com.danielpg.paymentgateway.domain.shared.PositiveMoney;
 import com.danielpg.paymentgateway.domain.charge.Charge;
 import com.danielpg.paymentgateway.domain.charge.ChargeRepository;
+import com.danielpg.paymentgateway.domain.ledger.LedgerEntry;
+import com.danielpg.paymentgateway.domain.ledger.LedgerEntryType;
+import com.danielpg.paymentgateway.domain.ledger.LedgerRepository;
 import com.danielpg.paymentgateway.domain.shared.TimeMillis;
 import com.danielpg.paymentgateway.domain.user.*;
 import com.danielpg.paymentgateway.fixture.ChargeFixture;
@@ -17,6 +23,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 
 import java.math.BigDecimal;
+import java.util.List;
 
 import static com.danielpg.paymentgateway.domain.charge.ChargeStatus.PAID;
 import static com.danielpg.paymentgateway.domain.charge.ChargeStatus.PENDING;
@@ -30,9 +37,11 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 class RegisterPaymentServiceTest {
 
     private ChargeRepository chargeRepository;
-    private UserRepository userRepository;
+    private LedgerRepository ledgerRepository;
     private PaymentRepository paymentRepository;
     private PaymentAuthorizer paymentAuthorizer;
+    private ChargeSummaryRepository chargeSummaryRepository;
+    private DomainEventPublisher eventPublisher;
     private RegisterPaymentService service;
     private Charge charge;
 
@@ -53,12 +62,15 @@ class RegisterPaymentServiceTest {
         var clock = mock(AppClock.class);
 
         chargeRepository = mock(ChargeRepository.class);
-        userRepository = mock(UserRepository.class);
+        ledgerRepository = mock(LedgerRepository.class);
         paymentRepository = mock(PaymentRepository.class);
         paymentAuthorizer = mock(PaymentAuthorizer.class);
+        chargeSummaryRepository = mock(ChargeSummaryRepository.class);
+        eventPublisher = mock(DomainEventPublisher.class);
 
         service = new RegisterPaymentService(chargeRepository,
-                userRepository, paymentRepository, paymentAuthorizer, clock);
+                ledgerRepository, paymentRepository, paymentAuthorizer, chargeSummaryRepository,
+                eventPublisher, clock);
 
         charge = ChargeFixture.builder()
                 .withAmount(PositiveMoney.of(BigDecimal.ONE))
@@ -66,9 +78,11 @@ class RegisterPaymentServiceTest {
                 .build();
 
         when(paymentRepository.exists(charge.id())).thenReturn(false);
+        doAnswer(invocation -> {
+            invocation.<Payment>getArgument(0).finalizeCreation(PaymentId.of(1L));
+            return null;
+        }).when(paymentRepository).save(any());
         when(chargeRepository.getOrThrow(charge.id())).thenReturn(charge);
-        when(userRepository.getOrThrow(ISSUER.id())).thenReturn(ISSUER);
-        when(userRepository.getOrThrow(PAYER.id())).thenReturn(PAYER);
         when(clock.now()).thenReturn(NOW);
     }
 
@@ -87,14 +101,16 @@ class RegisterPaymentServiceTest {
         assertThat(payment.creditCard(), nullValue());
         assertThat(payment.paidAt(), is(NOW));
         assertThat(charge.status(), is(PAID));
-        assertThat(ISSUER.balance().value(), is(new BigDecimal("11.00")));
-        assertThat(PAYER.balance().value(), is(new BigDecimal("9.00")));
 
         verify(paymentAuthorizer, never()).authorizePayment(any(), any());
+        verify(ledgerRepository).appendAll(List.of(
+                ledgerEntry(PAYER, LedgerEntryType.PAYMENT_SENT),
+                ledgerEntry(ISSUER, LedgerEntryType.PAYMENT_RECEIVED)));
         verify(paymentRepository).save(payment);
-        verify(chargeRepository).save(charge);
-        verify(userRepository).save(ISSUER);
-        verify(userRepository).save(PAYER);
+        verify(chargeRepository).updateStatus(charge, ChargeStatus.PENDING);
+        verify(chargeSummaryRepository).move(charge, PENDING);
+        verify(eventPublisher).publish(ChargeStatusChangedEvent.of(charge, PENDING, NOW));
+        verify(eventPublisher).publish(PaymentRegisteredEvent.of(charge, payment));
     }
 
     @Test
@@ -117,8 +133,11 @@ class RegisterPaymentServiceTest {
 
         verify(paymentAuthorizer).authorizePayment(charge, request.creditCard());
         verify(paymentRepository).save(payment);
-        verify(chargeRepository).save(charge);
-        verify(userRepository, never()).save(any());
+        verify(chargeRepository).updateStatus(charge, ChargeStatus.PENDING);
+        verify(chargeSummaryRepository).move(charge, PENDING);
+        verify(eventPublisher).publish(ChargeStatusChangedEvent.of(charge, PENDING, NOW));
+        verify(eventPublisher).publish(PaymentRegisteredEvent.of(charge, payment));
+        verify(ledgerRepository, never()).appendAll(any());
     }
 
     @Test
@@ -135,8 +154,10 @@ class RegisterPaymentServiceTest {
         assertThat(exception.getMessage(), is("Já existe um pagamento para esta cobrança: " + charge.id().value()));
         verifyNoInteractions(chargeRepository);
         verify(paymentRepository, never()).save(any());
-        verify(chargeRepository, never()).save(any());
-        verify(userRepository, never()).save(any());
+        verify(chargeRepository, never()).updateStatus(any(), any());
+        verifyNoInteractions(chargeSummaryRepository);
+        verifyNoInteractions(eventPublisher);
+        verify(ledgerRepository, never()).appendAll(any());
     }
 
     @Test
@@ -153,8 +174,29 @@ class RegisterPaymentServiceTest {
                 () -> service.registerPayment(request));
 
         verify(paymentRepository, never()).save(any());
-        verify(chargeRepository, never()).save(any());
-        verify(userRepository, never()).save(any());
+        verify(chargeRepository, never()).updateStatus(any(), any());
+        verifyNoInteractions(chargeSummaryRepository);
+        verifyNoInteractions(eventPublisher);
+        verify(ledgerRepository, never()).appendAll(any());
+    }
+
+    @Test
+    void propagatesInsufficientBalanceException() {
+        doThrow(InsufficientBalanceException.class)
+                .when(ledgerRepository).appendAll(any());
+        var request = RegisterPaymentRequest.builder()
+                .withCharge(charge)
+                .withMethod(PaymentMethod.BALANCE)
+                .build();
+
+        assertThrows(InsufficientBalanceException.class,
+                () -> service.registerPayment(request));
+
+        assertThat(charge.status(), is(PENDING));
+        verify(paymentRepository, never()).save(any());
+        verify(chargeRepository, never()).updateStatus(any(), any());
+        verifyNoInteractions(chargeSummaryRepository);
+        verifyNoInteractions(eventPublisher);
     }
 
     @ParameterizedTest
@@ -176,7 +218,85 @@ class RegisterPaymentServiceTest {
 
         assertThat(exception.getMessage(), is("A cobrança não está pendente."));
         verify(paymentRepository, never()).save(any());
-        verify(chargeRepository, never()).save(any());
-        verify(userRepository, never()).save(any());
+        verify(chargeRepository, never()).updateStatus(any(), any());
+        verifyNoInteractions(chargeSummaryRepository);
+        verifyNoInteractions(eventPublisher);
+        verify(ledgerRepository, never()).appendAll(any());
+    }
+
+    @Test
+    void completePaymentDoesNotCallAuthorizer() {
+        var creditCard = CreditCardFixture.builder().build();
+        var request = RegisterPaymentRequest.builder()
+                .withCharge(charge)
+                .withMethod(PaymentMethod.CREDIT_CARD)
+                .withCreditCard(creditCard)
+                .build();
+
+        var payment = service.completePayment(request);
+
+        assertThat(payment.method(), is(PaymentMethod.CREDIT_CARD));
+        assertThat(charge.status(), is(PAID));
+        verifyNoInteractions(paymentAuthorizer);
+        verify(paymentRepository).save(payment);
+        verify(chargeRepository).updateStatus(charge, ChargeStatus.PENDING);
+        verify(chargeSummaryRepository).move(charge, PENDING);
+        verify(eventPublisher).publish(ChargeStatusChangedEvent.of(charge, PENDING, NOW));
+        verify(eventPublisher).publish(PaymentRegisteredEvent.of(charge, payment));
+    }
+
+    @Test
+    void completePaymentRevalidatesWhenPaymentWasRegisteredMeanwhile() {
+        var request = RegisterPaymentRequest.builder()
+                .withCharge(charge)
+                .withMethod(PaymentMethod.CREDIT_CARD)
+                .withCreditCard(CreditCardFixture.builder().build())
+                .build();
+        service.validatePayment(request);
+        when(paymentRepository.exists(charge.id())).thenReturn(true);
+
+        assertThrows(IllegalStateException.class, () -> service.completePayment(request));
+
+        verify(paymentRepository, never()).save(any());
+        verify(chargeRepository, never()).updateStatus(any(), any());
+        verifyNoInteractions(chargeSummaryRepository);
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void cancelAuthorizationCancelsCreditCardAuthorization() {
+        var creditCard = CreditCardFixture.builder().build();
+        var request = RegisterPaymentRequest.builder()
+                .withCharge(charge)
+                .withMethod(PaymentMethod.CREDIT_CARD)
+                .withCreditCard(creditCard)
+                .build();
+
+        service.cancelAuthorization(request);
+
+        verify(paymentAuthorizer).authorizeCancellation(charge, creditCard);
+    }
+
+    @Test
+    void cancelAuthorizationIgnoresBalancePayment() {
+        var request = RegisterPaymentRequest.builder()
+                .withCharge(charge)
+                .withMethod(PaymentMethod.BALANCE)
+                .build();
+
+        service.authorizePayment(request);
+        service.cancelAuthorization(request);
+
+        verifyNoInteractions(paymentAuthorizer);
+    }
+
+    private LedgerEntry ledgerEntry(User user, LedgerEntryType type) {
+        return LedgerEntry.builder()
+                .withUserId(user.id())
+                .withType(type)
+                .withAmount(charge.amount())
+                .withReferenceId(charge.id().value())
+                .withCreatedAt(NOW)
+                .build();
     }
 }
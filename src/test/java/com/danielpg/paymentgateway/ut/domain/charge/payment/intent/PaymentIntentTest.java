@@ -0,0 +1,120 @@
+package com.danielpg.paymentgateway.ut.domain.charge.payment.intent;
+
+import com.danielpg.paymentgateway.domain.charge.payment.PaymentId;
+import com.danielpg.paymentgateway.domain.charge.payment.PaymentMethod;
+import com.danielpg.paymentgateway.domain.charge.payment.intent.PaymentIntentId;
+import com.danielpg.paymentgateway.domain.charge.payment.intent.PaymentIntentStatus;
+import com.danielpg.paymentgateway.domain.shared.TimeMillis;
+import com.danielpg.paymentgateway.fixture.PaymentIntentFixture;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import static com.danielpg.paymentgateway.fixture.PaymentIntentFixture.CREATED_AT;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PaymentIntentTest {
+
+    private static final TimeMillis NOW = TimeMillis.of(1700007300L);
+
+    @Test
+    void buildsIntentWithUpdatedAtDefaultingToCreatedAt() {
+        var intent = PaymentIntentFixture.builder().build();
+
+        assertThat(intent.status(), is(PaymentIntentStatus.PENDING));
+        assertThat(intent.updatedAt(), is(CREATED_AT));
+        assertThat(intent.paymentId(), nullValue());
+        assertThat(intent.failureReason(), nullValue());
+    }
+
+    @Test
+    void discardsCreditCardForBalanceIntent() {
+        var intent = PaymentIntentFixture.builder().withMethod(PaymentMethod.BALANCE).build();
+
+        assertThat(intent.creditCard(), nullValue());
+    }
+
+    @Test
+    void requiresCreditCardForCreditCardIntent() {
+        var builder = PaymentIntentFixture.builder().withCreditCard(null);
+
+        var exception = assertThrows(IllegalArgumentException.class, builder::build);
+
+        assertThat(exception.getMessage(), is("O cartão de crédito é requerido para pagamentos com cartão."));
+    }
+
+    @Test
+    void requiresPayer() {
+        var builder = PaymentIntentFixture.builder().withPayerId(null);
+
+        var exception = assertThrows(IllegalArgumentException.class, builder::build);
+
+        assertThat(exception.getMessage(), is("O pagador é requerido."));
+    }
+
+    @Test
+    void marksSucceededWhenProcessing() {
+        var intent = PaymentIntentFixture.builder().withStatus(PaymentIntentStatus.PROCESSING).build();
+
+        intent.markSucceeded(PaymentId.of(7L), NOW);
+
+        assertThat(intent.status(), is(PaymentIntentStatus.SUCCEEDED));
+        assertThat(intent.paymentId(), is(PaymentId.of(7L)));
+        assertThat(intent.updatedAt(), is(NOW));
+        assertThat(intent.creditCard(), nullValue());
+    }
+
+    @Test
+    void marksAuthorizedKeepingCreditCard() {
+        var intent = PaymentIntentFixture.builder().withStatus(PaymentIntentStatus.PROCESSING).build();
+
+        intent.markAuthorized(NOW);
+
+        assertThat(intent.isAuthorized(), is(true));
+        assertThat(intent.authorizedAt(), is(NOW));
+        assertThat(intent.updatedAt(), is(NOW));
+        assertThat(intent.creditCard(), notNullValue());
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = PaymentIntentStatus.class, names = {"SUCCEEDED", "FAILED"})
+    void discardsCreditCardForFinishedIntent(PaymentIntentStatus status) {
+        var intent = PaymentIntentFixture.builder().withStatus(status).withCreditCard(null).build();
+
+        assertThat(intent.creditCard(), nullValue());
+    }
+
+    @Test
+    void marksFailedTruncatingLongReason() {
+        var intent = PaymentIntentFixture.builder().withStatus(PaymentIntentStatus.PROCESSING).build();
+
+        intent.markFailed("x".repeat(300), NOW);
+
+        assertThat(intent.status(), is(PaymentIntentStatus.FAILED));
+        assertThat(intent.failureReason().length(), is(255));
+        assertThat(intent.updatedAt(), is(NOW));
+        assertThat(intent.creditCard(), nullValue());
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = PaymentIntentStatus.class, names = "PROCESSING", mode = EnumSource.Mode.EXCLUDE)
+    void cannotFinishWhenNotProcessing(PaymentIntentStatus status) {
+        var intent = PaymentIntentFixture.builder().withStatus(status).build();
+
+        var exception = assertThrows(IllegalStateException.class, () -> intent.markFailed("erro", NOW));
+
+        assertThat(exception.getMessage(), is("A intenção de pagamento não está em processamento."));
+    }
+
+    @Test
+    void finalizeCreationOnlyOnce() {
+        var intent = PaymentIntentFixture.builder().withId(null).build();
+
+        intent.finalizeCreation(PaymentIntentId.of(1L));
+
+        assertThat(intent.id(), is(PaymentIntentId.of(1L)));
+        assertThrows(IllegalStateException.class, () -> intent.finalizeCreation(PaymentIntentId.of(2L)));
+    }
+}
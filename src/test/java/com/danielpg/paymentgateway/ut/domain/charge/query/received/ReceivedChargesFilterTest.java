@@ -4,6 +4,8 @@ import com.danielpg.paymentgateway.domain.charge.ChargeStatus;
 import com.danielpg.paymentgateway.domain.charge.query.received.ReceivedChargesFilter;
 import com.danielpg.paymentgateway.domain.user.UserId;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import java.util.Set;
 
@@ -41,4 +43,21 @@ public class ReceivedChargesFilterTest {
 
         assertThat(exception.getMessage(), is("O ID do pagamento é requerido."));
     }
+
+    @Test
+    void createsSuccessfullyWithPagination() {
+        var filter = new ReceivedChargesFilter(UserId.of(1L), Set.of(), 50L, ReceivedChargesFilter.MAX_LIMIT);
+
+        assertThat(filter.afterId(), is(50L));
+        assertThat(filter.limit(), is(ReceivedChargesFilter.MAX_LIMIT));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1, ReceivedChargesFilter.MAX_LIMIT + 1})
+    void throwsExceptionWhenLimitIsOutOfRange(int limit) {
+        var exception = assertThrows(IllegalArgumentException.class,
+                () -> new ReceivedChargesFilter(UserId.of(1L), Set.of(), null, limit));
+
+        assertThat(exception.getMessage(), is("O limite deve estar entre 1 e 1000."));
+    }
 }
@@ -2,8 +2,13 @@ package com.danielpg.paymentgateway.ut.domain.deposit;
 
 import com.danielpg.paymentgateway.domain.charge.payment.PaymentAuthorizer;
 import com.danielpg.paymentgateway.domain.deposit.CreateDepositService;
+import com.danielpg.paymentgateway.domain.deposit.Deposit;
+import com.danielpg.paymentgateway.domain.deposit.DepositId;
 import com.danielpg.paymentgateway.domain.deposit.DepositRepository;
 import com.danielpg.paymentgateway.domain.deposit.DepositRequest;
+import com.danielpg.paymentgateway.domain.ledger.LedgerEntry;
+import com.danielpg.paymentgateway.domain.ledger.LedgerEntryType;
+import com.danielpg.paymentgateway.domain.ledger.LedgerRepository;
 import com.danielpg.paymentgateway.domain.shared.AppClock;
 import com.danielpg.paymentgateway.domain.shared.PositiveMoney;
 import com.danielpg.paymentgateway.domain.shared.TimeMillis;
@@ -27,11 +32,12 @@ class CreateDepositServiceTest {
     private static final TimeMillis NOW = TimeMillis.of(999L);
     private static final PositiveMoney DEPOSIT_VALUE = PositiveMoney.of(new BigDecimal("10.00"));
     private static final Balance INITIAL_BALANCE = Balance.of(new BigDecimal("2.00"));
-    private static final Balance FINAL_BALANCE = Balance.of(new BigDecimal("12.00"));
+    private static final DepositId DEPOSIT_ID = DepositId.of(7L);
     private static final DepositRequest REQUEST = DepositRequest.of(USER_ID, DEPOSIT_VALUE);
 
     private DepositRepository depositRepository;
     private UserRepository userRepository;
+    private LedgerRepository ledgerRepository;
     private PaymentAuthorizer authorizer;
     private CreateDepositService service;
     private User user;
@@ -40,14 +46,20 @@ class CreateDepositServiceTest {
     void setup() {
         depositRepository = mock(DepositRepository.class);
         userRepository = mock(UserRepository.class);
+        ledgerRepository = mock(LedgerRepository.class);
         authorizer = mock(PaymentAuthorizer.class);
         user = UserFixture.builder().withId(USER_ID).withBalance(INITIAL_BALANCE).build();
         var clock = mock(AppClock.class);
 
-        service = new CreateDepositService(depositRepository, userRepository, authorizer, clock);
+        service = new CreateDepositService(depositRepository, userRepository, ledgerRepository,
+                authorizer, clock);
 
         when(userRepository.getOrThrow(USER_ID)).thenReturn(user);
         when(clock.now()).thenReturn(NOW);
+        doAnswer(invocation -> {
+            invocation.<Deposit>getArgument(0).finalizeCreation(DEPOSIT_ID);
+            return null;
+        }).when(depositRepository).save(any());
     }
 
     @Test
@@ -57,11 +69,16 @@ class CreateDepositServiceTest {
         assertThat(deposit.userId(), is(USER_ID));
         assertThat(deposit.amount(), is(DEPOSIT_VALUE));
         assertThat(deposit.createdAt(), is(NOW));
-        assertThat(user.balance(), is(FINAL_BALANCE));
 
         verify(authorizer).authorizeDeposit(deposit);
-        verify(userRepository).save(user);
         verify(depositRepository).save(deposit);
+        verify(ledgerRepository).append(LedgerEntry.builder()
+                .withUserId(USER_ID)
+                .withType(LedgerEntryType.DEPOSIT)
+                .withAmount(DEPOSIT_VALUE)
+                .withReferenceId(DEPOSIT_ID.value())
+                .withCreatedAt(NOW)
+                .build());
     }
 
     @Test
@@ -73,7 +90,7 @@ class CreateDepositServiceTest {
 
         assertThat(ex.getMessage(), is("Depósito não autorizado pelo serviço externo."));
         verify(depositRepository, never()).save(any());
-        verify(userRepository, never()).save(any());
+        verify(ledgerRepository, never()).append(any());
     }
 
     @Test
@@ -86,7 +103,38 @@ class CreateDepositServiceTest {
         );
 
         assertThat(ex.getMessage(), is("Falha ao salvar depósito"));
-        verify(userRepository, never()).save(any());
+        verify(ledgerRepository, never()).append(any());
+    }
+
+    @Test
+    void prepareDepositDoesNotCallAuthorizerNorPersist() {
+        var deposit = service.prepareDeposit(REQUEST);
+
+        assertThat(deposit.userId(), is(USER_ID));
+        assertThat(deposit.amount(), is(DEPOSIT_VALUE));
+        verify(userRepository).getOrThrow(USER_ID);
+        verifyNoInteractions(authorizer, depositRepository, ledgerRepository);
+    }
+
+    @Test
+    void completeDepositPersistsWithoutCallingAuthorizer() {
+        var deposit = service.prepareDeposit(REQUEST);
+
+        service.completeDeposit(deposit);
+
+        verify(depositRepository).save(deposit);
+        verify(ledgerRepository).append(any());
+        verifyNoInteractions(authorizer);
+    }
+
+    @Test
+    void markForReconciliationRecordsDepositWithoutCallingAuthorizer() {
+        var deposit = service.prepareDeposit(REQUEST);
+
+        service.markForReconciliation(deposit);
+
+        verify(depositRepository).markForReconciliation(deposit);
+        verifyNoInteractions(authorizer);
     }
 
 }
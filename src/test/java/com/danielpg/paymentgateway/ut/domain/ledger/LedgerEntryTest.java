@@ -0,0 +1,103 @@
+package com.danielpg.paymentgateway.ut.domain.ledger;
+
+import com.danielpg.paymentgateway.domain.ledger.LedgerEntryId;
+import com.danielpg.paymentgateway.domain.ledger.LedgerEntryType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import static com.danielpg.paymentgateway.fixture.LedgerEntryFixture.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LedgerEntryTest {
+
+    @Test
+    void buildsLedgerEntryWhenValid() {
+        var entry = builder().build();
+
+        assertThat(entry.id(), is(LEDGER_ENTRY_ID));
+        assertThat(entry.userId(), is(USER_ID));
+        assertThat(entry.type(), is(TYPE));
+        assertThat(entry.amount(), is(AMOUNT));
+        assertThat(entry.referenceId(), is(REFERENCE_ID));
+        assertThat(entry.createdAt(), is(CREATED_AT));
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = LedgerEntryType.class, names = {"PAYMENT_SENT", "REFUND_SENT"})
+    void signedAmountIsNegativeForDebits(LedgerEntryType type) {
+        var entry = builder().withType(type).build();
+
+        assertThat(type.isDebit(), is(true));
+        assertThat(entry.signedAmount(), is(AMOUNT.value().negate()));
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = LedgerEntryType.class, names = {"DEPOSIT", "PAYMENT_RECEIVED", "REFUND_RECEIVED"})
+    void signedAmountIsPositiveForCredits(LedgerEntryType type) {
+        var entry = builder().withType(type).build();
+
+        assertThat(type.isDebit(), is(false));
+        assertThat(entry.signedAmount(), is(AMOUNT.value()));
+    }
+
+    @Test
+    void throwsExceptionWhenUserIsNull() {
+        var builder = builder().withUserId(null);
+
+        var ex = assertThrows(IllegalArgumentException.class, builder::build);
+        assertThat(ex.getMessage(), is("O usuário é requerido."));
+    }
+
+    @Test
+    void throwsExceptionWhenTypeIsNull() {
+        var builder = builder().withType(null);
+
+        var ex = assertThrows(IllegalArgumentException.class, builder::build);
+        assertThat(ex.getMessage(), is("O tipo do lançamento é requerido."));
+    }
+
+    @Test
+    void throwsExceptionWhenAmountIsNull() {
+        var builder = builder().withAmount(null);
+
+        var ex = assertThrows(IllegalArgumentException.class, builder::build);
+        assertThat(ex.getMessage(), is("O valor é requerido."));
+    }
+
+    @Test
+    void throwsExceptionWhenReferenceIsNull() {
+        var builder = builder().withReferenceId(null);
+
+        var ex = assertThrows(IllegalArgumentException.class, builder::build);
+        assertThat(ex.getMessage(), is("A referência do lançamento é requerida."));
+    }
+
+    @Test
+    void throwsExceptionWhenCreatedAtIsNull() {
+        var builder = builder().withCreatedAt(null);
+
+        var ex = assertThrows(IllegalArgumentException.class, builder::build);
+        assertThat(ex.getMessage(), is("A data/hora do lançamento é requerida."));
+    }
+
+    @Test
+    void setsIdWhenFinalizingCreation() {
+        var entry = builder().withId(null).build();
+
+        entry.finalizeCreation(LEDGER_ENTRY_ID);
+
+        assertThat(entry.id(), is(LEDGER_ENTRY_ID));
+    }
+
+    @Test
+    void throwsExceptionWhenFinalizingCreationTwice() {
+        var entry = builder().build();
+        var id = LedgerEntryId.of(2L);
+
+        var ex = assertThrows(IllegalStateException.class, () -> entry.finalizeCreation(id));
+        assertThat(ex.getMessage(), is("A criação do lançamento já foi finalizada."));
+    }
+}
@@ -0,0 +1,81 @@
+package com.danielpg.paymentgateway.ut.domain.webhook;
+
+import com.danielpg.paymentgateway.domain.webhook.WebhookSubscription;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static com.danielpg.paymentgateway.fixture.WebhookSubscriptionFixture.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class WebhookSubscriptionTest {
+
+    @Test
+    void buildsSubscriptionWhenValid() {
+        var subscription = builder().build();
+
+        assertThat(subscription.id(), is(SUBSCRIPTION_ID));
+        assertThat(subscription.userId(), is(USER_ID));
+        assertThat(subscription.url(), is(URL));
+        assertThat(subscription.secret(), is(SECRET));
+        assertThat(subscription.createdAt(), is(CREATED_AT));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"http://localhost:8080/hook", "https://loja.com/webhooks?origem=gateway"})
+    void acceptsHttpAndHttpsUrls(String url) {
+        assertThat(builder().withUrl(url).build().url(), is(url));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"ftp://loja.com/hook", "loja.com/hook", "https:///hook", "http://loja .com"})
+    void throwsExceptionWhenUrlIsInvalid(String url) {
+        var builder = builder().withUrl(url);
+
+        assertThrows(IllegalArgumentException.class, builder::build);
+    }
+
+    @Test
+    void throwsExceptionWhenUrlIsTooLong() {
+        var builder = builder().withUrl("https://loja.com/" + "a".repeat(WebhookSubscription.URL_MAX_LENGTH));
+
+        var ex = assertThrows(IllegalArgumentException.class, builder::build);
+        assertThat(ex.getMessage(), is("A URL do webhook deve ter no máximo 500 caracteres."));
+    }
+
+    @Test
+    void throwsExceptionWhenUrlIsNull() {
+        var builder = builder().withUrl(null);
+
+        var ex = assertThrows(IllegalArgumentException.class, builder::build);
+        assertThat(ex.getMessage(), is("A URL do webhook é requerida."));
+    }
+
+    @Test
+    void throwsExceptionWhenUserIsNull() {
+        var builder = builder().withUserId(null);
+
+        var ex = assertThrows(IllegalArgumentException.class, builder::build);
+        assertThat(ex.getMessage(), is("O usuário é requerido."));
+    }
+
+    @Test
+    void throwsExceptionWhenSecretIsNull() {
+        var builder = builder().withSecret(null);
+
+        var ex = assertThrows(IllegalArgumentException.class, builder::build);
+        assertThat(ex.getMessage(), is("O segredo do webhook é requerido."));
+    }
+
+    @Test
+    void throwsExceptionWhenFinalizingCreationTwice() {
+        var subscription = builder().build();
+
+        var ex = assertThrows(IllegalStateException.class,
+                () -> subscription.finalizeCreation(SUBSCRIPTION_ID));
+
+        assertThat(ex.getMessage(), is("A criação do webhook já foi finalizada."));
+    }
+}
@@ -0,0 +1,40 @@
+package com.danielpg.paymentgateway.ut.infrastructure.configuration;
+
+import com.danielpg.paymentgateway.infrastructure.configuration.VirtualThreadContext;
+import org.apache.coyote.ProtocolHandler;
+import org.apache.coyote.http11.Http11NioProtocol;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+
+class VirtualThreadContextTest {
+
+    private final VirtualThreadContext context = new VirtualThreadContext();
+
+    @AfterEach
+    void afterEach() {
+        context.shutdown();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void runsRequestsOnVirtualThreads() throws Exception {
+        var protocol = new Http11NioProtocol();
+        var customizer = (TomcatProtocolHandlerCustomizer<ProtocolHandler>) context.virtualThreadProtocolHandlerCustomizer();
+
+        customizer.customize(protocol);
+
+        var thread = new CompletableFuture<Thread>();
+        ((Executor) protocol.getExecutor()).execute(() -> thread.complete(Thread.currentThread()));
+        assertThat(thread.get(1, TimeUnit.SECONDS).isVirtual(), is(true));
+        assertThat(thread.get().getName(), startsWith("http-"));
+    }
+}
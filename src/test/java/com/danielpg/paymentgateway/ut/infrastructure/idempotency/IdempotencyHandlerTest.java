@@ -0,0 +1,188 @@
+package com.danielpg.paymentgateway.ut.infrastructure.idempotency;
+
+import com.danielpg.paymentgateway.application.shared.RequesterProvider;
+import com.danielpg.paymentgateway.domain.shared.AppClock;
+import com.danielpg.paymentgateway.domain.shared.TimeMillis;
+import com.danielpg.paymentgateway.domain.user.UserId;
+import com.danielpg.paymentgateway.infrastructure.idempotency.IdempotencyCache;
+import com.danielpg.paymentgateway.infrastructure.idempotency.IdempotencyHandler;
+import com.danielpg.paymentgateway.infrastructure.idempotency.IdempotencyRecord;
+import com.danielpg.paymentgateway.infrastructure.idempotency.IdempotencyStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class IdempotencyHandlerTest {
+
+    private static final UserId USER_ID = UserId.of(1L);
+    private static final String KEY = "chave-1";
+    private static final Request REQUEST = new Request("10.00");
+
+    private IdempotencyStore store;
+    private IdempotencyCache cache;
+    private IdempotencyHandler handler;
+    private AtomicInteger executions;
+
+    @BeforeEach
+    void setUp() {
+        store = mock(IdempotencyStore.class);
+        var requesterProvider = mock(RequesterProvider.class);
+        var clock = mock(AppClock.class);
+        when(requesterProvider.requesterId()).thenReturn(USER_ID);
+        when(clock.now()).thenReturn(TimeMillis.of(100000L));
+        when(store.reserve(any(), anyString(), anyString(), any(), any())).thenReturn(true);
+        cache = new IdempotencyCache(100, 60000L, clock);
+        handler = new IdempotencyHandler(store, cache, requesterProvider, new ObjectMapper(), clock,
+                2000L, 60000L, 86400000L, 100);
+        executions = new AtomicInteger();
+    }
+
+    @Test
+    void executesActionWithoutKey() {
+        var response = handler.execute(null, REQUEST, Response.class, action());
+
+        assertThat(response.getBody(), is(new Response(1L)));
+        verifyNoInteractions(store);
+    }
+
+    @Test
+    void storesResponseAndReplaysItFromCache() {
+        var first = handler.execute(KEY, REQUEST, Response.class, action());
+        var second = handler.execute(KEY, REQUEST, Response.class, action());
+
+        assertThat(executions.get(), is(1));
+        assertThat(second.getStatusCode(), is(HttpStatus.CREATED));
+        assertThat(second.getBody(), is(first.getBody()));
+        assertThat(second.getHeaders().getFirst(IdempotencyHandler.REPLAYED_HEADER), is("true"));
+        assertThat(first.getHeaders().getFirst(IdempotencyHandler.REPLAYED_HEADER), is(nullValue()));
+        verify(store).complete(eq(USER_ID), eq(KEY), eq(201), eq("{\"id\":1}"), any());
+        verify(store, times(1)).reserve(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void replaysResponseStoredByAnotherInstance() {
+        var requestHash = new AtomicReference<String>();
+        when(store.reserve(any(), anyString(), anyString(), any(), any())).thenAnswer(invocation -> {
+            requestHash.set(invocation.getArgument(2));
+            return false;
+        });
+        when(store.find(USER_ID, KEY)).thenAnswer(invocation ->
+                Optional.of(new IdempotencyRecord(requestHash.get(), 201, "{\"id\":7}")));
+
+        var response = handler.execute(KEY, REQUEST, Response.class, action());
+
+        assertThat(response.getBody(), is(new Response(7L)));
+        assertThat(executions.get(), is(0));
+    }
+
+    @Test
+    void throwsConflictWhenKeyWasUsedWithAnotherRequest() {
+        handler.execute(KEY, REQUEST, Response.class, action());
+
+        var ex = assertThrows(IllegalStateException.class,
+                () -> handler.execute(KEY, new Request("20.00"), Response.class, action()));
+
+        assertThat(ex.getMessage(), is("A Idempotency-Key já foi usada em outra requisição."));
+        assertThat(executions.get(), is(1));
+    }
+
+    @Test
+    void failsRequestButKeepsResponseCachedWhenStoringFails() {
+        doThrow(new DataAccessResourceFailureException("Conexão perdida."))
+                .when(store).complete(any(), any(), anyInt(), any(), any());
+
+        var ex = assertThrows(IllegalStateException.class,
+                () -> handler.execute(KEY, REQUEST, Response.class, action()));
+        var retry = handler.execute(KEY, REQUEST, Response.class, action());
+
+        assertThat(ex.getMessage(), is("A requisição foi processada, mas a resposta não pôde ser gravada "
+                + "para a Idempotency-Key."));
+        assertThat(executions.get(), is(1));
+        assertThat(retry.getBody(), is(new Response(1L)));
+        verify(store, never()).release(any(), any());
+    }
+
+    @Test
+    void releasesKeyAndDoesNotStoreWhenActionFails() {
+        assertThrows(IllegalStateException.class, () -> handler.execute(KEY, REQUEST, Response.class, () -> {
+            throw new IllegalStateException("Pagamento não autorizado.");
+        }));
+
+        verify(store).release(USER_ID, KEY);
+        verify(store, never()).complete(any(), any(), anyInt(), any(), any());
+        assertThat(cache.size(), is(0));
+    }
+
+    @Test
+    void throwsBadRequestWhenKeyIsInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> handler.execute(" ", REQUEST, Response.class, action()));
+        assertThrows(IllegalArgumentException.class, () -> handler.execute(
+                "k".repeat(IdempotencyHandler.KEY_MAX_LENGTH + 1), REQUEST, Response.class, action()));
+    }
+
+    @Test
+    void concurrentDuplicateWaitsForFirstRequest() throws Exception {
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        Supplier<ResponseEntity<Response>> slowAction = () -> {
+            started.countDown();
+            await(release);
+            return action().get();
+        };
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            var first = executor.submit(() -> handler.execute(KEY, REQUEST, Response.class, slowAction));
+            assertThat(started.await(1, TimeUnit.SECONDS), is(true));
+            var second = executor.submit(() -> handler.execute(KEY, REQUEST, Response.class, slowAction));
+
+            Thread.sleep(100);
+            assertThat(second.isDone(), is(false));
+            release.countDown();
+
+            assertThat(first.get(1, TimeUnit.SECONDS).getBody(), is(new Response(1L)));
+            var replayed = second.get(1, TimeUnit.SECONDS);
+            assertThat(replayed.getBody(), is(new Response(1L)));
+            assertThat(replayed.getHeaders().getFirst(IdempotencyHandler.REPLAYED_HEADER), is("true"));
+        }
+        assertThat(executions.get(), is(1));
+    }
+
+    private Supplier<ResponseEntity<Response>> action() {
+        return () -> ResponseEntity.status(HttpStatus.CREATED).body(new Response((long) executions.incrementAndGet()));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public record Request(String amount) {
+    }
+
+    public record Response(Long id) {
+    }
+}
@@ -0,0 +1,38 @@
+package com.danielpg.paymentgateway.ut.infrastructure.integration;
+
+import com.danielpg.paymentgateway.infrastructure.integration.Bulkhead;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BulkheadTest {
+
+    @Test
+    void rejectsCallsBeyondConcurrencyLimit() {
+        var bulkhead = new Bulkhead(2, 0L);
+
+        assertThat(bulkhead.tryAcquire(), is(true));
+        assertThat(bulkhead.tryAcquire(), is(true));
+        assertThat(bulkhead.tryAcquire(), is(false));
+        assertThat(bulkhead.activeCalls(), is(2));
+    }
+
+    @Test
+    void releasedPermitCanBeReused() {
+        var bulkhead = new Bulkhead(1, 0L);
+        bulkhead.tryAcquire();
+
+        bulkhead.release();
+
+        assertThat(bulkhead.activeCalls(), is(0));
+        assertThat(bulkhead.tryAcquire(), is(true));
+    }
+
+    @Test
+    void rejectsInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> new Bulkhead(0, 0L));
+        assertThrows(IllegalArgumentException.class, () -> new Bulkhead(1, -1L));
+    }
+}
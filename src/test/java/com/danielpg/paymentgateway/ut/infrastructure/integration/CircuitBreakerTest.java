@@ -0,0 +1,101 @@
+package com.danielpg.paymentgateway.ut.infrastructure.integration;
+
+import com.danielpg.paymentgateway.domain.shared.AppClock;
+import com.danielpg.paymentgateway.domain.shared.TimeMillis;
+import com.danielpg.paymentgateway.infrastructure.integration.CircuitBreaker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.danielpg.paymentgateway.infrastructure.integration.CircuitBreaker.State.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CircuitBreakerTest {
+
+    private static final long OPEN_DURATION = 1000L;
+
+    private AppClock clock;
+    private CircuitBreaker breaker;
+
+    @BeforeEach
+    void beforeEach() {
+        clock = mock(AppClock.class);
+        when(clock.now()).thenReturn(TimeMillis.of(0L));
+        breaker = new CircuitBreaker(2, OPEN_DURATION, 1, clock);
+    }
+
+    @Test
+    void staysClosedBelowFailureThreshold() {
+        breaker.onFailure();
+
+        assertThat(breaker.state(), is(CLOSED));
+        assertThat(breaker.tryAcquirePermission(), is(true));
+    }
+
+    @Test
+    void successResetsConsecutiveFailures() {
+        breaker.onFailure();
+        breaker.onSuccess();
+        breaker.onFailure();
+
+        assertThat(breaker.state(), is(CLOSED));
+    }
+
+    @Test
+    void opensAndRejectsCallsAfterConsecutiveFailures() {
+        breaker.onFailure();
+        breaker.onFailure();
+
+        assertThat(breaker.state(), is(OPEN));
+        assertThat(breaker.tryAcquirePermission(), is(false));
+    }
+
+    @Test
+    void allowsSingleProbeAfterOpenDuration() {
+        open();
+        when(clock.now()).thenReturn(TimeMillis.of(OPEN_DURATION));
+
+        assertThat(breaker.tryAcquirePermission(), is(true));
+        assertThat(breaker.state(), is(HALF_OPEN));
+        assertThat(breaker.tryAcquirePermission(), is(false));
+    }
+
+    @Test
+    void closesWhenProbeSucceeds() {
+        open();
+        when(clock.now()).thenReturn(TimeMillis.of(OPEN_DURATION));
+        breaker.tryAcquirePermission();
+
+        breaker.onSuccess();
+
+        assertThat(breaker.state(), is(CLOSED));
+        assertThat(breaker.tryAcquirePermission(), is(true));
+    }
+
+    @Test
+    void reopensWhenProbeFails() {
+        open();
+        when(clock.now()).thenReturn(TimeMillis.of(OPEN_DURATION));
+        breaker.tryAcquirePermission();
+
+        breaker.onFailure();
+
+        assertThat(breaker.state(), is(OPEN));
+        assertThat(breaker.tryAcquirePermission(), is(false));
+    }
+
+    @Test
+    void rejectsInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> new CircuitBreaker(0, OPEN_DURATION, 1, clock));
+        assertThrows(IllegalArgumentException.class, () -> new CircuitBreaker(1, 0L, 1, clock));
+        assertThrows(IllegalArgumentException.class, () -> new CircuitBreaker(1, OPEN_DURATION, 0, clock));
+    }
+
+    private void open() {
+        breaker.onFailure();
+        breaker.onFailure();
+    }
+}
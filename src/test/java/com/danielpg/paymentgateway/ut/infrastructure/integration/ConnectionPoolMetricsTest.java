@@ -0,0 +1,29 @@
+package com.danielpg.paymentgateway.ut.infrastructure.integration;
+
+import com.danielpg.paymentgateway.infrastructure.integration.ConnectionPoolMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+class ConnectionPoolMetricsTest {
+
+    @Test
+    void registersPoolGaugesTaggedByClient() throws Exception {
+        var registry = new SimpleMeterRegistry();
+        try (var pool = PoolingHttpClientConnectionManagerBuilder.create().setMaxConnTotal(7).build()) {
+            new ConnectionPoolMetrics("authorizer", pool).bindTo(registry);
+
+            assertThat(gauge(registry, "http.client.pool.max"), is(7.0));
+            assertThat(gauge(registry, "http.client.pool.leased"), is(0.0));
+            assertThat(gauge(registry, "http.client.pool.available"), is(0.0));
+            assertThat(gauge(registry, "http.client.pool.pending"), is(0.0));
+        }
+    }
+
+    private static double gauge(SimpleMeterRegistry registry, String name) {
+        return registry.get(name).tag("client", "authorizer").gauge().value();
+    }
+}
@@ -0,0 +1,67 @@
+package com.danielpg.paymentgateway.ut.infrastructure.integration;
+
+import com.danielpg.paymentgateway.infrastructure.integration.InetWebhookDestinationGuard;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class InetWebhookDestinationGuardTest {
+
+    private final InetWebhookDestinationGuard guard = new InetWebhookDestinationGuard(false);
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "http://localhost:8080/hook",
+            "http://127.0.0.1/hook",
+            "http://0.0.0.0/hook",
+            "http://169.254.169.254/latest/meta-data",
+            "http://10.0.0.5/hook",
+            "http://172.16.3.4/hook",
+            "http://192.168.0.10/hook",
+            "http://100.64.0.1/hook",
+            "http://[::1]/hook",
+            "http://[fd00::1]/hook",
+            "http://[fe80::1]/hook",
+            "http://[::ffff:127.0.0.1]/hook"
+    })
+    void rejectsNonPublicDestinations(String url) {
+        var exception = assertThrows(IllegalArgumentException.class, () -> guard.ensurePublicDestination(url));
+
+        assertThat(exception.getMessage(), is("O destino do webhook deve ser um endereço público."));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"https://8.8.8.8/hook", "http://172.32.0.1/hook", "http://[2001:4860:4860::8888]/hook"})
+    void acceptsPublicDestinations(String url) {
+        assertDoesNotThrow(() -> guard.ensurePublicDestination(url));
+    }
+
+    @Test
+    void acceptsAnyDestinationWhenPrivateAddressesAreAllowed() {
+        var permissive = new InetWebhookDestinationGuard(true);
+
+        assertDoesNotThrow(() -> permissive.ensurePublicDestination("http://127.0.0.1/hook"));
+    }
+
+    @Test
+    void resolverRejectsNonPublicAddress() {
+        var exception = assertThrows(UnknownHostException.class, () -> guard.resolve("127.0.0.1"));
+
+        assertThat(exception.getMessage(), is("O destino do webhook deve ser um endereço público."));
+    }
+
+    @Test
+    void resolverReturnsTheCheckedPublicAddress() throws UnknownHostException {
+        var addresses = guard.resolve("8.8.8.8");
+
+        assertThat(addresses, is(new InetAddress[]{InetAddress.getByName("8.8.8.8")}));
+    }
+}
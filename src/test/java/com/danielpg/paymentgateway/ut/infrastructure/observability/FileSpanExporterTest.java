@@ -0,0 +1,50 @@
+package com.danielpg.paymentgateway.ut.infrastructure.observability;
+
+import com.danielpg.paymentgateway.infrastructure.observability.FileSpanExporter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+
+class FileSpanExporterTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void writesOneJsonLinePerFinishedSpan() throws Exception {
+        var file = directory.resolve("spans.jsonl");
+        var mapper = new ObjectMapper();
+        var provider = SdkTracerProvider.builder()
+                .addSpanProcessor(SimpleSpanProcessor.create(new FileSpanExporter(file, mapper)))
+                .build();
+        var tracer = provider.get("test");
+
+        var parent = tracer.spanBuilder("parent").startSpan();
+        try (var ignored = parent.makeCurrent()) {
+            tracer.spanBuilder("child").setAttribute("operation", "PAYMENT").startSpan().end();
+        }
+        parent.end();
+        provider.shutdown().join(5, TimeUnit.SECONDS);
+
+        var lines = Files.readAllLines(file);
+        assertThat(lines, hasSize(2));
+        var child = mapper.readTree(lines.get(0));
+        var root = mapper.readTree(lines.get(1));
+        assertThat(child.get("name").asText(), is("child"));
+        assertThat(child.get("parentSpanId").asText(), is(parent.getSpanContext().getSpanId()));
+        assertThat(child.get("traceId").asText(), is(root.get("traceId").asText()));
+        assertThat(child.get("attributes").get("operation").asText(), is("PAYMENT"));
+        assertThat(root.get("name").asText(), is("parent"));
+        assertThat(root.get("parentSpanId").isNull(), is(true));
+    }
+}
@@ -0,0 +1,131 @@
+package com.danielpg.paymentgateway.ut.infrastructure.observability;
+
+import com.danielpg.paymentgateway.application.charge.ExpireOverdueChargesUseCase;
+import com.danielpg.paymentgateway.domain.charge.CancelChargeService;
+import com.danielpg.paymentgateway.domain.charge.ChargeRepository;
+import com.danielpg.paymentgateway.domain.charge.ChargeStatus;
+import com.danielpg.paymentgateway.domain.charge.payment.PaymentAuthorizer;
+import com.danielpg.paymentgateway.domain.charge.payment.PaymentRepository;
+import com.danielpg.paymentgateway.domain.charge.summary.ChargeSummaryRepository;
+import com.danielpg.paymentgateway.domain.event.DomainEventPublisher;
+import com.danielpg.paymentgateway.domain.ledger.LedgerRepository;
+import com.danielpg.paymentgateway.domain.shared.AppClock;
+import com.danielpg.paymentgateway.domain.shared.TimeMillis;
+import com.danielpg.paymentgateway.fixture.AppTransactionFixture;
+import com.danielpg.paymentgateway.fixture.ChargeFixture;
+import com.danielpg.paymentgateway.fixture.JfrFixture;
+import com.danielpg.paymentgateway.infrastructure.jdbc.JdbcUserRepository;
+import com.danielpg.paymentgateway.infrastructure.observability.InstrumentedBeanPostProcessor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.tracing.Tracer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class InstrumentedBeanPostProcessorTest {
+
+    private SimpleMeterRegistry registry;
+    private InstrumentedBeanPostProcessor postProcessor;
+
+    @BeforeEach
+    void beforeEach() {
+        registry = new SimpleMeterRegistry();
+        var beanFactory = new StaticListableBeanFactory(Map.of("meterRegistry", registry));
+        postProcessor = new InstrumentedBeanPostProcessor(beanFactory.getBeanProvider(MeterRegistry.class),
+                beanFactory.getBeanProvider(Tracer.class));
+    }
+
+    @Test
+    void timesUseCaseCallsByMethodAndOutcome() {
+        var chargeRepository = mock(ChargeRepository.class);
+        var clock = mock(AppClock.class);
+        when(clock.now()).thenReturn(TimeMillis.of(1000L));
+        var useCase = (ExpireOverdueChargesUseCase) postProcessor.postProcessAfterInitialization(
+                new ExpireOverdueChargesUseCase(AppTransactionFixture.mockedTransaction(), chargeRepository,
+                        mock(ChargeSummaryRepository.class), mock(DomainEventPublisher.class), clock, 10),
+                "expireOverdueChargesUseCase");
+
+        when(chargeRepository.lockOverdue(any(), anyInt())).thenReturn(List.of());
+        assertThat(useCase.expireBatch(), is(0));
+        when(chargeRepository.lockOverdue(any(), anyInt())).thenThrow(new IllegalStateException("Falha."));
+        assertThrows(IllegalStateException.class, useCase::expireBatch);
+
+        assertThat(timer(InstrumentedBeanPostProcessor.USE_CASE_METRIC, "ExpireOverdueChargesUseCase", "expireBatch",
+                "success", "none").count(), is(1L));
+        assertThat(timer(InstrumentedBeanPostProcessor.USE_CASE_METRIC, "ExpireOverdueChargesUseCase", "expireBatch",
+                "error", "IllegalStateException").count(), is(1L));
+    }
+
+    @Test
+    void timesJdbcRepositoryCalls() {
+        var repository = (JdbcUserRepository) postProcessor.postProcessAfterInitialization(
+                new JdbcUserRepository(mock(NamedParameterJdbcTemplate.class), event -> {
+                }), "jdbcUserRepository");
+
+        assertThat(repository.findIdsByCpf(List.of()), is(Map.of()));
+
+        assertThat(timer(InstrumentedBeanPostProcessor.REPOSITORY_METRIC, "JdbcUserRepository", "findIdsByCpf",
+                "success", "none").count(), is(1L));
+    }
+
+    @Test
+    void emitsSettlementEventForDomainServices() {
+        var clock = mock(AppClock.class);
+        when(clock.now()).thenReturn(TimeMillis.of(1000L));
+        var service = (CancelChargeService) postProcessor.postProcessAfterInitialization(
+                new CancelChargeService(mock(ChargeRepository.class), mock(LedgerRepository.class),
+                        mock(PaymentRepository.class), mock(PaymentAuthorizer.class),
+                        mock(ChargeSummaryRepository.class), mock(DomainEventPublisher.class), clock),
+                "cancelChargeService");
+        var pending = ChargeFixture.builder().build();
+        var canceled = ChargeFixture.builder().withStatus(ChargeStatus.CANCELED).build();
+
+        var events = JfrFixture.record("com.danielpg.paymentgateway.Settlement", () -> {
+            service.cancelCharge(pending);
+            assertThrows(IllegalStateException.class, () -> service.cancelCharge(canceled));
+        });
+
+        assertThat(events, hasSize(2));
+        var success = events.get(0);
+        assertThat(success.getString("service"), is("CancelChargeService"));
+        assertThat(success.getString("method"), is("cancelCharge"));
+        assertThat(success.getLong("chargeId"), is(ChargeFixture.CHARGE_ID.value()));
+        assertThat(success.getLong("userId"), is(ChargeFixture.PAYER_ID.value()));
+        assertThat(success.getString("outcome"), is("success"));
+        assertThat(events.get(1).getString("outcome"), is("IllegalStateException"));
+        assertThat(registry.getMeters().isEmpty(), is(true));
+    }
+
+    @Test
+    void returnsOtherBeansUnchanged() {
+        var bean = new Object();
+
+        assertThat(postProcessor.postProcessAfterInitialization(bean, "other"), sameInstance(bean));
+        assertThat(registry.getMeters().isEmpty(), is(true));
+    }
+
+    private Timer timer(String name, String className, String method, String outcome, String exception) {
+        return registry.get(name)
+                .tag("class", className)
+                .tag("method", method)
+                .tag("outcome", outcome)
+                .tag("exception", exception)
+                .timer();
+    }
+}
@@ -0,0 +1,99 @@
+package com.danielpg.paymentgateway.ut.infrastructure.security;
+
+import com.danielpg.paymentgateway.infrastructure.security.JwtKeyRing;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JwtKeyRingTest {
+
+    private static final String CURRENT_SECRET = "a".repeat(64);
+    private static final String PREVIOUS_SECRET = "b".repeat(64);
+    private static final String UNKNOWN_SECRET = "c".repeat(64);
+
+    private final JwtKeyRing keyRing = new JwtKeyRing(CURRENT_SECRET, "k2", "k1:" + PREVIOUS_SECRET);
+
+    @Test
+    void exposesCurrentKeyAndKeyId() {
+        assertThat(keyRing.currentKeyId(), is("k2"));
+        assertThat(keyRing.currentKey(), is(Keys.hmacShaKeyFor(CURRENT_SECRET.getBytes())));
+    }
+
+    @Test
+    void reusesSameParserInstance() {
+        assertThat(keyRing.parser(), sameInstance(keyRing.parser()));
+    }
+
+    @Test
+    void parsesTokenSignedWithCurrentKey() {
+        var token = sign(CURRENT_SECRET, "k2");
+
+        var claims = keyRing.parser().parseClaimsJws(token).getBody();
+
+        assertThat(claims.getSubject(), is("a@b.com"));
+    }
+
+    @Test
+    void parsesTokenSignedWithPreviousKey() {
+        var token = sign(PREVIOUS_SECRET, "k1");
+
+        var claims = keyRing.parser().parseClaimsJws(token).getBody();
+
+        assertThat(claims.getSubject(), is("a@b.com"));
+    }
+
+    @Test
+    void parsesTokenWithoutKeyIdUsingCurrentKey() {
+        var token = sign(CURRENT_SECRET, null);
+
+        var claims = keyRing.parser().parseClaimsJws(token).getBody();
+
+        assertThat(claims.getSubject(), is("a@b.com"));
+    }
+
+    @Test
+    void rejectsTokenWithUnknownKeyId() {
+        var token = sign(UNKNOWN_SECRET, "k0");
+        var parser = keyRing.parser();
+
+        var ex = assertThrows(JwtException.class, () -> parser.parseClaimsJws(token));
+
+        assertThat(ex.getMessage(), is("Chave de assinatura desconhecida: k0"));
+    }
+
+    @Test
+    void rejectsTokenSignedWithWrongKey() {
+        var token = sign(UNKNOWN_SECRET, "k2");
+        var parser = keyRing.parser();
+
+        assertThrows(JwtException.class, () -> parser.parseClaimsJws(token));
+    }
+
+    @Test
+    void rejectsMalformedPreviousKeys() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new JwtKeyRing(CURRENT_SECRET, "k2", "k1"));
+    }
+
+    @Test
+    void rejectsBlankSecret() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new JwtKeyRing(" ", "k2", ""));
+    }
+
+    private static String sign(String secret, String keyId) {
+        var builder = Jwts.builder().setSubject("a@b.com");
+        if (keyId != null) {
+            builder.setHeaderParam(JwsHeader.KEY_ID, keyId);
+        }
+        return builder.signWith(Keys.hmacShaKeyFor(secret.getBytes()), SignatureAlgorithm.HS512).compact();
+    }
+}
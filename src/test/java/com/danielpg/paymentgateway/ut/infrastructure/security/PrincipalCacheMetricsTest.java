@@ -0,0 +1,36 @@
+package com.danielpg.paymentgateway.ut.infrastructure.security;
+
+import com.danielpg.paymentgateway.domain.shared.AppClock;
+import com.danielpg.paymentgateway.domain.shared.TimeMillis;
+import com.danielpg.paymentgateway.fixture.TokenFixture;
+import com.danielpg.paymentgateway.infrastructure.security.PrincipalCache;
+import com.danielpg.paymentgateway.infrastructure.security.PrincipalCacheMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PrincipalCacheMetricsTest {
+
+    @Test
+    void exposesCacheStats() {
+        var clock = mock(AppClock.class);
+        when(clock.now()).thenReturn(TimeMillis.of(0L));
+        var cache = new PrincipalCache(1, 1000L, clock);
+        var registry = new SimpleMeterRegistry();
+        new PrincipalCacheMetrics(cache).bindTo(registry);
+
+        cache.put(TokenFixture.builder().withRawToken("a").withExpiration(100_000L).build());
+        cache.get("a");
+        cache.get("b");
+        cache.put(TokenFixture.builder().withRawToken("b").withExpiration(100_000L).build());
+
+        assertThat(registry.get("jwt.principal.cache.hits").functionCounter().count(), is(1.0));
+        assertThat(registry.get("jwt.principal.cache.misses").functionCounter().count(), is(1.0));
+        assertThat(registry.get("jwt.principal.cache.evictions").functionCounter().count(), is(1.0));
+        assertThat(registry.get("jwt.principal.cache.size").gauge().value(), is(1.0));
+    }
+}
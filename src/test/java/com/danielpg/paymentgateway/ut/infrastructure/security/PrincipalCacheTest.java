@@ -0,0 +1,115 @@
+package com.danielpg.paymentgateway.ut.infrastructure.security;
+
+import com.danielpg.paymentgateway.application.auth.Token;
+import com.danielpg.paymentgateway.domain.shared.AppClock;
+import com.danielpg.paymentgateway.domain.shared.TimeMillis;
+import com.danielpg.paymentgateway.domain.user.UserId;
+import com.danielpg.paymentgateway.fixture.TokenFixture;
+import com.danielpg.paymentgateway.fixture.UserFixture;
+import com.danielpg.paymentgateway.infrastructure.jdbc.UserChangedEvent;
+import com.danielpg.paymentgateway.infrastructure.security.PrincipalCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PrincipalCacheTest {
+
+    private static final long TTL = 1000L;
+    private static final long TOKEN_EXPIRATION = 100_000L;
+
+    private AppClock clock;
+    private PrincipalCache cache;
+
+    @BeforeEach
+    void beforeEach() {
+        clock = mock(AppClock.class);
+        when(clock.now()).thenReturn(TimeMillis.of(0L));
+        cache = new PrincipalCache(2, TTL, clock);
+    }
+
+    @Test
+    void returnsEmptyAndCountsMissWhenTokenIsNotCached() {
+        var result = cache.get("unknown");
+
+        assertThat(result.isEmpty(), is(true));
+        assertThat(cache.stats().misses(), is(1L));
+        assertThat(cache.stats().hits(), is(0L));
+    }
+
+    @Test
+    void returnsCachedTokenAndCountsHit() {
+        var token = token("a", 1L);
+        cache.put(token);
+
+        var result = cache.get("a");
+
+        assertThat(result.orElseThrow(), is(token));
+        assertThat(cache.stats().hits(), is(1L));
+        assertThat(cache.stats().misses(), is(0L));
+    }
+
+    @Test
+    void evictsEntryAfterTtl() {
+        cache.put(token("a", 1L));
+        when(clock.now()).thenReturn(TimeMillis.of(TTL));
+
+        var result = cache.get("a");
+
+        assertThat(result.isEmpty(), is(true));
+        assertThat(cache.stats().evictions(), is(1L));
+        assertThat(cache.stats().size(), is(0));
+    }
+
+    @Test
+    void entryDoesNotOutliveTokenExpiration() {
+        cache.put(TokenFixture.builder().withRawToken("a").withExpiration(TTL / 2).build());
+        when(clock.now()).thenReturn(TimeMillis.of(TTL / 2));
+
+        assertThat(cache.get("a").isEmpty(), is(true));
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedEntryWhenFull() {
+        cache.put(token("a", 1L));
+        cache.put(token("b", 2L));
+        cache.get("a");
+        cache.put(token("c", 3L));
+
+        assertThat(cache.get("a").isPresent(), is(true));
+        assertThat(cache.get("b").isEmpty(), is(true));
+        assertThat(cache.get("c").isPresent(), is(true));
+        assertThat(cache.stats().evictions(), is(1L));
+        assertThat(cache.stats().size(), is(2));
+    }
+
+    @Test
+    void invalidatesAllEntriesOfChangedUser() {
+        cache.put(token("a", 1L));
+        cache.put(token("b", 2L));
+
+        cache.onUserChanged(new UserChangedEvent(UserId.of(1L)));
+
+        assertThat(cache.get("a").isEmpty(), is(true));
+        assertThat(cache.get("b").isPresent(), is(true));
+        assertThat(cache.stats().evictions(), is(1L));
+    }
+
+    @Test
+    void rejectsInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> new PrincipalCache(0, TTL, clock));
+        assertThrows(IllegalArgumentException.class, () -> new PrincipalCache(1, 0L, clock));
+    }
+
+    private static Token token(String rawToken, long userId) {
+        return TokenFixture.builder()
+                .withRawToken(rawToken)
+                .withUser(UserFixture.builder().withId(UserId.of(userId)).build())
+                .withExpiration(TOKEN_EXPIRATION)
+                .build();
+    }
+}
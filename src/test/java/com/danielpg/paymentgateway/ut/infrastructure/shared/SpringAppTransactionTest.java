@@ -1,5 +1,6 @@
 package com.danielpg.paymentgateway.ut.infrastructure.shared;
 
+import com.danielpg.paymentgateway.infrastructure.observability.AppTracer;
 import com.danielpg.paymentgateway.infrastructure.shared.SpringAppTransaction;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -18,7 +19,7 @@ class SpringAppTransactionTest {
     @BeforeEach
     void setUp() {
         var transactionManager = mock(PlatformTransactionManager.class);
-        appTransaction = new SpringAppTransaction(transactionManager);
+        appTransaction = new SpringAppTransaction(transactionManager, AppTracer.noop());
     }
 
     @Test
@@ -52,4 +53,9 @@ class SpringAppTransactionTest {
     void doesNotThrowExceptionWhenRunnableRunsSuccessfully() {
         assertDoesNotThrow(() -> appTransaction.execute(() -> { /* no-op */ }));
     }
+
+    @Test
+    void returnsSupplierResultWhenExecuteWithResultIsCalled() {
+        assertThat(appTransaction.executeWithResult(() -> "resultado"), is("resultado"));
+    }
 }
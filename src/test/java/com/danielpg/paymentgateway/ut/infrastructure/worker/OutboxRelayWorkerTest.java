@@ -0,0 +1,109 @@
+package com.danielpg.paymentgateway.ut.infrastructure.worker;
+
+import com.danielpg.paymentgateway.application.event.OutboxRelay;
+import com.danielpg.paymentgateway.application.event.OutboxRepository;
+import com.danielpg.paymentgateway.domain.shared.AppClock;
+import com.danielpg.paymentgateway.domain.shared.TimeMillis;
+import com.danielpg.paymentgateway.infrastructure.worker.OutboxRelayWorker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+class OutboxRelayWorkerTest {
+
+    private static final int BATCH_SIZE = 10;
+    private static final long MIN_BACKOFF = 100L;
+    private static final long MAX_BACKOFF = 350L;
+
+    private OutboxRelay relay;
+    private OutboxRepository repository;
+    private AppClock clock;
+    private OutboxRelayWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        relay = mock(OutboxRelay.class);
+        repository = mock(OutboxRepository.class);
+        clock = mock(AppClock.class);
+        when(relay.batchSize()).thenReturn(BATCH_SIZE);
+        when(clock.now()).thenReturn(TimeMillis.of(0L));
+        worker = new OutboxRelayWorker(relay, repository, clock, MIN_BACKOFF, MAX_BACKOFF, 1000L);
+    }
+
+    @Test
+    void drainRelaysBatchesUntilOneIsIncomplete() {
+        when(relay.relayBatch()).thenReturn(BATCH_SIZE, BATCH_SIZE, 3);
+
+        assertThat(worker.drain(), is(23));
+
+        verify(relay, times(3)).relayBatch();
+    }
+
+    @Test
+    void drainStopsWhenRelayFails() {
+        when(relay.relayBatch()).thenReturn(BATCH_SIZE).thenThrow(RuntimeException.class);
+
+        assertThat(worker.drain(), is(BATCH_SIZE));
+    }
+
+    @Test
+    void backoffDoublesWhileOutboxIsEmptyUpToMaximum() {
+        when(relay.relayBatch()).thenReturn(0);
+
+        worker.poll();
+        assertThat(worker.currentBackoff(), is(200L));
+
+        when(clock.now()).thenReturn(TimeMillis.of(200L));
+        worker.poll();
+        assertThat(worker.currentBackoff(), is(MAX_BACKOFF));
+
+        when(clock.now()).thenReturn(TimeMillis.of(550L));
+        worker.poll();
+        assertThat(worker.currentBackoff(), is(MAX_BACKOFF));
+    }
+
+    @Test
+    void pollSkipsUntilBackoffElapses() {
+        when(relay.relayBatch()).thenReturn(0);
+        worker.poll();
+
+        when(clock.now()).thenReturn(TimeMillis.of(199L));
+        worker.poll();
+
+        verify(relay, times(1)).relayBatch();
+    }
+
+    @Test
+    void backoffResetsWhenMessagesArePublished() {
+        when(relay.relayBatch()).thenReturn(0);
+        worker.poll();
+        when(clock.now()).thenReturn(TimeMillis.of(200L));
+        when(relay.relayBatch()).thenReturn(1);
+
+        worker.poll();
+
+        assertThat(worker.currentBackoff(), is(MIN_BACKOFF));
+    }
+
+    @Test
+    void purgeDeletesInBatchesUntilIncomplete() {
+        when(clock.now()).thenReturn(TimeMillis.of(5000L));
+        when(repository.deletePublished(TimeMillis.of(4000L), BATCH_SIZE)).thenReturn(BATCH_SIZE, 2);
+
+        worker.purgePublished();
+
+        verify(repository, times(2)).deletePublished(TimeMillis.of(4000L), BATCH_SIZE);
+    }
+
+    @Test
+    void throwsExceptionWhenConfigurationIsInvalid() {
+        var exception = assertThrows(IllegalArgumentException.class,
+                () -> new OutboxRelayWorker(relay, repository, clock, 100L, 50L, 1000L));
+
+        assertThat(exception.getMessage(), is("Configuração do relay do outbox inválida."));
+    }
+}